@@ -17,4 +17,6 @@ spec:
   ports:
     - port: 8082
       name: "rest"
+    - port: 8084
+      name: "webhook"
 {{- end }}
@@ -330,7 +330,8 @@ public abstract class CreateOperatorGeneratedFilesTestBase {
             newServiceSpec()
                 .type("ClusterIP")
                 .putSelectorItem(APP_LABEL, "weblogic-operator")
-                .addPortsItem(newServicePort().name("rest").port(8082)));
+                .addPortsItem(newServicePort().name("rest").port(8082))
+                .addPortsItem(newServicePort().name("webhook").port(8084)));
   }
 
   @Test
@@ -0,0 +1,123 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
+
+import oracle.kubernetes.operator.helpers.KubernetesUtils;
+import oracle.kubernetes.operator.metrics.OperatorMetrics;
+import oracle.kubernetes.weblogic.domain.model.Domain;
+
+/**
+ * Coalesces the domain watch events which would start a make-right, so that a burst of changes to a domain
+ * starts a single make-right for its latest state, rather than one for each event, each interrupting the last.
+ * The first event for a domain opens a window of the configured length; later events in the window replace
+ * the domain to process, and the make-right starts when the window closes. A window of zero disables
+ * coalescing. Deletions are never delayed; they discard any pending event for the domain.
+ */
+class DomainEventCoalescer {
+  static final String RECEIVED_METRIC = "domainEvents.received";
+  static final String COALESCED_METRIC = "domainEvents.coalesced";
+  static final String DISPATCHED_METRIC = "domainEvents.dispatched";
+  static final String COALESCING_RATE_METRIC = "domainEvents.coalescingRate";
+  private static final long DEFAULT_WINDOW_MILLIS = 200;
+
+  static {
+    OperatorMetrics.registerGauge(
+          COALESCING_RATE_METRIC, () -> OperatorMetrics.getRatio(COALESCED_METRIC, DISPATCHED_METRIC));
+  }
+
+  private final Map<String, PendingEvent> pending = new ConcurrentHashMap<>();
+  private final DomainProcessorDelegate delegate;
+  private final BiConsumer<Domain, Boolean> dispatcher;
+
+  /**
+   * Creates a coalescer.
+   * @param delegate the delegate used to schedule the end of each window
+   * @param dispatcher a function which starts a make-right for a domain; its second argument is true
+   *                   if the make-right should run even if the domain specification is unchanged
+   */
+  DomainEventCoalescer(DomainProcessorDelegate delegate, BiConsumer<Domain, Boolean> dispatcher) {
+    this.delegate = delegate;
+    this.dispatcher = dispatcher;
+  }
+
+  private static long getWindowMillis() {
+    return Optional.ofNullable(TuningParameters.getInstance())
+          .map(TuningParameters::getMainTuning)
+          .map(main -> main.domainEventCoalescingMillis)
+          .orElse(DEFAULT_WINDOW_MILLIS);
+  }
+
+  private static String getKey(Domain domain) {
+    return domain.getMetadata().getNamespace() + "/" + domain.getDomainUid();
+  }
+
+  /**
+   * Records an event which should start a make-right for the domain.
+   * @param domain the domain reported by the event
+   * @param explicitRecheck true if the make-right should run even if the domain specification is unchanged
+   */
+  void submit(Domain domain, boolean explicitRecheck) {
+    OperatorMetrics.increment(RECEIVED_METRIC);
+    long windowMillis = getWindowMillis();
+    if (windowMillis <= 0) {
+      dispatch(new PendingEvent(domain, explicitRecheck));
+      return;
+    }
+
+    String key = getKey(domain);
+    AtomicBoolean opened = new AtomicBoolean();
+    pending.compute(key, (k, event) -> {
+      if (event == null) {
+        opened.set(true);
+        return new PendingEvent(domain, explicitRecheck);
+      }
+      OperatorMetrics.increment(COALESCED_METRIC);
+      return event.merge(domain, explicitRecheck);
+    });
+
+    if (opened.get()) {
+      delegate.schedule(() -> flush(key), windowMillis, TimeUnit.MILLISECONDS);
+    }
+  }
+
+  /**
+   * Discards any pending event for the domain.
+   * @param domain the domain
+   */
+  void cancel(Domain domain) {
+    pending.remove(getKey(domain));
+  }
+
+  private void flush(String key) {
+    Optional.ofNullable(pending.remove(key)).ifPresent(this::dispatch);
+  }
+
+  private void dispatch(PendingEvent event) {
+    OperatorMetrics.increment(DISPATCHED_METRIC);
+    dispatcher.accept(event.domain, event.explicitRecheck);
+  }
+
+  private static class PendingEvent {
+    private final Domain domain;
+    private final boolean explicitRecheck;
+
+    PendingEvent(Domain domain, boolean explicitRecheck) {
+      this.domain = domain;
+      this.explicitRecheck = explicitRecheck;
+    }
+
+    // Watch events may arrive out of order; keep the newer domain.
+    PendingEvent merge(Domain other, boolean otherRecheck) {
+      Domain newer = KubernetesUtils.isFirstNewer(domain.getMetadata(), other.getMetadata()) ? domain : other;
+      return new PendingEvent(newer, explicitRecheck || otherRecheck);
+    }
+  }
+}
@@ -35,9 +35,11 @@ import oracle.kubernetes.operator.helpers.CallBuilder;
 import oracle.kubernetes.operator.helpers.ConfigMapHelper;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.helpers.DomainStatusPatch;
+import oracle.kubernetes.operator.helpers.DomainValidationCache;
 import oracle.kubernetes.operator.helpers.DomainValidationSteps;
 import oracle.kubernetes.operator.helpers.JobHelper;
 import oracle.kubernetes.operator.helpers.KubernetesUtils;
+import oracle.kubernetes.operator.helpers.MakeRightFingerprint;
 import oracle.kubernetes.operator.helpers.PodHelper;
 import oracle.kubernetes.operator.helpers.ResponseStep;
 import oracle.kubernetes.operator.helpers.ServiceHelper;
@@ -47,6 +49,7 @@ import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.LoggingFilter;
 import oracle.kubernetes.operator.logging.MessageKeys;
 import oracle.kubernetes.operator.logging.OncePerMessageLoggingFilter;
+import oracle.kubernetes.operator.metrics.OperatorMetrics;
 import oracle.kubernetes.operator.steps.BeforeAdminServiceStep;
 import oracle.kubernetes.operator.steps.DeleteDomainStep;
 import oracle.kubernetes.operator.steps.DomainPresenceStep;
@@ -75,6 +78,8 @@ public class DomainProcessorImpl implements DomainProcessor {
 
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
 
+  static final String STATUS_ONLY_EVENT_METRIC = "domainEvents.statusOnly";
+
   private static final Map<String, FiberGate> makeRightFiberGates = new ConcurrentHashMap<>();
   private static final Map<String, FiberGate> statusFiberGates = new ConcurrentHashMap<>();
 
@@ -82,9 +87,11 @@ public class DomainProcessorImpl implements DomainProcessor {
   private static Map<String, Map<String, DomainPresenceInfo>> DOMAINS = new ConcurrentHashMap<>();
   private static final Map<String, Map<String, ScheduledFuture<?>>> statusUpdaters = new ConcurrentHashMap<>();
   private final DomainProcessorDelegate delegate;
+  private final DomainEventCoalescer domainEventCoalescer;
 
   public DomainProcessorImpl(DomainProcessorDelegate delegate) {
     this.delegate = delegate;
+    this.domainEventCoalescer = new DomainEventCoalescer(delegate, this::makeRightFromDomainEvent);
   }
 
   private static DomainPresenceInfo getExistingDomainPresenceInfo(String ns, String domainUid) {
@@ -394,6 +401,10 @@ public class DomainProcessorImpl implements DomainProcessor {
     if (c != null && c.getMetadata() != null) {
       switch (item.type) {
         case "MODIFIED":
+          if (ConfigMapHelper.isCurrentScriptConfigMap(delegate.getOperatorNamespace(), c)) {
+            break;
+          }
+          // fall through
         case "DELETED":
           delegate.runSteps(
               ConfigMapHelper.createScriptConfigMapStep(
@@ -449,16 +460,53 @@ public class DomainProcessorImpl implements DomainProcessor {
 
   private void handleAddedDomain(Domain domain) {
     LOGGER.info(MessageKeys.WATCH_DOMAIN, domain.getDomainUid());
-    createMakeRightOperation(new DomainPresenceInfo(domain)).interrupt().withExplicitRecheck().execute();
+    domainEventCoalescer.submit(domain, true);
   }
 
   private void handleModifiedDomain(Domain domain) {
     LOGGER.fine(MessageKeys.WATCH_DOMAIN, domain.getDomainUid());
-    createMakeRightOperation(new DomainPresenceInfo(domain)).interrupt().execute();
+    if (!recordIfStatusOnlyChange(domain)) {
+      domainEventCoalescer.submit(domain, false);
+    }
+  }
+
+  // The operator updates the domain status through the status subresource, which does not change the generation,
+  // so a modified domain with the generation already cached has no changes which need a make-right.
+  private boolean recordIfStatusOnlyChange(Domain domain) {
+    DomainPresenceInfo cachedInfo
+          = getExistingDomainPresenceInfo(domain.getMetadata().getNamespace(), domain.getDomainUid());
+    Domain cachedDomain = Optional.ofNullable(cachedInfo).map(DomainPresenceInfo::getDomain).orElse(null);
+    if (!isSameGeneration(cachedDomain, domain)) {
+      return false;
+    }
+
+    OperatorMetrics.increment(STATUS_ONLY_EVENT_METRIC);
+    if (!KubernetesUtils.isFirstNewer(cachedDomain.getMetadata(), domain.getMetadata())) {
+      cachedInfo.setDomain(domain);
+    }
+    return true;
+  }
+
+  private static boolean isSameGeneration(Domain cachedDomain, Domain domain) {
+    return Optional.ofNullable(cachedDomain)
+          .map(Domain::getMetadata)
+          .map(V1ObjectMeta::getGeneration)
+          .filter(g -> g.equals(domain.getMetadata().getGeneration()))
+          .isPresent();
+  }
+
+  private void makeRightFromDomainEvent(Domain domain, boolean explicitRecheck) {
+    MakeRightDomainOperation operation = createMakeRightOperation(new DomainPresenceInfo(domain)).interrupt();
+    if (explicitRecheck) {
+      operation.withExplicitRecheck();
+    }
+    operation.execute();
   }
 
   private void handleDeletedDomain(Domain domain) {
     LOGGER.info(MessageKeys.WATCH_DOMAIN_DELETED, domain.getDomainUid());
+    DomainValidationCache.remove(domain);
+    domainEventCoalescer.cancel(domain);
     createMakeRightOperation(new DomainPresenceInfo(domain)).interrupt().forDeletion().withExplicitRecheck().execute();
   }
 
@@ -629,13 +677,34 @@ public class DomainProcessorImpl implements DomainProcessor {
         return true;
       } else if (isCachedInfoNewer(liveInfo, cachedInfo)) {
         return false;  // we have already cached this
-      } else if (explicitRecheck || isSpecChanged(liveInfo, cachedInfo)) {
+      } else if (isSpecChanged(liveInfo, cachedInfo)) {
+        return true;
+      } else if (explicitRecheck && !isUnchangedSinceLastMakeRight(cachedInfo)) {
         return true;
       }
       cachedInfo.setDomain(getDomain());
       return false;
     }
 
+    // An explicit recheck has nothing to do if neither the desired state nor the owned resources
+    // have changed since the last successful make-right.
+    private boolean isUnchangedSinceLastMakeRight(DomainPresenceInfo cachedInfo) {
+      MakeRightFingerprint lastFingerprint = cachedInfo.getMakeRightFingerprint();
+      if (deleting || lastFingerprint == null || getDomain() == null) {
+        return false;
+      }
+
+      MakeRightFingerprint fingerprint
+            = lastFingerprint.withCurrentState(getDomain(), getObservedInfo(cachedInfo), getOperatorVersion());
+      return lastFingerprint.isUnchangedIn(fingerprint);
+    }
+
+    // The live info holds the observed resources only if it was populated from a list call;
+    // otherwise, the cached info is kept current by watch events.
+    private DomainPresenceInfo getObservedInfo(DomainPresenceInfo cachedInfo) {
+      return liveInfo.isPopulated() ? liveInfo : cachedInfo;
+    }
+
     private void internalMakeRightDomainPresence() {
       LOGGER.fine(MessageKeys.PROCESSING_DOMAIN, getDomainUid());
 
@@ -750,6 +819,7 @@ public class DomainProcessorImpl implements DomainProcessor {
                       if (existing != null) {
                         try (LoggingContext stack = LoggingContext.setThreadContext().namespace(ns)) {
                           existing.setPopulated(false);
+                          existing.setMakeRightFingerprint(null);
                           // proceed only if we have not already retried max number of times
                           int retryCount = existing.incrementAndGetFailureCount();
                           LOGGER.fine(
@@ -784,7 +854,7 @@ public class DomainProcessorImpl implements DomainProcessor {
 
   Step createDomainUpPlan(DomainPresenceInfo info) {
     Step managedServerStrategy =
-        bringManagedServersUp(DomainStatusUpdater.createEndProgressingStep(new TailStep()));
+        bringManagedServersUp(DomainStatusUpdater.createEndProgressingStep(new TailStep(getOperatorVersion())));
 
     Step domainUpStrategy =
         Step.chain(
@@ -861,11 +931,23 @@ public class DomainProcessorImpl implements DomainProcessor {
     }
   }
 
+  private String getOperatorVersion() {
+    return Optional.ofNullable(delegate.getProductVersion()).map(Object::toString).orElse(null);
+  }
+
   private static class TailStep extends Step {
+    private final String operatorVersion;
+
+    TailStep(String operatorVersion) {
+      this.operatorVersion = operatorVersion;
+    }
 
     @Override
     public NextAction apply(Packet packet) {
-      packet.getSpi(DomainPresenceInfo.class).complete();
+      DomainPresenceInfo info = packet.getSpi(DomainPresenceInfo.class);
+      info.complete();
+      info.setMakeRightFingerprint(MakeRightFingerprint.fromCompletedMakeRight(packet, info, operatorVersion));
+      LOGGER.fine(MessageKeys.MAKE_RIGHT_COMPLETED, info.getDomainUid(), info.getMakeRightFingerprint());
       return doNext(packet);
     }
   }
@@ -880,6 +962,7 @@ public class DomainProcessorImpl implements DomainProcessor {
 
     @Override
     public NextAction apply(Packet packet) {
+      info.setMakeRightFingerprint(null);
       registerDomainPresenceInfo(info);
       Step strategy = getNext();
       if (!info.isPopulated() && info.isNotDeleting()) {
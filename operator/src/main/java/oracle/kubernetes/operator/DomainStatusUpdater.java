@@ -5,6 +5,7 @@ package oracle.kubernetes.operator;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Objects;
@@ -15,8 +16,12 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import javax.annotation.Nonnull;
 import javax.json.Json;
+import javax.json.JsonArray;
+import javax.json.JsonArrayBuilder;
+import javax.json.JsonObject;
 import javax.json.JsonPatchBuilder;
 
+import io.kubernetes.client.custom.V1Patch;
 import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1Pod;
@@ -75,6 +80,7 @@ public class DomainStatusUpdater {
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
   private static final String TRUE = "True";
   private static final String FALSE = "False";
+  private static final int HTTP_UNPROCESSABLE_ENTITY = 422;
 
   private DomainStatusUpdater() {
   }
@@ -179,10 +185,26 @@ public class DomainStatusUpdater {
     public NextAction apply(Packet packet) {
       DomainStatusUpdaterContext context = createContext(packet);
       DomainStatus newStatus = context.getNewStatus();
+      if (context.getStatus() == null) {
+        return doNext(createDomainStatusReplaceStep(context, newStatus), packet);
+      }
 
-      return context.isStatusUnchanged(newStatus)
+      JsonArray statusPatch = context.createStatusPatch(newStatus);
+      return statusPatch.isEmpty()
             ? doNext(packet)
-            : doNext(createDomainStatusReplaceStep(context, newStatus), packet);
+            : doNext(createDomainStatusPatchStep(context, newStatus, statusPatch), packet);
+    }
+
+    private Step createDomainStatusPatchStep(
+          DomainStatusUpdaterContext context, DomainStatus newStatus, JsonArray statusPatch) {
+      LOGGER.fine(MessageKeys.DOMAIN_STATUS, context.getDomainUid(), newStatus);
+      LOGGER.finer("status change: " + statusPatch);
+
+      return new CallBuilder().patchDomainStatusAsync(
+            context.getDomainName(),
+            context.getNamespace(),
+            new V1Patch(context.createGuardedPatch(statusPatch).toString()),
+            new StatusPatchResponseStep(this, context, getNext()));
     }
 
     private Step createDomainStatusReplaceStep(DomainStatusUpdaterContext context, DomainStatus newStatus) {
@@ -248,11 +270,59 @@ public class DomainStatusUpdater {
       return Step.chain(createDomainRefreshStep(context), updaterStep);
     }
 
-    private Step createDomainRefreshStep(DomainStatusUpdaterContext context) {
+    Step createDomainRefreshStep(DomainStatusUpdaterContext context) {
       return new CallBuilder().readDomainAsync(context.getDomainName(), context.getNamespace(), new DomainUpdateStep());
     }
   }
 
+  /**
+   * Handles the response to a status patch. A patch which Kubernetes cannot apply, because the domain has
+   * changed since the patch was computed, is not retried; instead, the domain is re-read and its status
+   * replaced in full.
+   */
+  static class StatusPatchResponseStep extends StatusReplaceResponseStep {
+    private final DomainStatusUpdaterStep updaterStep;
+    private final DomainStatusUpdaterContext context;
+
+    StatusPatchResponseStep(DomainStatusUpdaterStep updaterStep, DomainStatusUpdaterContext context, Step nextStep) {
+      super(updaterStep, context, nextStep);
+      this.updaterStep = updaterStep;
+      this.context = context;
+    }
+
+    @Override
+    public NextAction onFailure(Packet packet, CallResponse<Domain> callResponse) {
+      if (callResponse.getStatusCode() == HTTP_UNPROCESSABLE_ENTITY) {
+        return doNext(createRetry(context, getNext()), packet);
+      } else {
+        return super.onFailure(packet, callResponse);
+      }
+    }
+
+    @Override
+    public Step createRetry(DomainStatusUpdaterContext context, Step next) {
+      return Step.chain(createDomainRefreshStep(context), new StatusReplaceStep(updaterStep));
+    }
+  }
+
+  /**
+   * Recomputes a status update from the current domain, and sends it as a full replacement.
+   */
+  static class StatusReplaceStep extends Step {
+    private final DomainStatusUpdaterStep updaterStep;
+
+    StatusReplaceStep(DomainStatusUpdaterStep updaterStep) {
+      super(null);
+      this.updaterStep = updaterStep;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      DomainStatusUpdaterContext context = updaterStep.createContext(packet);
+      return doNext(updaterStep.createDomainStatusReplaceStep(context, context.getNewStatus()), packet);
+    }
+  }
+
   static class DomainUpdateStep extends ResponseStep<Domain> {
     @Override
     public NextAction onSuccess(Packet packet, CallResponse<Domain> callResponse) {
@@ -283,8 +353,27 @@ public class DomainStatusUpdater {
       return getDomain().getDomainUid();
     }
 
-    boolean isStatusUnchanged(DomainStatus newStatus) {
-      return newStatus.equals(getStatus());
+    JsonArray createStatusPatch(DomainStatus newStatus) {
+      JsonPatchBuilder builder = Json.createPatchBuilder();
+      newStatus.createPatchFrom(builder, getStatus());
+      return builder.build().toJsonArray();
+    }
+
+    // The patch is computed from the recorded status; if the domain has changed since it was recorded,
+    // the version test fails the patch, and the status is re-read and the update retried.
+    JsonArray createGuardedPatch(JsonArray statusPatch) {
+      JsonArrayBuilder builder = Json.createArrayBuilder();
+      Optional.ofNullable(getMetadata().getResourceVersion()).map(this::createVersionTest).ifPresent(builder::add);
+      statusPatch.forEach(builder::add);
+      return builder.build();
+    }
+
+    private JsonObject createVersionTest(String resourceVersion) {
+      return Json.createObjectBuilder()
+            .add("op", "test")
+            .add("path", "/metadata/resourceVersion")
+            .add("value", resourceVersion)
+            .build();
     }
 
     private String getNamespace() {
@@ -337,10 +426,20 @@ public class DomainStatusUpdater {
     void modifyStatus(DomainStatus domainStatus) { // no-op; modification happens in the context itself.
     }
 
+    /**
+     * Computes the status of the servers and clusters of a domain. The startup infos, pods and topology are
+     * indexed once per computation, so that the work is proportional to the number of servers.
+     */
     static class StatusUpdateContext extends DomainStatusUpdaterContext {
       private final WlsDomainConfig config;
       private final Map<String, String> serverState;
       private final Map<String, ServerHealth> serverHealth;
+      private Optional<WlsDomainConfig> domainConfig;
+      private Collection<String> serverNames;
+      private Map<String, String> serverClusters;
+      private Set<String> startingServers;
+      private Map<String, Long> clusterCounts;
+      private Map<String, Long> readyClusterCounts;
 
       StatusUpdateContext(Packet packet, StatusUpdateStep statusUpdateStep) {
         super(packet, statusUpdateStep);
@@ -384,7 +483,10 @@ public class DomainStatusUpdater {
       }
 
       private Optional<WlsDomainConfig> getDomainConfig() {
-        return Optional.ofNullable(config).or(this::getScanCacheDomainConfig);
+        if (domainConfig == null) {
+          domainConfig = Optional.ofNullable(config).or(this::getScanCacheDomainConfig);
+        }
+        return domainConfig;
       }
 
       private Optional<WlsDomainConfig> getScanCacheDomainConfig() {
@@ -442,9 +544,13 @@ public class DomainStatusUpdater {
       }
 
       private boolean shouldStart(final String serverName) {
-        return getServerStartupInfos()
-            .filter(s -> Objects.equals(serverName, s.getServerName()))
-            .anyMatch(s -> !s.isServiceOnly());
+        if (startingServers == null) {
+          startingServers = getServerStartupInfos()
+              .filter(s -> !s.isServiceOnly())
+              .map(ServerStartupInfo::getServerName)
+              .collect(Collectors.toSet());
+        }
+        return startingServers.contains(serverName);
       }
 
       Integer getReplicaSetting() {
@@ -462,7 +568,17 @@ public class DomainStatusUpdater {
       }
 
       private Map<String, Long> getClusterCounts() {
-        return getClusterCounts(false);
+        if (clusterCounts == null) {
+          clusterCounts = getClusterCounts(false);
+        }
+        return clusterCounts;
+      }
+
+      private Map<String, Long> getReadyClusterCounts() {
+        if (readyClusterCounts == null) {
+          readyClusterCounts = getClusterCounts(true);
+        }
+        return readyClusterCounts;
       }
 
       private Map<String, Long> getClusterCounts(boolean isReadyOnly) {
@@ -482,7 +598,7 @@ public class DomainStatusUpdater {
             .withClusterName(clusterName)
             .withReplicas(Optional.ofNullable(getClusterCounts().get(clusterName)).map(Long::intValue).orElse(null))
             .withReadyReplicas(
-                Optional.ofNullable(getClusterCounts(true).get(clusterName)).map(Long::intValue).orElse(null))
+                Optional.ofNullable(getReadyClusterCounts().get(clusterName)).map(Long::intValue).orElse(null))
             .withMaximumReplicas(getClusterMaximumSize(clusterName))
             .withMinimumReplicas(getClusterMinimumSize(clusterName))
             .withReplicasGoal(getClusterSizeGoal(clusterName));
@@ -497,9 +613,21 @@ public class DomainStatusUpdater {
       }
 
       private String getClusterName(String serverName) {
-        return getDomainConfig()
-            .map(c -> c.getClusterName(serverName))
-            .orElse(getClusterNameFromPod(serverName));
+        return Optional.ofNullable(getServerClusters().get(serverName))
+            .orElseGet(() -> getClusterNameFromPod(serverName));
+      }
+
+      // Maps each clustered server to the first configured cluster which names it.
+      private Map<String, String> getServerClusters() {
+        if (serverClusters == null) {
+          serverClusters = new HashMap<>();
+          getDomainConfig().ifPresent(c -> c.getConfiguredClusters().forEach(this::addServerClusters));
+        }
+        return serverClusters;
+      }
+
+      private void addServerClusters(WlsClusterConfig cluster) {
+        cluster.getServerConfigs().forEach(s -> serverClusters.putIfAbsent(s.getName(), cluster.getClusterName()));
       }
 
       private String getClusterNameFromPod(String serverName) {
@@ -511,6 +639,13 @@ public class DomainStatusUpdater {
       }
 
       private Collection<String> getServerNames() {
+        if (serverNames == null) {
+          serverNames = createServerNames();
+        }
+        return serverNames;
+      }
+
+      private Collection<String> createServerNames() {
         Set<String> result = new HashSet<>();
         getDomainConfig()
               .ifPresent(config -> {
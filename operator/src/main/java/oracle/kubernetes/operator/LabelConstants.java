@@ -14,6 +14,7 @@ public interface LabelConstants {
   String CREATEDBYOPERATOR_LABEL = "weblogic.createdByOperator";
   String OPERATORNAME_LABEL = "weblogic.operatorName";
   String JOBNAME_LABEL = "job-name";
+  String CONTROLLER_UID_LABEL = "controller-uid";
   String APP_LABEL = "app";
   String DOMAINRESTARTVERSION_LABEL = "weblogic.domainRestartVersion";
   String CLUSTERRESTARTVERSION_LABEL = "weblogic.clusterRestartVersion";
@@ -26,6 +27,10 @@ public interface LabelConstants {
     return String.format("%s=%s", DOMAINUID_LABEL, uid);
   }
 
+  static String forJobNameSelector(String jobName) {
+    return String.format("%s=%s", JOBNAME_LABEL, jobName);
+  }
+
   static String getCreatedbyOperatorSelector() {
     return String.format("%s=%s", CREATEDBYOPERATOR_LABEL, "true");
   }
@@ -71,6 +71,7 @@ import oracle.kubernetes.operator.work.NextAction;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
 import oracle.kubernetes.operator.work.ThreadFactorySingleton;
+import oracle.kubernetes.operator.work.TimerWheel;
 import oracle.kubernetes.weblogic.domain.model.Domain;
 import oracle.kubernetes.weblogic.domain.model.DomainList;
 import org.apache.commons.lang.StringUtils;
@@ -81,6 +82,7 @@ public class Main {
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
 
   private static final String DPI_MAP = "DPI_MAP";
+  private static final int DEFAULT_RULES_REVIEW_CONCURRENCY = 10;
 
   private static final Container container = new Container();
   private static final ThreadFactory threadFactory = new WrappedThreadFactory();
@@ -169,6 +171,8 @@ public class Main {
     }
 
     try {
+      engine.setTimerWheel(TimerWheel.create(engine.getExecutor()));
+      Watcher.setEventExecutor(engine.getExecutor());
       engine.getExecutor().execute(Main::begin);
 
       // now we just wait until the pod is terminated
@@ -176,6 +180,9 @@ public class Main {
 
       // stop the REST server
       stopRestServer();
+
+      // stop the fibers' timers and threads
+      engine.shutdown();
     } finally {
       LOGGER.info(MessageKeys.OPERATOR_SHUTTING_DOWN);
     }
@@ -195,17 +202,14 @@ public class Main {
     LOGGER.info(MessageKeys.OP_CONFIG_SERVICE_ACCOUNT, serviceAccountName);
 
     try {
-      version = HealthCheckHelper.performK8sVersionCheck();
-
       Step strategy = Step.chain(
+          HealthCheckHelper.createK8sVersionCheckStep(new RecordKubernetesVersionStep()),
           new InitializeNamespacesSecurityStep(targetNamespaces),
           new NamespaceRulesReviewStep());
       if (!isDedicated()) {
         strategy = Step.chain(strategy, readExistingNamespaces(targetNamespaces));
       } else {
-        strategy = Step.chain(strategy, CrdHelper.createDomainCrdStep(
-                version, productVersion,
-                new StartNamespacesStep(targetNamespaces, false)));
+        strategy = Step.chain(strategy, new CreateDomainCrdAndStartNamespacesStep(targetNamespaces));
       }
       runSteps(
           strategy,
@@ -597,18 +601,46 @@ public class Main {
 
     protected abstract Step action(String ns);
 
+    // Returns the maximum number of namespaces whose actions may run at the same time.
+    int getConcurrencyLimit() {
+      return Integer.MAX_VALUE;
+    }
+
     @Override
     public NextAction apply(Packet packet) {
       // check for any existing resources and add the watches on them
       // this would happen when the Domain was running BEFORE the Operator starts up
-      Collection<StepAndPacket> startDetails = new ArrayList<>();
+      return doNext(new NamespaceBatchStep(new ArrayList<>(targetNamespaces), getNext()), packet);
+    }
 
-      for (String ns : targetNamespaces) {
-        try (LoggingContext stack = LoggingContext.setThreadContext().namespace(ns)) {
-          startDetails.add(new StepAndPacket(action(ns), packet.clone()));
+    // Runs the actions for as many namespaces as the concurrency limit allows, followed by a step to run
+    // the actions for the remaining namespaces.
+    private class NamespaceBatchStep extends Step {
+      private final List<String> namespaces;
+
+      NamespaceBatchStep(List<String> namespaces, Step next) {
+        super(next);
+        this.namespaces = namespaces;
+      }
+
+      @Override
+      public NextAction apply(Packet packet) {
+        int batchSize = Math.min(namespaces.size(), Math.max(1, getConcurrencyLimit()));
+        Collection<StepAndPacket> startDetails = new ArrayList<>();
+
+        for (String ns : namespaces.subList(0, batchSize)) {
+          try (LoggingContext stack = LoggingContext.setThreadContext().namespace(ns)) {
+            startDetails.add(new StepAndPacket(action(ns), packet.clone()));
+          }
         }
+        return doForkJoin(getBatchNext(batchSize), packet, startDetails);
+      }
+
+      private Step getBatchNext(int batchSize) {
+        return batchSize < namespaces.size()
+            ? new NamespaceBatchStep(namespaces.subList(batchSize, namespaces.size()), getNext())
+            : getNext();
       }
-      return doForkJoin(getNext(), packet, startDetails);
     }
   }
 
@@ -653,6 +685,14 @@ public class Main {
       super(targetNamespaces);
     }
 
+    @Override
+    int getConcurrencyLimit() {
+      return Optional.ofNullable(TuningParameters.getInstance())
+          .map(TuningParameters::getMainTuning)
+          .map(main -> main.rulesReviewConcurrency)
+          .orElse(DEFAULT_RULES_REVIEW_CONCURRENCY);
+    }
+
     @Override
     protected Step action(String ns) {
       return new NamespaceRulesReviewStep(ns);
@@ -670,32 +710,47 @@ public class Main {
       this.ns = ns;
     }
 
+    private String getCheckedNamespace() {
+      return ns != null ? ns : operatorNamespace;
+    }
+
     @Override
     public NextAction apply(Packet packet) {
-      // Looking up namespace status.  If ns is null, then this step will check the status of the
-      // operator's own namespace.  If the namespace status is missing, then generate it with
-      // the health check helper.
-      NamespaceStatus nss = namespaceStatuses.computeIfAbsent(
-          ns != null ? ns : operatorNamespace, (key) -> new NamespaceStatus());
-
       // we don't have the domain presence information yet
       // we add a logging context to pass the namespace information to the LoggingFormatter
       packet.getComponents().put(
           LoggingContext.LOGGING_CONTEXT_KEY,
-          Component.createFor(
-              new LoggingContext().namespace(ns != null ? ns : operatorNamespace)));
-      V1SubjectRulesReviewStatus srrs = nss.getRulesReviewStatus().updateAndGet(prev -> {
-        if (prev != null) {
-          return prev;
-        }
+          Component.createFor(new LoggingContext().namespace(getCheckedNamespace())));
 
-        try {
-          return HealthCheckHelper.performSecurityChecks(version, operatorNamespace, ns);
-        } catch (Throwable e) {
-          LOGGER.warning(MessageKeys.EXCEPTION, e);
-        }
-        return null;
-      });
+      // Each namespace is reviewed only once; the review is repeated only if no earlier one succeeded.
+      Step recordStep = new RecordRulesReviewStep(getCheckedNamespace(), getNext());
+      if (getNamespaceStatus(getCheckedNamespace()).getRulesReviewStatus().get() != null) {
+        return doNext(recordStep, packet);
+      }
+      return doNext(HealthCheckHelper.createSecurityChecksStep(operatorNamespace, ns, recordStep), packet);
+    }
+  }
+
+  private static NamespaceStatus getNamespaceStatus(String ns) {
+    return namespaceStatuses.computeIfAbsent(ns, (key) -> new NamespaceStatus());
+  }
+
+  // Records the rules review status for a namespace, so that it can be used when processing its domains.
+  // The first status recorded is kept.
+  private static class RecordRulesReviewStep extends Step {
+    private final String ns;
+
+    RecordRulesReviewStep(String ns, Step next) {
+      super(next);
+      this.ns = ns;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      V1SubjectRulesReviewStatus reviewed
+          = (V1SubjectRulesReviewStatus) packet.get(ProcessingConstants.RULES_REVIEW_STATUS);
+      V1SubjectRulesReviewStatus srrs = getNamespaceStatus(ns).getRulesReviewStatus()
+          .updateAndGet(prev -> prev != null ? prev : reviewed);
 
       packet.getComponents().put(
           NamespaceRulesReviewStep.class.getName(),
@@ -705,6 +760,30 @@ public class Main {
     }
   }
 
+  private static class RecordKubernetesVersionStep extends Step {
+    @Override
+    public NextAction apply(Packet packet) {
+      version = (KubernetesVersion) packet.get(ProcessingConstants.KUBERNETES_VERSION);
+      return doNext(packet);
+    }
+  }
+
+  private static class CreateDomainCrdAndStartNamespacesStep extends Step {
+    private final Collection<String> targetNamespaces;
+
+    CreateDomainCrdAndStartNamespacesStep(Collection<String> targetNamespaces) {
+      this.targetNamespaces = targetNamespaces;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      return doNext(
+          CrdHelper.createDomainCrdStep(
+              version, productVersion, new StartNamespacesStep(targetNamespaces, false)),
+          packet);
+    }
+  }
+
   private static class ReadExistingResourcesBeforeStep extends Step {
     @SuppressWarnings("rawtypes")
     @Override
@@ -1054,5 +1133,10 @@ public class Main {
         Runnable command, long initialDelay, long delay, TimeUnit unit) {
       return Main.engine.getExecutor().scheduleWithFixedDelay(command, initialDelay, delay, unit);
     }
+
+    @Override
+    public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+      return Main.engine.getExecutor().schedule(command, delay, unit);
+    }
   }
 }
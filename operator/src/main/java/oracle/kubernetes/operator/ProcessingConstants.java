@@ -29,7 +29,10 @@ public interface ProcessingConstants {
   String DOMAIN_INTROSPECTOR_JOB = "domainIntrospectorJob";
   String DOMAIN_INTROSPECTOR_LOG_RESULT = "domainIntrospectorLogResult";
   String DOMAIN_INTROSPECT_REQUESTED = "domainIntrospectRequested";
+  String INTROSPECTION_INPUT_VERSIONS = "introspectionInputVersions";
+  String INTROSPECTION_CACHE_KEY = "introspectionCacheKey";
   String REMAINING_SERVERS_HEALTH_TO_READ = "serverHealthRead";
+  String SERVERS_HEALTH_READ_FROM_ADMIN = "serversHealthReadFromAdmin";
 
   String ENCODED_CREDENTIALS = "encodedCredentials";
   String DOMAIN_VALIDATION_ERRORS = "domainValidationErrors";
@@ -38,6 +41,12 @@ public interface ProcessingConstants {
 
   String WAIT_FOR_POD_READY = "waitForPodReady";
 
+  /** Key to an object of type KubernetesVersion. */
+  String KUBERNETES_VERSION = "kubernetesVersion";
+
+  /** Key to an object of type V1SubjectRulesReviewStatus. */
+  String RULES_REVIEW_STATUS = "rulesReviewStatus";
+
   /** Key to an object of type MakeRightDomainOperation. */
   String MAKE_RIGHT_DOMAIN_OPERATION = "makeRightOp";
 }
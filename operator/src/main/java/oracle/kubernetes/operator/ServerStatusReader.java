@@ -6,8 +6,11 @@ package oracle.kubernetes.operator;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.Reader;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
@@ -40,6 +43,7 @@ import oracle.kubernetes.weblogic.domain.model.ServerHealth;
 import org.joda.time.DateTime;
 
 import static oracle.kubernetes.operator.KubernetesConstants.CONTAINER_NAME;
+import static oracle.kubernetes.operator.ProcessingConstants.SERVERS_HEALTH_READ_FROM_ADMIN;
 import static oracle.kubernetes.operator.ProcessingConstants.SERVER_HEALTH_MAP;
 import static oracle.kubernetes.operator.ProcessingConstants.SERVER_STATE_MAP;
 
@@ -48,6 +52,9 @@ public class ServerStatusReader {
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
   private static final KubernetesExecFactory EXEC_FACTORY = new KubernetesExecFactoryImpl();
   private static final Function<Step, Step> STEP_FACTORY = ReadHealthStep::createReadHealthStep;
+  private static final Function<Step, Step> DOMAIN_HEALTH_STEP_FACTORY = ReadHealthStep::createReadDomainHealthStep;
+  private static final int DEFAULT_STATUS_READ_GROUP_SIZE = 10;
+  private static final long DEFAULT_STATUS_READ_SPREAD_MILLIS = 2500;
 
   private ServerStatusReader() {
   }
@@ -64,12 +71,13 @@ public class ServerStatusReader {
    * @param pod The pod
    * @param serverName Server name
    * @param timeoutSeconds Timeout in seconds
+   * @param next Next step
    * @return Created step
    */
   private static Step createServerStatusReaderStep(
-      DomainPresenceInfo info, V1Pod pod, String serverName, long timeoutSeconds) {
+      DomainPresenceInfo info, V1Pod pod, String serverName, long timeoutSeconds, Step next) {
     return new ServerStatusReaderStep(
-        info, pod, serverName, timeoutSeconds, new ServerHealthStep(serverName, pod, null));
+        info, pod, serverName, timeoutSeconds, new ServerHealthStep(serverName, pod, next));
   }
 
   /**
@@ -98,27 +106,101 @@ public class ServerStatusReader {
     public NextAction apply(Packet packet) {
       packet.put(SERVER_STATE_MAP, new ConcurrentHashMap<String, String>());
       packet.put(SERVER_HEALTH_MAP, new ConcurrentHashMap<String, ServerHealth>());
+      packet.put(SERVERS_HEALTH_READ_FROM_ADMIN, ConcurrentHashMap.<String>newKeySet());
 
       AtomicInteger remainingServerHealthToRead = new AtomicInteger();
       packet.put(ProcessingConstants.REMAINING_SERVERS_HEALTH_TO_READ, remainingServerHealthToRead);
 
-      Collection<StepAndPacket> startDetails =
-          info.getServerPods()
-              .map(pod -> createStatusReaderStep(packet, pod))
-              .collect(Collectors.toList());
-
-      if (startDetails.isEmpty()) {
+      List<V1Pod> pods = info.getServerPods().collect(Collectors.toList());
+      if (pods.isEmpty()) {
         return doNext(packet);
       } else {
-        remainingServerHealthToRead.set(startDetails.size());
+        remainingServerHealthToRead.set(pods.size());
+        return doNext(DOMAIN_HEALTH_STEP_FACTORY.apply(new StartStatusReadersStep(pods, getNext())), packet);
+      }
+    }
+
+    // Reads the status of each server which was not included in the domain-wide health query. Each read must
+    // hold a slot in the operator-wide status read budget; in large domains, the reads are started in groups
+    // spread across part of the status update interval, rather than all at once.
+    private class StartStatusReadersStep extends Step {
+      private final List<V1Pod> pods;
+      private final StatusReadBudget budget = StatusReadBudget.getInstance();
+
+      StartStatusReadersStep(List<V1Pod> pods, Step next) {
+        super(next);
+        this.pods = pods;
+      }
+
+      // Servers whose health was read from the admin server need no read of their own; they are counted as read.
+      @Override
+      public NextAction apply(Packet packet) {
+        List<V1Pod> podsToRead = pods.stream()
+              .filter(pod -> !isHealthReadFromAdminServer(packet, PodHelper.getPodServerName(pod)))
+              .collect(Collectors.toList());
+        packet.<AtomicInteger>getValue(ProcessingConstants.REMAINING_SERVERS_HEALTH_TO_READ)
+              .addAndGet(podsToRead.size() - pods.size());
+        if (podsToRead.isEmpty()) {
+          return doNext(packet);
+        }
+
+        Collection<StepAndPacket> startDetails = new ArrayList<>();
+        for (int i = 0; i < podsToRead.size(); i++) {
+          long delayMillis = getStartDelayMillis(i, podsToRead.size());
+          startDetails.add(createStatusReaderStep(packet, podsToRead.get(i), delayMillis));
+        }
+
         return doForkJoin(getNext(), packet, startDetails);
       }
+
+      private StepAndPacket createStatusReaderStep(Packet packet, V1Pod pod, long delayMillis) {
+        Step readStep = budget.createGatedStep(getDomainKey(),
+            createServerStatusReaderStep(info, pod, PodHelper.getPodServerName(pod), timeoutSeconds, null));
+        return new StepAndPacket(
+            delayMillis > 0 ? new DelayStep(delayMillis, readStep) : readStep,
+            packet.clone());
+      }
+
+      private String getDomainKey() {
+        return info.getNamespace() + "/" + info.getDomainUid();
+      }
+
+      private long getStartDelayMillis(int index, int numReads) {
+        int groupSize = Math.max(1, getStatusReadGroupSize());
+        if (numReads <= groupSize) {
+          return 0;
+        }
+        int numGroups = (numReads + groupSize - 1) / groupSize;
+        return getStatusReadSpreadMillis() * (index / groupSize) / numGroups;
+      }
+    }
+  }
+
+  private static int getStatusReadGroupSize() {
+    return Optional.ofNullable(TuningParameters.getInstance())
+          .map(TuningParameters::getMainTuning)
+          .map(main -> main.statusReadGroupSize)
+          .orElse(DEFAULT_STATUS_READ_GROUP_SIZE);
+  }
+
+  private static long getStatusReadSpreadMillis() {
+    return Optional.ofNullable(TuningParameters.getInstance())
+          .map(TuningParameters::getMainTuning)
+          .map(main -> main.statusReadSpreadMillis)
+          .orElse(DEFAULT_STATUS_READ_SPREAD_MILLIS);
+  }
+
+  private static class DelayStep extends Step {
+    private final long delayMillis;
+
+    DelayStep(long delayMillis, Step next) {
+      super(next);
+      this.delayMillis = delayMillis;
     }
 
-    private StepAndPacket createStatusReaderStep(Packet packet, V1Pod pod) {
-      return new StepAndPacket(
-          createServerStatusReaderStep(info, pod, PodHelper.getPodServerName(pod), timeoutSeconds),
-          packet.clone());
+    @Override
+    public NextAction apply(Packet packet) {
+      return doDelay(getNext(), packet, delayMillis, TimeUnit.MILLISECONDS);
     }
   }
 
@@ -139,6 +221,10 @@ public class ServerStatusReader {
 
     @Override
     public NextAction apply(Packet packet) {
+      if (isHealthReadFromAdminServer(packet, serverName)) {
+        return doNext(packet);
+      }
+
       @SuppressWarnings("unchecked")
       ConcurrentMap<String, String> serverStateMap =
           (ConcurrentMap<String, String>) packet.get(SERVER_STATE_MAP);
@@ -255,6 +341,11 @@ public class ServerStatusReader {
           (ConcurrentMap<String, String>) packet.get(SERVER_STATE_MAP);
       String state = serverStateMap.get(serverName);
 
+      if (isHealthReadFromAdminServer(packet, serverName)) {
+        packet.<AtomicInteger>getValue(ProcessingConstants.REMAINING_SERVERS_HEALTH_TO_READ).getAndDecrement();
+        return doNext(packet);
+      }
+
       if (PodHelper.getReadyStatus(pod)
           || WebLogicConstants.STATES_SUPPORTING_REST.contains(state)) {
         packet.put(ProcessingConstants.SERVER_NAME, serverName);
@@ -265,6 +356,13 @@ public class ServerStatusReader {
     }
   }
 
+  @SuppressWarnings("unchecked")
+  private static boolean isHealthReadFromAdminServer(Packet packet, String serverName) {
+    return Optional.ofNullable((Set<String>) packet.get(SERVERS_HEALTH_READ_FROM_ADMIN))
+          .map(servers -> servers.contains(serverName))
+          .orElse(false);
+  }
+
   static class StatusUpdateHookStep extends Step {
     private final int timeoutSeconds;
 
@@ -0,0 +1,257 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.TimeUnit;
+
+import oracle.kubernetes.operator.metrics.OperatorMetrics;
+import oracle.kubernetes.operator.work.AsyncFiber;
+import oracle.kubernetes.operator.work.Fiber;
+import oracle.kubernetes.operator.work.NextAction;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.Step;
+import oracle.kubernetes.utils.SystemClock;
+
+/**
+ * Limits the number of server status reads in progress at one time across all domains. When the budget is
+ * exhausted, waiting reads are admitted one domain at a time in rotation, so that a domain with many servers
+ * cannot delay the status of the others. A read which holds its slot for longer than any read could take is
+ * assumed to have been abandoned, and its slot is reclaimed. Freed and reclaimed slots go to waiting reads before
+ * any new read, and waiting reads whose fibers have been cancelled are discarded. Each read runs in a child fiber
+ * which gives back its slot however the read ends.
+ */
+class StatusReadBudget {
+  static final String THROTTLED_METRIC = "statusRead.throttled";
+  private static final int DEFAULT_MAX_CONCURRENT_READS = 50;
+  private static final String SLOT = "statusReadSlot";
+
+  private static StatusReadBudget instance;
+
+  private final int maxConcurrency;
+  private final long maxHoldMillis;
+  private final Map<String, Queue<Waiter>> waiters = new LinkedHashMap<>();
+  private final Map<Object, Long> slots = new LinkedHashMap<>();
+
+  StatusReadBudget(int maxConcurrency, long maxHoldMillis) {
+    this.maxConcurrency = maxConcurrency;
+    this.maxHoldMillis = maxHoldMillis;
+  }
+
+  static synchronized StatusReadBudget getInstance() {
+    if (instance == null) {
+      instance = new StatusReadBudget(getConfiguredMaxConcurrency(), getMaxHoldMillis());
+    }
+    return instance;
+  }
+
+  private static int getConfiguredMaxConcurrency() {
+    return Optional.ofNullable(TuningParameters.getInstance())
+          .map(TuningParameters::getMainTuning)
+          .map(main -> main.maxConcurrentStatusReads)
+          .orElse(DEFAULT_MAX_CONCURRENT_READS);
+  }
+
+  // A status read may wait for both an exec and an HTTP request to time out.
+  private static long getMaxHoldMillis() {
+    return TimeUnit.SECONDS.toMillis(4L * Optional.ofNullable(TuningParameters.getInstance())
+          .map(TuningParameters::getMainTuning)
+          .map(main -> main.statusUpdateTimeoutSeconds)
+          .orElse(10));
+  }
+
+  /**
+   * Wraps the steps which read the status of a server, so that they run only while holding a slot in the budget.
+   * @param domainKey a key identifying the domain containing the server
+   * @param readStep the steps which read the server status
+   * @return the wrapped steps
+   */
+  Step createGatedStep(String domainKey, Step readStep) {
+    return maxConcurrency > 0 ? new AcquireSlotStep(domainKey, new HoldSlotStep(readStep)) : readStep;
+  }
+
+  synchronized int getNumSlotsInUse() {
+    return slots.size();
+  }
+
+  // A new read may take a slot only if no read is waiting for one.
+  private synchronized boolean tryAcquire(Object slot) {
+    if (!waiters.isEmpty() || slots.size() >= maxConcurrency) {
+      return false;
+    }
+    slots.put(slot, now());
+    return true;
+  }
+
+  private static long now() {
+    return SystemClock.now().getMillis();
+  }
+
+  private void reclaimAbandonedSlots() {
+    long oldest = now() - maxHoldMillis;
+    slots.values().removeIf(acquired -> acquired < oldest);
+  }
+
+  // Called once the fiber is suspended. The read joins the end of its domain's queue, and is admitted at once
+  // only if a slot has been freed since it last checked and no earlier read is waiting.
+  private void acquireOrWait(String domainKey, AsyncFiber fiber, Packet packet) {
+    Waiter waiter = new Waiter(fiber, packet);
+    Collection<Waiter> admitted;
+    synchronized (this) {
+      discardCancelledWaiters();
+      waiters.computeIfAbsent(domainKey, k -> new ArrayDeque<>()).add(waiter);
+      admitted = admitWaiters();
+    }
+    if (!admitted.contains(waiter)) {
+      OperatorMetrics.increment(THROTTLED_METRIC);
+    }
+    resume(admitted);
+  }
+
+  private void discardCancelledWaiters() {
+    waiters.values().forEach(queue -> queue.removeIf(Waiter::isCancelled));
+    waiters.values().removeIf(Queue::isEmpty);
+  }
+
+  private void releaseIfHeld(Packet packet) {
+    Optional.ofNullable(packet.remove(SLOT)).ifPresent(this::release);
+  }
+
+  private void release(Object slot) {
+    Collection<Waiter> admitted;
+    synchronized (this) {
+      slots.remove(slot);
+      admitted = admitWaiters();
+    }
+    resume(admitted);
+  }
+
+  // Slots reclaimed from abandoned reads go to the waiting reads, and are resumed outside the lock.
+  private void admitWaitersToReclaimedSlots() {
+    resume(admitWaiters());
+  }
+
+  private synchronized Collection<Waiter> admitWaiters() {
+    Queue<Waiter> admitted = new ArrayDeque<>();
+    reclaimAbandonedSlots();
+    while (slots.size() < maxConcurrency) {
+      Waiter waiter = pollNextDomain();
+      if (waiter == null) {
+        break;
+      }
+      slots.put(waiter.packet.get(SLOT), now());
+      admitted.add(waiter);
+    }
+    return admitted;
+  }
+
+  private void resume(Collection<Waiter> admitted) {
+    admitted.forEach(w -> w.fiber.resume(w.packet));
+  }
+
+  // Takes the first live waiter of the domain at the head of the rotation, then moves that domain to the end.
+  private Waiter pollNextDomain() {
+    while (!waiters.isEmpty()) {
+      String domainKey = waiters.keySet().iterator().next();
+      Queue<Waiter> queue = waiters.remove(domainKey);
+      Waiter waiter = pollLiveWaiter(queue);
+      if (!queue.isEmpty()) {
+        waiters.put(domainKey, queue);
+      }
+      if (waiter != null) {
+        return waiter;
+      }
+    }
+    return null;
+  }
+
+  private Waiter pollLiveWaiter(Queue<Waiter> queue) {
+    Waiter waiter;
+    do {
+      waiter = queue.poll();
+    } while (waiter != null && waiter.isCancelled());
+    return waiter;
+  }
+
+  private static class Waiter {
+    private final AsyncFiber fiber;
+    private final Packet packet;
+
+    Waiter(AsyncFiber fiber, Packet packet) {
+      this.fiber = fiber;
+      this.packet = packet;
+    }
+
+    boolean isCancelled() {
+      return fiber.isCancelled();
+    }
+  }
+
+  private class AcquireSlotStep extends Step {
+    private final String domainKey;
+
+    AcquireSlotStep(String domainKey, Step next) {
+      super(next);
+      this.domainKey = domainKey;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      Object slot = new Object();
+      packet.put(SLOT, slot);
+      admitWaitersToReclaimedSlots();
+      if (tryAcquire(slot)) {
+        return doNext(packet);
+      }
+      return doSuspend(getNext(), fiber -> acquireOrWait(domainKey, fiber, packet));
+    }
+  }
+
+  // Runs the read steps in a child fiber, so that the slot is given back however they end: normally, after a failure
+  // which stops them early, or with a throwable.
+  private class HoldSlotStep extends Step {
+    private final Step readStep;
+
+    HoldSlotStep(Step readStep) {
+      super(null);
+      this.readStep = readStep;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      return doSuspend(fiber -> startReadSteps(fiber, packet));
+    }
+
+    private void startReadSteps(AsyncFiber fiber, Packet packet) {
+      fiber.createChildFiber().start(readStep, packet, new ReleaseSlotCallback(fiber, packet));
+    }
+  }
+
+  private class ReleaseSlotCallback implements Fiber.CompletionCallback {
+    private final AsyncFiber fiber;
+    private final Packet packet;
+
+    ReleaseSlotCallback(AsyncFiber fiber, Packet packet) {
+      this.fiber = fiber;
+      this.packet = packet;
+    }
+
+    @Override
+    public void onCompletion(Packet p) {
+      releaseIfHeld(packet);
+      fiber.resume(packet);
+    }
+
+    @Override
+    public void onThrowable(Packet p, Throwable throwable) {
+      releaseIfHeld(packet);
+      fiber.terminate(throwable, packet);
+    }
+  }
+}
@@ -30,6 +30,8 @@ public interface TuningParameters extends Map<String, String> {
 
   public PodTuning getPodTuning();
 
+  public HttpTuning getHttpTuning();
+
   public static class MainTuning {
     public final int domainPresenceFailureRetrySeconds;
     public final int domainPresenceFailureRetryMaxCount;
@@ -39,6 +41,18 @@ public interface TuningParameters extends Map<String, String> {
     public final int unchangedCountToDelayStatusRecheck;
     public final long initialShortDelay;
     public final long eventualLongDelay;
+    public final int maxConcurrentServerStartup;
+    public final long credentialsCacheSeconds;
+    public final boolean readHealthFromAdminServer;
+    public final int statusReadGroupSize;
+    public final long statusReadSpreadMillis;
+    public final int maxConcurrentStatusReads;
+    public final double fiberTraceSampleRate;
+    public final int fiberTraceBufferSize;
+    public final long fiberTimerTickMillis;
+    public final long domainEventCoalescingMillis;
+    public final int rulesReviewConcurrency;
+    public final long healthCheckCacheSeconds;
 
     /**
      * create main tuning.
@@ -50,6 +64,18 @@ public interface TuningParameters extends Map<String, String> {
      * @param unchangedCountToDelayStatusRecheck unchanged count to delay status recheck
      * @param initialShortDelay initial short delay
      * @param eventualLongDelay eventual long delay
+     * @param maxConcurrentServerStartup maximum number of managed servers starting at one time
+     * @param credentialsCacheSeconds time to reuse the credentials read from a domain's secret
+     * @param readHealthFromAdminServer read the health of all servers in a domain from its admin server
+     * @param statusReadGroupSize number of server status reads to start together
+     * @param statusReadSpreadMillis time over which to spread the groups of server status reads
+     * @param maxConcurrentStatusReads maximum number of server status reads in progress at one time
+     * @param fiberTraceSampleRate fraction of fibers whose steps are traced
+     * @param fiberTraceBufferSize number of fiber traces to keep for export
+     * @param fiberTimerTickMillis precision of fiber timers, or zero to run them on the scheduled executor
+     * @param domainEventCoalescingMillis time for which to gather domain events before starting a make-right
+     * @param rulesReviewConcurrency number of namespaces whose access rules are reviewed at one time
+     * @param healthCheckCacheSeconds time to reuse the Kubernetes version and access checks
      */
     public MainTuning(
         int domainPresenceFailureRetrySeconds,
@@ -59,7 +85,19 @@ public interface TuningParameters extends Map<String, String> {
         int statusUpdateTimeoutSeconds,
         int unchangedCountToDelayStatusRecheck,
         long initialShortDelay,
-        long eventualLongDelay) {
+        long eventualLongDelay,
+        int maxConcurrentServerStartup,
+        long credentialsCacheSeconds,
+        boolean readHealthFromAdminServer,
+        int statusReadGroupSize,
+        long statusReadSpreadMillis,
+        int maxConcurrentStatusReads,
+        double fiberTraceSampleRate,
+        int fiberTraceBufferSize,
+        long fiberTimerTickMillis,
+        long domainEventCoalescingMillis,
+        int rulesReviewConcurrency,
+        long healthCheckCacheSeconds) {
       this.domainPresenceFailureRetrySeconds = domainPresenceFailureRetrySeconds;
       this.domainPresenceFailureRetryMaxCount = domainPresenceFailureRetryMaxCount;
       this.domainPresenceRecheckIntervalSeconds = domainPresenceRecheckIntervalSeconds;
@@ -68,6 +106,18 @@ public interface TuningParameters extends Map<String, String> {
       this.unchangedCountToDelayStatusRecheck = unchangedCountToDelayStatusRecheck;
       this.initialShortDelay = initialShortDelay;
       this.eventualLongDelay = eventualLongDelay;
+      this.maxConcurrentServerStartup = maxConcurrentServerStartup;
+      this.credentialsCacheSeconds = credentialsCacheSeconds;
+      this.readHealthFromAdminServer = readHealthFromAdminServer;
+      this.statusReadGroupSize = statusReadGroupSize;
+      this.statusReadSpreadMillis = statusReadSpreadMillis;
+      this.maxConcurrentStatusReads = maxConcurrentStatusReads;
+      this.fiberTraceSampleRate = fiberTraceSampleRate;
+      this.fiberTraceBufferSize = fiberTraceBufferSize;
+      this.fiberTimerTickMillis = fiberTimerTickMillis;
+      this.domainEventCoalescingMillis = domainEventCoalescingMillis;
+      this.rulesReviewConcurrency = rulesReviewConcurrency;
+      this.healthCheckCacheSeconds = healthCheckCacheSeconds;
     }
 
     @Override
@@ -81,6 +131,18 @@ public interface TuningParameters extends Map<String, String> {
           .append("unchangedCountToDelayStatusRecheck", unchangedCountToDelayStatusRecheck)
           .append("initialShortDelay", initialShortDelay)
           .append("eventualLongDelay", eventualLongDelay)
+          .append("maxConcurrentServerStartup", maxConcurrentServerStartup)
+          .append("credentialsCacheSeconds", credentialsCacheSeconds)
+          .append("readHealthFromAdminServer", readHealthFromAdminServer)
+          .append("statusReadGroupSize", statusReadGroupSize)
+          .append("statusReadSpreadMillis", statusReadSpreadMillis)
+          .append("maxConcurrentStatusReads", maxConcurrentStatusReads)
+          .append("fiberTraceSampleRate", fiberTraceSampleRate)
+          .append("fiberTraceBufferSize", fiberTraceBufferSize)
+          .append("fiberTimerTickMillis", fiberTimerTickMillis)
+          .append("domainEventCoalescingMillis", domainEventCoalescingMillis)
+          .append("rulesReviewConcurrency", rulesReviewConcurrency)
+          .append("healthCheckCacheSeconds", healthCheckCacheSeconds)
           .toString();
     }
 
@@ -95,6 +157,18 @@ public interface TuningParameters extends Map<String, String> {
           .append(unchangedCountToDelayStatusRecheck)
           .append(initialShortDelay)
           .append(eventualLongDelay)
+          .append(maxConcurrentServerStartup)
+          .append(credentialsCacheSeconds)
+          .append(readHealthFromAdminServer)
+          .append(statusReadGroupSize)
+          .append(statusReadSpreadMillis)
+          .append(maxConcurrentStatusReads)
+          .append(fiberTraceSampleRate)
+          .append(fiberTraceBufferSize)
+          .append(fiberTimerTickMillis)
+          .append(domainEventCoalescingMillis)
+          .append(rulesReviewConcurrency)
+          .append(healthCheckCacheSeconds)
           .toHashCode();
     }
 
@@ -116,6 +190,18 @@ public interface TuningParameters extends Map<String, String> {
           .append(unchangedCountToDelayStatusRecheck, mt.unchangedCountToDelayStatusRecheck)
           .append(initialShortDelay, mt.initialShortDelay)
           .append(eventualLongDelay, mt.eventualLongDelay)
+          .append(maxConcurrentServerStartup, mt.maxConcurrentServerStartup)
+          .append(credentialsCacheSeconds, mt.credentialsCacheSeconds)
+          .append(readHealthFromAdminServer, mt.readHealthFromAdminServer)
+          .append(statusReadGroupSize, mt.statusReadGroupSize)
+          .append(statusReadSpreadMillis, mt.statusReadSpreadMillis)
+          .append(maxConcurrentStatusReads, mt.maxConcurrentStatusReads)
+          .append(fiberTraceSampleRate, mt.fiberTraceSampleRate)
+          .append(fiberTraceBufferSize, mt.fiberTraceBufferSize)
+          .append(fiberTimerTickMillis, mt.fiberTimerTickMillis)
+          .append(domainEventCoalescingMillis, mt.domainEventCoalescingMillis)
+          .append(rulesReviewConcurrency, mt.rulesReviewConcurrency)
+          .append(healthCheckCacheSeconds, mt.healthCheckCacheSeconds)
           .isEquals();
     }
   }
@@ -124,17 +210,32 @@ public interface TuningParameters extends Map<String, String> {
     public final int callRequestLimit;
     public final int callMaxRetryCount;
     public final int callTimeoutSeconds;
+    public final boolean protobufEncoding;
+    public final int callBreakerFailureThreshold;
+    public final int callBreakerOpenSeconds;
 
     /**
      * Create call builder tuning.
      * @param callRequestLimit call request limit
      * @param callMaxRetryCount call max retry count
      * @param callTimeoutSeconds call timeout
+     * @param protobufEncoding read and watch core resources in the protobuf encoding
+     * @param callBreakerFailureThreshold consecutive call failures which open the circuit breaker
+     * @param callBreakerOpenSeconds time for which an open circuit breaker rejects calls
      */
-    public CallBuilderTuning(int callRequestLimit, int callMaxRetryCount, int callTimeoutSeconds) {
+    public CallBuilderTuning(
+        int callRequestLimit,
+        int callMaxRetryCount,
+        int callTimeoutSeconds,
+        boolean protobufEncoding,
+        int callBreakerFailureThreshold,
+        int callBreakerOpenSeconds) {
       this.callRequestLimit = callRequestLimit;
       this.callMaxRetryCount = callMaxRetryCount;
       this.callTimeoutSeconds = callTimeoutSeconds;
+      this.protobufEncoding = protobufEncoding;
+      this.callBreakerFailureThreshold = callBreakerFailureThreshold;
+      this.callBreakerOpenSeconds = callBreakerOpenSeconds;
     }
 
     @Override
@@ -143,6 +244,9 @@ public interface TuningParameters extends Map<String, String> {
           .append("callRequestLimit", callRequestLimit)
           .append("callMaxRetryCount", callMaxRetryCount)
           .append("callTimeoutSeconds", callTimeoutSeconds)
+          .append("protobufEncoding", protobufEncoding)
+          .append("callBreakerFailureThreshold", callBreakerFailureThreshold)
+          .append("callBreakerOpenSeconds", callBreakerOpenSeconds)
           .toString();
     }
 
@@ -152,6 +256,9 @@ public interface TuningParameters extends Map<String, String> {
           .append(callRequestLimit)
           .append(callMaxRetryCount)
           .append(callTimeoutSeconds)
+          .append(protobufEncoding)
+          .append(callBreakerFailureThreshold)
+          .append(callBreakerOpenSeconds)
           .toHashCode();
     }
 
@@ -168,6 +275,9 @@ public interface TuningParameters extends Map<String, String> {
           .append(callRequestLimit, cbt.callRequestLimit)
           .append(callMaxRetryCount, cbt.callMaxRetryCount)
           .append(callTimeoutSeconds, cbt.callTimeoutSeconds)
+          .append(protobufEncoding, cbt.protobufEncoding)
+          .append(callBreakerFailureThreshold, cbt.callBreakerFailureThreshold)
+          .append(callBreakerOpenSeconds, cbt.callBreakerOpenSeconds)
           .isEquals();
     }
   }
@@ -176,17 +286,24 @@ public interface TuningParameters extends Map<String, String> {
     public final int watchLifetime;
     public final int watchMinimumDelay;
     public final int watchBackstopRecheckDelay;
+    public final int watchEventQueueCapacity;
 
     /**
      * Create watch tuning.
      * @param watchLifetime Watch lifetime
      * @param watchMinimumDelay Minimum delay before accepting new events to prevent hot loops
      * @param watchBackstopRecheckDelay Recheck delay for get while waiting for a status to backstop missed watch events
+     * @param watchEventQueueCapacity number of watch events which may wait to be passed to listeners
      */
-    public WatchTuning(int watchLifetime, int watchMinimumDelay, int watchBackstopRecheckDelay) {
+    public WatchTuning(
+        int watchLifetime,
+        int watchMinimumDelay,
+        int watchBackstopRecheckDelay,
+        int watchEventQueueCapacity) {
       this.watchLifetime = watchLifetime;
       this.watchMinimumDelay = watchMinimumDelay;
       this.watchBackstopRecheckDelay = watchBackstopRecheckDelay;
+      this.watchEventQueueCapacity = watchEventQueueCapacity;
     }
 
     @Override
@@ -195,13 +312,16 @@ public interface TuningParameters extends Map<String, String> {
           .append("watchLifetime", watchLifetime)
           .append("watchMinimumDelay", watchMinimumDelay)
           .append("watchBackstopRecheckDelay", watchBackstopRecheckDelay)
+          .append("watchEventQueueCapacity", watchEventQueueCapacity)
           .toString();
     }
 
     @Override
     public int hashCode() {
       return new HashCodeBuilder()
-              .append(watchLifetime).append(watchMinimumDelay).append(watchBackstopRecheckDelay).toHashCode();
+              .append(watchLifetime).append(watchMinimumDelay).append(watchBackstopRecheckDelay)
+          .append(watchEventQueueCapacity)
+          .toHashCode();
     }
 
     @Override
@@ -217,6 +337,7 @@ public interface TuningParameters extends Map<String, String> {
           .append(watchLifetime, wt.watchLifetime)
           .append(watchMinimumDelay, wt.watchMinimumDelay)
           .append(watchBackstopRecheckDelay, wt.watchBackstopRecheckDelay)
+          .append(watchEventQueueCapacity, wt.watchEventQueueCapacity)
           .isEquals();
     }
   }
@@ -229,6 +350,9 @@ public interface TuningParameters extends Map<String, String> {
     public final int livenessProbeTimeoutSeconds;
     public final int livenessProbePeriodSeconds;
     public final long introspectorJobActiveDeadlineSeconds;
+    public final int introspectionCacheSize;
+    public final long introspectionCacheMaxChars;
+    public final int podModelHashCacheSize;
 
     /**
      * create pod tuning.
@@ -239,6 +363,9 @@ public interface TuningParameters extends Map<String, String> {
      * @param livenessProbeTimeoutSeconds liveness probe timeout
      * @param livenessProbePeriodSeconds liveness probe period
      * @param introspectorJobActiveDeadlineSeconds introspector job active deadline
+     * @param introspectionCacheSize number of introspection results to keep for reuse
+     * @param introspectionCacheMaxChars total size of the introspection results to keep for reuse
+     * @param podModelHashCacheSize number of server pod model hashes to remember
      */
     public PodTuning(
         int readinessProbeInitialDelaySeconds,
@@ -247,7 +374,10 @@ public interface TuningParameters extends Map<String, String> {
         int livenessProbeInitialDelaySeconds,
         int livenessProbeTimeoutSeconds,
         int livenessProbePeriodSeconds,
-        long introspectorJobActiveDeadlineSeconds) {
+        long introspectorJobActiveDeadlineSeconds,
+        int introspectionCacheSize,
+        long introspectionCacheMaxChars,
+        int podModelHashCacheSize) {
       this.readinessProbeInitialDelaySeconds = readinessProbeInitialDelaySeconds;
       this.readinessProbeTimeoutSeconds = readinessProbeTimeoutSeconds;
       this.readinessProbePeriodSeconds = readinessProbePeriodSeconds;
@@ -255,6 +385,9 @@ public interface TuningParameters extends Map<String, String> {
       this.livenessProbeTimeoutSeconds = livenessProbeTimeoutSeconds;
       this.livenessProbePeriodSeconds = livenessProbePeriodSeconds;
       this.introspectorJobActiveDeadlineSeconds = introspectorJobActiveDeadlineSeconds;
+      this.introspectionCacheSize = introspectionCacheSize;
+      this.introspectionCacheMaxChars = introspectionCacheMaxChars;
+      this.podModelHashCacheSize = podModelHashCacheSize;
     }
 
     @Override
@@ -266,6 +399,9 @@ public interface TuningParameters extends Map<String, String> {
           .append("livenessProbeInitialDelaySeconds", livenessProbeInitialDelaySeconds)
           .append("livenessProbeTimeoutSeconds", livenessProbeTimeoutSeconds)
           .append("livenessProbePeriodSeconds", livenessProbePeriodSeconds)
+          .append("introspectionCacheSize", introspectionCacheSize)
+          .append("introspectionCacheMaxChars", introspectionCacheMaxChars)
+          .append("podModelHashCacheSize", podModelHashCacheSize)
           .toString();
     }
 
@@ -278,6 +414,9 @@ public interface TuningParameters extends Map<String, String> {
           .append(livenessProbeInitialDelaySeconds)
           .append(livenessProbeTimeoutSeconds)
           .append(livenessProbePeriodSeconds)
+          .append(introspectionCacheSize)
+          .append(introspectionCacheMaxChars)
+          .append(podModelHashCacheSize)
           .toHashCode();
     }
 
@@ -297,6 +436,71 @@ public interface TuningParameters extends Map<String, String> {
           .append(livenessProbeInitialDelaySeconds, pt.livenessProbeInitialDelaySeconds)
           .append(livenessProbeTimeoutSeconds, pt.livenessProbeTimeoutSeconds)
           .append(livenessProbePeriodSeconds, pt.livenessProbePeriodSeconds)
+          .append(introspectionCacheSize, pt.introspectionCacheSize)
+          .append(introspectionCacheMaxChars, pt.introspectionCacheMaxChars)
+          .append(podModelHashCacheSize, pt.podModelHashCacheSize)
+          .isEquals();
+    }
+  }
+
+  public static class HttpTuning {
+    public final int httpRequestTimeoutSeconds;
+    public final int httpConnectTimeoutSeconds;
+    public final int httpClientThreads;
+    public final int httpMaxRequestsPerTarget;
+
+    /**
+     * Create http tuning.
+     * @param httpRequestTimeoutSeconds time to wait for a response from a WebLogic server
+     * @param httpConnectTimeoutSeconds time to wait for a connection to a WebLogic server
+     * @param httpClientThreads number of threads used by the http client
+     * @param httpMaxRequestsPerTarget maximum number of concurrent requests to a single server
+     */
+    public HttpTuning(
+        int httpRequestTimeoutSeconds,
+        int httpConnectTimeoutSeconds,
+        int httpClientThreads,
+        int httpMaxRequestsPerTarget) {
+      this.httpRequestTimeoutSeconds = httpRequestTimeoutSeconds;
+      this.httpConnectTimeoutSeconds = httpConnectTimeoutSeconds;
+      this.httpClientThreads = httpClientThreads;
+      this.httpMaxRequestsPerTarget = httpMaxRequestsPerTarget;
+    }
+
+    @Override
+    public String toString() {
+      return new ToStringBuilder(this)
+          .append("httpRequestTimeoutSeconds", httpRequestTimeoutSeconds)
+          .append("httpConnectTimeoutSeconds", httpConnectTimeoutSeconds)
+          .append("httpClientThreads", httpClientThreads)
+          .append("httpMaxRequestsPerTarget", httpMaxRequestsPerTarget)
+          .toString();
+    }
+
+    @Override
+    public int hashCode() {
+      return new HashCodeBuilder()
+          .append(httpRequestTimeoutSeconds)
+          .append(httpConnectTimeoutSeconds)
+          .append(httpClientThreads)
+          .append(httpMaxRequestsPerTarget)
+          .toHashCode();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (o == null) {
+        return false;
+      }
+      if (!(o instanceof HttpTuning)) {
+        return false;
+      }
+      HttpTuning ht = (HttpTuning) o;
+      return new EqualsBuilder()
+          .append(httpRequestTimeoutSeconds, ht.httpRequestTimeoutSeconds)
+          .append(httpConnectTimeoutSeconds, ht.httpConnectTimeoutSeconds)
+          .append(httpClientThreads, ht.httpClientThreads)
+          .append(httpMaxRequestsPerTarget, ht.httpMaxRequestsPerTarget)
           .isEquals();
     }
   }
@@ -5,6 +5,7 @@ package oracle.kubernetes.operator;
 
 import java.io.IOException;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
@@ -22,6 +23,7 @@ public class TuningParametersImpl extends ConfigMapConsumer implements TuningPar
   private CallBuilderTuning callBuilder = null;
   private WatchTuning watch = null;
   private PodTuning pod = null;
+  private HttpTuning http = null;
 
   private TuningParametersImpl(ScheduledExecutorService executorService, String mountPoint)
       throws IOException {
@@ -46,6 +48,7 @@ public class TuningParametersImpl extends ConfigMapConsumer implements TuningPar
   }
 
   private void update() {
+    long initialShortDelay = readTuningParameter("statusUpdateInitialShortDelay", 5);
     MainTuning main =
         new MainTuning(
             (int) readTuningParameter("domainPresenceFailureRetrySeconds", 10),
@@ -54,20 +57,36 @@ public class TuningParametersImpl extends ConfigMapConsumer implements TuningPar
             (int) readTuningParameter("targetNamespaceRecheckIntervalSeconds", 3),
             (int) readTuningParameter("statusUpdateTimeoutSeconds", 10),
             (int) readTuningParameter("statusUpdateUnchangedCountToDelayStatusRecheck", 10),
-            readTuningParameter("statusUpdateInitialShortDelay", 5),
-            readTuningParameter("statusUpdateEventualLongDelay", 30));
+            initialShortDelay,
+            readTuningParameter("statusUpdateEventualLongDelay", 30),
+            (int) readTuningParameter("maxConcurrentServerStartup", 0),
+            readTuningParameter("credentialsCacheSeconds", 60),
+            readBooleanTuningParameter("readHealthFromAdminServer", true),
+            (int) readTuningParameter("statusReadGroupSize", 10),
+            readTuningParameter("statusReadSpreadMillis", TimeUnit.SECONDS.toMillis(initialShortDelay) / 2),
+            (int) readTuningParameter("maxConcurrentStatusReads", 50),
+            readDoubleTuningParameter("fiberTraceSampleRate", 0.0),
+            (int) readTuningParameter("fiberTraceBufferSize", 100),
+            readTuningParameter("fiberTimerTickMillis", 100),
+            readTuningParameter("domainEventCoalescingMillis", 200),
+            (int) readTuningParameter("rulesReviewConcurrency", 10),
+            readTuningParameter("healthCheckCacheSeconds", 300));
 
     CallBuilderTuning callBuilder =
         new CallBuilderTuning(
             (int) readTuningParameter("callRequestLimit", 500),
             (int) readTuningParameter("callMaxRetryCount", 5),
-            (int) readTuningParameter("callTimeoutSeconds", 10));
+            (int) readTuningParameter("callTimeoutSeconds", 10),
+            readBooleanTuningParameter("protobufEncoding", false),
+            (int) readTuningParameter("callBreakerFailureThreshold", 5),
+            (int) readTuningParameter("callBreakerOpenSeconds", 5));
 
     WatchTuning watch =
         new WatchTuning(
             (int) readTuningParameter("watchLifetime", 300),
             (int) readTuningParameter("watchMinimumDelay", 5),
-            (int) readTuningParameter("watchBackstopRecheckDelaySeconds", 5));
+            (int) readTuningParameter("watchBackstopRecheckDelaySeconds", 5),
+            (int) readTuningParameter("watchEventQueueCapacity", 1000));
 
     PodTuning pod =
         new PodTuning(
@@ -77,20 +96,32 @@ public class TuningParametersImpl extends ConfigMapConsumer implements TuningPar
             (int) readTuningParameter("livenessProbeInitialDelaySeconds", 30),
             (int) readTuningParameter("livenessProbeTimeoutSeconds", 5),
             (int) readTuningParameter("livenessProbePeriodSeconds", 45),
-            readTuningParameter("introspectorJobActiveDeadlineSeconds", 120));
+            readTuningParameter("introspectorJobActiveDeadlineSeconds", 120),
+            (int) readTuningParameter("introspectionCacheSize", 50),
+            readTuningParameter("introspectionCacheMaxChars", 8 * 1024 * 1024),
+            (int) readTuningParameter("podModelHashCacheSize", 5000));
+
+    HttpTuning http =
+        new HttpTuning(
+            (int) readTuningParameter("httpRequestTimeoutSeconds", 5),
+            (int) readTuningParameter("httpConnectTimeoutSeconds", 5),
+            (int) readTuningParameter("httpClientThreads", 4),
+            (int) readTuningParameter("httpMaxRequestsPerTarget", 4));
 
     lock.writeLock().lock();
     try {
       if (!main.equals(this.main)
           || !callBuilder.equals(this.callBuilder)
           || !watch.equals(this.watch)
-          || !pod.equals(this.pod)) {
+          || !pod.equals(this.pod)
+          || !http.equals(this.http)) {
         LOGGER.info(MessageKeys.TUNING_PARAMETERS);
       }
       this.main = main;
       this.callBuilder = callBuilder;
       this.watch = watch;
       this.pod = pod;
+      this.http = http;
     } finally {
       lock.writeLock().unlock();
     }
@@ -135,4 +166,14 @@ public class TuningParametersImpl extends ConfigMapConsumer implements TuningPar
       lock.readLock().unlock();
     }
   }
+
+  @Override
+  public HttpTuning getHttpTuning() {
+    lock.readLock().lock();
+    try {
+      return http;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
 }
@@ -5,9 +5,14 @@ package oracle.kubernetes.operator;
 
 import java.lang.reflect.Method;
 import java.math.BigInteger;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
@@ -21,6 +26,7 @@ import oracle.kubernetes.operator.logging.LoggingContext;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.MessageKeys;
+import oracle.kubernetes.operator.metrics.OperatorMetrics;
 import oracle.kubernetes.operator.watcher.WatchListener;
 
 import static com.google.common.base.Strings.isNullOrEmpty;
@@ -30,14 +36,34 @@ import static java.net.HttpURLConnection.HTTP_GONE;
  * This class handles the Watching interface and drives the watch support for a specific type of
  * object. It runs in a separate thread to drive watching asynchronously to the main thread.
  *
+ * <p>If an event executor has been set, events are not passed to the listener on the watch thread,
+ * so that a slow listener cannot delay reading the watch stream. Instead, each watcher adds its
+ * events to its own bounded queue, which is drained, in order, on the event executor. An event for an
+ * object which is already queued replaces the queued event, so the queue holds at most one event per
+ * object. If the queue fills, the new event is dropped and the watch restarts without a resource
+ * version, so that the API server again reports every current resource. The queue is not bounded
+ * again until it next drains, since the relist reports each object at most once.
+ *
  * @param <T> The type of the object to be watched.
  */
 abstract class Watcher<T> {
   static final String HAS_NEXT_EXCEPTION_MESSAGE = "IO Exception during hasNext method.";
+  static final String QUEUED_METRIC = "watchEvents.queued";
+  static final String OVERFLOW_METRIC = "watchEvents.overflowed";
+  static final String BACKLOG_METRIC = "watchEvents.backlog";
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
   private static final String IGNORED_RESOURCE_VERSION = "0";
+  private static final AtomicInteger backlog = new AtomicInteger();
+  private static Executor eventExecutor;
+
+  static {
+    OperatorMetrics.registerGauge(BACKLOG_METRIC, backlog::get);
+  }
 
   private final AtomicBoolean isDraining = new AtomicBoolean(false);
+  private final Map<Object, Watch.Response<T>> events = new LinkedHashMap<>();
+  private boolean resyncing;
+  private final AtomicBoolean isDelivering = new AtomicBoolean(false);
   private final WatchTuning tuning;
   private String resourceVersion;
   private final AtomicBoolean stopping;
@@ -76,6 +102,19 @@ abstract class Watcher<T> {
     this.listener = listener;
   }
 
+  /**
+   * Sets the executor on which watch events will be passed to listeners.
+   *
+   * @param executor the executor, or null to pass events to listeners on each watch thread
+   */
+  static synchronized void setEventExecutor(Executor executor) {
+    eventExecutor = executor;
+  }
+
+  private static synchronized Executor getEventExecutor() {
+    return eventExecutor;
+  }
+
   /** Waits for this watcher's thread to exit. For unit testing only. */
   void waitForExit() {
     try {
@@ -160,8 +199,8 @@ abstract class Watcher<T> {
         try (LoggingContext stack = LoggingContext.setThreadContext().namespace(getNamespace())) {
           if (isError(item)) {
             handleErrorResponse(item);
-          } else {
-            handleRegularUpdate(item);
+          } else if (!handleRegularUpdate(item)) {
+            break;
           }
         }
       }
@@ -199,11 +238,98 @@ abstract class Watcher<T> {
     return item.type.equalsIgnoreCase("ERROR");
   }
 
-  private void handleRegularUpdate(Watch.Response<T> item) {
+  // Returns false if the event could not be queued, and the watch must be restarted.
+  private boolean handleRegularUpdate(Watch.Response<T> item) {
     LOGGER.finer(MessageKeys.WATCH_EVENT, item.type, item.object);
     trackResourceVersion(item.type, item.object);
-    if (listener != null) {
+    if (listener == null) {
+      return true;
+    }
+
+    Executor executor = getEventExecutor();
+    if (executor == null) {
+      listener.receivedResponse(item);
+      return true;
+    } else if (!enqueue(item)) {
+      resourceVersion = IGNORED_RESOURCE_VERSION;
+      return false;
+    }
+
+    if (isDelivering.compareAndSet(false, true)) {
+      executor.execute(this::deliverQueuedEvents);
+    }
+    return true;
+  }
+
+  // Deletions are always queued, since the relist which follows an overflow would not report them.
+  private boolean enqueue(Watch.Response<T> item) {
+    int capacity = tuning.watchEventQueueCapacity;
+    synchronized (events) {
+      Object key = getEventKey(item);
+      if (events.containsKey(key)) {
+        events.put(key, item);
+      } else if (events.size() >= capacity && !resyncing && !isDeletion(item)) {
+        resyncing = true;
+        LOGGER.warning(MessageKeys.WATCH_EVENTS_OVERFLOWED, capacity, getNamespace());
+        OperatorMetrics.increment(OVERFLOW_METRIC);
+        return false;
+      } else {
+        events.put(key, item);
+        backlog.incrementAndGet();
+      }
+    }
+
+    OperatorMetrics.increment(QUEUED_METRIC);
+    return true;
+  }
+
+  // Objects without a uid get a key of their own, so that their events are never merged.
+  private Object getEventKey(Watch.Response<T> item) {
+    return getMetadata(item.object).map(V1ObjectMeta::getUid).map(Object.class::cast).orElseGet(Object::new);
+  }
+
+  private boolean isDeletion(Watch.Response<T> item) {
+    return item.type.equalsIgnoreCase("DELETED");
+  }
+
+  // Once the queue drains, any resync is complete and the queue is bounded again.
+  private Watch.Response<T> pollEvent() {
+    synchronized (events) {
+      Iterator<Watch.Response<T>> iterator = events.values().iterator();
+      if (!iterator.hasNext()) {
+        resyncing = false;
+        return null;
+      }
+
+      Watch.Response<T> item = iterator.next();
+      iterator.remove();
+      backlog.decrementAndGet();
+      return item;
+    }
+  }
+
+  private boolean hasQueuedEvents() {
+    synchronized (events) {
+      return !events.isEmpty();
+    }
+  }
+
+  // Only one delivery task runs at a time for each watcher, so that events are passed to the listener in order.
+  private void deliverQueuedEvents() {
+    do {
+      Watch.Response<T> item;
+      while ((item = pollEvent()) != null) {
+        deliver(item);
+      }
+      isDelivering.set(false);
+    } while (hasQueuedEvents() && isDelivering.compareAndSet(false, true));
+  }
+
+  private void deliver(Watch.Response<T> item) {
+    try (LoggingContext stack = LoggingContext.setThreadContext().namespace(getNamespace())) {
       listener.receivedResponse(item);
+    } catch (Throwable ex) {
+      LOGGER.warning(MessageKeys.EXCEPTION, ex);
     }
   }
 
@@ -257,13 +383,16 @@ abstract class Watcher<T> {
   }
 
   private String getResourceVersionFromMetadata(Object object) {
+    return getMetadata(object).map(V1ObjectMeta::getResourceVersion).orElse(IGNORED_RESOURCE_VERSION);
+  }
+
+  private Optional<V1ObjectMeta> getMetadata(Object object) {
     try {
       Method getMetadata = object.getClass().getDeclaredMethod("getMetadata");
-      return Optional.ofNullable((V1ObjectMeta) getMetadata.invoke(object))
-              .map(V1ObjectMeta::getResourceVersion).orElse(IGNORED_RESOURCE_VERSION);
+      return Optional.ofNullable((V1ObjectMeta) getMetadata.invoke(object));
     } catch (Exception e) {
       LOGGER.warning(MessageKeys.EXCEPTION, e);
-      return IGNORED_RESOURCE_VERSION;
+      return Optional.empty();
     }
   }
 
@@ -0,0 +1,106 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.builders;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.Iterator;
+import javax.annotation.Nonnull;
+
+import com.google.protobuf.ByteString;
+import io.kubernetes.client.openapi.ApiClient;
+import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.util.Watch;
+import okhttp3.Call;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import oracle.kubernetes.operator.calls.ProtobufCodec;
+
+/**
+ * A watch which reads its events in the protobuf encoding. The API server sends each event as a frame,
+ * preceded by its length as a four-byte big-endian integer.
+ *
+ * @param <T> the type of the watched objects
+ */
+class ProtobufWatch<T> implements WatchI<T> {
+  private final ProtobufCodec codec;
+  private final Class<T> type;
+  private final Type responseType;
+  private final ResponseBody body;
+
+  private ProtobufWatch(ProtobufCodec codec, Class<T> type, Type responseType, ResponseBody body) {
+    this.codec = codec;
+    this.type = type;
+    this.responseType = responseType;
+    this.body = body;
+  }
+
+  /**
+   * Starts a watch, sending the request made by the specified call and asking for the protobuf encoding.
+   * @param client the client which created the call
+   * @param call a call built for a JSON watch
+   * @param type the type of the watched objects
+   * @param responseType the parameterized watch response type
+   * @param <T> the type of the watched objects
+   * @return the active watch
+   * @throws ApiException if the API server refuses the watch
+   */
+  static <T> ProtobufWatch<T> createWatch(ApiClient client, Call call, Class<T> type, Type responseType)
+        throws ApiException {
+    ProtobufCodec codec = new ProtobufCodec(client);
+    Response response = execute(client.getHttpClient().newCall(
+          ProtobufCodec.withMediaType(call.request(), ProtobufCodec.WATCH_MEDIA_TYPE)));
+    if (!response.isSuccessful()) {
+      throw createFailure(codec, response);
+    }
+    return new ProtobufWatch<>(codec, type, responseType, response.body());
+  }
+
+  private static Response execute(Call call) throws ApiException {
+    try {
+      return call.execute();
+    } catch (IOException e) {
+      throw new ApiException(e);
+    }
+  }
+
+  private static ApiException createFailure(ProtobufCodec codec, Response response) {
+    try (ResponseBody body = response.body()) {
+      String failure = body == null ? null : codec.describeFailure(ByteString.copyFrom(body.bytes()));
+      return new ApiException(response.message(), response.code(), response.headers().toMultimap(), failure);
+    } catch (IOException e) {
+      return new ApiException(e);
+    }
+  }
+
+  @Override
+  public void close() {
+    body.close();
+  }
+
+  @Override
+  @Nonnull
+  public Iterator<Watch.Response<T>> iterator() {
+    return this;
+  }
+
+  @Override
+  public boolean hasNext() {
+    try {
+      return !body.source().exhausted();
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  @Override
+  public Watch.Response<T> next() {
+    try {
+      int length = body.source().readInt();
+      return codec.decodeWatchEvent(ByteString.copyFrom(body.source().readByteArray(length)), type, responseType);
+    } catch (IOException e) {
+      throw new RuntimeException("IO Exception during next method.", e);
+    }
+  }
+}
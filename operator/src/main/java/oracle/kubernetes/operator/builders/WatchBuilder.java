@@ -5,6 +5,7 @@ package oracle.kubernetes.operator.builders;
 
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 import java.util.function.BiFunction;
 
@@ -21,6 +22,8 @@ import io.kubernetes.client.openapi.models.V1Service;
 import io.kubernetes.client.util.Watch;
 import okhttp3.Call;
 import okhttp3.OkHttpClient;
+import oracle.kubernetes.operator.TuningParameters;
+import oracle.kubernetes.operator.calls.ProtobufCodec;
 import oracle.kubernetes.operator.helpers.ClientPool;
 import oracle.kubernetes.operator.helpers.Pool;
 import oracle.kubernetes.weblogic.domain.api.WeblogicApi;
@@ -201,7 +204,15 @@ public class WatchBuilder {
   }
 
   static class WatchFactoryImpl implements WatchFactory {
+    private static boolean isProtobufEncoding() {
+      return Optional.ofNullable(TuningParameters.getInstance())
+          .map(TuningParameters::getCallBuilderTuning)
+          .map(tuning -> tuning.protobufEncoding)
+          .orElse(false);
+    }
+
     @Override
+    @SuppressWarnings("unchecked")
     public <T> WatchI<T> createWatch(
         Pool<ApiClient> pool,
         CallParams callParams,
@@ -210,11 +221,12 @@ public class WatchBuilder {
         throws ApiException {
       ApiClient client = pool.take();
       try {
-        return new WatchImpl<>(
-            pool,
-            client,
-            Watch.createWatch(
-                client, function.apply(client, callParams), getType(responseBodyType)));
+        Call call = function.apply(client, callParams);
+        if (isProtobufEncoding() && ProtobufCodec.supports(responseBodyType)) {
+          return new WatchImpl<T>(pool, client, ProtobufWatch.createWatch(
+                client, call, (Class<T>) responseBodyType, getType(responseBodyType)));
+        }
+        return new WatchImpl<>(pool, client, Watch.createWatch(client, call, getType(responseBodyType)));
       } catch (UncheckedApiException e) {
         throw e.getCause();
       }
@@ -3,6 +3,7 @@
 
 package oracle.kubernetes.operator.builders;
 
+import java.io.Closeable;
 import java.io.IOException;
 import java.util.Iterator;
 import javax.annotation.Nonnull;
@@ -17,17 +18,27 @@ import oracle.kubernetes.operator.helpers.Pool;
 public class WatchImpl<T> implements WatchI<T> {
   private final Pool<ApiClient> pool;
   private ApiClient client;
-  private final Watch<T> impl;
+  private final Iterator<Watch.Response<T>> impl;
+  private final Closeable closeable;
 
   WatchImpl(Pool<ApiClient> pool, ApiClient client, Watch<T> impl) {
+    this(pool, client, impl, impl);
+  }
+
+  WatchImpl(Pool<ApiClient> pool, ApiClient client, WatchI<T> impl) {
+    this(pool, client, impl, impl);
+  }
+
+  private WatchImpl(Pool<ApiClient> pool, ApiClient client, Iterator<Watch.Response<T>> impl, Closeable closeable) {
     this.pool = pool;
     this.client = client;
     this.impl = impl;
+    this.closeable = closeable;
   }
 
   @Override
   public void close() throws IOException {
-    impl.close();
+    closeable.close();
     if (client != null) {
       pool.recycle(client);
     }
@@ -36,7 +47,7 @@ public class WatchImpl<T> implements WatchI<T> {
   @Override
   @Nonnull
   public Iterator<Watch.Response<T>> iterator() {
-    return impl.iterator();
+    return impl;
   }
 
   @Override
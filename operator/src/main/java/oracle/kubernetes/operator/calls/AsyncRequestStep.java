@@ -157,6 +157,7 @@ public class AsyncRequestStep<T> extends Step implements RetryStrategyListener {
         }
 
         helper.recycle(client);
+        getBreaker().recordResponse(statusCode, System.currentTimeMillis());
         addResponseComponent(Component.createFor(
             createSuccess(requestParams, result, statusCode).withResponseHeaders(responseHeaders)));
         fiber.resume(packet);
@@ -172,6 +173,7 @@ public class AsyncRequestStep<T> extends Step implements RetryStrategyListener {
         }
 
         helper.recycle(client);
+        getBreaker().recordResponse(statusCode, System.currentTimeMillis());
         addResponseComponent(Component.createFor(
               RetryStrategy.class, retryStrategy,
               createFailure(requestParams, ae, statusCode).withResponseHeaders(responseHeaders)));
@@ -214,8 +216,19 @@ public class AsyncRequestStep<T> extends Step implements RetryStrategyListener {
     }
   }
 
+  private CallBreaker getBreaker() {
+    return CallBreaker.forCall(String.valueOf(requestParams.call), requestParams.namespace);
+  }
+
   @Override
   public NextAction apply(Packet packet) {
+    // while calls of this type are failing, wait for the breaker to let a call through
+    long breakerDelay = getBreaker().getDelayBeforeCall(System.currentTimeMillis());
+    if (breakerDelay > 0) {
+      LOGGER.finer(MessageKeys.ASYNC_RETRY, identityHash(), String.valueOf(breakerDelay));
+      return doDelay(this, packet, breakerDelay, TimeUnit.MILLISECONDS);
+    }
+
     // we don't have the domain presence information and logging context information yet,
     // add a logging context to pass the namespace information to the LoggingFormatter
     if (requestParams.namespace != null
@@ -363,14 +376,8 @@ public class AsyncRequestStep<T> extends Step implements RetryStrategyListener {
     public NextAction doPotentialRetry(Step conflictStep, Packet packet, int statusCode) {
       // Check statusCode, many statuses should not be retried
       // https://github.com/kubernetes/community/blob/master/contributors/devel/sig-architecture/api-conventions.md#http-status-codes
-      if (statusCode == 0 /* simple timeout */
-          || statusCode == 429 /* StatusTooManyRequests */
-          || statusCode == 500 /* StatusInternalServerError */
-          || statusCode == 503 /* StatusServiceUnavailable */
-          || statusCode == 504 /* StatusServerTimeout */) {
-
-        // exponential back-off
-        long waitTime = Math.min((2 << ++retryCount) * SCALE, MAX) + (R.nextInt(HIGH - LOW) + LOW);
+      if (CallBreaker.isOverloadStatus(statusCode)) {
+        ++retryCount;
 
         if (statusCode == 0 || statusCode == 504 /* StatusServerTimeout */) {
           listener.listenTimeoutDoubled();
@@ -382,6 +389,11 @@ public class AsyncRequestStep<T> extends Step implements RetryStrategyListener {
         } else if (statusCode == 0) {
           na.invoke(retryStep, packet);
         } else {
+          // exponential back-off, shared by all calls of this type; once the retry budget is spent, wait longest
+          long waitTime = getBreaker().getRetryDelay(getRetryAfterMillis(packet), System.currentTimeMillis());
+          if (!getBreaker().tryAcquireRetry()) {
+            waitTime = Math.max(waitTime, CallBreaker.MAX_DELAY_MILLIS);
+          }
           LOGGER.finer(MessageKeys.ASYNC_RETRY, identityHash(), String.valueOf(waitTime));
           na.delay(retryStep, packet, waitTime, TimeUnit.MILLISECONDS);
         }
@@ -408,6 +420,12 @@ public class AsyncRequestStep<T> extends Step implements RetryStrategyListener {
       return statusCode == 409 /* Conflict */ && conflictStep != null;
     }
 
+    private long getRetryAfterMillis(Packet packet) {
+      return Optional.ofNullable(packet.getSpi(CallResponse.class))
+            .map(CallResponse::getRetryAfterMillis)
+            .orElse(0L);
+    }
+
     private boolean retriesLeft() {
       return retryCount <= maxRetryCount;
     }
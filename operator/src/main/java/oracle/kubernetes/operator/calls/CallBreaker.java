@@ -0,0 +1,207 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.calls;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+
+import oracle.kubernetes.operator.TuningParameters;
+import oracle.kubernetes.operator.metrics.OperatorMetrics;
+
+/**
+ * Coordinates the retries of all Kubernetes calls of the same type in a namespace, such as listPod or
+ * replaceDomainStatus, so that fibers back off together when the API server is overloaded, rather than each
+ * adding its own retries. Calls in other namespaces have their own breakers, so that a namespace which the
+ * server is rejecting does not hold back the others.
+ *
+ * <p>Retry delays grow exponentially with decorrelated jitter, shared by every call of the type, and are never
+ * shorter than any Retry-After interval requested by the server. Retries are limited by a budget which is
+ * refilled by successful calls; once it is spent, retries wait the maximum delay. After several consecutive
+ * failures the breaker opens, and new calls of the type wait until it is half-open, when a single call is sent
+ * as a probe; its outcome closes or reopens the breaker. Calls which time out on the client side say nothing
+ * about the server's load, and are not counted.
+ */
+class CallBreaker {
+  static final long BASE_DELAY_MILLIS = 100;
+  static final long MAX_DELAY_MILLIS = 10000;
+  static final double MAX_RETRY_TOKENS = 10;
+  static final double RETRY_TOKENS_PER_SUCCESS = 0.2;
+  private static final int DEFAULT_FAILURE_THRESHOLD = 5;
+  private static final int DEFAULT_OPEN_SECONDS = 5;
+  private static final long MAX_OPEN_MILLIS = 60000;
+  private static final Random R = new Random();
+
+  private static final Map<String, CallBreaker> breakers = new ConcurrentHashMap<>();
+
+  enum State {
+    CLOSED, HALF_OPEN, OPEN
+  }
+
+  private final String call;
+  private final int failureThreshold;
+  private final long initialOpenMillis;
+  private State state = State.CLOSED;
+  private int consecutiveFailures;
+  private long openMillis;
+  private long openUntil;
+  private long probeStarted;
+  private long sleepMillis = BASE_DELAY_MILLIS;
+  private double retryTokens = MAX_RETRY_TOKENS;
+
+  CallBreaker(String call, int failureThreshold, long openMillis) {
+    this.call = call;
+    this.failureThreshold = failureThreshold;
+    this.initialOpenMillis = this.openMillis = openMillis;
+  }
+
+  /**
+   * Returns the breaker for the specified type of call in a namespace, creating it if needed.
+   * @param call the name of the call, as in {@link RequestParams#call}
+   * @param namespace the namespace of the call, or null for a cluster-scoped call
+   * @return the breaker
+   */
+  static CallBreaker forCall(String call, String namespace) {
+    return breakers.computeIfAbsent(call + "/" + namespace, k -> create(call));
+  }
+
+  private static CallBreaker create(String call) {
+    CallBreaker breaker = new CallBreaker(call, getFailureThreshold(), 1000L * getOpenSeconds());
+    OperatorMetrics.registerGauge(breaker.getMetricName("openBreakers"), () -> countOpenBreakers(call));
+    return breaker;
+  }
+
+  private static long countOpenBreakers(String call) {
+    return breakers.values().stream().filter(b -> b.call.equals(call) && b.getState() != State.CLOSED).count();
+  }
+
+  private static int getFailureThreshold() {
+    return Optional.ofNullable(TuningParameters.getInstance())
+          .map(TuningParameters::getCallBuilderTuning)
+          .map(tuning -> tuning.callBreakerFailureThreshold)
+          .orElse(DEFAULT_FAILURE_THRESHOLD);
+  }
+
+  private static int getOpenSeconds() {
+    return Optional.ofNullable(TuningParameters.getInstance())
+          .map(TuningParameters::getCallBuilderTuning)
+          .map(tuning -> tuning.callBreakerOpenSeconds)
+          .orElse(DEFAULT_OPEN_SECONDS);
+  }
+
+  static void clear() {
+    breakers.values().forEach(b -> OperatorMetrics.unregisterGauge(b.getMetricName("openBreakers")));
+    breakers.clear();
+  }
+
+  private String getMetricName(String suffix) {
+    return "apiCall." + call + "." + suffix;
+  }
+
+  synchronized State getState() {
+    return state;
+  }
+
+  /**
+   * Returns the time to wait before sending a new call of this type. When the breaker is open,
+   * this is the time until it becomes half-open; when half-open, the first caller is chosen as the probe.
+   * @param now the current time, in milliseconds
+   * @return the number of milliseconds to wait, or zero if the call may be sent now
+   */
+  synchronized long getDelayBeforeCall(long now) {
+    switch (state) {
+      case OPEN:
+        if (now < openUntil) {
+          return openUntil - now;
+        }
+        state = State.HALF_OPEN;
+        probeStarted = now;
+        return 0;
+      case HALF_OPEN:
+        // A probe which never reports its outcome is replaced by a new one.
+        if (now - probeStarted > 2 * openMillis) {
+          probeStarted = now;
+          return 0;
+        }
+        return openMillis;
+      default:
+        return 0;
+    }
+  }
+
+  /**
+   * Records the response to a call of this type.
+   * @param statusCode the HTTP status of the response
+   * @param now the current time, in milliseconds
+   */
+  synchronized void recordResponse(int statusCode, long now) {
+    if (statusCode == 0) {
+      return;
+    } else if (isOverloadStatus(statusCode)) {
+      recordFailure(now);
+    } else {
+      recordSuccess();
+    }
+  }
+
+  static boolean isOverloadStatus(int statusCode) {
+    return statusCode == 0 /* simple timeout */
+        || statusCode == 429 /* StatusTooManyRequests */
+        || statusCode == 500 /* StatusInternalServerError */
+        || statusCode == 503 /* StatusServiceUnavailable */
+        || statusCode == 504 /* StatusServerTimeout */;
+  }
+
+  private void recordSuccess() {
+    consecutiveFailures = 0;
+    state = State.CLOSED;
+    openMillis = initialOpenMillis;
+    sleepMillis = BASE_DELAY_MILLIS;
+    retryTokens = Math.min(MAX_RETRY_TOKENS, retryTokens + RETRY_TOKENS_PER_SUCCESS);
+  }
+
+  private void recordFailure(long now) {
+    consecutiveFailures++;
+    if (state == State.HALF_OPEN) {
+      openMillis = Math.min(MAX_OPEN_MILLIS, 2 * openMillis);
+      open(now);
+    } else if (state == State.CLOSED && consecutiveFailures >= failureThreshold) {
+      open(now);
+    }
+  }
+
+  private void open(long now) {
+    state = State.OPEN;
+    openUntil = now + openMillis;
+    OperatorMetrics.increment(getMetricName("breakerOpened"));
+  }
+
+  /**
+   * Takes a token from the retry budget.
+   * @return true if a token was taken, false if the budget is exhausted and the retry should be deferred
+   */
+  synchronized boolean tryAcquireRetry() {
+    if (retryTokens < 1) {
+      OperatorMetrics.increment(getMetricName("retriesDeferred"));
+      return false;
+    }
+    retryTokens--;
+    OperatorMetrics.increment(getMetricName("retries"));
+    return true;
+  }
+
+  /**
+   * Returns the delay before the next retry of a call of this type, and lengthens the delay for the next.
+   * @param retryAfterMillis the delay requested by the server, or zero if none
+   * @param now the current time, in milliseconds
+   * @return the delay in milliseconds
+   */
+  synchronized long getRetryDelay(long retryAfterMillis, long now) {
+    long upper = Math.min(MAX_DELAY_MILLIS, sleepMillis * 3);
+    sleepMillis = BASE_DELAY_MILLIS + (long) (R.nextDouble() * Math.max(0, upper - BASE_DELAY_MILLIS));
+    long delay = Math.max(sleepMillis, retryAfterMillis);
+    return state == State.OPEN ? Math.max(delay, openUntil - now) : delay;
+  }
+}
@@ -3,13 +3,17 @@
 
 package oracle.kubernetes.operator.calls;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 import io.kubernetes.client.openapi.ApiException;
 
 public final class CallResponse<T> {
+  private static final String RETRY_AFTER = "Retry-After";
+
   private final RequestParams requestParams;
   private final T result;
   private final ApiException ex;
@@ -75,5 +79,26 @@ public final class CallResponse<T> {
   public String getHeadersString() {
     return Optional.ofNullable(responseHeaders).map(Object::toString).orElse("");
   }
+
+  /**
+   * Returns the delay requested by the server's Retry-After header, if it specifies one in seconds.
+   * @return the delay in milliseconds, or zero if none was requested
+   */
+  public long getRetryAfterMillis() {
+    return Optional.ofNullable(responseHeaders).orElse(Collections.emptyMap()).entrySet().stream()
+          .filter(e -> RETRY_AFTER.equalsIgnoreCase(e.getKey()))
+          .flatMap(e -> e.getValue().stream())
+          .findFirst()
+          .map(CallResponse::parseSeconds)
+          .orElse(0L);
+  }
+
+  private static long parseSeconds(String value) {
+    try {
+      return TimeUnit.SECONDS.toMillis(Long.parseLong(value.trim()));
+    } catch (NumberFormatException e) {
+      return 0;
+    }
+  }
   
 }
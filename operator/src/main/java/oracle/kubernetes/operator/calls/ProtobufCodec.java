@@ -0,0 +1,306 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.calls;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.Descriptors.Descriptor;
+import com.google.protobuf.Descriptors.EnumValueDescriptor;
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.Message;
+import com.google.protobuf.Parser;
+import io.kubernetes.client.openapi.ApiCallback;
+import io.kubernetes.client.openapi.ApiClient;
+import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.models.V1ConfigMap;
+import io.kubernetes.client.openapi.models.V1ConfigMapList;
+import io.kubernetes.client.openapi.models.V1Event;
+import io.kubernetes.client.openapi.models.V1EventList;
+import io.kubernetes.client.openapi.models.V1Job;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodList;
+import io.kubernetes.client.openapi.models.V1Service;
+import io.kubernetes.client.openapi.models.V1ServiceList;
+import io.kubernetes.client.openapi.models.V1Status;
+import io.kubernetes.client.proto.IntStr;
+import io.kubernetes.client.proto.Meta;
+import io.kubernetes.client.proto.Resource;
+import io.kubernetes.client.proto.Runtime;
+import io.kubernetes.client.proto.V1;
+import io.kubernetes.client.proto.V1Batch;
+import io.kubernetes.client.util.Watch;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+/**
+ * Decodes Kubernetes API responses sent in the protobuf encoding into the client model objects. Only core types
+ * are served as protobuf; custom resources such as domains are always read as JSON. A decoded message is converted
+ * into a JSON tree, field by field, which is then bound to the model by the client's Gson instance, so that the
+ * models and their type adapters are the same as for a JSON response, while the text parsing is skipped.
+ */
+public class ProtobufCodec {
+  public static final String MEDIA_TYPE = "application/vnd.kubernetes.protobuf";
+  public static final String WATCH_MEDIA_TYPE = MEDIA_TYPE + ";stream=watch";
+
+  /** The prefix which the API server writes before each protobuf-encoded object. */
+  private static final ByteString MAGIC = ByteString.copyFrom(new byte[] {0x6b, 0x38, 0x73, 0x00});
+
+  private static final Map<Class<?>, Parser<? extends Message>> PARSERS = Map.ofEntries(
+        Map.entry(V1Pod.class, V1.Pod.parser()),
+        Map.entry(V1PodList.class, V1.PodList.parser()),
+        Map.entry(V1Service.class, V1.Service.parser()),
+        Map.entry(V1ServiceList.class, V1.ServiceList.parser()),
+        Map.entry(V1Event.class, V1.Event.parser()),
+        Map.entry(V1EventList.class, V1.EventList.parser()),
+        Map.entry(V1ConfigMap.class, V1.ConfigMap.parser()),
+        Map.entry(V1ConfigMapList.class, V1.ConfigMapList.parser()),
+        Map.entry(V1Job.class, V1Batch.Job.parser()),
+        Map.entry(V1Status.class, Meta.Status.parser()));
+
+  /** Fields which are separate messages in protobuf, but whose own fields are inlined in JSON. */
+  private static final Set<FieldDescriptor> INLINE_FIELDS = Set.of(
+        V1.Probe.getDescriptor().findFieldByName("handler"),
+        V1.Volume.getDescriptor().findFieldByName("volumeSource"));
+
+  private final Gson gson;
+
+  public ProtobufCodec(ApiClient client) {
+    this(client.getJSON().getGson());
+  }
+
+  ProtobufCodec(Gson gson) {
+    this.gson = gson;
+  }
+
+  /**
+   * Returns true if the specified model type can be read in the protobuf encoding.
+   * @param type a client model class
+   * @return true if a protobuf message is known for the type
+   */
+  public static boolean supports(Type type) {
+    return PARSERS.containsKey(type);
+  }
+
+  /**
+   * Returns a copy of the specified request, which asks for the specified media type.
+   * @param request the original request
+   * @param mediaType the media type to accept
+   * @return a new request
+   */
+  public static Request withMediaType(Request request, String mediaType) {
+    return request.newBuilder().header("Accept", mediaType).build();
+  }
+
+  /**
+   * Sends the request made by the specified call, asking for the protobuf encoding, and reports the decoded result
+   * to the callback in the same way as {@link ApiClient#executeAsync(Call, Type, ApiCallback)}.
+   * @param client the client which created the call
+   * @param call a call built for a JSON response
+   * @param type the model type of the response
+   * @param callback the callback to report the result
+   * @param <T> the model type of the response
+   * @return the call actually sent, which may be used to cancel it
+   */
+  public static <T> Call executeAsync(ApiClient client, Call call, Class<T> type, ApiCallback<T> callback) {
+    Call protobufCall = client.getHttpClient().newCall(withMediaType(call.request(), MEDIA_TYPE));
+    protobufCall.enqueue(new DecodingCallback<>(new ProtobufCodec(client), type, callback));
+    return protobufCall;
+  }
+
+  /**
+   * Decodes a protobuf-encoded object, with or without the envelope which the API server adds.
+   * @param bytes the encoded object
+   * @param type the model type to create
+   * @param <T> the model type to create
+   * @return a new model object
+   * @throws InvalidProtocolBufferException if the bytes are not a valid encoding of the type
+   */
+  public <T> T decode(ByteString bytes, Class<T> type) throws InvalidProtocolBufferException {
+    return gson.fromJson(toJson(PARSERS.get(type).parseFrom(unwrap(bytes))), type);
+  }
+
+  /**
+   * Decodes one frame of a protobuf watch stream into a watch response.
+   * @param frame the encoded watch event
+   * @param type the model type of the watched objects
+   * @param responseType the parameterized watch response type
+   * @param <T> the model type of the watched objects
+   * @return a new watch response
+   * @throws InvalidProtocolBufferException if the frame is not a valid encoding of a watch event
+   */
+  public <T> Watch.Response<T> decodeWatchEvent(ByteString frame, Class<T> type, Type responseType)
+        throws InvalidProtocolBufferException {
+    Meta.WatchEvent event = Meta.WatchEvent.parseFrom(frame);
+    JsonObject json = new JsonObject();
+    json.addProperty("type", event.getType());
+    Watch.Response<T> response = gson.fromJson(json, responseType);
+    if ("ERROR".equals(event.getType())) {
+      response.status = decode(event.getObject().getRaw(), V1Status.class);
+    } else {
+      response.object = decode(event.getObject().getRaw(), type);
+    }
+    return response;
+  }
+
+  /**
+   * Converts the status sent with a failed protobuf response into its JSON form, so that it may be reported
+   * in an ApiException just as the status of a failed JSON response is.
+   * @param bytes the encoded status
+   * @return the status as JSON text, or the original bytes as text if they are not a protobuf status
+   */
+  public String describeFailure(ByteString bytes) {
+    try {
+      return gson.toJson(toJson(Meta.Status.parser().parseFrom(unwrap(bytes))));
+    } catch (InvalidProtocolBufferException e) {
+      return bytes.toStringUtf8();
+    }
+  }
+
+  // Objects are sent in a runtime.Unknown envelope, preceded by a fixed prefix. Watch events are not.
+  private static ByteString unwrap(ByteString bytes) throws InvalidProtocolBufferException {
+    if (!bytes.startsWith(MAGIC)) {
+      return bytes;
+    }
+    return Runtime.Unknown.parseFrom(bytes.substring(MAGIC.size())).getRaw();
+  }
+
+  JsonElement toJson(Message message) {
+    Descriptor descriptor = message.getDescriptorForType();
+    if (descriptor == Meta.Time.getDescriptor()) {
+      Meta.Time time = (Meta.Time) message;
+      return new JsonPrimitive(Instant.ofEpochSecond(time.getSeconds(), time.getNanos()).toString());
+    } else if (descriptor == Meta.MicroTime.getDescriptor()) {
+      Meta.MicroTime time = (Meta.MicroTime) message;
+      return new JsonPrimitive(Instant.ofEpochSecond(time.getSeconds(), time.getNanos()).toString());
+    } else if (descriptor == IntStr.IntOrString.getDescriptor()) {
+      return toJson((IntStr.IntOrString) message);
+    } else if (descriptor == Resource.Quantity.getDescriptor()) {
+      return new JsonPrimitive(((Resource.Quantity) message).getString());
+    } else if (descriptor == Runtime.RawExtension.getDescriptor()) {
+      return toJson(((Runtime.RawExtension) message).getRaw());
+    }
+
+    JsonObject json = new JsonObject();
+    for (Map.Entry<FieldDescriptor, Object> field : message.getAllFields().entrySet()) {
+      JsonElement value = toJson(field.getKey(), field.getValue());
+      if (INLINE_FIELDS.contains(field.getKey())) {
+        value.getAsJsonObject().entrySet().forEach(e -> json.add(e.getKey(), e.getValue()));
+      } else {
+        json.add(field.getKey().getName(), value);
+      }
+    }
+    return json;
+  }
+
+  private JsonElement toJson(IntStr.IntOrString value) {
+    return value.getType() == 0 ? new JsonPrimitive(value.getIntVal()) : new JsonPrimitive(value.getStrVal());
+  }
+
+  // Embedded raw objects, such as custom resource fields, are JSON even within a protobuf message.
+  private JsonElement toJson(ByteString raw) {
+    try {
+      return raw.isEmpty() ? JsonNull.INSTANCE : new JsonParser().parse(raw.toStringUtf8());
+    } catch (JsonParseException e) {
+      return JsonNull.INSTANCE;
+    }
+  }
+
+  private JsonElement toJson(FieldDescriptor field, Object value) {
+    if (field.isMapField()) {
+      return toJsonObject((List<?>) value);
+    } else if (field.isRepeated()) {
+      JsonArray array = new JsonArray();
+      for (Object element : (List<?>) value) {
+        array.add(toJsonValue(field, element));
+      }
+      return array;
+    } else {
+      return toJsonValue(field, value);
+    }
+  }
+
+  // A map field is sent as a list of entries, each with a key and a value field.
+  private JsonObject toJsonObject(List<?> entries) {
+    JsonObject json = new JsonObject();
+    for (Object entry : entries) {
+      Message message = (Message) entry;
+      Descriptor descriptor = message.getDescriptorForType();
+      FieldDescriptor valueField = descriptor.findFieldByName("value");
+      json.add(
+            String.valueOf(message.getField(descriptor.findFieldByName("key"))),
+            toJsonValue(valueField, message.getField(valueField)));
+    }
+    return json;
+  }
+
+  private JsonElement toJsonValue(FieldDescriptor field, Object value) {
+    switch (field.getJavaType()) {
+      case MESSAGE:
+        return toJson((Message) value);
+      case BYTE_STRING:
+        return new JsonPrimitive(Base64.getEncoder().encodeToString(((ByteString) value).toByteArray()));
+      case BOOLEAN:
+        return new JsonPrimitive((Boolean) value);
+      case STRING:
+        return new JsonPrimitive((String) value);
+      case ENUM:
+        return new JsonPrimitive(((EnumValueDescriptor) value).getName());
+      default:
+        return new JsonPrimitive((Number) value);
+    }
+  }
+
+  private static class DecodingCallback<T> implements Callback {
+    private final ProtobufCodec codec;
+    private final Class<T> type;
+    private final ApiCallback<T> callback;
+
+    DecodingCallback(ProtobufCodec codec, Class<T> type, ApiCallback<T> callback) {
+      this.codec = codec;
+      this.type = type;
+      this.callback = callback;
+    }
+
+    @Override
+    public void onFailure(Call call, IOException e) {
+      callback.onFailure(new ApiException(e), 0, null);
+    }
+
+    @Override
+    public void onResponse(Call call, Response response) {
+      Map<String, List<String>> headers = response.headers().toMultimap();
+      try (ResponseBody body = response.body()) {
+        ByteString bytes = body == null ? ByteString.EMPTY : ByteString.copyFrom(body.bytes());
+        if (response.isSuccessful()) {
+          callback.onSuccess(codec.decode(bytes, type), response.code(), headers);
+        } else {
+          String failure = codec.describeFailure(bytes);
+          callback.onFailure(
+                new ApiException(response.message(), response.code(), headers, failure), response.code(), headers);
+        }
+      } catch (IOException | RuntimeException e) {
+        callback.onFailure(new ApiException(e), response.code(), headers);
+      }
+    }
+  }
+}
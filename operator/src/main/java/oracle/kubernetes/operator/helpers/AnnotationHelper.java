@@ -11,6 +11,7 @@ import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1Pod;
 import io.kubernetes.client.openapi.models.V1Service;
 import io.kubernetes.client.util.Yaml;
+import oracle.kubernetes.operator.logging.LoggingFactory;
 import org.apache.commons.codec.digest.DigestUtils;
 
 /** Annotates pods, services with details about the Domain instance and checks these annotations. */
@@ -60,6 +61,16 @@ public class AnnotationHelper {
     return service;
   }
 
+  /**
+   * Returns a SHA-256 hash of the JSON form of an object, such as a domain spec or topology, for use in
+   * cache keys which must change whenever the object does.
+   * @param object the object to hash, or null
+   * @return a hex string
+   */
+  static String createHash(Object object) {
+    return DigestUtils.sha256Hex(LoggingFactory.getJson().getGson().toJson(object));
+  }
+
   static String getHash(V1Pod pod) {
     return getAnnotation(pod.getMetadata(), AnnotationHelper::getSha256Annotation);
   }
@@ -222,13 +222,17 @@ public class AuthorizationProxy {
     return resourceAttributes;
   }
 
-  V1SelfSubjectRulesReview review(String namespace) {
+  static V1SelfSubjectRulesReview createRulesReview(String namespace) {
     V1SelfSubjectRulesReview subjectRulesReview = new V1SelfSubjectRulesReview();
     V1SelfSubjectRulesReviewSpec spec = new V1SelfSubjectRulesReviewSpec();
     spec.setNamespace(namespace);
     subjectRulesReview.setSpec(spec);
+    return subjectRulesReview;
+  }
+
+  V1SelfSubjectRulesReview review(String namespace) {
     try {
-      return new CallBuilder().createSelfSubjectRulesReview(subjectRulesReview);
+      return new CallBuilder().createSelfSubjectRulesReview(createRulesReview(namespace));
     } catch (ApiException e) {
       LOGGER.warning(MessageKeys.EXCEPTION, e);
       return null;
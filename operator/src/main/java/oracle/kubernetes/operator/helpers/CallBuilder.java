@@ -47,6 +47,7 @@ import oracle.kubernetes.operator.calls.AsyncRequestStep;
 import oracle.kubernetes.operator.calls.CallFactory;
 import oracle.kubernetes.operator.calls.CallWrapper;
 import oracle.kubernetes.operator.calls.CancellableCall;
+import oracle.kubernetes.operator.calls.ProtobufCodec;
 import oracle.kubernetes.operator.calls.RequestParams;
 import oracle.kubernetes.operator.calls.SynchronousCallDispatcher;
 import oracle.kubernetes.operator.calls.SynchronousCallFactory;
@@ -111,6 +112,15 @@ public class CallBuilder {
                   requestParams.namespace,
                   (Domain) requestParams.body,
                   callback));
+  private final CallFactory<Domain> patchDomainStatus =
+      (requestParams, usage, cont, callback) ->
+          wrap(
+              patchDomainStatusAsync(
+                  usage,
+                  requestParams.name,
+                  requestParams.namespace,
+                  (V1Patch) requestParams.body,
+                  callback));
   private final CallFactory<V1CustomResourceDefinition> createCrd =
       (requestParams, usage, cont, callback) ->
           wrap(
@@ -204,6 +214,8 @@ public class CallBuilder {
           wrap(
               createSubjectAccessReviewAsync(
                   usage, (V1SubjectAccessReview) requestParams.body, callback));
+  private final CallFactory<VersionInfo> getVersionCode =
+      (requestParams, usage, cont, callback) -> wrap(new VersionApi(usage).getCodeAsync(callback));
   private final CallFactory<V1SelfSubjectRulesReview> createSelfsubjectrulesreview =
       (requestParams, usage, cont, callback) ->
           wrap(
@@ -237,6 +249,7 @@ public class CallBuilder {
 
   /* Domains */
   private Integer maxRetryCount = 10;
+  private boolean protobufEncoding;
   private final Boolean watch = Boolean.FALSE;
   private final CallFactory<DomainList> listDomain =
       (requestParams, usage, cont, callback) ->
@@ -447,6 +460,7 @@ public class CallBuilder {
   private CallBuilder(CallBuilderTuning tuning, ClientPool helper) {
     if (tuning != null) {
       tuning(tuning.callRequestLimit, tuning.callTimeoutSeconds, tuning.callMaxRetryCount);
+      protobufEncoding = tuning.protobufEncoding;
     }
     this.helper = helper;
   }
@@ -528,6 +542,16 @@ public class CallBuilder {
         requestParams, ((client, params) -> new VersionApi(client).getCode()));
   }
 
+  /**
+   * Asynchronous step for reading Kubernetes version code.
+   *
+   * @param responseStep Response step for when call completes
+   * @return Asynchronous step
+   */
+  public Step readVersionCodeAsync(ResponseStep<VersionInfo> responseStep) {
+    return createRequestAsync(responseStep, new RequestParams("getVersion", null, null, null), getVersionCode);
+  }
+
   private <T> T executeSynchronousCall(
       RequestParams requestParams, SynchronousCallFactory<T> factory) throws ApiException {
     return DISPATCHER.execute(factory, requestParams, helper);
@@ -727,6 +751,30 @@ public class CallBuilder {
         replaceDomainStatus);
   }
 
+  private Call patchDomainStatusAsync(
+      ApiClient client, String name, String namespace, V1Patch patch, ApiCallback<Domain> callback)
+      throws ApiException {
+    return new WeblogicApi(client)
+        .patchNamespacedDomainStatusAsync(name, namespace, patch, callback);
+  }
+
+  /**
+   * Asynchronous step for patching domain status.
+   *
+   * @param name Name
+   * @param namespace Namespace
+   * @param patchBody instructions on what to patch
+   * @param responseStep Response step for when call completes
+   * @return Asynchronous step
+   */
+  public Step patchDomainStatusAsync(
+      String name, String namespace, V1Patch patchBody, ResponseStep<Domain> responseStep) {
+    return createRequestAsync(
+        responseStep,
+        new RequestParams("patchDomainStatus", namespace, name, patchBody),
+        patchDomainStatus);
+  }
+
   /* CRD's */
 
   private Call readCustomResourceDefinitionAsync(
@@ -870,8 +918,8 @@ public class CallBuilder {
   private Call listConfigMapsAsync(
       ApiClient client, String namespace, String cont, ApiCallback<V1ConfigMapList> callback)
       throws ApiException {
-    return new CoreV1Api(client)
-        .listNamespacedConfigMapAsync(
+    Call call = new CoreV1Api(client)
+        .listNamespacedConfigMapCall(
             namespace,
             pretty,
             allowWatchBookmarks,
@@ -883,6 +931,7 @@ public class CallBuilder {
             timeoutSeconds,
             watch,
             callback);
+    return executeAsync(client, call, V1ConfigMapList.class, callback);
   }
 
   /**
@@ -902,8 +951,9 @@ public class CallBuilder {
   private Call readConfigMapAsync(
       ApiClient client, String name, String namespace, ApiCallback<V1ConfigMap> callback)
       throws ApiException {
-    return new CoreV1Api(client)
-        .readNamespacedConfigMapAsync(name, namespace, pretty, exact, export, callback);
+    Call call = new CoreV1Api(client)
+        .readNamespacedConfigMapCall(name, namespace, pretty, exact, export, callback);
+    return executeAsync(client, call, V1ConfigMap.class, callback);
   }
 
   /**
@@ -1036,8 +1086,8 @@ public class CallBuilder {
   private Call listPodAsync(
       ApiClient client, String namespace, String cont, ApiCallback<V1PodList> callback)
       throws ApiException {
-    return new CoreV1Api(client)
-        .listNamespacedPodAsync(
+    Call call = new CoreV1Api(client)
+        .listNamespacedPodCall(
             namespace,
             pretty,
             allowWatchBookmarks,
@@ -1049,6 +1099,7 @@ public class CallBuilder {
             timeoutSeconds,
             watch,
             callback);
+    return executeAsync(client, call, V1PodList.class, callback);
   }
 
   /**
@@ -1066,8 +1117,9 @@ public class CallBuilder {
   private Call readPodAsync(
       ApiClient client, String name, String namespace, ApiCallback<V1Pod> callback)
       throws ApiException {
-    return new CoreV1Api(client)
-        .readNamespacedPodAsync(name, namespace, pretty, exact, export, callback);
+    Call call = new CoreV1Api(client)
+        .readNamespacedPodCall(name, namespace, pretty, exact, export, callback);
+    return executeAsync(client, call, V1Pod.class, callback);
   }
 
   /* Events */
@@ -1229,8 +1281,9 @@ public class CallBuilder {
   private Call readJobAsync(
       ApiClient client, String name, String namespace, ApiCallback<V1Job> callback)
       throws ApiException {
-    return new BatchV1Api(client)
-        .readNamespacedJobAsync(name, namespace, pretty, exact, export, callback);
+    Call call = new BatchV1Api(client)
+        .readNamespacedJobCall(name, namespace, pretty, exact, export, callback);
+    return executeAsync(client, call, V1Job.class, callback);
   }
 
   /**
@@ -1317,8 +1370,8 @@ public class CallBuilder {
   private Call listServiceAsync(
       ApiClient client, String namespace, String cont, ApiCallback<V1ServiceList> callback)
       throws ApiException {
-    return new CoreV1Api(client)
-        .listNamespacedServiceAsync(
+    Call call = new CoreV1Api(client)
+        .listNamespacedServiceCall(
             namespace,
             pretty,
             allowWatchBookmarks,
@@ -1330,6 +1383,7 @@ public class CallBuilder {
             timeoutSeconds,
             watch,
             callback);
+    return executeAsync(client, call, V1ServiceList.class, callback);
   }
 
   /**
@@ -1364,8 +1418,9 @@ public class CallBuilder {
   private Call readServiceAsync(
       ApiClient client, String name, String namespace, ApiCallback<V1Service> callback)
       throws ApiException {
-    return new CoreV1Api(client)
-        .readNamespacedServiceAsync(name, namespace, pretty, exact, export, callback);
+    Call call = new CoreV1Api(client)
+        .readNamespacedServiceCall(name, namespace, pretty, exact, export, callback);
+    return executeAsync(client, call, V1Service.class, callback);
   }
 
   /**
@@ -1476,8 +1531,8 @@ public class CallBuilder {
   private Call listEventAsync(
       ApiClient client, String namespace, String cont, ApiCallback<V1EventList> callback)
       throws ApiException {
-    return new CoreV1Api(client)
-        .listNamespacedEventAsync(
+    Call call = new CoreV1Api(client)
+        .listNamespacedEventCall(
             namespace,
             pretty,
             allowWatchBookmarks,
@@ -1489,6 +1544,7 @@ public class CallBuilder {
             timeoutSeconds,
             watch,
             callback);
+    return executeAsync(client, call, V1EventList.class, callback);
   }
 
   /**
@@ -1794,6 +1850,14 @@ public class CallBuilder {
         resourceVersion);
   }
 
+  private <T> Call executeAsync(ApiClient client, Call call, Class<T> type, ApiCallback<T> callback) {
+    if (protobufEncoding && ProtobufCodec.supports(type)) {
+      return ProtobufCodec.executeAsync(client, call, type, callback);
+    }
+    client.executeAsync(call, type, callback);
+    return call;
+  }
+
   private CancellableCall wrap(Call call) {
     return new CallWrapper(call);
   }
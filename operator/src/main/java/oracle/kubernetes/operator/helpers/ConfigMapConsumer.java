@@ -84,6 +84,36 @@ public class ConfigMapConsumer implements Map<String, String> {
     return defaultValue;
   }
 
+  /**
+   * read decimal tuning parameter.
+   * @param parameter parameter
+   * @param defaultValue default value
+   * @return parameter value
+   */
+  public double readDoubleTuningParameter(String parameter, double defaultValue) {
+    String val = get(parameter);
+    if (val != null) {
+      try {
+        return Double.parseDouble(val);
+      } catch (NumberFormatException nfe) {
+        LOGGER.warning(MessageKeys.EXCEPTION, nfe);
+      }
+    }
+
+    return defaultValue;
+  }
+
+  /**
+   * read boolean tuning parameter.
+   * @param parameter parameter
+   * @param defaultValue default value
+   * @return parameter value
+   */
+  public boolean readBooleanTuningParameter(String parameter, boolean defaultValue) {
+    String val = get(parameter);
+    return val != null ? Boolean.parseBoolean(val.trim()) : defaultValue;
+  }
+
   @Override
   public int size() {
     String[] list = mountPointDir.list();
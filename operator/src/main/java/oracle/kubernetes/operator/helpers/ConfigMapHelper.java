@@ -12,6 +12,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.TreeMap;
 import javax.json.Json;
 import javax.json.JsonPatchBuilder;
 import javax.json.JsonValue;
@@ -38,6 +39,7 @@ import oracle.kubernetes.operator.work.NextAction;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
 import oracle.kubernetes.weblogic.domain.model.Domain;
+import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.joda.time.DateTime;
 
@@ -50,6 +52,7 @@ import static oracle.kubernetes.operator.IntrospectorConfigMapKeys.SIT_CONFIG_FI
 import static oracle.kubernetes.operator.KubernetesConstants.SCRIPT_CONFIG_MAP_NAME;
 import static oracle.kubernetes.operator.LabelConstants.INTROSPECTION_STATE_LABEL;
 import static oracle.kubernetes.operator.ProcessingConstants.DOMAIN_VALIDATION_ERRORS;
+import static oracle.kubernetes.operator.helpers.AnnotationHelper.SHA256_ANNOTATION;
 
 public class ConfigMapHelper {
 
@@ -78,6 +81,52 @@ public class ConfigMapHelper {
     return scriptReader;
   }
 
+  /**
+   * Returns true if the specified config map is the scripts config map for the specified operator,
+   * and its content hash shows that it already holds the scripts of this version of the operator.
+   * @param operatorNamespace the operator's namespace
+   * @param configMap a config map
+   * @return true if the config map need not be verified
+   */
+  public static boolean isCurrentScriptConfigMap(String operatorNamespace, V1ConfigMap configMap) {
+    V1ObjectMeta metadata = Optional.ofNullable(configMap).map(V1ConfigMap::getMetadata).orElse(null);
+    String scriptsHash = getScriptsHash();
+    return metadata != null
+        && scriptsHash != null
+        && SCRIPT_CONFIG_MAP_NAME.equals(metadata.getName())
+        && scriptsHash.equals(getContentHash(metadata))
+        && Optional.ofNullable(metadata.getLabels())
+              .map(l -> operatorNamespace.equals(l.get(LabelConstants.OPERATORNAME_LABEL)))
+              .orElse(false);
+  }
+
+  private static String getContentHash(V1ObjectMeta metadata) {
+    return Optional.ofNullable(metadata.getAnnotations()).map(a -> a.get(SHA256_ANNOTATION)).orElse(null);
+  }
+
+  private static Map<String, String> getScripts(String domainNamespace) {
+    LOGGER.fine(MessageKeys.SCRIPT_LOADED, domainNamespace);
+    return LoadedScripts.scripts;
+  }
+
+  static String getScriptsHash() {
+    return LoadedScripts.hash;
+  }
+
+  // The scripts are read from the classpath, and their hash computed, together and only once, when either is
+  // first needed; they cannot change while the operator runs. A failure to read them leaves neither available.
+  private static class LoadedScripts {
+    private static final Map<String, String> scripts
+        = Collections.unmodifiableMap(scriptReader.loadFilesFromClasspath());
+    private static final String hash = computeHash(scripts);
+  }
+
+  private static String computeHash(Map<String, String> contents) {
+    StringBuilder sb = new StringBuilder();
+    new TreeMap<>(contents).forEach((k, v) -> sb.append(k).append('\0').append(v).append('\0'));
+    return DigestUtils.sha256Hex(sb.toString());
+  }
+
   static Map<String, String> parseIntrospectorResult(String text, String domainUid) {
     Map<String, String> map = new HashMap<>();
     String token = ">>>  updatedomainResult=";
@@ -178,15 +227,14 @@ public class ConfigMapHelper {
   static class ScriptConfigMapContext extends ConfigMapContext {
 
     ScriptConfigMapContext(Step conflictStep, String operatorNamespace, String domainNamespace) {
-      super(conflictStep, SCRIPT_CONFIG_MAP_NAME, domainNamespace, loadScriptsFromClasspath(domainNamespace), null);
+      super(conflictStep, SCRIPT_CONFIG_MAP_NAME, domainNamespace, new HashMap<>(getScripts(domainNamespace)), null);
 
       addLabel(LabelConstants.OPERATORNAME_LABEL, operatorNamespace);
     }
 
-    private static synchronized Map<String, String> loadScriptsFromClasspath(String domainNamespace) {
-      Map<String, String> scripts = scriptReader.loadFilesFromClasspath();
-      LOGGER.fine(MessageKeys.SCRIPT_LOADED, domainNamespace);
-      return scripts;
+    @Override
+    String getContentHash() {
+      return getScriptsHash();
     }
 
     @Override
@@ -241,11 +289,22 @@ public class ConfigMapHelper {
     }
 
     private V1ObjectMeta createMetadata() {
-      return updateForOwnerReference(
-          new V1ObjectMeta()
+      V1ObjectMeta metadata = new V1ObjectMeta()
           .name(name)
           .namespace(namespace)
-          .labels(labels));
+          .labels(labels);
+      Optional.ofNullable(getContentHash()).ifPresent(h -> metadata.putAnnotationsItem(SHA256_ANNOTATION, h));
+      return updateForOwnerReference(metadata);
+    }
+
+    /**
+     * Returns a hash of the contents which this context places in its config map, recorded as an annotation
+     * so that a config map with the same hash need not be compared entry by entry. Subclasses whose contents
+     * vary between reads return null.
+     * @return the hash, or null
+     */
+    String getContentHash() {
+      return null;
     }
 
     @SuppressWarnings("SameParameterValue")
@@ -273,7 +332,15 @@ public class ConfigMapHelper {
     }
 
     boolean isIncompatibleMap(V1ConfigMap existingMap) {
-      return !COMPARATOR.containsAll(existingMap, getModel());
+      return !hasCurrentContentHash(existingMap) && !COMPARATOR.containsAll(existingMap, getModel());
+    }
+
+    private boolean hasCurrentContentHash(V1ConfigMap existingMap) {
+      return getContentHash() != null
+          && Optional.ofNullable(existingMap.getMetadata())
+                .map(ConfigMapHelper::getContentHash)
+                .map(getContentHash()::equals)
+                .orElse(false);
     }
 
     V1ConfigMap withoutTransientData(V1ConfigMap originalMap) {
@@ -488,6 +555,7 @@ public class ConfigMapHelper {
     private final Packet packet;
     private final Step conflictStep;
     private final DomainPresenceInfo info;
+    private String result;
     private Map<String, String> data;
     private WlsDomainConfig wlsDomainConfig;
 
@@ -499,7 +567,7 @@ public class ConfigMapHelper {
     }
 
     private void parseIntrospectorResult() {
-      String result = (String) packet.remove(ProcessingConstants.DOMAIN_INTROSPECTOR_LOG_RESULT);
+      result = (String) packet.remove(ProcessingConstants.DOMAIN_INTROSPECTOR_LOG_RESULT);
       data = ConfigMapHelper.parseIntrospectorResult(result, info.getDomainUid());
 
       LOGGER.fine("================");
@@ -520,6 +588,7 @@ public class ConfigMapHelper {
       ScanCache.INSTANCE.registerScan(
             info.getNamespace(), info.getDomainUid(), new Scan(wlsDomainConfig, new DateTime()));
       packet.put(ProcessingConstants.DOMAIN_TOPOLOGY, wlsDomainConfig);
+      IntrospectionResultCache.record(packet, result);
 
       copyFileToPacketIfPresent(DOMAINZIP_HASH, DOMAINZIP_HASH);
       copyFileToPacketIfPresent(SECRETS_MD_5, SECRETS_MD_5);
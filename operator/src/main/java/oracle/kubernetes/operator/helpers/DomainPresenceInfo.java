@@ -7,6 +7,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
@@ -46,6 +47,7 @@ public class DomainPresenceInfo {
   private final AtomicBoolean isPopulated = new AtomicBoolean(false);
   private final AtomicInteger retryCount = new AtomicInteger(0);
   private final AtomicReference<Collection<ServerStartupInfo>> serverStartupInfo;
+  private final AtomicReference<MakeRightFingerprint> makeRightFingerprint = new AtomicReference<>();
 
   private final ConcurrentMap<String, ServerKubernetesObjects> servers = new ConcurrentHashMap<>();
   private final ConcurrentMap<String, V1Service> clusters = new ConcurrentHashMap<>();
@@ -58,6 +60,7 @@ public class DomainPresenceInfo {
    * @param domain Domain
    */
   public DomainPresenceInfo(Domain domain) {
+    domain.indexEffectiveSpecs();
     this.domain = new AtomicReference<>(domain);
     this.namespace = domain.getMetadata().getNamespace();
     this.domainUid = domain.getDomainUid();
@@ -91,7 +94,7 @@ public class DomainPresenceInfo {
   }
 
   public void setServerService(String serverName, V1Service service) {
-    getSko(serverName).getService().set(service);
+    getSko(serverName).getService().set(ResourceProjection.project(service));
   }
 
   private ServerKubernetesObjects getSko(String serverName) {
@@ -118,17 +121,19 @@ public class DomainPresenceInfo {
   }
 
   /**
-   * Specifies the pod associated with an operator-managed server.
+   * Specifies the pod associated with an operator-managed server. Only a trimmed copy of the pod is recorded;
+   * see {@link ResourceProjection}.
    *
    * @param serverName the name of the server
    * @param pod the pod
    */
   public void setServerPod(String serverName, V1Pod pod) {
-    getSko(serverName).getPod().set(pod);
+    getSko(serverName).getPod().set(ResourceProjection.project(pod));
   }
 
   /**
-   * Returns the pod associated with an operator-managed server.
+   * Returns the pod associated with an operator-managed server. This is a trimmed copy, which omits the pod
+   * specification other than its node name.
    *
    * @param serverName the name of the server
    * @return the corresponding pod, or null if none exists
@@ -180,7 +185,7 @@ public class DomainPresenceInfo {
    */
   public void setServerPodFromEvent(String serverName, V1Pod event) {
     updateStatus(serverName, event);
-    getSko(serverName).getPod().accumulateAndGet(event, this::getNewerPod);
+    getSko(serverName).getPod().accumulateAndGet(ResourceProjection.project(event), this::getNewerPod);
   }
 
   private void updateStatus(String serverName, V1Pod event) {
@@ -292,7 +297,7 @@ public class DomainPresenceInfo {
    * @param event the service associated with the event
    */
   void setServerServiceFromEvent(String serverName, V1Service event) {
-    getSko(serverName).getService().accumulateAndGet(event, this::getNewerService);
+    getSko(serverName).getService().accumulateAndGet(ResourceProjection.project(event), this::getNewerService);
   }
 
   /**
@@ -320,8 +325,12 @@ public class DomainPresenceInfo {
     return clusters.get(clusterName);
   }
 
+  Map<String, V1Service> getClusterServices() {
+    return Collections.unmodifiableMap(clusters);
+  }
+
   void setClusterService(String clusterName, V1Service service) {
-    clusters.put(clusterName, service);
+    clusters.put(clusterName, ResourceProjection.project(service));
   }
 
   void setClusterServiceFromEvent(String clusterName, V1Service event) {
@@ -329,7 +338,7 @@ public class DomainPresenceInfo {
       return;
     }
 
-    clusters.compute(clusterName, (k, s) -> getNewerService(s, event));
+    clusters.compute(clusterName, (k, s) -> getNewerService(s, ResourceProjection.project(event)));
   }
 
   boolean deleteClusterServiceFromEvent(String clusterName, V1Service event) {
@@ -348,11 +357,12 @@ public class DomainPresenceInfo {
   }
 
   void setExternalService(String serverName, V1Service service) {
-    getSko(serverName).getExternalService().set(service);
+    getSko(serverName).getExternalService().set(ResourceProjection.project(service));
   }
 
   void setExternalServiceFromEvent(String serverName, V1Service event) {
-    getSko(serverName).getExternalService().accumulateAndGet(event, this::getNewerService);
+    getSko(serverName).getExternalService()
+        .accumulateAndGet(ResourceProjection.project(event), this::getNewerService);
   }
 
   boolean deleteExternalServiceFromEvent(String serverName, V1Service event) {
@@ -399,6 +409,24 @@ public class DomainPresenceInfo {
     resetFailureCount();
   }
 
+  /**
+   * Returns the fingerprint recorded by the last successful make-right for this domain.
+   *
+   * @return the fingerprint, or null if no make-right has completed since the last change
+   */
+  public MakeRightFingerprint getMakeRightFingerprint() {
+    return makeRightFingerprint.get();
+  }
+
+  /**
+   * Records the fingerprint of a successful make-right, or clears it when a new make-right starts or fails.
+   *
+   * @param fingerprint the fingerprint, or null to clear it
+   */
+  public void setMakeRightFingerprint(MakeRightFingerprint fingerprint) {
+    makeRightFingerprint.set(fingerprint);
+  }
+
   /**
    * Gets the domain. Except the instance to change frequently based on status updates.
    *
@@ -409,11 +437,12 @@ public class DomainPresenceInfo {
   }
 
   /**
-   * Sets the domain.
+   * Sets the domain, and indexes its effective server and cluster specifications for sharing by all users.
    *
    * @param domain Domain
    */
   public void setDomain(Domain domain) {
+    Optional.ofNullable(domain).ifPresent(Domain::indexEffectiveSpecs);
     this.domain.set(domain);
   }
 
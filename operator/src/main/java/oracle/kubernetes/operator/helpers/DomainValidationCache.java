@@ -0,0 +1,78 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import oracle.kubernetes.operator.metrics.OperatorMetrics;
+import oracle.kubernetes.weblogic.domain.model.Domain;
+
+/**
+ * Records the latest generation of each domain whose specification has passed validation during a make-right,
+ * so that the checks which depend only on the specification are not repeated for that generation. Only domains
+ * read back from Kubernetes are recorded, since a generation number identifies a specification only once
+ * that specification has been stored. Entries are keyed by the uid which Kubernetes assigns to the domain,
+ * so that a domain deleted and then recreated with the same name is validated again. A domain without
+ * a uid or generation is never recorded.
+ */
+public class DomainValidationCache {
+
+  static final String HIT_METRIC = "domainValidation.cache.hit";
+  static final String MISS_METRIC = "domainValidation.cache.miss";
+
+  private static final Map<String, Long> validatedGenerations = new ConcurrentHashMap<>();
+
+  private DomainValidationCache() {
+  }
+
+  static void clear() {
+    validatedGenerations.clear();
+  }
+
+  /**
+   * Returns true if the specification of the current generation of the domain has already passed validation.
+   * @param domain the domain to check
+   * @return true if the specification need not be validated again
+   */
+  public static boolean isValidated(Domain domain) {
+    boolean validated = getUid(domain)
+          .map(validatedGenerations::get)
+          .filter(g -> Objects.equals(g, getGeneration(domain).orElse(null)))
+          .isPresent();
+    OperatorMetrics.increment(validated ? HIT_METRIC : MISS_METRIC);
+    return validated;
+  }
+
+  /**
+   * Records that the specification of the current generation of the domain has passed validation.
+   * @param domain the validated domain
+   */
+  public static void recordValidated(Domain domain) {
+    getUid(domain).ifPresent(uid -> getGeneration(domain).ifPresent(g -> validatedGenerations.put(uid, g)));
+  }
+
+  /**
+   * Discards any record of validation for the domain, which should be done when the domain is deleted.
+   * @param domain the domain
+   */
+  public static void remove(Domain domain) {
+    getUid(domain).ifPresent(validatedGenerations::remove);
+  }
+
+  private static Optional<String> getUid(Domain domain) {
+    return getMetadata(domain).map(V1ObjectMeta::getUid);
+  }
+
+  private static Optional<Long> getGeneration(Domain domain) {
+    return getMetadata(domain).map(V1ObjectMeta::getGeneration);
+  }
+
+  private static Optional<V1ObjectMeta> getMetadata(Domain domain) {
+    return Optional.ofNullable(domain).map(Domain::getMetadata);
+  }
+}
@@ -83,9 +83,10 @@ public class DomainValidationSteps {
     public NextAction apply(Packet packet) {
       DomainPresenceInfo info = packet.getSpi(DomainPresenceInfo.class);
       Domain domain = info.getDomain();
-      List<String> validationFailures = domain.getValidationFailures(new KubernetesResourceLookupImpl(packet));
+      List<String> validationFailures = getValidationFailures(domain, new KubernetesResourceLookupImpl(packet));
 
       if (validationFailures.isEmpty()) {
+        DomainValidationCache.recordValidated(domain);
         return doNext(packet);
       }
 
@@ -94,6 +95,14 @@ public class DomainValidationSteps {
       return doNext(step, packet);
     }
 
+    // A specification already validated by an earlier make-right need not be checked again;
+    // only its references to other resources, which may have changed since, are rechecked.
+    private List<String> getValidationFailures(Domain domain, KubernetesResourceLookup resourceLookup) {
+      return DomainValidationCache.isValidated(domain)
+          ? domain.getResourceValidationFailures(resourceLookup)
+          : domain.getValidationFailures(resourceLookup);
+    }
+
     private String perLine(List<String> validationFailures) {
       return String.join(lineSeparator(), validationFailures);
     }
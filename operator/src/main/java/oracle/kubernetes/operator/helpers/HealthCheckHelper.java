@@ -6,6 +6,9 @@ package oracle.kubernetes.operator.helpers;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.models.V1ResourceRule;
@@ -13,11 +16,18 @@ import io.kubernetes.client.openapi.models.V1SelfSubjectRulesReview;
 import io.kubernetes.client.openapi.models.V1SubjectRulesReviewStatus;
 import io.kubernetes.client.openapi.models.VersionInfo;
 import oracle.kubernetes.operator.Main;
+import oracle.kubernetes.operator.ProcessingConstants;
+import oracle.kubernetes.operator.TuningParameters;
+import oracle.kubernetes.operator.calls.CallResponse;
 import oracle.kubernetes.operator.helpers.AuthorizationProxy.Operation;
 import oracle.kubernetes.operator.helpers.AuthorizationProxy.Resource;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.MessageKeys;
+import oracle.kubernetes.operator.work.NextAction;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.Step;
+import oracle.kubernetes.utils.SystemClock;
 
 /** A Helper Class for checking the health of the WebLogic Operator. */
 public final class HealthCheckHelper {
@@ -77,6 +87,10 @@ public final class HealthCheckHelper {
   // default namespace or svc account name
   private static final String DEFAULT_NAMESPACE = "default";
 
+  private static final long DEFAULT_CACHE_SECONDS = 300;
+
+  private static final AtomicReference<CachedResult<KubernetesVersion>> cachedVersion = new AtomicReference<>();
+
   static {
     clusterAccessChecks.put(Resource.NAMESPACES, glwOperations);
     clusterAccessChecks.put(Resource.CRDS, crdOperations);
@@ -114,18 +128,25 @@ public final class HealthCheckHelper {
   public static V1SubjectRulesReviewStatus performSecurityChecks(
       KubernetesVersion version, String operatorNamespace, String namespace) {
     String ns = namespace != null ? namespace : operatorNamespace;
+    logSecurityChecksStart(operatorNamespace, ns);
+
+    return checkRules(new AuthorizationProxy().review(ns), operatorNamespace, namespace);
+  }
 
+  private static void logSecurityChecksStart(String operatorNamespace, String ns) {
     // Validate namespace
     if (DEFAULT_NAMESPACE.equals(operatorNamespace)) {
       LOGGER.fine(MessageKeys.NAMESPACE_IS_DEFAULT);
     }
 
     // Validate policies allow service account to perform required operations
-    AuthorizationProxy ap = new AuthorizationProxy();
     LOGGER.fine(MessageKeys.VERIFY_ACCESS_START, ns);
+  }
 
-    V1SelfSubjectRulesReview review = ap.review(ns);
-    if (review != null) {
+  private static V1SubjectRulesReviewStatus checkRules(
+      V1SelfSubjectRulesReview review, String operatorNamespace, String namespace) {
+    String ns = namespace != null ? namespace : operatorNamespace;
+    if (review != null && review.getStatus() != null) {
       V1SubjectRulesReviewStatus status = review.getStatus();
       List<V1ResourceRule> rules = status.getResourceRules();
 
@@ -150,6 +171,92 @@ public final class HealthCheckHelper {
     return null;
   }
 
+  /**
+   * Creates a step which verifies that the operator may perform its required operations in a namespace,
+   * and records the resulting rules review status in the packet as {@link ProcessingConstants#RULES_REVIEW_STATUS}.
+   * Each call requests a new review; callers which need it only once should keep the result.
+   *
+   * @param operatorNamespace operator namespace
+   * @param namespace target namespace, or null to check the operator namespace
+   * @param next the next step to run
+   * @return the created step
+   */
+  public static Step createSecurityChecksStep(String operatorNamespace, String namespace, Step next) {
+    return new SecurityChecksStep(operatorNamespace, namespace, next);
+  }
+
+  /**
+   * Creates a step which verifies the Kubernetes version, and records it in the packet
+   * as {@link ProcessingConstants#KUBERNETES_VERSION}. A version read within the cache period is reused,
+   * rather than read again.
+   *
+   * @param next the next step to run
+   * @return the created step
+   */
+  public static Step createK8sVersionCheckStep(Step next) {
+    return new K8sVersionCheckStep(next);
+  }
+
+  private static long getCacheMillis() {
+    return TimeUnit.SECONDS.toMillis(
+        Optional.ofNullable(TuningParameters.getInstance())
+            .map(TuningParameters::getMainTuning)
+            .map(main -> main.healthCheckCacheSeconds)
+            .orElse(DEFAULT_CACHE_SECONDS));
+  }
+
+  /**
+   * Discards the cached Kubernetes version, so that the next check will call Kubernetes.
+   */
+  static void clearCache() {
+    cachedVersion.set(null);
+  }
+
+  private static class SecurityChecksStep extends Step {
+    private final String operatorNamespace;
+    private final String namespace;
+
+    SecurityChecksStep(String operatorNamespace, String namespace, Step next) {
+      super(next);
+      this.operatorNamespace = operatorNamespace;
+      this.namespace = namespace;
+    }
+
+    private String getCheckedNamespace() {
+      return namespace != null ? namespace : operatorNamespace;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      logSecurityChecksStart(operatorNamespace, getCheckedNamespace());
+      return doNext(
+          new CallBuilder().createSelfSubjectRulesReviewAsync(
+              AuthorizationProxy.createRulesReview(getCheckedNamespace()), new RulesReviewResponseStep(getNext())),
+          packet);
+    }
+
+    private class RulesReviewResponseStep extends ResponseStep<V1SelfSubjectRulesReview> {
+      RulesReviewResponseStep(Step next) {
+        super(next);
+      }
+
+      @Override
+      public NextAction onSuccess(Packet packet, CallResponse<V1SelfSubjectRulesReview> callResponse) {
+        packet.put(ProcessingConstants.RULES_REVIEW_STATUS,
+            checkRules(callResponse.getResult(), operatorNamespace, namespace));
+        return doNext(packet);
+      }
+
+      // A failed review leaves the namespace unchecked, as before; it is tried again at the next check.
+      @Override
+      public NextAction onFailure(Packet packet, CallResponse<V1SelfSubjectRulesReview> callResponse) {
+        LOGGER.warning(MessageKeys.EXCEPTION, callResponse.getE());
+        packet.remove(ProcessingConstants.RULES_REVIEW_STATUS);
+        return doNext(packet);
+      }
+    }
+  }
+
   /**
    * Check if operator has privilege to perform the operation on the resource.
    * @param rules Self subject check rules
@@ -212,6 +319,46 @@ public final class HealthCheckHelper {
     }
   }
 
+  private static class K8sVersionCheckStep extends Step {
+    K8sVersionCheckStep(Step next) {
+      super(next);
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      CachedResult<KubernetesVersion> cached = cachedVersion.get();
+      if (cached != null && cached.isCurrent()) {
+        packet.put(ProcessingConstants.KUBERNETES_VERSION, cached.getValue());
+        return doNext(packet);
+      }
+
+      LOGGER.fine(MessageKeys.VERIFY_K8S_MIN_VERSION);
+      return doNext(new CallBuilder().readVersionCodeAsync(new VersionResponseStep(getNext())), packet);
+    }
+  }
+
+  private static class VersionResponseStep extends ResponseStep<VersionInfo> {
+    VersionResponseStep(Step next) {
+      super(next);
+    }
+
+    @Override
+    public NextAction onSuccess(Packet packet, CallResponse<VersionInfo> callResponse) {
+      KubernetesVersion version = createAndValidateKubernetesVersion(callResponse.getResult());
+      cachedVersion.set(new CachedResult<>(version));
+      packet.put(ProcessingConstants.KUBERNETES_VERSION, version);
+      return doNext(packet);
+    }
+
+    // An unreadable version is not cached, so that the next check will try again.
+    @Override
+    public NextAction onFailure(Packet packet, CallResponse<VersionInfo> callResponse) {
+      LOGGER.warning(MessageKeys.K8S_VERSION_CHECK_FAILURE, callResponse.getE());
+      packet.put(ProcessingConstants.KUBERNETES_VERSION, KubernetesVersion.UNREADABLE);
+      return doNext(packet);
+    }
+  }
+
   private static KubernetesVersion createAndValidateKubernetesVersion(VersionInfo info) {
     KubernetesVersion kubernetesVersion = new KubernetesVersion(info);
 
@@ -225,4 +372,22 @@ public final class HealthCheckHelper {
     }
     return kubernetesVersion;
   }
-}
\ No newline at end of file
+
+  private static class CachedResult<T> {
+    private final T value;
+    private final long expirationTime;
+
+    CachedResult(T value) {
+      this.value = value;
+      this.expirationTime = SystemClock.now().getMillis() + getCacheMillis();
+    }
+
+    T getValue() {
+      return value;
+    }
+
+    boolean isCurrent() {
+      return SystemClock.now().getMillis() < expirationTime;
+    }
+  }
+}
@@ -0,0 +1,257 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+import io.kubernetes.client.openapi.models.V1ConfigMap;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Secret;
+import oracle.kubernetes.operator.DomainSourceType;
+import oracle.kubernetes.operator.TuningParameters;
+import oracle.kubernetes.operator.calls.CallResponse;
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.metrics.OperatorMetrics;
+import oracle.kubernetes.operator.steps.DefaultResponseStep;
+import oracle.kubernetes.operator.work.NextAction;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.Step;
+import oracle.kubernetes.weblogic.domain.model.Domain;
+import org.apache.commons.codec.digest.DigestUtils;
+
+import static oracle.kubernetes.operator.ProcessingConstants.INTROSPECTION_CACHE_KEY;
+import static oracle.kubernetes.operator.ProcessingConstants.INTROSPECTION_INPUT_VERSIONS;
+
+/**
+ * A bounded cache of successful introspection results. Entries are keyed by a digest of everything which can
+ * affect the result: the domain spec (including its image and introspectVersion) and the resource versions of the
+ * config maps and secrets that it references. A make-right whose inputs match a cached entry can reuse its result
+ * instead of running the introspector job; changing the domain's introspectVersion always forces a new job.
+ * The cache is limited both in the number of entries and in their total size.
+ *
+ * <p>Only domains whose home is fully determined by these inputs are cached: the domain home must be in an
+ * image or built from a model, and the image must be referenced by digest, since the contents of a tag, or of a
+ * persistent volume, may change without any change to the domain.
+ *
+ * <p>The result of introspection includes configuration overrides generated for a specific domain UID, so entries
+ * are never shared between domains. They do survive deletion of the domain, so that a recreated domain need not
+ * be introspected again.
+ */
+class IntrospectionResultCache {
+
+  static final String HIT_METRIC = "introspection.cache.hit";
+  static final String MISS_METRIC = "introspection.cache.miss";
+  private static final int DEFAULT_SIZE = 50;
+  private static final long DEFAULT_MAX_CHARS = 8 * 1024 * 1024;
+  private static final String DIGEST_SEPARATOR = "@sha256:";
+  private static final String UNKNOWN_VERSION = "?";
+
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+
+  private static final Map<String, String> results = new LinkedHashMap<>(16, 0.75f, true);
+  private static long totalChars;
+
+  static {
+    OperatorMetrics.registerGauge("introspection.cache.size", IntrospectionResultCache::size);
+  }
+
+  private IntrospectionResultCache() {
+  }
+
+  private static int getMaximumSize() {
+    return Optional.ofNullable(TuningParameters.getInstance())
+          .map(TuningParameters::getPodTuning)
+          .map(pod -> pod.introspectionCacheSize)
+          .orElse(DEFAULT_SIZE);
+  }
+
+  private static long getMaximumChars() {
+    return Optional.ofNullable(TuningParameters.getInstance())
+          .map(TuningParameters::getPodTuning)
+          .map(pod -> pod.introspectionCacheMaxChars)
+          .orElse(DEFAULT_MAX_CHARS);
+  }
+
+  private static synchronized int size() {
+    return results.size();
+  }
+
+  static synchronized void clear() {
+    results.clear();
+    totalChars = 0;
+  }
+
+  /**
+   * Returns true if the introspection result for the domain is fully determined by the inputs from which the
+   * cache key is computed.
+   * @param domain the domain to introspect
+   * @return true if a cached result may be used
+   */
+  static boolean isCacheable(Domain domain) {
+    return domain.getDomainHomeSourceType() != DomainSourceType.PersistentVolume
+          && Optional.ofNullable(domain.getSpec().getImage()).filter(i -> i.contains(DIGEST_SEPARATOR)).isPresent();
+  }
+
+  /**
+   * Creates a step which computes the cache key for the domain's current introspection inputs,
+   * recording it in the packet.
+   * @param domain the domain to introspect
+   * @param next the step to run after the key is computed
+   * @return the created step
+   */
+  static Step createComputeKeyStep(Domain domain, Step next) {
+    List<Step> steps = new ArrayList<>();
+    steps.add(new InitializeInputsStep());
+    for (String name : getConfigMapNames(domain)) {
+      steps.add(new CallBuilder().readConfigMapAsync(name, domain.getNamespace(),
+            new RecordVersionStep<>("configmap/" + name, V1ConfigMap::getMetadata)));
+    }
+    for (String name : getSecretNames(domain)) {
+      steps.add(new CallBuilder().readSecretAsync(name, domain.getNamespace(),
+            new RecordVersionStep<>("secret/" + name, V1Secret::getMetadata)));
+    }
+    steps.add(new ComputeKeyStep(domain, next));
+    return Step.chain(steps.toArray(new Step[0]));
+  }
+
+  private static List<String> getConfigMapNames(Domain domain) {
+    List<String> names = new ArrayList<>();
+    Optional.ofNullable(domain.getWdtConfigMap()).ifPresent(names::add);
+    Optional.ofNullable(domain.getConfigOverrides()).ifPresent(names::add);
+    return names;
+  }
+
+  private static List<String> getSecretNames(Domain domain) {
+    List<String> names = new ArrayList<>();
+    names.add(domain.getWebLogicCredentialsSecretName());
+    names.addAll(domain.getConfigOverrideSecrets());
+    Optional.ofNullable(domain.getOpssWalletPasswordSecret()).ifPresent(names::add);
+    Optional.ofNullable(domain.getOpssWalletFileSecret()).ifPresent(names::add);
+    Optional.ofNullable(domain.getRuntimeEncryptionSecret()).ifPresent(names::add);
+    return names;
+  }
+
+  /**
+   * Returns the cached introspection result for the inputs recorded in the packet, if any.
+   * @param packet a packet processed by the step created by {@link #createComputeKeyStep(Domain, Step)}
+   * @return the introspector job output, or null
+   */
+  static String lookup(Packet packet) {
+    String result = Optional.ofNullable((String) packet.get(INTROSPECTION_CACHE_KEY))
+          .map(IntrospectionResultCache::get)
+          .orElse(null);
+    OperatorMetrics.increment(result != null ? HIT_METRIC : MISS_METRIC);
+    return result;
+  }
+
+  private static synchronized String get(String key) {
+    return results.get(key);
+  }
+
+  /**
+   * Records a successful introspection result under the key recorded in the packet, if any.
+   * @param packet a packet processed by the step created by {@link #createComputeKeyStep(Domain, Step)}
+   * @param result the introspector job output
+   */
+  static void record(Packet packet, String result) {
+    Optional.ofNullable((String) packet.remove(INTROSPECTION_CACHE_KEY))
+          .filter(key -> result != null && getMaximumSize() > 0)
+          .ifPresent(key -> put(key, result));
+  }
+
+  // Evicts the least recently used entries until both the number of entries and their total size are in bounds.
+  private static synchronized void put(String key, String result) {
+    if (result.length() > getMaximumChars()) {
+      return;
+    }
+
+    Optional.ofNullable(results.put(key, result)).ifPresent(old -> totalChars -= old.length());
+    totalChars += result.length();
+    Iterator<String> eldest = results.values().iterator();
+    while (results.size() > getMaximumSize() || totalChars > getMaximumChars()) {
+      totalChars -= eldest.next().length();
+      eldest.remove();
+    }
+  }
+
+  private static class InitializeInputsStep extends Step {
+    @Override
+    public NextAction apply(Packet packet) {
+      packet.remove(INTROSPECTION_CACHE_KEY);
+      packet.put(INTROSPECTION_INPUT_VERSIONS, new TreeMap<String, String>());
+      return doNext(packet);
+    }
+  }
+
+  private static class RecordVersionStep<T> extends DefaultResponseStep<T> {
+    private final String resourceKey;
+    private final Function<T, V1ObjectMeta> getMetadata;
+
+    RecordVersionStep(String resourceKey, Function<T, V1ObjectMeta> getMetadata) {
+      this.resourceKey = resourceKey;
+      this.getMetadata = getMetadata;
+    }
+
+    @Override
+    public NextAction onSuccess(Packet packet, CallResponse<T> callResponse) {
+      getInputVersions(packet).put(resourceKey, Optional.ofNullable(callResponse.getResult())
+            .map(getMetadata)
+            .map(V1ObjectMeta::getResourceVersion)
+            .orElse("none"));
+      return doNext(packet);
+    }
+
+    // An input whose version cannot be read makes the result uncacheable, but introspection can still proceed.
+    @Override
+    protected NextAction onFailureNoRetry(Packet packet, CallResponse<T> callResponse) {
+      getInputVersions(packet).put(resourceKey, UNKNOWN_VERSION);
+      return doNext(packet);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<String, String> getInputVersions(Packet packet) {
+    return (Map<String, String>) packet.get(INTROSPECTION_INPUT_VERSIONS);
+  }
+
+  private static class ComputeKeyStep extends Step {
+    private final Domain domain;
+
+    ComputeKeyStep(Domain domain, Step next) {
+      super(next);
+      this.domain = domain;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      Map<String, String> versions = getInputVersions(packet);
+      packet.remove(INTROSPECTION_INPUT_VERSIONS);
+      if (versions != null && !versions.containsValue(UNKNOWN_VERSION)) {
+        packet.put(INTROSPECTION_CACHE_KEY, computeKey(versions));
+      }
+      return doNext(packet);
+    }
+
+    private String computeKey(Map<String, String> versions) {
+      String inputs = String.join("|",
+            domain.getNamespace(),
+            domain.getDomainUid(),
+            Objects.toString(domain.getSpec().getImage()),
+            Objects.toString(domain.getIntrospectVersion()),
+            AnnotationHelper.createHash(domain.getSpec()),
+            versions.toString());
+      LOGGER.finest("Introspection inputs: " + inputs);
+      return DigestUtils.sha256Hex(inputs);
+    }
+  }
+}
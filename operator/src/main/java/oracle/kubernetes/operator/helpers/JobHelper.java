@@ -16,6 +16,8 @@ import io.kubernetes.client.openapi.models.V1JobStatus;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1Pod;
 import io.kubernetes.client.openapi.models.V1PodList;
+import io.kubernetes.client.openapi.models.V1Preconditions;
+import io.kubernetes.client.openapi.models.V1Status;
 import io.kubernetes.client.openapi.models.V1Volume;
 import io.kubernetes.client.openapi.models.V1VolumeMount;
 import oracle.kubernetes.operator.DomainStatusUpdater;
@@ -44,6 +46,7 @@ import oracle.kubernetes.weblogic.domain.model.IntrospectorJobEnvVars;
 import oracle.kubernetes.weblogic.domain.model.ManagedServer;
 import oracle.kubernetes.weblogic.domain.model.ServerEnvVars;
 
+import static java.net.HttpURLConnection.HTTP_CONFLICT;
 import static oracle.kubernetes.operator.DomainSourceType.FromModel;
 import static oracle.kubernetes.operator.logging.MessageKeys.INTROSPECTOR_JOB_FAILED;
 import static oracle.kubernetes.operator.logging.MessageKeys.INTROSPECTOR_JOB_FAILED_DETAIL;
@@ -333,22 +336,53 @@ public class JobHelper {
     public NextAction apply(Packet packet) {
       DomainPresenceInfo info = packet.getSpi(DomainPresenceInfo.class);
       if (runIntrospector(packet, info)) {
-        JobStepContext context = new DomainIntrospectorJobStepContext(packet);
-
         packet.putIfAbsent(START_TIME, System.currentTimeMillis());
 
-        return doNext(
-              context.createNewJob(
-                    readDomainIntrospectorPodLogStep(
-                          deleteDomainIntrospectorJobStep(
-                                ConfigMapHelper.createIntrospectorConfigMapStep(getNext())))),
-              packet);
+        return doNext(createStartIntrospectionSteps(packet, info), packet);
       }
 
       return doNext(DomainValidationSteps.createValidateDomainTopologyStep(getNext()), packet);
     }
+
+    // A new domain is brought up in order to pick up any changes to the domain home, so the cache is not used.
+    private Step createStartIntrospectionSteps(Packet packet, DomainPresenceInfo info) {
+      Step startStep = new StartIntrospectionStep(getNext());
+      if (isBringingUpNewDomain(info) || !IntrospectionResultCache.isCacheable(info.getDomain())) {
+        packet.remove(ProcessingConstants.INTROSPECTION_CACHE_KEY);
+        return startStep;
+      }
+      return IntrospectionResultCache.createComputeKeyStep(info.getDomain(), startStep);
+    }
+  }
+
+  private static class StartIntrospectionStep extends Step {
+
+    StartIntrospectionStep(Step next) {
+      super(next);
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      String cachedResult = IntrospectionResultCache.lookup(packet);
+      if (cachedResult != null) {
+        LOGGER.fine(MessageKeys.INTROSPECTION_RESULT_REUSED, packet.getSpi(DomainPresenceInfo.class).getDomainUid());
+        packet.put(ProcessingConstants.DOMAIN_INTROSPECTOR_LOG_RESULT, cachedResult);
+        MakeRightDomainOperation.recordInspection(packet);
+        return doNext(ConfigMapHelper.createIntrospectorConfigMapStep(getNext()), packet);
+      }
+
+      JobStepContext context = new DomainIntrospectorJobStepContext(packet);
+      return doNext(
+            context.createNewJob(
+                  readDomainIntrospectorPodLogStep(
+                        new DeleteCompletedIntrospectorJobStep(
+                              ConfigMapHelper.createIntrospectorConfigMapStep(getNext())))),
+            packet);
+    }
   }
 
+  // Deletes the introspector job. The deletion is made in the background, so that Kubernetes removes the job
+  // immediately, rather than waiting for its pod to be removed, and a new job with the same name may be created.
   private static class DeleteIntrospectorJobStep extends Step {
 
     DeleteIntrospectorJobStep(Step next) {
@@ -378,21 +412,70 @@ public class JobHelper {
       LOGGER.fine(getJobDeletedMessageKey(), domainUid, namespace, jobName);
     }
 
-    private Step deleteJob(Packet packet, Step next) {
+    Step deleteJob(Packet packet, Step next) {
+      return deleteJob(packet, new V1DeleteOptions().propagationPolicy("Background"), new DefaultResponseStep<>(next));
+    }
+
+    Step deleteJob(Packet packet, V1DeleteOptions deleteOptions, ResponseStep<V1Status> responseStep) {
       DomainPresenceInfo info = packet.getSpi(DomainPresenceInfo.class);
       java.lang.String domainUid = info.getDomain().getDomainUid();
       java.lang.String namespace = info.getNamespace();
       String jobName = JobHelper.createJobName(domainUid);
       logJobDeleted(domainUid, namespace, jobName, packet);
-      return new CallBuilder()
-            .deleteJobAsync(
-                  jobName,
-                  namespace,
-                  new V1DeleteOptions().propagationPolicy("Foreground"),
-                  new DefaultResponseStep<>(next));
+      return new CallBuilder().deleteJobAsync(jobName, namespace, deleteOptions, responseStep);
     }
   }
 
+  /**
+   * Deletes the introspector job once its results have been read, without waiting for the deletion to complete,
+   * so that the results are processed while Kubernetes removes the job. The deletion is conditional on the uid
+   * of the job which was read, so that it cannot remove a job created by a later introspection.
+   */
+  private static class DeleteCompletedIntrospectorJobStep extends DeleteIntrospectorJobStep {
+
+    DeleteCompletedIntrospectorJobStep(Step next) {
+      super(next);
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      V1DeleteOptions deleteOptions = createDeleteOptions(getJobUid(packet));
+      Step deleteStep = deleteJob(packet, deleteOptions, new DeleteCompletedJobResponseStep());
+      Packet deletePacket = packet.clone();
+      return doSuspend(fiber -> {
+        fiber.createChildFiber().start(deleteStep, deletePacket, null);
+        fiber.resume(packet);
+      });
+    }
+
+    private V1DeleteOptions createDeleteOptions(String jobUid) {
+      V1DeleteOptions deleteOptions = new V1DeleteOptions().propagationPolicy("Background");
+      return jobUid == null ? deleteOptions : deleteOptions.preconditions(new V1Preconditions().uid(jobUid));
+    }
+  }
+
+  // A conflict means that the job has already been replaced; there is nothing left to delete.
+  private static class DeleteCompletedJobResponseStep extends DefaultResponseStep<V1Status> {
+
+    DeleteCompletedJobResponseStep() {
+      super(null);
+    }
+
+    @Override
+    public NextAction onFailure(Packet packet, CallResponse<V1Status> callResponse) {
+      return callResponse.getStatusCode() == HTTP_CONFLICT
+            ? onSuccess(packet, callResponse)
+            : super.onFailure(packet, callResponse);
+    }
+  }
+
+  private static String getJobUid(Packet packet) {
+    return Optional.ofNullable((V1Job) packet.get(ProcessingConstants.DOMAIN_INTROSPECTOR_JOB))
+          .map(V1Job::getMetadata)
+          .map(V1ObjectMeta::getUid)
+          .orElse(null);
+  }
+
   static ReadDomainIntrospectorPodLogStep readDomainIntrospectorPodLog(Step next) {
     return new ReadDomainIntrospectorPodLogStep(next);
   }
@@ -581,11 +664,13 @@ public class JobHelper {
 
     private Step readDomainIntrospectorPod(String domainUid, String namespace, Step next) {
       return new CallBuilder()
-            .withLabelSelectors(LabelConstants.JOBNAME_LABEL)
+            .withLabelSelectors(LabelConstants.forJobNameSelector(createJobName(domainUid)))
             .listPodAsync(namespace, new PodListStep(domainUid, next));
     }
   }
 
+  // Selects the pod of the job recorded by the job watcher. Since old jobs are deleted in the background,
+  // a pod of an earlier job with the same name may still be present; it is recognized by its controller uid.
   private static class PodListStep extends ResponseStep<V1PodList> {
     private final String domainUid;
 
@@ -605,6 +690,7 @@ public class JobHelper {
             .map(V1PodList::getItems)
             .orElseGet(Collections::emptyList)
             .stream()
+            .filter(pod -> isControlledBy(pod, getJobUid(packet)))
             .map(this::getName)
             .filter(this::isJobPodName)
             .findFirst()
@@ -613,6 +699,14 @@ public class JobHelper {
       return doNext(packet);
     }
 
+    private boolean isControlledBy(V1Pod pod, String jobUid) {
+      return jobUid == null || jobUid.equals(getLabel(pod, LabelConstants.CONTROLLER_UID_LABEL));
+    }
+
+    private String getLabel(V1Pod pod, String name) {
+      return Optional.of(pod).map(V1Pod::getMetadata).map(V1ObjectMeta::getLabels).map(l -> l.get(name)).orElse(null);
+    }
+
     private String getName(V1Pod pod) {
       return Optional.of(pod).map(V1Pod::getMetadata).map(V1ObjectMeta::getName).orElse("");
     }
@@ -0,0 +1,160 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1Service;
+import oracle.kubernetes.operator.ProcessingConstants;
+import oracle.kubernetes.operator.metrics.OperatorMetrics;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.weblogic.domain.model.Domain;
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+
+import static oracle.kubernetes.operator.IntrospectorConfigMapKeys.DOMAINZIP_HASH;
+import static oracle.kubernetes.operator.IntrospectorConfigMapKeys.SECRETS_MD_5;
+
+/**
+ * A summary of the state on which a make-right operation acted: the desired state from the domain resource and
+ * the introspection results, and the resource versions of the pods and services which the operator owns for the
+ * domain. If nothing in the fingerprint has changed since the last successful make-right, another one has
+ * nothing to do.
+ */
+public class MakeRightFingerprint {
+
+  public static final String MATCHED_METRIC = "makeRight.fingerprint.matched";
+  public static final String MISMATCHED_METRIC = "makeRight.fingerprint.mismatched";
+  public static final String SKIP_RATE_METRIC = "makeRight.fingerprint.skipRate";
+
+  static {
+    OperatorMetrics.registerGauge(SKIP_RATE_METRIC, () -> OperatorMetrics.getRatio(MATCHED_METRIC, MISMATCHED_METRIC));
+  }
+
+  private final String specHash;
+  private final String topologyHash;
+  private final String secretsHash;
+  private final String operatorVersion;
+  private final Map<String, String> observedVersions;
+
+  private MakeRightFingerprint(String specHash, String topologyHash, String secretsHash, String operatorVersion,
+                               Map<String, String> observedVersions) {
+    this.specHash = specHash;
+    this.topologyHash = topologyHash;
+    this.secretsHash = secretsHash;
+    this.operatorVersion = operatorVersion;
+    this.observedVersions = observedVersions;
+  }
+
+  /**
+   * Creates a fingerprint describing the state at the end of a successful make-right.
+   * @param packet the packet of the completed make-right fiber
+   * @param info the presence info for the domain
+   * @param operatorVersion the version of the running operator
+   * @return a new fingerprint
+   */
+  public static MakeRightFingerprint fromCompletedMakeRight(
+        Packet packet, DomainPresenceInfo info, String operatorVersion) {
+    return new MakeRightFingerprint(
+          getSpecHash(info.getDomain()),
+          AnnotationHelper.createHash(packet.get(ProcessingConstants.DOMAIN_TOPOLOGY)),
+          packet.get(SECRETS_MD_5) + "/" + packet.get(DOMAINZIP_HASH),
+          operatorVersion,
+          getObservedVersions(info));
+  }
+
+  /**
+   * Creates a fingerprint from the current domain resource and observed resources. Introspection results can only
+   * change as the result of a make-right, so those are taken from this fingerprint.
+   * @param domain the current domain resource
+   * @param observed a presence info containing the pods and services currently known for the domain
+   * @param operatorVersion the version of the running operator
+   * @return a new fingerprint
+   */
+  public MakeRightFingerprint withCurrentState(Domain domain, DomainPresenceInfo observed, String operatorVersion) {
+    return new MakeRightFingerprint(
+          getSpecHash(domain), topologyHash, secretsHash, operatorVersion, getObservedVersions(observed));
+  }
+
+  /**
+   * Returns true if this fingerprint matches the specified one, and records the result in the metrics.
+   * @param other the fingerprint computed for a make-right request
+   * @return true if the state is unchanged
+   */
+  public boolean isUnchangedIn(MakeRightFingerprint other) {
+    boolean unchanged = equals(other);
+    OperatorMetrics.increment(unchanged ? MATCHED_METRIC : MISMATCHED_METRIC);
+    return unchanged;
+  }
+
+  private static String getSpecHash(Domain domain) {
+    return AnnotationHelper.createHash(Optional.ofNullable(domain).map(Domain::getSpec).orElse(null));
+  }
+
+  private static Map<String, String> getObservedVersions(DomainPresenceInfo info) {
+    Map<String, String> versions = new TreeMap<>();
+    info.getServers().forEach((serverName, sko) -> {
+      addVersion(versions, "pod/" + serverName, getMetadata(sko.getPod().get()));
+      addVersion(versions, "service/" + serverName, getMetadata(sko.getService().get()));
+      addVersion(versions, "external/" + serverName, getMetadata(sko.getExternalService().get()));
+    });
+    info.getClusterServices().forEach(
+        (clusterName, service) -> addVersion(versions, "cluster/" + clusterName, getMetadata(service)));
+    return Collections.unmodifiableMap(versions);
+  }
+
+  private static void addVersion(Map<String, String> versions, String key, V1ObjectMeta metadata) {
+    Optional.ofNullable(metadata).ifPresent(m -> versions.put(key, m.getResourceVersion()));
+  }
+
+  private static V1ObjectMeta getMetadata(V1Pod pod) {
+    return pod == null ? null : pod.getMetadata();
+  }
+
+  private static V1ObjectMeta getMetadata(V1Service service) {
+    return service == null ? null : service.getMetadata();
+  }
+
+  @Override
+  public String toString() {
+    return Integer.toHexString(hashCode());
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+
+    if (!(o instanceof MakeRightFingerprint)) {
+      return false;
+    }
+
+    MakeRightFingerprint that = (MakeRightFingerprint) o;
+
+    return new EqualsBuilder()
+          .append(specHash, that.specHash)
+          .append(topologyHash, that.topologyHash)
+          .append(secretsHash, that.secretsHash)
+          .append(operatorVersion, that.operatorVersion)
+          .append(observedVersions, that.observedVersions)
+          .isEquals();
+  }
+
+  @Override
+  public int hashCode() {
+    return new HashCodeBuilder(17, 37)
+          .append(specHash)
+          .append(topologyHash)
+          .append(secretsHash)
+          .append(operatorVersion)
+          .append(observedVersions)
+          .toHashCode();
+  }
+}
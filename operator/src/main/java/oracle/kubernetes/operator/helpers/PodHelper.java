@@ -215,8 +215,8 @@ public class PodHelper {
     if (envVars != null) {
       for (V1EnvVar envVar : envVars) {
         // note that a deep copy of valueFrom is not needed here as, unlike with value, the
-        // new V1EnvVarFrom objects would be created by the doDeepSubstitutions() method in
-        // StepContextBase class.
+        // V1EnvVarFrom objects are never modified; the doDeepSubstitutions() method in
+        // StepContextBase class creates new ones if any of their values are substituted.
         copy.add(new V1EnvVar()
             .name(envVar.getName())
             .value(envVar.getValue())
@@ -459,6 +459,11 @@ public class PodHelper {
       return new ArrayList<>(super.getContainerCommand());
     }
 
+    @Override
+    String getPodModelInputs() {
+      return super.getPodModelInputs() + "|" + AnnotationHelper.createHash(packet.get(ProcessingConstants.ENVVARS));
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     List<V1EnvVar> getConfiguredEnvVars(TuningParameters tuningParameters) {
@@ -0,0 +1,80 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import oracle.kubernetes.operator.TuningParameters;
+import oracle.kubernetes.operator.metrics.OperatorMetrics;
+
+/**
+ * Remembers, for each server pod, the hash of the pod model most recently computed for it and a description of the
+ * inputs from which that model was built: the domain spec, the server's WebLogic configuration, the introspection
+ * hashes and the pod tuning parameters. While those inputs are unchanged, an existing pod can be verified against
+ * the remembered hash without building a new pod model. The remembered hashes are lost when the operator restarts,
+ * so a new operator version always recomputes them.
+ */
+class PodModelHashes {
+
+  static final String HIT_METRIC = "podModel.hash.hit";
+  static final String MISS_METRIC = "podModel.hash.miss";
+  private static final int DEFAULT_SIZE = 5000;
+
+  private static final Map<String, ModelHash> hashes = new LinkedHashMap<>(16, 0.75f, true) {
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<String, ModelHash> eldest) {
+      return size() > getMaximumSize();
+    }
+  };
+
+  private PodModelHashes() {
+  }
+
+  private static int getMaximumSize() {
+    return Optional.ofNullable(TuningParameters.getInstance())
+          .map(TuningParameters::getPodTuning)
+          .map(pod -> pod.podModelHashCacheSize)
+          .orElse(DEFAULT_SIZE);
+  }
+
+  static synchronized void clear() {
+    hashes.clear();
+  }
+
+  /**
+   * Returns the hash of the pod model last computed for the specified pod, provided that it was computed from the
+   * specified inputs.
+   * @param podKey a key identifying the pod
+   * @param inputs a description of the inputs to the pod model
+   * @return the remembered hash, or null
+   */
+  static String lookup(String podKey, String inputs) {
+    String hash = getMatchingHash(podKey, inputs);
+    OperatorMetrics.increment(hash != null ? HIT_METRIC : MISS_METRIC);
+    return hash;
+  }
+
+  private static synchronized String getMatchingHash(String podKey, String inputs) {
+    return Optional.ofNullable(hashes.get(podKey)).filter(h -> h.inputs.equals(inputs)).map(h -> h.hash).orElse(null);
+  }
+
+  static synchronized void record(String podKey, String inputs, String hash) {
+    if (hash != null && !hash.isEmpty()) {
+      hashes.put(podKey, new ModelHash(inputs, hash));
+    }
+  }
+
+  private static class ModelHash {
+    private final String inputs;
+    private final String hash;
+
+    ModelHash(String inputs, String hash) {
+      this.inputs = Objects.requireNonNull(inputs);
+      this.hash = hash;
+    }
+  }
+}
@@ -73,6 +73,7 @@ public abstract class PodStepContext extends BasePodStepContext {
   private final WlsDomainConfig domainTopology;
   private final Step conflictStep;
   private V1Pod podModel;
+  private String podModelInputs;
   private final String miiModelSecretsHash;
   private final String miiDomainZipHash;
   private final String domainRestartVersion;
@@ -92,13 +93,47 @@ public abstract class PodStepContext extends BasePodStepContext {
   }
 
   void init() {
-    podModel = createPodModel();
+    podModelInputs = getPodModelInputs();
   }
 
   V1Pod getPodModel() {
+    if (podModel == null) {
+      podModel = createPodModel();
+      PodModelHashes.record(getPodModelKey(), podModelInputs, AnnotationHelper.getHash(podModel));
+    }
     return podModel;
   }
 
+  // Returns the hash of the pod model, building the model only if its inputs have changed since it was last built.
+  private String getPodModelHash() {
+    return Optional.ofNullable(PodModelHashes.lookup(getPodModelKey(), podModelInputs))
+          .orElseGet(() -> AnnotationHelper.getHash(getPodModel()));
+  }
+
+  private String getPodModelKey() {
+    return getNamespace() + "/" + getPodName();
+  }
+
+  /**
+   * Returns a description of everything from which the hashed part of the pod model is built.
+   * @return a string which changes whenever the pod model hash might change
+   */
+  String getPodModelInputs() {
+    return String.join("|",
+          getClass().getName(),
+          getServerName(),
+          Objects.toString(getClusterName()),
+          Optional.ofNullable(getDomain().getMetadata()).map(V1ObjectMeta::getUid).orElse(""),
+          AnnotationHelper.createHash(getDomain().getSpec()),
+          AnnotationHelper.createHash(scan),
+          AnnotationHelper.createHash(domainTopology),
+          Objects.toString(miiModelSecretsHash),
+          Objects.toString(miiDomainZipHash),
+          Objects.toString(domainRestartVersion),
+          AnnotationHelper.createHash(
+                Optional.ofNullable(TuningParameters.getInstance()).map(TuningParameters::getPodTuning).orElse(null)));
+  }
+
   private Step getConflictStep() {
     return new ConflictStep();
   }
@@ -377,8 +412,7 @@ public abstract class PodStepContext extends BasePodStepContext {
   }
 
   private boolean canUseCurrentPod(V1Pod currentPod) {
-    boolean useCurrent =
-        AnnotationHelper.getHash(getPodModel()).equals(AnnotationHelper.getHash(currentPod));
+    boolean useCurrent = getPodModelHash().equals(AnnotationHelper.getHash(currentPod));
     if (!useCurrent && AnnotationHelper.getDebugString(currentPod).length() > 0) {
       LOGGER.fine(
           MessageKeys.POD_DUMP,
@@ -390,6 +424,10 @@ public abstract class PodStepContext extends BasePodStepContext {
   }
 
   private String getReasonToRecycle(V1Pod currentPod) {
+    if (currentPod == null) {
+      return "";
+    }
+
     PodCompatibility compatibility = new PodCompatibility(getPodModel(), currentPod);
     return compatibility.getIncompatibility();
   }
@@ -799,11 +837,7 @@ public abstract class PodStepContext extends BasePodStepContext {
       if (currentPod == null) {
         return doNext(createNewPod(getNext()), packet);
       } else if (!canUseCurrentPod(currentPod)) {
-        LOGGER.info(
-            MessageKeys.CYCLING_POD,
-            Objects.requireNonNull(currentPod.getMetadata()).getName(),
-            getReasonToRecycle(currentPod));
-        return doNext(replaceCurrentPod(getNext()), packet);
+        return doNext(readPodToReplace(getNext()), packet);
       } else if (mustPatchPod(currentPod)) {
         return doNext(patchCurrentPod(currentPod, getNext()), packet);
       } else {
@@ -813,6 +847,30 @@ public abstract class PodStepContext extends BasePodStepContext {
     }
   }
 
+  // The recorded pod omits the specification which explains why the pod must be replaced, so read the
+  // full pod before logging the reason.
+  private Step readPodToReplace(Step next) {
+    return new CallBuilder().readPodAsync(getPodName(), getNamespace(), new ReadPodToReplaceResponseStep(next));
+  }
+
+  private class ReadPodToReplaceResponseStep extends ResponseStep<V1Pod> {
+    ReadPodToReplaceResponseStep(Step next) {
+      super(next);
+    }
+
+    @Override
+    public NextAction onSuccess(Packet packet, CallResponse<V1Pod> callResponse) {
+      LOGGER.info(MessageKeys.CYCLING_POD, getPodName(), getReasonToRecycle(callResponse.getResult()));
+      return doNext(replaceCurrentPod(getNext()), packet);
+    }
+
+    // The pod is read only to explain its replacement, which should not wait for it.
+    @Override
+    public NextAction onFailure(Packet packet, CallResponse<V1Pod> callResponse) {
+      return onSuccess(packet, callResponse);
+    }
+  }
+
   private abstract class BaseResponseStep extends ResponseStep<V1Pod> {
     BaseResponseStep(Step next) {
       super(next);
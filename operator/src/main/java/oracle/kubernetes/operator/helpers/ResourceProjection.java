@@ -0,0 +1,103 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodCondition;
+import io.kubernetes.client.openapi.models.V1PodSpec;
+import io.kubernetes.client.openapi.models.V1PodStatus;
+import io.kubernetes.client.openapi.models.V1Service;
+import io.kubernetes.client.openapi.models.V1ServiceSpec;
+
+/**
+ * Creates the trimmed copies of pods and services which are recorded in a {@link DomainPresenceInfo}. Each copy
+ * keeps only the fields which the operator reads from recorded resources: identity, labels, annotations
+ * (including the hash used to detect changes), the timestamps and resource version used to order watch events,
+ * and, for pods, the phase, readiness conditions, pod IP and node name; for services, the type, cluster IP
+ * and ports. Managed fields, the pod specification and container statuses are dropped; code which needs them
+ * must read the resource from Kubernetes.
+ */
+final class ResourceProjection {
+
+  private ResourceProjection() {
+  }
+
+  /**
+   * Returns a trimmed copy of a pod.
+   * @param pod the pod, which may be null
+   * @return the copy, or null if the pod is null
+   */
+  static V1Pod project(V1Pod pod) {
+    if (pod == null) {
+      return null;
+    }
+
+    return new V1Pod()
+          .metadata(project(pod.getMetadata()))
+          .spec(Optional.ofNullable(pod.getSpec()).map(ResourceProjection::project).orElse(null))
+          .status(Optional.ofNullable(pod.getStatus()).map(ResourceProjection::project).orElse(null));
+  }
+
+  /**
+   * Returns a trimmed copy of a service.
+   * @param service the service, which may be null
+   * @return the copy, or null if the service is null
+   */
+  static V1Service project(V1Service service) {
+    if (service == null) {
+      return null;
+    }
+
+    return new V1Service()
+          .metadata(project(service.getMetadata()))
+          .spec(Optional.ofNullable(service.getSpec()).map(ResourceProjection::project).orElse(null));
+  }
+
+  private static V1ObjectMeta project(V1ObjectMeta metadata) {
+    if (metadata == null) {
+      return null;
+    }
+
+    return new V1ObjectMeta()
+          .name(metadata.getName())
+          .namespace(metadata.getNamespace())
+          .uid(metadata.getUid())
+          .labels(metadata.getLabels())
+          .annotations(metadata.getAnnotations())
+          .creationTimestamp(metadata.getCreationTimestamp())
+          .deletionTimestamp(metadata.getDeletionTimestamp())
+          .resourceVersion(metadata.getResourceVersion());
+  }
+
+  private static V1PodSpec project(V1PodSpec spec) {
+    return new V1PodSpec().nodeName(spec.getNodeName());
+  }
+
+  private static V1PodStatus project(V1PodStatus status) {
+    return new V1PodStatus()
+          .phase(status.getPhase())
+          .reason(status.getReason())
+          .podIP(status.getPodIP())
+          .conditions(project(status.getConditions()));
+  }
+
+  private static List<V1PodCondition> project(List<V1PodCondition> conditions) {
+    return Optional.ofNullable(conditions)
+          .map(l -> l.stream().map(ResourceProjection::project).collect(Collectors.toList()))
+          .orElse(null);
+  }
+
+  private static V1PodCondition project(V1PodCondition condition) {
+    return new V1PodCondition().type(condition.getType()).status(condition.getStatus());
+  }
+
+  private static V1ServiceSpec project(V1ServiceSpec spec) {
+    return new V1ServiceSpec().type(spec.getType()).clusterIP(spec.getClusterIP()).ports(spec.getPorts());
+  }
+}
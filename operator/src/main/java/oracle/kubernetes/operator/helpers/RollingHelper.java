@@ -5,13 +5,17 @@ package oracle.kubernetes.operator.helpers;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 import io.kubernetes.client.openapi.models.V1Pod;
 import oracle.kubernetes.operator.ProcessingConstants;
@@ -57,16 +61,9 @@ public class RollingHelper {
     return new RollingStep(rolling, next);
   }
 
-  private static List<String> getReadyServers(DomainPresenceInfo info) {
-    // These are presently Ready servers
-    List<String> availableServers = new ArrayList<>();
-    for (Map.Entry<String, ServerKubernetesObjects> entry : info.getServers().entrySet()) {
-      V1Pod pod = entry.getValue().getPod().get();
-      if (pod != null && !PodHelper.isDeleting(pod) && PodHelper.getReadyStatus(pod)) {
-        availableServers.add(entry.getKey());
-      }
-    }
-    return availableServers;
+  private static boolean isReady(DomainPresenceInfo info, String serverName) {
+    V1Pod pod = info.getServerPod(serverName);
+    return pod != null && !PodHelper.isDeleting(pod) && PodHelper.getReadyStatus(pod);
   }
 
   private static class RollingStep extends Step {
@@ -88,17 +85,15 @@ public class RollingHelper {
       DomainPresenceInfo info = packet.getSpi(DomainPresenceInfo.class);
 
       Domain dom = info.getDomain();
-      // These are presently Ready servers
-      List<String> availableServers = getReadyServers(info);
 
       Collection<StepAndPacket> serversThatCanRestartNow = new ArrayList<>();
-      Map<String, Queue<StepAndPacket>> clusteredRestarts = new HashMap<>();
+      Map<String, Queue<String>> clusteredRestarts = new HashMap<>();
 
       List<String> servers = new ArrayList<>();
       for (Map.Entry<String, StepAndPacket> entry : rolling.entrySet()) {
         // If this server isn't currently Ready, then it can be safely restarted now
         // regardless of the state of its cluster (if any)
-        if (!availableServers.contains(entry.getKey())) {
+        if (!isReady(info, entry.getKey())) {
           servers.add(entry.getKey());
           serversThatCanRestartNow.add(entry.getValue());
           continue;
@@ -114,12 +109,7 @@ public class RollingHelper {
         }
 
         // clustered server
-        Queue<StepAndPacket> cr = clusteredRestarts.get(clusterName);
-        if (cr == null) {
-          cr = new ConcurrentLinkedQueue<>();
-          clusteredRestarts.put(clusterName, cr);
-        }
-        cr.add(entry.getValue());
+        clusteredRestarts.computeIfAbsent(clusterName, c -> new ConcurrentLinkedQueue<>()).add(entry.getKey());
       }
 
       if (!servers.isEmpty()) {
@@ -134,10 +124,10 @@ public class RollingHelper {
       }
 
       if (!clusteredRestarts.isEmpty()) {
-        for (Map.Entry<String, Queue<StepAndPacket>> entry : clusteredRestarts.entrySet()) {
+        for (Map.Entry<String, Queue<String>> entry : clusteredRestarts.entrySet()) {
           work.add(
               new StepAndPacket(
-                  new RollSpecificClusterStep(entry.getKey(), entry.getValue(), null), packet));
+                  new RollSpecificClusterStep(entry.getKey(), entry.getValue(), rolling, null), packet));
         }
       }
 
@@ -164,15 +154,23 @@ public class RollingHelper {
     }
   }
 
+  /**
+   * Rolls the servers of a single cluster. Up to the cluster's maximum unavailable count of servers are restarted
+   * in parallel, each by its own worker; a worker starts its next server as soon as the previous one is ready,
+   * provided that doing so keeps at least the cluster's minimum available count of servers ready.
+   */
   private static class RollSpecificClusterStep extends Step {
     private final String clusterName;
-    private final Queue<StepAndPacket> servers;
+    private final Queue<String> servers;
+    private final Map<String, StepAndPacket> rolling;
+    private final Set<String> restarting = ConcurrentHashMap.newKeySet();
 
-    public RollSpecificClusterStep(
-        String clusterName, Queue<StepAndPacket> clusteredServerRestarts, Step next) {
+    RollSpecificClusterStep(
+        String clusterName, Queue<String> servers, Map<String, StepAndPacket> rolling, Step next) {
       super(next);
       this.clusterName = clusterName;
-      servers = clusteredServerRestarts;
+      this.servers = servers;
+      this.rolling = rolling;
     }
 
     @Override
@@ -183,44 +181,78 @@ public class RollingHelper {
     @Override
     public NextAction apply(Packet packet) {
       DomainPresenceInfo info = packet.getSpi(DomainPresenceInfo.class);
-      WlsDomainConfig config = (WlsDomainConfig) packet.get(ProcessingConstants.DOMAIN_TOPOLOGY);
-
-      // Refresh as this is constantly changing
       Domain dom = info.getDomain();
-      // These are presently Ready servers
-      List<String> availableServers = getReadyServers(info);
-
-      List<String> readyServers = new ArrayList<>();
-
-      int countReady = 0;
-      WlsClusterConfig cluster = config != null ? config.getClusterConfig(clusterName) : null;
-      if (cluster != null) {
-        List<WlsServerConfig> serversConfigs = cluster.getServerConfigs();
-        if (serversConfigs != null) {
-          for (WlsServerConfig s : serversConfigs) {
-            // figure out how many servers are currently ready
-            String name = s.getName();
-            if (availableServers.contains(name)) {
-              readyServers.add(s.getName());
-              countReady++;
-            }
-          }
-        }
+
+      LOGGER.info(MessageKeys.ROLLING_SERVERS, dom.getDomainUid(), servers, getReadyServers(packet));
+
+      int numWorkers = Math.min(Math.max(1, dom.getMaxUnavailable(clusterName)), servers.size());
+      Collection<StepAndPacket> workers = new ArrayList<>();
+      for (int i = 0; i < numWorkers; i++) {
+        workers.add(new StepAndPacket(new RollClusterMemberStep(this, null), packet));
       }
+      return doForkJoin(getNext(), packet, workers);
+    }
 
-      LOGGER.info(MessageKeys.ROLLING_SERVERS, dom.getDomainUid(), servers, readyServers);
+    private List<String> getReadyServers(Packet packet) {
+      DomainPresenceInfo info = packet.getSpi(DomainPresenceInfo.class);
+      return getClusterMemberNames(packet).stream()
+          .filter(name -> !restarting.contains(name))
+          .filter(name -> isReady(info, name))
+          .collect(Collectors.toList());
+    }
+
+    private List<String> getClusterMemberNames(Packet packet) {
+      return Optional.ofNullable((WlsDomainConfig) packet.get(ProcessingConstants.DOMAIN_TOPOLOGY))
+          .map(config -> config.getClusterConfig(clusterName))
+          .map(WlsClusterConfig::getServerConfigs)
+          .orElse(Collections.emptyList())
+          .stream()
+          .map(WlsServerConfig::getName)
+          .collect(Collectors.toList());
+    }
 
-      int countToRestartNow = countReady - dom.getMinAvailable(clusterName);
-      Collection<StepAndPacket> restarts = new ArrayList<>();
-      for (int i = 0; i < countToRestartNow; i++) {
-        Optional.ofNullable(servers.poll())
-            .ifPresent(serverToRestart -> restarts.add(serverToRestart));
+    // Returns the name of the next server to restart, if doing so now would leave enough servers available.
+    private synchronized String claimNextServer(Packet packet) {
+      if (servers.isEmpty()) {
+        return null;
       }
 
-      if (!restarts.isEmpty()) {
-        return doForkJoin(this, packet, restarts);
-      } else if (!servers.isEmpty()) {
-        return doDelay(this, packet, DELAY_IN_SECONDS, TimeUnit.SECONDS);
+      int minAvailable = packet.getSpi(DomainPresenceInfo.class).getDomain().getMinAvailable(clusterName);
+      if (getReadyServers(packet).size() <= minAvailable) {
+        return null;
+      }
+
+      String serverName = servers.poll();
+      restarting.add(serverName);
+      return serverName;
+    }
+  }
+
+  private static class RollClusterMemberStep extends Step {
+    private final RollSpecificClusterStep cluster;
+    private final String restartedServer;
+
+    RollClusterMemberStep(RollSpecificClusterStep cluster, String restartedServer) {
+      super(null);
+      this.cluster = cluster;
+      this.restartedServer = restartedServer;
+    }
+
+    @Override
+    public String getDetail() {
+      return cluster.clusterName;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      Optional.ofNullable(restartedServer).ifPresent(cluster.restarting::remove);
+
+      String serverName = cluster.claimNextServer(packet);
+      if (serverName != null) {
+        return doForkJoin(new RollClusterMemberStep(cluster, serverName), packet,
+            Collections.singletonList(cluster.rolling.get(serverName)));
+      } else if (!cluster.servers.isEmpty()) {
+        return doDelay(new RollClusterMemberStep(cluster, null), packet, DELAY_IN_SECONDS, TimeUnit.SECONDS);
       } else {
         return doNext(packet);
       }
@@ -7,14 +7,15 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1OwnerReference;
 import io.kubernetes.client.openapi.models.V1Pod;
-import oracle.kubernetes.operator.Pair;
 import oracle.kubernetes.weblogic.domain.model.Domain;
 
 public abstract class StepContextBase implements StepContextConstants {
@@ -28,53 +29,76 @@ public abstract class StepContextBase implements StepContextConstants {
     return doDeepSubstitution(substitutionVariables, obj, false);
   }
 
+  /**
+   * Returns the specified object with any occurrences of "$(VAR)" in its strings replaced by the value of the
+   * corresponding substitution variable. Objects which contain no substitutions are returned unchanged; otherwise
+   * a copy is made of each object along the path to a changed string.
+   *
+   * @param substitutionVariables a map of variable names to values
+   * @param obj the object to which substitutions are to be applied
+   * @param requiresDns1123 true if substituted values must be converted to DNS-1123 legal names
+   * @param <T> the type of the object
+   * @return the object with substitutions applied
+   */
+  @SuppressWarnings("unchecked")
   protected <T> T doDeepSubstitution(final Map<String, String> substitutionVariables, T obj, boolean requiresDns1123) {
     if (obj instanceof String) {
       return (T) translate(substitutionVariables, (String) obj, requiresDns1123);
     } else if (obj instanceof List) {
-      List<Object> result = new ArrayList<>();
-      for (Object o : (List) obj) {
-        result.add(doDeepSubstitution(substitutionVariables, o));
-      }
-      return (T) result;
+      return (T) substituteInList(substitutionVariables, (List<Object>) obj);
     } else if (obj instanceof Map) {
-      Map<String, Object> result = new HashMap<>();
-      for (Map.Entry<String, Object> entry : ((Map<String, Object>) obj).entrySet()) {
-        result.put(
-            translate(substitutionVariables, entry.getKey()),
-            doDeepSubstitution(substitutionVariables, entry.getValue()));
+      return (T) substituteInMap(substitutionVariables, (Map<String, Object>) obj);
+    } else if (obj != null && isModelClass(obj.getClass())) {
+      return substituteInModel(substitutionVariables, obj);
+    }
+    return obj;
+  }
+
+  private List<Object> substituteInList(Map<String, String> substitutionVariables, List<Object> list) {
+    List<Object> result = null;
+    for (int i = 0; i < list.size(); i++) {
+      Object original = list.get(i);
+      Object substituted = doDeepSubstitution(substitutionVariables, original);
+      if (result == null && substituted != original) {
+        result = new ArrayList<>(list.subList(0, i));
       }
-      return (T) result;
-    } else if (obj != null) {
-      Class<T> cls = (Class<T>) obj.getClass();
-      if (isModelClass(cls)) {
-        try {
-          Constructor<T> constructor = cls.getConstructor();
-          T subObj = constructor.newInstance();
-
-          List<Pair<Method, Method>> typeBeans = typeBeans(cls);
-          for (Pair<Method, Method> item : typeBeans) {
-            item.getRight()
-                .invoke(
-                    subObj,
-                    doDeepSubstitution(
-                        substitutionVariables,
-                        item.getLeft().invoke(obj),
-                        isDns1123Required(item.getLeft())));
-          }
-          return subObj;
-        } catch (NoSuchMethodException
-            | InstantiationException
-            | IllegalAccessException
-            | InvocationTargetException e) {
-          throw new RuntimeException(e);
-        }
+      if (result != null) {
+        result.add(substituted);
       }
     }
-    return obj;
+    return result == null ? list : result;
+  }
+
+  private Map<String, Object> substituteInMap(Map<String, String> substitutionVariables, Map<String, Object> map) {
+    Map<String, Object> result = new HashMap<>();
+    boolean changed = false;
+    for (Map.Entry<String, Object> entry : map.entrySet()) {
+      String key = translate(substitutionVariables, entry.getKey());
+      Object value = doDeepSubstitution(substitutionVariables, entry.getValue());
+      changed |= key != entry.getKey() || value != entry.getValue();
+      result.put(key, value);
+    }
+    return changed ? result : map;
   }
 
-  boolean isDns1123Required(Method method) {
+  private <T> T substituteInModel(Map<String, String> substitutionVariables, T obj) {
+    ModelAccessors accessors = ModelAccessors.forClass(obj.getClass());
+    Object[] values = new Object[accessors.properties.size()];
+    boolean changed = false;
+    try {
+      for (int i = 0; i < values.length; i++) {
+        BeanProperty property = accessors.properties.get(i);
+        Object original = property.getter.invoke(obj);
+        values[i] = doDeepSubstitution(substitutionVariables, original, property.isDns1123Required());
+        changed |= values[i] != original;
+      }
+      return changed ? accessors.createInstance(values) : obj;
+    } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  static boolean isDns1123Required(Method method) {
     // value requires to be in DNS1123 if the value is for a name, which is assumed to be
     // name for a kubernetes object
     return LegalNames.isDns1123Required(method.getName().substring(3));
@@ -83,50 +107,117 @@ public abstract class StepContextBase implements StepContextConstants {
   private static final String MODELS_PACKAGE = V1Pod.class.getPackageName();
   private static final String DOMAIN_MODEL_PACKAGE = Domain.class.getPackageName();
 
-  private boolean isModelClass(Class cls) {
+  private static boolean isModelClass(Class<?> cls) {
     return cls.getPackageName().startsWith(MODELS_PACKAGE)
         || cls.getPackageName().startsWith(DOMAIN_MODEL_PACKAGE);
   }
 
-  private List<Pair<Method, Method>> typeBeans(Class cls) {
-    List<Pair<Method, Method>> results = new ArrayList<>();
-    Method[] methods = cls.getMethods();
-    for (Method m : methods) {
-      if (m.getParameterCount() == 0) {
-        String beanName = null;
-        if (m.getName().startsWith("get")) {
-          beanName = m.getName().substring(3);
-        } else if (m.getName().startsWith("is")) {
-          beanName = m.getName().substring(2);
-        }
-        if (beanName != null) {
-          try {
-            Method set = cls.getMethod("set" + beanName, m.getReturnType());
-            if (set != null) {
-              results.add(new Pair<>(m, set));
-            }
-          } catch (NoSuchMethodException nsme) {
-            // no-op
-          }
+  private String translate(final Map<String, String> substitutionVariables, String rawValue) {
+    return translate(substitutionVariables, rawValue, false);
+  }
+
+  // Replaces each "$(VAR)" whose name has a non-null value in a single pass, returning the original string
+  // if it contains no such references.
+  private String translate(final Map<String, String> substitutionVariables, String rawValue, boolean requiresDns1123) {
+    if (rawValue == null) {
+      return null;
+    }
+
+    int start = rawValue.indexOf("$(");
+    if (start < 0) {
+      return rawValue;
+    }
+
+    StringBuilder result = null;
+    int copied = 0;
+    while (start >= 0) {
+      int end = rawValue.indexOf(')', start + 2);
+      if (end < 0) {
+        break;
+      }
+      String value = substitutionVariables.get(rawValue.substring(start + 2, end));
+      if (value != null) {
+        if (result == null) {
+          result = new StringBuilder(rawValue.length() + value.length());
         }
+        result.append(rawValue, copied, start)
+            .append(requiresDns1123 ? LegalNames.toDns1123LegalName(value) : value);
+        copied = end + 1;
+        start = rawValue.indexOf("$(", copied);
+      } else {
+        start = rawValue.indexOf("$(", start + 2);
       }
     }
-    return results;
+
+    return result == null ? rawValue : result.append(rawValue, copied, rawValue.length()).toString();
   }
 
-  private String translate(final Map<String, String> substitutionVariables, String rawValue) {
-    return translate(substitutionVariables, rawValue, false);
+  private static class BeanProperty {
+    private final Method getter;
+    private final Method setter;
+
+    BeanProperty(Method getter, Method setter) {
+      this.getter = getter;
+      this.setter = setter;
+    }
+
+    // not cached, as the set of fields which require DNS-1123 names is configurable
+    boolean isDns1123Required() {
+      return StepContextBase.isDns1123Required(getter);
+    }
   }
 
-  private String translate(final Map<String, String> substitutionVariables, String rawValue, boolean requiresDns1123) {
-    String result = rawValue;
-    for (Map.Entry<String, String> entry : substitutionVariables.entrySet()) {
-      if (result != null && entry.getValue() != null) {
-        result = result.replace(String.format("$(%s)", entry.getKey()),
-            requiresDns1123 ? LegalNames.toDns1123LegalName(entry.getValue()) : entry.getValue());
+  /** The constructor and bean properties of a model class, computed once per class. */
+  private static class ModelAccessors {
+    private static final Map<Class<?>, ModelAccessors> ACCESSORS = new ConcurrentHashMap<>();
+
+    private final Constructor<?> constructor;
+    private final List<BeanProperty> properties;
+
+    private ModelAccessors(Class<?> cls) {
+      try {
+        this.constructor = cls.getConstructor();
+        this.properties = typeBeans(cls);
+      } catch (NoSuchMethodException e) {
+        throw new RuntimeException(e);
+      }
+    }
+
+    static ModelAccessors forClass(Class<?> cls) {
+      return ACCESSORS.computeIfAbsent(cls, ModelAccessors::new);
+    }
+
+    @SuppressWarnings("unchecked")
+    <T> T createInstance(Object[] values)
+        throws InstantiationException, IllegalAccessException, InvocationTargetException {
+      T copy = (T) constructor.newInstance();
+      for (int i = 0; i < values.length; i++) {
+        properties.get(i).setter.invoke(copy, values[i]);
+      }
+      return copy;
+    }
+
+    private static List<BeanProperty> typeBeans(Class<?> cls) {
+      List<BeanProperty> results = new ArrayList<>();
+      for (Method m : cls.getMethods()) {
+        if (m.getParameterCount() == 0) {
+          String beanName = null;
+          if (m.getName().startsWith("get")) {
+            beanName = m.getName().substring(3);
+          } else if (m.getName().startsWith("is")) {
+            beanName = m.getName().substring(2);
+          }
+          if (beanName != null) {
+            try {
+              results.add(new BeanProperty(m, cls.getMethod("set" + beanName, m.getReturnType())));
+            } catch (NoSuchMethodException nsme) {
+              // no-op
+            }
+          }
+        }
       }
+      return Collections.unmodifiableList(results);
     }
-    return result;
   }
 
   protected V1ObjectMeta updateForOwnerReference(V1ObjectMeta metadata) {
@@ -0,0 +1,109 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import oracle.kubernetes.operator.TuningParameters;
+import oracle.kubernetes.operator.metrics.OperatorMetrics;
+
+/**
+ * A short-lived cache of encoded WebLogic credentials, keyed by namespace and secret name, so that reading
+ * the health of every server in a domain does not require a read of its credentials secret for each server.
+ * An entry should be invalidated whenever a server rejects the credentials, since the secret may have changed.
+ */
+public class WebLogicCredentialsCache {
+
+  static final String HIT_METRIC = "credentials.cache.hit";
+  static final String MISS_METRIC = "credentials.cache.miss";
+  private static final long DEFAULT_TTL_SECONDS = 60;
+
+  private static final Map<String, CachedCredentials> credentials = new HashMap<>();
+
+  private WebLogicCredentialsCache() {
+  }
+
+  private static long getTimeToLiveMillis() {
+    return TimeUnit.SECONDS.toMillis(Optional.ofNullable(TuningParameters.getInstance())
+          .map(TuningParameters::getMainTuning)
+          .map(main -> main.credentialsCacheSeconds)
+          .orElse(DEFAULT_TTL_SECONDS));
+  }
+
+  private static String getKey(String namespace, String secretName) {
+    return namespace + "/" + secretName;
+  }
+
+  static synchronized void clear() {
+    credentials.clear();
+  }
+
+  /**
+   * Returns the cached encoded credentials from the specified secret, if they have not expired.
+   * @param namespace the namespace of the secret
+   * @param secretName the name of the secret
+   * @return the Base64-encoded credentials, or null
+   */
+  public static String get(String namespace, String secretName) {
+    String encoded = getUnexpired(getKey(namespace, secretName));
+    OperatorMetrics.increment(encoded != null ? HIT_METRIC : MISS_METRIC);
+    return encoded;
+  }
+
+  private static synchronized String getUnexpired(String key) {
+    CachedCredentials cached = credentials.get(key);
+    if (cached != null && cached.isExpired()) {
+      credentials.remove(key);
+      return null;
+    }
+    return Optional.ofNullable(cached).map(CachedCredentials::getEncoded).orElse(null);
+  }
+
+  /**
+   * Caches encoded credentials read from the specified secret.
+   * @param namespace the namespace of the secret
+   * @param secretName the name of the secret
+   * @param encoded the Base64-encoded credentials
+   */
+  public static void put(String namespace, String secretName, String encoded) {
+    long timeToLive = getTimeToLiveMillis();
+    if (encoded != null && timeToLive > 0) {
+      replace(getKey(namespace, secretName), new CachedCredentials(encoded, timeToLive));
+    }
+  }
+
+  private static synchronized void replace(String key, CachedCredentials cached) {
+    credentials.put(key, cached);
+  }
+
+  /**
+   * Discards any cached credentials from the specified secret.
+   * @param namespace the namespace of the secret
+   * @param secretName the name of the secret
+   */
+  public static synchronized void invalidate(String namespace, String secretName) {
+    credentials.remove(getKey(namespace, secretName));
+  }
+
+  private static class CachedCredentials {
+    private final String encoded;
+    private final long expiresAt;
+
+    CachedCredentials(String encoded, long timeToLive) {
+      this.encoded = encoded;
+      this.expiresAt = System.currentTimeMillis() + timeToLive;
+    }
+
+    boolean isExpired() {
+      return System.currentTimeMillis() >= expiresAt;
+    }
+
+    String getEncoded() {
+      return encoded;
+    }
+  }
+}
@@ -8,14 +8,23 @@ import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.time.Duration;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
+import oracle.kubernetes.operator.ProcessingConstants;
+import oracle.kubernetes.operator.TuningParameters;
+import oracle.kubernetes.operator.TuningParameters.HttpTuning;
+import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.MessageKeys;
+import oracle.kubernetes.operator.metrics.OperatorMetrics;
 import oracle.kubernetes.operator.work.AsyncFiber;
+import oracle.kubernetes.operator.work.Cancellable;
 import oracle.kubernetes.operator.work.NextAction;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
@@ -30,14 +39,16 @@ public class HttpAsyncRequestStep extends Step {
   }
 
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+  static final String REQUESTS_METRIC = "http.requests";
+  static final String LATENCY_METRIC = "http.latency.millis";
+  static final String ERRORS_METRIC = "http.errors";
   private static FutureFactory DEFAULT_FACTORY = HttpAsyncRequestStep::createFuture;
 
-  private static final long DEFAULT_TIMEOUT_SECONDS = 5;
+  private static final HttpTuning DEFAULT_TUNING = new HttpTuning(5, 5, 4, 4);
 
   private static FutureFactory factory = DEFAULT_FACTORY;
   private final HttpRequest request;
-  private long timeoutSeconds = DEFAULT_TIMEOUT_SECONDS;
-  private static final HttpClient httpClient = HttpClient.newBuilder().build();
+  private long timeoutSeconds = getTuning().httpRequestTimeoutSeconds;
 
   private HttpAsyncRequestStep(HttpRequest request, HttpResponseStep responseStep) {
     super(responseStep);
@@ -86,6 +97,11 @@ public class HttpAsyncRequestStep extends Step {
   class AsyncProcessing {
     private Packet packet;
     private CompletableFuture<HttpResponse<String>> future;
+    private boolean timedOut;
+    private Cancellable timeoutCheck;
+    private TargetConcurrencyLimiter.Permit permit;
+    private long startTime;
+    private final AtomicBoolean resumed = new AtomicBoolean();
 
     AsyncProcessing(Packet packet) {
       this.packet = packet;
@@ -93,18 +109,92 @@ public class HttpAsyncRequestStep extends Step {
 
     void process(AsyncFiber fiber) {
       HttpResponseStep.removeResponse(packet);
-      future = factory.createFuture(request);
-      future.whenComplete((response, throwable) -> resume(fiber, response, throwable));
-      fiber.scheduleOnce(timeoutSeconds, TimeUnit.SECONDS, () -> checkTimeout(fiber));
+      permit = LimiterHolder.limiter.createPermit(getTargetKey(), () -> send(fiber));
+      permit.acquire();
+      Cancellable check = fiber.scheduleOnce(timeoutSeconds, TimeUnit.SECONDS, () -> checkTimeout(fiber));
+      synchronized (this) {
+        timeoutCheck = check;
+        if (future != null && future.isDone()) {
+          check.cancel();
+        }
+      }
+    }
+
+    // Called once the target will accept another request; this may be on the thread completing an earlier one.
+    // A request which timed out while waiting is never sent; its permit has already been released.
+    private void send(AsyncFiber fiber) {
+      CompletableFuture<HttpResponse<String>> sent;
+      synchronized (this) {
+        if (timedOut) {
+          return;
+        }
+        startTime = System.currentTimeMillis();
+        future = sent = factory.createFuture(request);
+      }
+      sent.whenComplete((response, throwable) -> complete(fiber, response, throwable));
+    }
+
+    // The request may complete before its timeout check has been scheduled; process() then cancels the check.
+    private void complete(AsyncFiber fiber, HttpResponse<String> response, Throwable throwable) {
+      cancelTimeoutCheck();
+      recordMetrics(response);
+      permit.release(response == null || isOverloaded(response.statusCode()));
+      resume(fiber, response, throwable);
+    }
+
+    private void recordMetrics(HttpResponse<String> response) {
+      OperatorMetrics.increment(REQUESTS_METRIC);
+      OperatorMetrics.add(LATENCY_METRIC, System.currentTimeMillis() - startTime);
+      if (response == null || response.statusCode() != HttpURLConnection.HTTP_OK) {
+        OperatorMetrics.increment(ERRORS_METRIC);
+      }
+    }
+
+    private synchronized void cancelTimeoutCheck() {
+      if (timeoutCheck != null) {
+        timeoutCheck.cancel();
+      }
+    }
+
+    private boolean isOverloaded(int statusCode) {
+      return statusCode == HttpURLConnection.HTTP_INTERNAL_ERROR || statusCode == HttpURLConnection.HTTP_UNAVAILABLE;
     }
 
+    // Requests are limited per server, rather than per address, so that the limiter forgets servers
+    // which are no longer being read.
+    private String getTargetKey() {
+      String serverName = (String) packet.get(ProcessingConstants.SERVER_NAME);
+      return DomainPresenceInfo.fromPacket(packet)
+            .filter(info -> serverName != null)
+            .map(info -> info.getNamespace() + "/" + info.getDomainUid() + "/" + serverName)
+            .orElseGet(() -> request.uri().getHost() + ":" + request.uri().getPort());
+    }
+
+    // A request which was sent is cancelled, and releases its permit as it completes;
+    // one which was still waiting for a permit gives it up immediately.
     private void checkTimeout(AsyncFiber fiber) {
-      if (!future.isDone()) {
-        resume(fiber, null, new HttpTimeoutException(request.method(), request.uri()));
+      CompletableFuture<HttpResponse<String>> sent;
+      synchronized (this) {
+        if (future != null && future.isDone()) {
+          return;
+        }
+        timedOut = true;
+        sent = future;
+      }
+
+      resume(fiber, null, new HttpTimeoutException(request.method(), request.uri()));
+      if (sent == null) {
+        permit.release(true);
+      } else {
+        sent.cancel(true);
       }
     }
 
     private void resume(AsyncFiber fiber, HttpResponse<String> response, Throwable throwable) {
+      if (!resumed.compareAndSet(false, true)) {
+        return;
+      }
+
       if (throwable != null) {
         LOGGER.fine(MessageKeys.HTTP_REQUEST_TIMED_OUT, request.method(), request.uri(), throwable);
       }
@@ -123,7 +213,34 @@ public class HttpAsyncRequestStep extends Step {
 
 
   private static CompletableFuture<HttpResponse<String>> createFuture(HttpRequest request) {
-    return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString());
+    return ClientHolder.httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString());
+  }
+
+  private static HttpTuning getTuning() {
+    return Optional.ofNullable(TuningParameters.getInstance())
+          .map(TuningParameters::getHttpTuning)
+          .orElse(DEFAULT_TUNING);
+  }
+
+  // The limiter and client are created on first use, so that the tuning parameters have been loaded.
+  private static class LimiterHolder {
+    private static final TargetConcurrencyLimiter limiter
+          = new TargetConcurrencyLimiter(getTuning().httpMaxRequestsPerTarget);
+  }
+
+  // Connections, and therefore TLS sessions, are kept alive and reused between requests to the same server.
+  private static class ClientHolder {
+    private static final HttpClient httpClient = HttpClient.newBuilder()
+          .version(HttpClient.Version.HTTP_1_1)
+          .connectTimeout(Duration.ofSeconds(getTuning().httpConnectTimeoutSeconds))
+          .executor(Executors.newFixedThreadPool(getTuning().httpClientThreads, ClientHolder::createThread))
+          .build();
+
+    private static Thread createThread(Runnable runnable) {
+      Thread thread = new Thread(runnable, "http-client");
+      thread.setDaemon(true);
+      return thread;
+    }
   }
 
   static class HttpTimeoutException extends RuntimeException {
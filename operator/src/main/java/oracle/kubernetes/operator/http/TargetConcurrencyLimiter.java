@@ -0,0 +1,161 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.http;
+
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import oracle.kubernetes.operator.metrics.OperatorMetrics;
+
+/**
+ * Limits the number of concurrent requests sent to each target server, adapting the limit to the server's behavior.
+ * Each successful response raises a target's limit by one, up to a configured maximum; each overload response
+ * (500 or 503) or timeout halves it. Requests beyond the current limit wait, in order, for an earlier request
+ * to complete, so that an overloaded server sees fewer requests rather than more retries. Targets are identified by
+ * the server they reach, rather than its address, and are forgotten once they have been idle for a while, so that
+ * servers which have been shut down, or whose domains have been deleted, do not accumulate.
+ */
+class TargetConcurrencyLimiter {
+  static final String THROTTLED_METRIC = "http.throttled";
+  private static final long DEFAULT_IDLE_MILLIS = TimeUnit.MINUTES.toMillis(5);
+
+  private final int maxConcurrency;
+  private final long idleMillis;
+  private final Map<String, Target> targets = new ConcurrentHashMap<>();
+  private final AtomicLong nextSweepTime = new AtomicLong();
+
+  TargetConcurrencyLimiter(int maxConcurrency) {
+    this(maxConcurrency, DEFAULT_IDLE_MILLIS);
+  }
+
+  TargetConcurrencyLimiter(int maxConcurrency, long idleMillis) {
+    this.maxConcurrency = Math.max(1, maxConcurrency);
+    this.idleMillis = idleMillis;
+  }
+
+  /**
+   * Creates a permit to send a request to the specified target.
+   * @param key a key identifying the target server
+   * @param action the action which sends the request
+   * @return a permit which must be released when the request completes, or if it is abandoned
+   */
+  Permit createPermit(String key, Runnable action) {
+    removeIdleTargets();
+    return new Permit(key, action);
+  }
+
+  int getLimit(String key) {
+    return getTarget(key).getLimit();
+  }
+
+  int getNumTargets() {
+    return targets.size();
+  }
+
+  private Target getTarget(String key) {
+    return targets.computeIfAbsent(key, k -> new Target());
+  }
+
+  // Sweeps the targets at most once per idle interval, so that sending a request does not usually scan them.
+  private void removeIdleTargets() {
+    long now = System.currentTimeMillis();
+    long sweepTime = nextSweepTime.get();
+    if (now >= sweepTime && nextSweepTime.compareAndSet(sweepTime, now + idleMillis)) {
+      targets.values().removeIf(target -> target.retireIfIdleSince(now - idleMillis));
+    }
+  }
+
+  class Permit {
+    private final String key;
+    private final Runnable action;
+    private final AtomicBoolean released = new AtomicBoolean();
+    private volatile Target target;
+
+    Permit(String key, Runnable action) {
+      this.key = key;
+      this.action = action;
+    }
+
+    // Runs the action as soon as the target will accept another request.
+    void acquire() {
+      do {
+        target = getTarget(key);
+      } while (!target.acquire(this));
+    }
+
+    /**
+     * Gives back this permit, recording whether the target appeared to be overloaded.
+     * Only the first call has any effect.
+     * @param overloaded true if the target returned an overload response or failed to respond in time
+     */
+    void release(boolean overloaded) {
+      if (released.compareAndSet(false, true) && target != null) {
+        target.release(this, overloaded);
+      }
+    }
+  }
+
+  private class Target {
+    private final Queue<Permit> waiters = new ArrayDeque<>();
+    private int limit = maxConcurrency;
+    private int inUse;
+    private long idleSince = System.currentTimeMillis();
+    private boolean retired;
+
+    // Returns false if this target was removed as idle before the permit could be added to it.
+    boolean acquire(Permit permit) {
+      boolean permitted;
+      synchronized (this) {
+        if (retired) {
+          return false;
+        }
+        permitted = inUse < limit;
+        if (permitted) {
+          inUse++;
+        } else {
+          waiters.add(permit);
+        }
+      }
+      if (permitted) {
+        permit.action.run();
+      } else {
+        OperatorMetrics.increment(THROTTLED_METRIC);
+      }
+      return true;
+    }
+
+    synchronized int getLimit() {
+      return limit;
+    }
+
+    synchronized boolean retireIfIdleSince(long cutoff) {
+      retired = inUse == 0 && waiters.isEmpty() && idleSince <= cutoff;
+      return retired;
+    }
+
+    // A permit which was still waiting is simply removed from the queue; one which was sending frees its slot.
+    void release(Permit permit, boolean overloaded) {
+      Queue<Permit> ready = new ArrayDeque<>();
+      synchronized (this) {
+        if (!waiters.remove(permit)) {
+          inUse--;
+          limit = overloaded ? Math.max(1, limit / 2) : Math.min(maxConcurrency, limit + 1);
+        }
+        while (inUse < limit && !waiters.isEmpty()) {
+          inUse++;
+          ready.add(waiters.poll());
+        }
+        if (inUse == 0) {
+          idleSince = System.currentTimeMillis();
+        }
+      }
+      ready.forEach(p -> p.action.run());
+    }
+  }
+}
@@ -133,6 +133,9 @@ public class MessageKeys {
   public static final String INTROSPECTOR_JOB_FAILED = "WLSKO-0175";
   public static final String INTROSPECTOR_JOB_FAILED_DETAIL = "WLSKO-0176";
   public static final String INTROSPECTOR_POD_FAILED = "WLSKO-0177";
+  public static final String INTROSPECTION_RESULT_REUSED = "WLSKO-0178";
+  public static final String WATCH_EVENTS_OVERFLOWED = "WLSKO-0179";
+  public static final String MAKE_RIGHT_COMPLETED = "WLSKO-0180";
 
   // domain status messages
   public static final String DUPLICATE_SERVER_NAME_FOUND = "WLSDO-0001";
@@ -0,0 +1,104 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.metrics;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * A registry of named counters and gauges maintained by the operator. Counters are cheap to update from
+ * any thread; gauges are evaluated only when a snapshot is requested.
+ */
+public class OperatorMetrics {
+  private static final Map<String, LongAdder> counters = new ConcurrentHashMap<>();
+  private static final Map<String, Supplier<? extends Number>> gauges = new ConcurrentHashMap<>();
+  private static final long[] TIMING_BUCKETS_MILLIS = {1, 10, 100, 1000, 10000, 60000};
+
+  private OperatorMetrics() {
+  }
+
+  /**
+   * Increments the named counter by one, creating it if needed.
+   * @param name the name of the counter
+   */
+  public static void increment(String name) {
+    add(name, 1);
+  }
+
+  /**
+   * Adds the specified amount to the named counter, creating it if needed.
+   * @param name the name of the counter
+   * @param delta the amount to add
+   */
+  public static void add(String name, long delta) {
+    counters.computeIfAbsent(name, k -> new LongAdder()).add(delta);
+  }
+
+  /**
+   * Records a duration in the named histogram. The histogram is kept as counters: name.count and name.sum
+   * hold the number and total of the durations, and name.le.N the number of durations of at most N millis.
+   * @param name the name of the histogram
+   * @param millis the duration to record, in milliseconds
+   */
+  public static void recordTiming(String name, long millis) {
+    increment(name + ".count");
+    add(name + ".sum", millis);
+    for (long bound : TIMING_BUCKETS_MILLIS) {
+      if (millis <= bound) {
+        increment(name + ".le." + bound);
+      }
+    }
+  }
+
+  /**
+   * Returns the current value of the named counter.
+   * @param name the name of the counter
+   * @return the counter value, or zero if it was never updated
+   */
+  public static long getCount(String name) {
+    LongAdder counter = counters.get(name);
+    return counter == null ? 0 : counter.sum();
+  }
+
+  /**
+   * Returns the ratio of one counter to the sum of it and another.
+   * @param name the name of the counter to report
+   * @param otherName the name of the complementary counter
+   * @return a value between 0 and 1, or zero if neither counter has been updated
+   */
+  public static double getRatio(String name, String otherName) {
+    long count = getCount(name);
+    long total = count + getCount(otherName);
+    return total == 0 ? 0.0 : (double) count / total;
+  }
+
+  /**
+   * Registers a gauge, replacing any existing gauge with the same name.
+   * @param name the name of the gauge
+   * @param gauge a function to compute the gauge's current value
+   */
+  public static void registerGauge(String name, Supplier<? extends Number> gauge) {
+    gauges.put(name, gauge);
+  }
+
+  public static void unregisterGauge(String name) {
+    gauges.remove(name);
+  }
+
+  /**
+   * Returns the current values of all counters and gauges, sorted by name.
+   * @return an unmodifiable map of metric names to values
+   */
+  public static SortedMap<String, Number> snapshot() {
+    SortedMap<String, Number> result = new TreeMap<>();
+    counters.forEach((name, counter) -> result.put(name, counter.sum()));
+    gauges.forEach((name, gauge) -> result.put(name, gauge.get()));
+    return Collections.unmodifiableSortedMap(result);
+  }
+}
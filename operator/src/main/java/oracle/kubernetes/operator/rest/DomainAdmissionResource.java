@@ -0,0 +1,125 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.rest;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import javax.ws.rs.Consumes;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.weblogic.domain.model.Domain;
+
+import static java.lang.System.lineSeparator;
+
+/**
+ * DomainAdmissionResource is a jaxrs resource that implements a validating admission webhook for
+ * domain resources. It rejects a domain whose specification is invalid before it is stored, rather
+ * than leaving the operator to report the failure in the domain status. Checks which depend on other
+ * Kubernetes resources, such as secrets, are still made when the domain is processed, since those
+ * resources may legitimately be created after the domain. Every review validates the specification in full:
+ * a domain which passes may still not be stored, so the result is never recorded for later make-rights.
+ */
+@Path("admission")
+public class DomainAdmissionResource {
+
+  static final String DEFAULT_API_VERSION = "admission.k8s.io/v1";
+  static final String KIND = "AdmissionReview";
+  static final int INVALID_STATUS = 422;
+
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+
+  /**
+   * Reviews a request to create or update a domain.
+   *
+   * @param body an AdmissionReview, as JSON
+   * @return an AdmissionReview containing the response, as JSON
+   */
+  @POST
+  @Consumes(MediaType.APPLICATION_JSON)
+  @Produces(MediaType.APPLICATION_JSON)
+  public String review(String body) {
+    LOGGER.entering();
+    Gson gson = LoggingFactory.getJson().getGson();
+    JsonObject review;
+    try {
+      review = gson.fromJson(body, JsonObject.class);
+    } catch (JsonParseException e) {
+      review = null;
+    }
+
+    JsonObject request = getObject(review, "request");
+    String result = gson.toJson(createReview(getApiVersion(review), getUid(request), validate(gson, request)));
+    LOGGER.exiting(result);
+    return result;
+  }
+
+  private List<String> validate(Gson gson, JsonObject request) {
+    if (request == null) {
+      return Collections.singletonList("Admission review has no request");
+    }
+
+    try {
+      return Optional.ofNullable(getObject(request, "object"))
+          .map(o -> gson.fromJson(o, Domain.class))
+          .map(Domain::getSpecValidationFailures)
+          .orElse(Collections.emptyList());
+    } catch (JsonParseException e) {
+      return Collections.singletonList("Unable to parse domain: " + e.getMessage());
+    }
+  }
+
+  private JsonObject createReview(String apiVersion, String uid, List<String> failures) {
+    JsonObject response = new JsonObject();
+    response.addProperty("uid", uid);
+    response.addProperty("allowed", failures.isEmpty());
+    if (!failures.isEmpty()) {
+      JsonObject status = new JsonObject();
+      status.addProperty("code", INVALID_STATUS);
+      status.addProperty("message", String.join(lineSeparator(), failures));
+      response.add("status", status);
+    }
+
+    JsonObject review = new JsonObject();
+    review.addProperty("apiVersion", apiVersion);
+    review.addProperty("kind", KIND);
+    review.add("response", response);
+    return review;
+  }
+
+  private String getApiVersion(JsonObject review) {
+    return Optional.ofNullable(getString(review, "apiVersion")).orElse(DEFAULT_API_VERSION);
+  }
+
+  private String getUid(JsonObject request) {
+    return getString(request, "uid");
+  }
+
+  private static JsonObject getObject(JsonObject object, String name) {
+    return Optional.ofNullable(getElement(object, name))
+        .filter(JsonElement::isJsonObject)
+        .map(JsonElement::getAsJsonObject)
+        .orElse(null);
+  }
+
+  private static String getString(JsonObject object, String name) {
+    return Optional.ofNullable(getElement(object, name))
+        .filter(JsonElement::isJsonPrimitive)
+        .map(JsonElement::getAsString)
+        .orElse(null);
+  }
+
+  private static JsonElement getElement(JsonObject object, String name) {
+    return Optional.ofNullable(object).map(o -> o.get(name)).orElse(null);
+  }
+}
@@ -38,6 +38,13 @@ public interface RestConfig {
    */
   int getInternalHttpsPort();
 
+  /**
+   * Gets the admission webhook https port's in-pod port number.
+   *
+   * @return the port number
+   */
+  int getWebhookHttpsPort();
+
   /**
    * Gets the external https port's certificate.
    *
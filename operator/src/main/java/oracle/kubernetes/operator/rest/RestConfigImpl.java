@@ -47,6 +47,11 @@ public class RestConfigImpl implements RestConfig {
     return 8082;
   }
 
+  @Override
+  public int getWebhookHttpsPort() {
+    return 8084;
+  }
+
   @Override
   public String getOperatorExternalCertificateData() {
     return Certificates.getOperatorExternalCertificateData();
@@ -43,6 +43,8 @@ import org.glassfish.jersey.server.filter.CsrfProtectionFilter;
  *       its SSL certificate contains the external hostnames for contacting this port.
  *   <li>internal https port - this port can only be used inside of a Kubernetes cluster since its
  *       SSL certificate contains the the in-cluster hostnames for contacting this port.
+ *   <li>webhook https port - this port receives admission reviews of domain resources from the
+ *       Kubernetes API server. It uses the internal SSL certificate.
  * </ul>
  */
 public class RestServer {
@@ -57,8 +59,10 @@ public class RestServer {
   // private String baseHttpUri;
   private final String baseExternalHttpsUri;
   private final String baseInternalHttpsUri;
+  private final String baseWebhookHttpsUri;
   private HttpServer externalHttpsServer;
   private HttpServer internalHttpsServer;
+  private HttpServer webhookHttpsServer;
 
   /**
    * Constructs the WebLogic Operator REST server.
@@ -72,6 +76,7 @@ public class RestServer {
     this.config = config;
     baseExternalHttpsUri = "https://" + config.getHost() + ":" + config.getExternalHttpsPort();
     baseInternalHttpsUri = "https://" + config.getHost() + ":" + config.getInternalHttpsPort();
+    baseWebhookHttpsUri = "https://" + config.getHost() + ":" + config.getWebhookHttpsPort();
     LOGGER.exiting();
   }
 
@@ -144,6 +149,20 @@ public class RestServer {
     return rc;
   }
 
+  /**
+   * Defines a resource configuration for the admission webhook. The Kubernetes API server sends neither
+   * a bearer token nor a CSRF header with admission reviews, so the filters of the REST api are not used.
+   *
+   * @return a resource configuration
+   */
+  static ResourceConfig createWebhookResourceConfig() {
+    return new ResourceConfig()
+        .register(JacksonFeature.class)
+        .register(RequestDebugLoggingFilter.class)
+        .register(ResponseDebugLoggingFilter.class)
+        .register(DomainAdmissionResource.class);
+  }
+
   private ResourceConfig createResourceConfig() {
     LOGGER.entering();
 
@@ -178,6 +197,15 @@ public class RestServer {
     return baseInternalHttpsUri;
   }
 
+  /**
+   * Returns the in-pod URI of the admission webhook https port.
+   *
+   * @return the uri
+   */
+  String getWebhookHttpsUri() {
+    return baseWebhookHttpsUri;
+  }
+
   /**
    * Starts WebLogic operator's REST api.
    *
@@ -191,7 +219,7 @@ public class RestServer {
    */
   public void start(Container container) throws Exception {
     LOGGER.entering();
-    if (externalHttpsServer != null || internalHttpsServer != null) {
+    if (externalHttpsServer != null || internalHttpsServer != null || webhookHttpsServer != null) {
       throw new AssertionError("Already started");
     }
     boolean fullyStarted = false;
@@ -218,6 +246,14 @@ public class RestServer {
             "Did not start the internal ssl REST server because internal ssl has not been configured.");
       }
 
+      if (isInternalSslConfigured()) {
+        webhookHttpsServer = createWebhookHttpsServer(container);
+        LOGGER.info("Started the domain admission webhook on " + getWebhookHttpsUri() + "/admission");
+      } else {
+        LOGGER.fine(
+            "Did not start the domain admission webhook because internal ssl has not been configured.");
+      }
+
       fullyStarted = true;
     } finally {
       if (!fullyStarted) {
@@ -247,6 +283,11 @@ public class RestServer {
       internalHttpsServer = null;
       LOGGER.fine("Stopped the internal ssl REST server");
     }
+    if (webhookHttpsServer != null) {
+      webhookHttpsServer.shutdownNow();
+      webhookHttpsServer = null;
+      LOGGER.fine("Stopped the domain admission webhook");
+    }
     LOGGER.exiting();
   }
 
@@ -261,7 +302,8 @@ public class RestServer {
                     config.getOperatorExternalCertificateFile(),
                     config.getOperatorExternalKeyData(),
                     config.getOperatorExternalKeyFile())),
-            getExternalHttpsUri());
+            getExternalHttpsUri(),
+            createResourceConfig());
     LOGGER.exiting();
     return result;
   }
@@ -270,24 +312,36 @@ public class RestServer {
     LOGGER.entering();
     HttpServer result =
         createHttpsServer(
-            container,
-            createSslContext(
-                createKeyManagers(
-                    config.getOperatorInternalCertificateData(),
-                    config.getOperatorInternalCertificateFile(),
-                    config.getOperatorInternalKeyData(),
-                    config.getOperatorInternalKeyFile())),
-            getInternalHttpsUri());
+            container, createInternalSslContext(), getInternalHttpsUri(), createResourceConfig());
     LOGGER.exiting();
     return result;
   }
 
-  private HttpServer createHttpsServer(Container container, SSLContext ssl, String uri)
+  private HttpServer createWebhookHttpsServer(Container container) throws Exception {
+    LOGGER.entering();
+    HttpServer result =
+        createHttpsServer(
+            container, createInternalSslContext(), getWebhookHttpsUri(), createWebhookResourceConfig());
+    LOGGER.exiting();
+    return result;
+  }
+
+  private SSLContext createInternalSslContext() throws Exception {
+    return createSslContext(
+        createKeyManagers(
+            config.getOperatorInternalCertificateData(),
+            config.getOperatorInternalCertificateFile(),
+            config.getOperatorInternalKeyData(),
+            config.getOperatorInternalKeyFile()));
+  }
+
+  private HttpServer createHttpsServer(
+      Container container, SSLContext ssl, String uri, ResourceConfig resourceConfig)
       throws Exception {
     HttpServer h =
         GrizzlyHttpServerFactory.createHttpServer(
             URI.create(uri),
-            createResourceConfig(),
+            resourceConfig,
             true, // used for call
             // org.glassfish.jersey.grizzly2.httpserver.NetworkListener#setSecure(boolean)}.
             new SSLEngineConfigurator(ssl)
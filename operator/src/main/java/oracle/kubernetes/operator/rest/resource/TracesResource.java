@@ -0,0 +1,47 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.rest.resource;
+
+import java.util.List;
+import java.util.Map;
+import javax.ws.rs.GET;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.work.FiberTracer;
+
+/**
+ * TracesResource is a jaxrs resource that implements the REST api for the /operator/{version}/traces
+ * path. It can be used to debug the operator by getting the spans recorded for a sample of its fibers.
+ */
+public class TracesResource extends BaseResource {
+
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+
+  /**
+   * Construct a TracesResource.
+   *
+   * @param parent - the jaxrs resource that parents this resource.
+   * @param pathSegment - the last path segment in the url to this resource.
+   */
+  public TracesResource(BaseResource parent, String pathSegment) {
+    super(parent, pathSegment);
+  }
+
+  /**
+   * Get the spans of the most recently sampled fibers, in the Zipkin v2 JSON format.
+   *
+   * @return a list of spans.
+   */
+  @GET
+  @Produces(MediaType.APPLICATION_JSON)
+  public List<Map<String, Object>> get() {
+    LOGGER.entering(href());
+    List<Map<String, Object>> result = FiberTracer.getInstance().exportSpans();
+    LOGGER.exiting(result.size());
+    return result;
+  }
+}
@@ -80,6 +80,32 @@ public class VersionResource extends BaseResource {
     return result;
   }
 
+  /**
+   * Construct and return the 'traces' jaxrs child resource.
+   *
+   * @return the traces sub resource.
+   */
+  @Path("traces")
+  public TracesResource getTracesResource() {
+    LOGGER.entering(href());
+    TracesResource result = new TracesResource(this, "traces");
+    LOGGER.exiting(result);
+    return result;
+  }
+
+  /**
+   * Construct and return the 'metrics' jaxrs child resource.
+   *
+   * @return the metrics sub resource.
+   */
+  @Path("metrics")
+  public MetricsResource getMetricsResource() {
+    LOGGER.entering(href());
+    MetricsResource result = new MetricsResource(this, "metrics");
+    LOGGER.exiting(result);
+    return result;
+  }
+
   private String getVersion() {
     return getPathSegment();
   }
@@ -6,7 +6,7 @@ package oracle.kubernetes.operator.steps;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Queue;
@@ -29,7 +29,9 @@ import oracle.kubernetes.operator.work.Step;
 import oracle.kubernetes.weblogic.domain.model.Domain;
 
 /**
- * A step which will bring up the specified managed servers in parallel.
+ * A step which will bring up the specified managed servers in parallel. Clustered servers are scheduled ahead of
+ * non-clustered ones, and each server is subject both to the maximum concurrent startup setting for its cluster
+ * and to the domain-wide limit from the tuning parameter "maxConcurrentServerStartup", if any.
  * Adds to packet:
  *    SERVERS_TO_ROLL    a collection of servers to be rolled, updated in parallel by the server-up steps.
  * and for each server:
@@ -56,11 +58,12 @@ public class ManagedServerUpIteratorStep extends Step {
   // "serverScan"
   // "clusterScan"
   // "envVars"
-  private static Step bringManagedServerUp(ServerStartupInfo ssi) {
+  private static Step bringManagedServerUp(ServerStartupInfo ssi, StartupWindow window) {
     return ssi.isServiceOnly()
         ? ServiceHelper.createForServerStep(
             true, new ServerDownStep(ssi.getServerName(), true, null))
-        : ServiceHelper.createForServerStep(PodHelper.createManagedPodStep(null));
+        : ServiceHelper.createForServerStep(
+            window.createGatedStep(PodHelper.createManagedPodStep(window.createReleaseStep(null))));
   }
 
   @Override
@@ -84,14 +87,16 @@ public class ManagedServerUpIteratorStep extends Step {
     }
 
     packet.put(ProcessingConstants.SERVERS_TO_ROLL, new ConcurrentHashMap<String, StepAndPacket>());
-    Collection<StepAndPacket> startDetails =
-        startupInfos.stream()
-            .filter(ssi -> !isServerInCluster(ssi))
-            .map(ssi -> createManagedServerUpDetails(packet, ssi)).collect(Collectors.toList());
-
-    getStartClusteredServersStepFactories(startupInfos, packet).values()
+    StartupWindow window = StartupWindow.getInstance();
+    Collection<StepAndPacket> startDetails = new ArrayList<>();
+    getStartClusteredServersStepFactories(startupInfos, packet, window).values()
         .forEach(factory -> startDetails.addAll(factory.getServerStartsStepAndPackets()));
 
+    startupInfos.stream()
+        .filter(ssi -> !isServerInCluster(ssi))
+        .map(ssi -> createManagedServerUpDetails(packet, ssi, window))
+        .forEach(startDetails::add);
+
     return doNext(
         NEXT_STEP_FACTORY.createStatusUpdateStep(new StartManagedServersStep(startDetails, getNext())),
         packet);
@@ -106,8 +111,8 @@ public class ManagedServerUpIteratorStep extends Step {
     return startupInfos.stream().map(ServerStartupInfo::getName).collect(Collectors.toList());
   }
 
-  private StepAndPacket createManagedServerUpDetails(Packet packet, ServerStartupInfo ssi) {
-    return new StepAndPacket(bringManagedServerUp(ssi), createPacketForServer(packet, ssi));
+  private StepAndPacket createManagedServerUpDetails(Packet packet, ServerStartupInfo ssi, StartupWindow window) {
+    return new StepAndPacket(bringManagedServerUp(ssi, window), createPacketForServer(packet, ssi));
   }
 
   private Packet createPacketForServer(Packet packet, ServerStartupInfo ssi) {
@@ -121,17 +126,18 @@ public class ManagedServerUpIteratorStep extends Step {
 
   private Map<String, StartClusteredServersStepFactory> getStartClusteredServersStepFactories(
       Collection<ServerStartupInfo> startupInfos,
-      Packet packet) {
+      Packet packet,
+      StartupWindow window) {
     DomainPresenceInfo info = packet.getSpi(DomainPresenceInfo.class);
     Domain domain = info.getDomain();
 
-    Map<String, StartClusteredServersStepFactory> factories = new HashMap<>();
+    Map<String, StartClusteredServersStepFactory> factories = new LinkedHashMap<>();
     startupInfos.stream()
         .filter(this::isServerInCluster)
         .forEach(ssi ->
             factories.computeIfAbsent(ssi.getClusterName(),
                 k -> new StartClusteredServersStepFactory(getMaxConcurrentStartup(domain, ssi)))
-                .add(createManagedServerUpDetails(packet, ssi)));
+                .add(createManagedServerUpDetails(packet, ssi, window)));
 
     return factories;
   }
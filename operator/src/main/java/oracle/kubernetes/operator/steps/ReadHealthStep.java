@@ -15,6 +15,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import com.fasterxml.jackson.databind.JsonNode;
@@ -27,10 +28,13 @@ import io.kubernetes.client.openapi.models.V1ServicePort;
 import io.kubernetes.client.openapi.models.V1ServiceSpec;
 import oracle.kubernetes.operator.Pair;
 import oracle.kubernetes.operator.ProcessingConstants;
+import oracle.kubernetes.operator.TuningParameters;
 import oracle.kubernetes.operator.WebLogicConstants;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
+import oracle.kubernetes.operator.helpers.PodHelper;
 import oracle.kubernetes.operator.helpers.SecretHelper;
 import oracle.kubernetes.operator.helpers.SecretType;
+import oracle.kubernetes.operator.helpers.WebLogicCredentialsCache;
 import oracle.kubernetes.operator.http.HttpAsyncRequestStep;
 import oracle.kubernetes.operator.http.HttpResponseStep;
 import oracle.kubernetes.operator.logging.LoggingFacade;
@@ -52,6 +56,7 @@ import org.joda.time.DateTime;
 
 import static oracle.kubernetes.operator.LabelConstants.CLUSTERNAME_LABEL;
 import static oracle.kubernetes.operator.ProcessingConstants.REMAINING_SERVERS_HEALTH_TO_READ;
+import static oracle.kubernetes.operator.ProcessingConstants.SERVERS_HEALTH_READ_FROM_ADMIN;
 import static oracle.kubernetes.operator.ProcessingConstants.SERVER_STATE_MAP;
 
 public class ReadHealthStep extends Step {
@@ -63,6 +68,7 @@ public class ReadHealthStep extends Step {
       OVERALL_HEALTH_NOT_AVAILABLE + " (possibly overloaded)";
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
   private static final Integer HTTP_TIMEOUT_SECONDS = 60;
+  private static final int HTTP_UNAUTHORIZED = 401;
 
   private ReadHealthStep(Step next) {
     super(next);
@@ -78,6 +84,18 @@ public class ReadHealthStep extends Step {
     return new ReadHealthStep(next);
   }
 
+  /**
+   * Creates asynchronous {@link Step} to read the state and health of all running servers in a domain with a single
+   * query to its admin server. The servers whose health is read are recorded in the packet, so that their
+   * individual health reads may be skipped. If the admin server is not available, no health is read.
+   *
+   * @param next Next processing step
+   * @return asynchronous step
+   */
+  public static Step createReadDomainHealthStep(Step next) {
+    return new ReadDomainHealthStep(next);
+  }
+
   private static String getRetrieveHealthSearchPath() {
     return "/management/weblogic/latest/serverRuntime/search";
   }
@@ -86,6 +104,15 @@ public class ReadHealthStep extends Step {
     return "{ fields: [ 'state', 'overallHealthState', 'activationTime' ], links: [] }";
   }
 
+  private static String getRetrieveDomainHealthSearchPath() {
+    return "/management/weblogic/latest/domainRuntime/search";
+  }
+
+  private static String getRetrieveDomainHealthSearchPayload() {
+    return "{ fields: [], links: [], children: { serverRuntimes: "
+        + "{ fields: [ 'name', 'state', 'overallHealthState', 'activationTime' ], links: [] } } }";
+  }
+
   // overallHealthState, healthState
 
   @Override
@@ -103,22 +130,84 @@ public class ReadHealthStep extends Step {
     V1Service service = info.getServerService(serverName);
     V1Pod pod = info.getServerPod(serverName);
     if (service != null) {
-      Step getSecretReadHealthAndProcessResponse =
-          SecretHelper.getSecretData(
-              SecretType.WebLogicCredentials,
-              secretName,
-              namespace,
-              new WithSecretDataStep(
-                  new ReadHealthWithHttpStep(service, pod, getNext())));
-      return doNext(getSecretReadHealthAndProcessResponse, packet);
+      return doNext(
+          createCredentialsStep(packet, namespace, secretName, new ReadHealthWithHttpStep(service, pod, getNext())),
+          packet);
     }
     return doNext(packet);
   }
 
+  // Uses cached credentials if possible, reading the credentials secret only if necessary.
+  private static Step createCredentialsStep(Packet packet, String namespace, String secretName, Step next) {
+    String encodedCredentials = WebLogicCredentialsCache.get(namespace, secretName);
+    if (encodedCredentials != null) {
+      packet.put(ProcessingConstants.ENCODED_CREDENTIALS, encodedCredentials);
+      return next;
+    }
+
+    return SecretHelper.getSecretData(
+        SecretType.WebLogicCredentials,
+        secretName,
+        namespace,
+        new WithSecretDataStep(namespace, secretName, next));
+  }
+
+  private static class ReadDomainHealthStep extends Step {
+
+    ReadDomainHealthStep(Step next) {
+      super(next);
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      DomainPresenceInfo info = packet.getSpi(DomainPresenceInfo.class);
+      String adminServerName = getAdminServerName(packet, info);
+      if (!isDomainHealthReadEnabled() || adminServerName == null) {
+        return doNext(packet);
+      }
+
+      V1Service service = info.getServerService(adminServerName);
+      V1Pod pod = info.getServerPod(adminServerName);
+      if (service == null || pod == null || !PodHelper.getReadyStatus(pod)) {
+        return doNext(packet);
+      }
+
+      Domain dom = info.getDomain();
+      return doNext(
+          createCredentialsStep(packet, info.getNamespace(), dom.getWebLogicCredentialsSecretName(),
+              new ReadDomainHealthWithHttpStep(adminServerName, service, pod, getNext())),
+          packet);
+    }
+
+    private boolean isDomainHealthReadEnabled() {
+      return Optional.ofNullable(TuningParameters.getInstance())
+            .map(TuningParameters::getMainTuning)
+            .map(main -> main.readHealthFromAdminServer)
+            .orElse(true);
+    }
+
+    private String getAdminServerName(Packet packet, DomainPresenceInfo info) {
+      return Optional.ofNullable((WlsDomainConfig) packet.get(ProcessingConstants.DOMAIN_TOPOLOGY))
+            .or(() -> getScannedDomainConfig(info))
+            .map(WlsDomainConfig::getAdminServerName)
+            .orElse(null);
+    }
+
+    private Optional<WlsDomainConfig> getScannedDomainConfig(DomainPresenceInfo info) {
+      return Optional.ofNullable(info.getDomainUid())
+            .map(uid -> ScanCache.INSTANCE.lookupScan(info.getNamespace(), uid))
+            .map(Scan::getWlsDomainConfig);
+    }
+  }
+
   private static class WithSecretDataStep extends Step {
+    private final String namespace;
+    private final String secretName;
 
-    WithSecretDataStep(Step next) {
+    WithSecretDataStep(String namespace, String secretName, Step next) {
       super(next);
+      this.namespace = namespace;
+      this.secretName = secretName;
     }
 
     @Override
@@ -129,7 +218,9 @@ public class ReadHealthStep extends Step {
       if (secretData != null) {
         byte[] username = secretData.get(SecretHelper.ADMIN_SERVER_CREDENTIALS_USERNAME);
         byte[] password = secretData.get(SecretHelper.ADMIN_SERVER_CREDENTIALS_PASSWORD);
-        packet.put(ProcessingConstants.ENCODED_CREDENTIALS, createEncodedCredentials(username, password));
+        String encodedCredentials = createEncodedCredentials(username, password);
+        packet.put(ProcessingConstants.ENCODED_CREDENTIALS, encodedCredentials);
+        WebLogicCredentialsCache.put(namespace, secretName, encodedCredentials);
 
         clearCredential(username);
         clearCredential(password);
@@ -170,11 +261,17 @@ public class ReadHealthStep extends Step {
 
   static final class ReadHealthProcessing {
     private Packet packet;
+    private String serverName;
     private V1Service service;
     private V1Pod pod;
 
     ReadHealthProcessing(Packet packet, V1Service service, V1Pod pod) {
+      this(packet, (String) packet.get(ProcessingConstants.SERVER_NAME), service, pod);
+    }
+
+    ReadHealthProcessing(Packet packet, String serverName, V1Service service, V1Pod pod) {
       this.packet = packet;
+      this.serverName = serverName;
       this.service = service;
       this.pod = pod;
     }
@@ -184,13 +281,17 @@ public class ReadHealthStep extends Step {
     }
 
     private HttpRequest createRequest(String url) {
+      return createRequest(url, getRetrieveHealthSearchPayload());
+    }
+
+    private HttpRequest createRequest(String url, String payload) {
       return HttpRequest.newBuilder()
           .uri(URI.create(url))
           .header("Authorization", "Basic " + getEncodedCredentials())
           .header("Accept", "application/json")
           .header("Content-Type", "application/json")
           .header("X-Requested-By", "WebLogic Operator")
-          .POST(HttpRequest.BodyPublishers.ofString(getRetrieveHealthSearchPayload()))
+          .POST(HttpRequest.BodyPublishers.ofString(payload))
           .build();
     }
 
@@ -274,7 +375,7 @@ public class ReadHealthStep extends Step {
     }
 
     private String getServerName() {
-      return (String) getPacket().get(ProcessingConstants.SERVER_NAME);
+      return serverName;
     }
 
     private WlsDomainConfig getWlsDomainConfig() {
@@ -335,6 +436,89 @@ public class ReadHealthStep extends Step {
 
   }
 
+  /**
+   * Step to query the admin server for the state and health of all running servers in the domain.
+   */
+  static final class ReadDomainHealthWithHttpStep extends Step {
+    private final String adminServerName;
+    private final V1Service service;
+    private final V1Pod pod;
+
+    ReadDomainHealthWithHttpStep(String adminServerName, V1Service service, V1Pod pod, Step next) {
+      super(next);
+      this.adminServerName = adminServerName;
+      this.service = service;
+      this.pod = pod;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      ReadHealthProcessing processing = new ReadHealthProcessing(packet, adminServerName, service, pod);
+      HttpRequest request = processing.createRequest(
+            processing.getServiceUrl() + getRetrieveDomainHealthSearchPath(), getRetrieveDomainHealthSearchPayload());
+      return doNext(HttpAsyncRequestStep.create(request, new RecordDomainHealthStep(getNext()))
+            .withTimeoutSeconds(HTTP_TIMEOUT_SECONDS), packet);
+    }
+  }
+
+  /**
+   * {@link Step} for processing the response from a domain-wide health query. The state and health of each server
+   * in the response is recorded; any other server's health will be read from the server itself.
+   * Packet values used:
+   *  SERVER_STATE_MAP                  a map of server names to state
+   *  SERVER_HEALTH_MAP                 a map of server names to health
+   *  SERVERS_HEALTH_READ_FROM_ADMIN    a set of the names of servers whose health was read
+   */
+  static final class RecordDomainHealthStep extends HttpResponseStep {
+
+    RecordDomainHealthStep(Step next) {
+      super(next);
+    }
+
+    @Override
+    public NextAction onSuccess(Packet packet, HttpResponse<String> response) {
+      try {
+        JsonNode items = new ObjectMapper().readTree(response.body()).path("serverRuntimes").path("items");
+        for (JsonNode item : items) {
+          Optional.ofNullable(item.path("name").textValue())
+                .ifPresent(name -> recordStateAndHealth(packet, name, RecordHealthStep.parseServerHealth(item)));
+        }
+      } catch (Throwable t) {
+        LOGGER.fine(MessageKeys.EXCEPTION, t);
+      }
+      return doNext(packet);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void recordStateAndHealth(Packet packet, String serverName, Pair<String, ServerHealth> stateAndHealth) {
+      String state = Strings.emptyToNull(stateAndHealth.getLeft());
+      if (state != null) {
+        packet.getSpi(DomainPresenceInfo.class).updateLastKnownServerStatus(serverName, state);
+        ((Map<String, String>) packet.get(SERVER_STATE_MAP)).put(serverName, state);
+        ((Map<String, ServerHealth>) packet.get(ProcessingConstants.SERVER_HEALTH_MAP))
+              .put(serverName, stateAndHealth.getRight());
+        Optional.ofNullable((Set<String>) packet.get(SERVERS_HEALTH_READ_FROM_ADMIN)).ifPresent(s -> s.add(serverName));
+      }
+    }
+
+    // Any server whose health was not read will be queried individually.
+    @Override
+    public NextAction onFailure(Packet packet, HttpResponse<String> response) {
+      if (response.statusCode() == HTTP_UNAUTHORIZED) {
+        invalidateCredentials(packet);
+      }
+      return doNext(packet);
+    }
+  }
+
+  // The credentials secret may have changed since the credentials were cached.
+  private static void invalidateCredentials(Packet packet) {
+    Optional.ofNullable(packet.getSpi(DomainPresenceInfo.class))
+          .map(DomainPresenceInfo::getDomain)
+          .ifPresent(d -> WebLogicCredentialsCache.invalidate(
+                d.getNamespace(), d.getWebLogicCredentialsSecretName()));
+  }
+
   /**
    * {@link Step} for processing json result object containing the response from the REST call.
    * Packet values used:
@@ -366,6 +550,9 @@ public class ReadHealthStep extends Step {
 
     @Override
     public NextAction onFailure(Packet packet, HttpResponse<String> response) {
+      if (response.statusCode() == HTTP_UNAUTHORIZED) {
+        invalidateCredentials(packet);
+      }
       try {
         new HealthResponseProcessing(packet, response).recordFailedStateAndHealth();
       } catch (IOException e) {
@@ -457,8 +644,10 @@ public class ReadHealthStep extends Step {
       }
 
       ObjectMapper mapper = new ObjectMapper();
-      JsonNode root = mapper.readTree(jsonResult);
+      return parseServerHealth(mapper.readTree(jsonResult));
+    }
 
+    private static Pair<String, ServerHealth> parseServerHealth(JsonNode root) {
       JsonNode healthState = null;
       JsonNode subsystemName = null;
       JsonNode symptoms = null;
@@ -492,9 +681,7 @@ public class ReadHealthStep extends Step {
               .withActivationTime(
                   activationTime != null ? new DateTime(activationTime.asLong()) : null);
       if (subName != null) {
-        health
-            .getSubsystems()
-            .add(new SubsystemHealth().withSubsystemName(subName).withSymptoms(sym));
+        health.addSubsystem(new SubsystemHealth().withSubsystemName(subName).withSymptoms(sym));
       }
 
       JsonNode state = root.path("state");
@@ -0,0 +1,224 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.steps;
+
+import java.util.ArrayDeque;
+import java.util.Optional;
+import java.util.Queue;
+
+import oracle.kubernetes.operator.ProcessingConstants;
+import oracle.kubernetes.operator.TuningParameters;
+import oracle.kubernetes.operator.metrics.OperatorMetrics;
+import oracle.kubernetes.operator.work.AsyncFiber;
+import oracle.kubernetes.operator.work.Fiber;
+import oracle.kubernetes.operator.work.NextAction;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.Step;
+
+/**
+ * Limits the number of managed servers which may be starting at one time across all of the domains managed by
+ * the operator, so that starting several large domains together does not flood the cluster with new pods. A server
+ * holds a slot in the window from just before its pod is created until the pod is ready, or until the steps which
+ * start it end in any other way. Fibers waiting for a slot are suspended rather than holding a thread, and are resumed
+ * in the order in which they asked; waiters which have been cancelled in the meantime are skipped.
+ */
+class StartupWindow {
+  static final String SLOT_WAIT_METRIC = "serverStartup.slotWait.millis";
+  static final String POD_START_METRIC = "serverStartup.podStart.millis";
+  static final String STARTED_METRIC = "serverStartup.started";
+
+  private static final String SLOT_ACQUIRED_TIME = "startupSlotAcquiredTime";
+
+  private static StartupWindow instance;
+
+  private final int maxConcurrency;
+  private final Queue<Waiter> waiters = new ArrayDeque<>();
+  private int inUse;
+
+  StartupWindow(int maxConcurrency) {
+    this.maxConcurrency = maxConcurrency;
+  }
+
+  /**
+   * Returns the operator-wide window, using the limit from the tuning parameters. A limit of zero means that
+   * startup is constrained only by the per-cluster settings.
+   * @return the shared window
+   */
+  static synchronized StartupWindow getInstance() {
+    if (instance == null) {
+      instance = new StartupWindow(getConfiguredMaxConcurrency());
+    }
+    return instance;
+  }
+
+  private static int getConfiguredMaxConcurrency() {
+    return Optional.ofNullable(TuningParameters.getInstance())
+          .map(TuningParameters::getMainTuning)
+          .map(main -> main.maxConcurrentServerStartup)
+          .orElse(0);
+  }
+
+  boolean isLimited() {
+    return maxConcurrency > 0;
+  }
+
+  /**
+   * Wraps the steps which start a server pod, so that they run only while holding a slot in this window.
+   * @param podStep the steps which create the pod and wait for it to be ready
+   * @return the wrapped steps
+   */
+  Step createGatedStep(Step podStep) {
+    return isLimited() ? new AcquireSlotStep(new HoldSlotStep(podStep)) : podStep;
+  }
+
+  /**
+   * Creates a step which gives back the slot held by this fiber, if any.
+   * @param next the step to run after releasing the slot
+   * @return the created step
+   */
+  Step createReleaseStep(Step next) {
+    return isLimited() ? new ReleaseSlotStep(next) : next;
+  }
+
+  private synchronized boolean tryAcquire() {
+    if (inUse >= maxConcurrency) {
+      return false;
+    }
+    inUse++;
+    return true;
+  }
+
+  // Called once the fiber is suspended; a slot may have been freed since the fiber last checked.
+  private void acquireOrWait(AsyncFiber fiber, Packet packet) {
+    boolean acquired;
+    synchronized (this) {
+      acquired = tryAcquire();
+      if (!acquired) {
+        waiters.add(new Waiter(fiber, packet));
+      }
+    }
+    if (acquired) {
+      fiber.resume(packet);
+    }
+  }
+
+  private void release() {
+    Waiter waiter;
+    synchronized (this) {
+      do {
+        waiter = waiters.poll();
+      } while (waiter != null && waiter.fiber.isCancelled());
+      if (waiter == null) {
+        inUse--;
+      }
+    }
+    if (waiter != null) {
+      waiter.fiber.resume(waiter.packet);
+    }
+  }
+
+  private void releaseIfHeld(Packet packet) {
+    if (packet.remove(SLOT_ACQUIRED_TIME) != null) {
+      release();
+    }
+  }
+
+  private static class Waiter {
+    private final AsyncFiber fiber;
+    private final Packet packet;
+
+    Waiter(AsyncFiber fiber, Packet packet) {
+      this.fiber = fiber;
+      this.packet = packet;
+    }
+  }
+
+  private class AcquireSlotStep extends Step {
+    AcquireSlotStep(Step next) {
+      super(next);
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      packet.put(SLOT_ACQUIRED_TIME, System.currentTimeMillis());
+      if (tryAcquire()) {
+        return doNext(new RecordSlotWaitStep(getNext()), packet);
+      }
+      return doSuspend(new RecordSlotWaitStep(getNext()), fiber -> acquireOrWait(fiber, packet));
+    }
+  }
+
+  // Runs the pod steps in a child fiber, so that the slot is given back however they end: normally, after a failure
+  // which stops them early, or with a throwable. On a normal end, the release step has usually freed it already.
+  private class HoldSlotStep extends Step {
+    private final Step podStep;
+
+    HoldSlotStep(Step podStep) {
+      super(null);
+      this.podStep = podStep;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      return doSuspend(fiber -> startPodSteps(fiber, packet));
+    }
+
+    private void startPodSteps(AsyncFiber fiber, Packet packet) {
+      fiber.createChildFiber().start(podStep, packet, new ReleaseSlotCallback(fiber, packet));
+    }
+  }
+
+  private class ReleaseSlotCallback implements Fiber.CompletionCallback {
+    private final AsyncFiber fiber;
+    private final Packet packet;
+
+    ReleaseSlotCallback(AsyncFiber fiber, Packet packet) {
+      this.fiber = fiber;
+      this.packet = packet;
+    }
+
+    @Override
+    public void onCompletion(Packet p) {
+      releaseIfHeld(packet);
+      fiber.resume(packet);
+    }
+
+    @Override
+    public void onThrowable(Packet p, Throwable throwable) {
+      releaseIfHeld(packet);
+      fiber.terminate(throwable, packet);
+    }
+  }
+
+  private static class RecordSlotWaitStep extends Step {
+    RecordSlotWaitStep(Step next) {
+      super(next);
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      long now = System.currentTimeMillis();
+      OperatorMetrics.add(SLOT_WAIT_METRIC, now - (long) packet.get(SLOT_ACQUIRED_TIME));
+      packet.put(SLOT_ACQUIRED_TIME, now);
+      packet.put(ProcessingConstants.WAIT_FOR_POD_READY, true);
+      return doNext(packet);
+    }
+  }
+
+  private class ReleaseSlotStep extends Step {
+    ReleaseSlotStep(Step next) {
+      super(next);
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      Optional.ofNullable((Long) packet.remove(SLOT_ACQUIRED_TIME)).ifPresent(acquired -> {
+        OperatorMetrics.add(POD_START_METRIC, System.currentTimeMillis() - acquired);
+        OperatorMetrics.increment(STARTED_METRIC);
+        release();
+      });
+      return doNext(packet);
+    }
+  }
+}
@@ -21,8 +21,8 @@ public class WlsClusterConfig {
   private List<WlsServerConfig> servers = new ArrayList<>();
   private WlsDynamicServersConfig dynamicServersConfig;
 
-  // owner -- don't include in toString, hashCode, equals
-  private WlsDomainConfig wlsDomainConfig;
+  // owner -- don't include in toString, hashCode, equals or the serialized form
+  private transient WlsDomainConfig wlsDomainConfig;
 
   public WlsClusterConfig() {
   }
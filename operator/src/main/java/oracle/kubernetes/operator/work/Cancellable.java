@@ -0,0 +1,14 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+/** A handle to an operation scheduled for the future, which may be cancelled until it runs. */
+public interface Cancellable {
+
+  /**
+   * Cancels the operation.
+   * @return true if the operation was cancelled, false if it had already run or been cancelled
+   */
+  boolean cancel();
+}
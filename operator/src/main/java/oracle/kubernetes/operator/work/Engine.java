@@ -5,8 +5,10 @@ package oracle.kubernetes.operator.work;
 
 import java.util.concurrent.Executor;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -16,6 +18,7 @@ import java.util.concurrent.atomic.AtomicReference;
 public class Engine {
   private static final int DEFAULT_THREAD_COUNT = 10;
   private final AtomicReference<ScheduledExecutorService> threadPool = new AtomicReference();
+  private volatile TimerWheel timerWheel;
 
   /**
    * Creates engine with the specified executor.
@@ -61,6 +64,38 @@ public class Engine {
     return threadPool.get();
   }
 
+  /**
+   * Sets a timer wheel to run the one-shot timers of this engine's fibers. If none is set,
+   * they are scheduled on the executor.
+   *
+   * @param timerWheel a timer wheel, or null to use the executor
+   */
+  public void setTimerWheel(TimerWheel timerWheel) {
+    this.timerWheel = timerWheel;
+  }
+
+  Cancellable scheduleOnce(long delay, TimeUnit unit, Runnable runnable) {
+    TimerWheel wheel = timerWheel;
+    if (wheel != null) {
+      return wheel.schedule(runnable, delay, unit);
+    } else {
+      ScheduledFuture<?> future = getExecutor().schedule(runnable, delay, unit);
+      return () -> future.cancel(false);
+    }
+  }
+
+  /**
+   * Stops the timer wheel, if any, and shuts down the executor. Tasks already submitted still run,
+   * but timers which have not yet expired are discarded.
+   */
+  public void shutdown() {
+    TimerWheel wheel = timerWheel;
+    if (wheel != null) {
+      wheel.stop();
+    }
+    getExecutor().shutdown();
+  }
+
   void addRunnable(Fiber fiber) {
     getExecutor().execute(fiber);
   }
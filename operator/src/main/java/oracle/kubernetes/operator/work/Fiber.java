@@ -81,6 +81,7 @@ public final class Fiber implements Runnable, Future<Void>, ComponentRegistry, A
   private Collection<Fiber> children = null;
   // Will only be populated if log level is at least FINE
   private List<BreadCrumb> breadCrumbs = null;
+  private FiberTracer.FiberTrace trace;
 
   Fiber(Engine engine) {
     this(engine, null);
@@ -121,14 +122,15 @@ public final class Fiber implements Runnable, Future<Void>, ComponentRegistry, A
   }
 
   /**
-   * Use this fiber's executor to schedule an operation for some time in the future.
+   * Use this fiber's engine to schedule an operation for some time in the future.
    * @param timeout the interval before the check should run, in units
    * @param unit the unit of time that defines the interval
    * @param runnable the operation to run
+   * @return a handle which may be used to cancel the operation
    */
   @Override
-  public void scheduleOnce(long timeout, TimeUnit unit, Runnable runnable) {
-    this.owner.getExecutor().schedule(runnable, timeout, unit);
+  public Cancellable scheduleOnce(long timeout, TimeUnit unit, Runnable runnable) {
+    return this.owner.scheduleOnce(timeout, unit, runnable);
   }
 
   /**
@@ -150,11 +152,21 @@ public final class Fiber implements Runnable, Future<Void>, ComponentRegistry, A
       if (LOGGER.isFinestEnabled()) {
         breadCrumbs = new ArrayList<>();
       }
+      trace = startTrace();
 
       owner.addRunnable(this);
     }
   }
 
+  // A child fiber is traced if its parent is; other fibers are sampled.
+  private FiberTracer.FiberTrace startTrace() {
+    if (parent != null) {
+      return parent.trace == null ? null : parent.trace.createChild(getName());
+    }
+    FiberTracer tracer = FiberTracer.getInstance();
+    return tracer.shouldSample() ? tracer.startTrace(getName()) : null;
+  }
+
   /**
    * Wakes up a suspended fiber. If a fiber was suspended without specifying the next {@link Step},
    * then the execution will be resumed, by calling the {@link Step#apply(Packet)} method on the
@@ -511,6 +523,9 @@ public final class Fiber implements Runnable, Future<Void>, ComponentRegistry, A
         }
 
         recordBreadCrumb();
+        if (trace != null) {
+          trace.finish(na.throwable);
+        }
         try {
           if (s == NOT_COMPLETE && completionCallback != null) {
             if (na.throwable != null) {
@@ -625,11 +640,17 @@ public final class Fiber implements Runnable, Future<Void>, ComponentRegistry, A
       }
 
       addBreadCrumb(na);
+      if (trace != null) {
+        trace.stepStarted(na.next);
+      }
 
       NextAction result;
       try {
         result = na.next.apply(na.packet);
       } catch (Throwable t) {
+        if (trace != null) {
+          trace.stepFailed(t);
+        }
         Packet p = na.packet;
         na = new NextAction();
         na.terminate(t, p);
@@ -647,6 +668,9 @@ public final class Fiber implements Runnable, Future<Void>, ComponentRegistry, A
       if (result.kind != NextAction.Kind.SUSPEND) {
         result.packet = na.packet;
       }
+      if (trace != null) {
+        trace.stepReturned(result.kind == NextAction.Kind.SUSPEND);
+      }
 
       last = na;
       na = result;
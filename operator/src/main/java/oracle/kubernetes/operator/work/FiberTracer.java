@@ -0,0 +1,234 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import oracle.kubernetes.operator.TuningParameters;
+import oracle.kubernetes.operator.metrics.OperatorMetrics;
+
+/**
+ * Records the steps run by a sample of fibers. Each sampled fiber, and each child fiber it creates, is traced
+ * as a span, with a span for each step it runs; the span of a step which suspends the fiber includes the time
+ * for which it was suspended. The most recently started traces are kept in a fixed-size buffer, and may be
+ * exported in the Zipkin v2 JSON format. Each trace keeps a limited number of spans; any further spans are
+ * dropped, and counted in a metric. The duration of each traced step is also recorded as a metric.
+ * When the sample rate is zero, fibers are not traced and no objects are created.
+ */
+public class FiberTracer {
+  static final String STEP_METRIC_PREFIX = "step.";
+  static final String STEP_METRIC_SUFFIX = ".millis";
+  static final String DROPPED_SPANS_METRIC = "fiberTrace.droppedSpans";
+  private static final int DEFAULT_BUFFER_SIZE = 100;
+  private static final int DEFAULT_MAX_SPANS_PER_TRACE = 1000;
+  private static final String SERVICE_NAME = "weblogic-operator";
+
+  private static final AtomicLong idGenerator = new AtomicLong(ThreadLocalRandom.current().nextLong());
+
+  private static volatile FiberTracer instance;
+
+  private final double sampleRate;
+  private final Trace[] traces;
+  private final int maxSpansPerTrace;
+  private final AtomicLong numTraces = new AtomicLong();
+
+  FiberTracer(double sampleRate, int bufferSize) {
+    this(sampleRate, bufferSize, DEFAULT_MAX_SPANS_PER_TRACE);
+  }
+
+  FiberTracer(double sampleRate, int bufferSize, int maxSpansPerTrace) {
+    this.sampleRate = sampleRate;
+    this.traces = new Trace[Math.max(1, bufferSize)];
+    this.maxSpansPerTrace = maxSpansPerTrace;
+  }
+
+  /**
+   * Returns the tracer, configured from the tuning parameters on first use.
+   * @return the tracer
+   */
+  public static FiberTracer getInstance() {
+    FiberTracer tracer = instance;
+    if (tracer == null) {
+      instance = tracer = Optional.ofNullable(TuningParameters.getInstance())
+            .map(TuningParameters::getMainTuning)
+            .map(main -> new FiberTracer(main.fiberTraceSampleRate, main.fiberTraceBufferSize))
+            .orElse(new FiberTracer(0.0, DEFAULT_BUFFER_SIZE));
+    }
+    return tracer;
+  }
+
+  boolean shouldSample() {
+    return sampleRate > 0 && (sampleRate >= 1 || ThreadLocalRandom.current().nextDouble() < sampleRate);
+  }
+
+  FiberTrace startTrace(String fiberName) {
+    Trace trace = new Trace(maxSpansPerTrace);
+    traces[(int) (numTraces.getAndIncrement() % traces.length)] = trace;
+    return new FiberTrace(trace, null, fiberName);
+  }
+
+  /**
+   * Returns the spans of the buffered traces, oldest first, in the Zipkin v2 JSON format.
+   * Spans which have not yet completed report their duration so far.
+   * @return a list of spans, each represented as a map
+   */
+  public List<Map<String, Object>> exportSpans() {
+    List<Map<String, Object>> result = new ArrayList<>();
+    long end = numTraces.get();
+    for (long i = Math.max(0, end - traces.length); i < end; i++) {
+      Optional.ofNullable(traces[(int) (i % traces.length)]).ifPresent(t -> t.export(result));
+    }
+    return result;
+  }
+
+  private static String toHex(long id) {
+    return String.format("%016x", id);
+  }
+
+  private static class Trace {
+    private final long traceId = idGenerator.incrementAndGet();
+    private final Queue<Span> spans = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger numSpans = new AtomicInteger();
+    private final int maxSpans;
+
+    Trace(int maxSpans) {
+      this.maxSpans = maxSpans;
+    }
+
+    // A dropped span is still timed, but is not exported.
+    Span createSpan(String name, Span parent) {
+      Span span = new Span(name, parent == null ? null : parent.id);
+      if (numSpans.incrementAndGet() <= maxSpans) {
+        spans.add(span);
+      } else {
+        OperatorMetrics.increment(DROPPED_SPANS_METRIC);
+      }
+      return span;
+    }
+
+    void export(List<Map<String, Object>> result) {
+      spans.forEach(s -> result.add(s.toJson(traceId)));
+    }
+  }
+
+  private static class Span {
+    private final long id = idGenerator.incrementAndGet();
+    private final Long parentId;
+    private final String name;
+    private final long timestampMicros = TimeUnit.MILLISECONDS.toMicros(System.currentTimeMillis());
+    private final long startNanos = System.nanoTime();
+    private final Map<String, String> tags = new HashMap<>();
+    private volatile long durationNanos = -1;
+
+    Span(String name, Long parentId) {
+      this.name = name;
+      this.parentId = parentId;
+    }
+
+    synchronized void tag(String key, Object value) {
+      tags.put(key, String.valueOf(value));
+    }
+
+    long end() {
+      durationNanos = System.nanoTime() - startNanos;
+      return durationNanos;
+    }
+
+    synchronized Map<String, Object> toJson(long traceId) {
+      Map<String, Object> json = new HashMap<>();
+      json.put("traceId", toHex(traceId));
+      json.put("id", toHex(id));
+      Optional.ofNullable(parentId).map(FiberTracer::toHex).ifPresent(p -> json.put("parentId", p));
+      json.put("name", name);
+      json.put("timestamp", timestampMicros);
+      json.put("duration", TimeUnit.NANOSECONDS.toMicros(getDurationNanos()));
+      json.put("localEndpoint", Map.of("serviceName", SERVICE_NAME));
+      Map<String, String> jsonTags = new HashMap<>(tags);
+      if (durationNanos < 0) {
+        jsonTags.put("inProgress", "true");
+      }
+      json.put("tags", jsonTags);
+      return json;
+    }
+
+    private long getDurationNanos() {
+      return durationNanos >= 0 ? durationNanos : System.nanoTime() - startNanos;
+    }
+  }
+
+  /**
+   * The trace of a single fiber. Its step methods are called only by the thread running the fiber.
+   */
+  static class FiberTrace {
+    private final Trace trace;
+    private final Span fiberSpan;
+    private final AtomicBoolean finished = new AtomicBoolean();
+    private volatile Span stepSpan;
+    private String stepName;
+    private long suspendedAt;
+
+    private FiberTrace(Trace trace, Span parentSpan, String fiberName) {
+      this.trace = trace;
+      this.fiberSpan = trace.createSpan(fiberName, parentSpan);
+    }
+
+    // A child fiber's span is a child of the step which created it.
+    FiberTrace createChild(String fiberName) {
+      return new FiberTrace(trace, Optional.ofNullable(stepSpan).orElse(fiberSpan), fiberName);
+    }
+
+    void stepStarted(Step step) {
+      endStep();
+      stepName = step.getBaseName();
+      stepSpan = trace.createSpan(stepName, fiberSpan);
+      Optional.ofNullable(step.getDetail()).ifPresent(d -> stepSpan.tag("detail", d));
+    }
+
+    void stepReturned(boolean suspended) {
+      if (suspended) {
+        suspendedAt = System.nanoTime();
+      } else {
+        endStep();
+      }
+    }
+
+    void stepFailed(Throwable throwable) {
+      Optional.ofNullable(stepSpan).ifPresent(s -> s.tag("error", throwable.getClass().getSimpleName()));
+      endStep();
+    }
+
+    void finish(Throwable throwable) {
+      if (finished.compareAndSet(false, true)) {
+        endStep();
+        Optional.ofNullable(throwable).ifPresent(t -> fiberSpan.tag("error", t.getClass().getSimpleName()));
+        fiberSpan.end();
+      }
+    }
+
+    private void endStep() {
+      Span span = stepSpan;
+      if (span != null) {
+        if (suspendedAt != 0) {
+          span.tag("suspendedMicros", TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - suspendedAt));
+          suspendedAt = 0;
+        }
+        long durationNanos = span.end();
+        OperatorMetrics.recordTiming(
+              STEP_METRIC_PREFIX + stepName + STEP_METRIC_SUFFIX, TimeUnit.NANOSECONDS.toMillis(durationNanos));
+        stepSpan = null;
+      }
+    }
+  }
+}
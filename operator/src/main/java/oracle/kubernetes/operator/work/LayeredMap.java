@@ -0,0 +1,329 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * A map which can be copied in constant time. Values written since the last copy are held in a local map;
+ * older values are held in a chain of frozen layers shared with every copy made from this map. A read checks
+ * the local map first and then each layer in turn, and a removal of a value held in a layer is recorded locally.
+ * Making a copy freezes the local values into a new layer, so that later changes to either map are not seen
+ * by the other. When the chain grows too long, it is collapsed into a single layer. Iteration walks the local map
+ * and the layers in place, skipping any value hidden by a newer one, so that it copies nothing. Updates are made
+ * while holding the lock on this map, so that compound updates such as {@link #putIfAbsent} are atomic.
+ *
+ * @param <V> the type of the values in the map
+ */
+class LayeredMap<V> extends AbstractMap<String, V> {
+  static final int MAX_LAYERS = 8;
+
+  private static final Object REMOVED = new Object();
+
+  private volatile Map<String, Object> local = new ConcurrentHashMap<>();
+  private volatile Layer frozen;
+
+  LayeredMap() {
+  }
+
+  private LayeredMap(Layer frozen) {
+    this.frozen = frozen;
+  }
+
+  /**
+   * Returns a copy of this map. The copy shares all current values with this map,
+   * and stores only the changes made to it afterwards.
+   * @return a new map
+   */
+  synchronized LayeredMap<V> copy() {
+    if (!local.isEmpty()) {
+      frozen = Layer.freeze(local, frozen);
+      local = new ConcurrentHashMap<>();
+    }
+    return new LayeredMap<>(frozen);
+  }
+
+  int getNumLocalEntries() {
+    return local.size();
+  }
+
+  int getNumLayers() {
+    return frozen == null ? 0 : frozen.depth;
+  }
+
+  @Override
+  public V get(Object key) {
+    return unwrap(lookup(key));
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    Object value = lookup(key);
+    return value != null && value != REMOVED;
+  }
+
+  private Object lookup(Object key) {
+    Object value = local.get(key);
+    return value != null ? value : Layer.lookup(frozen, key);
+  }
+
+  @Override
+  public synchronized V put(String key, V value) {
+    Object old = lookup(key);
+    local.put(key, value);
+    return unwrap(old);
+  }
+
+  @Override
+  public synchronized V remove(Object key) {
+    Object old = lookup(key);
+    if (old != null && old != REMOVED) {
+      if (Layer.lookup(frozen, key) == null) {
+        local.remove(key);
+      } else {
+        local.put((String) key, REMOVED);
+      }
+    }
+    return unwrap(old);
+  }
+
+  @Override
+  public synchronized V putIfAbsent(String key, V value) {
+    V current = get(key);
+    if (current == null) {
+      put(key, value);
+    }
+    return current;
+  }
+
+  @Override
+  public synchronized V computeIfAbsent(String key, Function<? super String, ? extends V> mappingFunction) {
+    V current = get(key);
+    if (current == null) {
+      current = mappingFunction.apply(key);
+      if (current != null) {
+        put(key, current);
+      }
+    }
+    return current;
+  }
+
+  @Override
+  public synchronized V computeIfPresent(
+        String key, BiFunction<? super String, ? super V, ? extends V> remappingFunction) {
+    V current = get(key);
+    return current == null ? null : replaceWith(key, remappingFunction.apply(key, current));
+  }
+
+  @Override
+  public synchronized V compute(String key, BiFunction<? super String, ? super V, ? extends V> remappingFunction) {
+    return replaceWith(key, remappingFunction.apply(key, get(key)));
+  }
+
+  @Override
+  public synchronized V merge(
+        String key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+    Objects.requireNonNull(value);
+    V current = get(key);
+    return replaceWith(key, current == null ? value : remappingFunction.apply(current, value));
+  }
+
+  private V replaceWith(String key, V value) {
+    if (value == null) {
+      remove(key);
+    } else {
+      put(key, value);
+    }
+    return value;
+  }
+
+  @Override
+  public synchronized void clear() {
+    local = new ConcurrentHashMap<>();
+    frozen = null;
+  }
+
+  @Override
+  public Set<Entry<String, V>> entrySet() {
+    return new EntrySet();
+  }
+
+  @SuppressWarnings("unchecked")
+  private V unwrap(Object value) {
+    return value == REMOVED ? null : (V) value;
+  }
+
+  /**
+   * Returns the first non-null result of applying the specified function to the visible values, without
+   * creating entries or copying any layer.
+   * @param function the function to apply
+   * @param <R> the type of the result
+   * @return the first non-null result, or null if there is none
+   */
+  <R> R findFirst(Function<? super V, R> function) {
+    Map<String, Object> localValues = local;
+    Layer layers = frozen;
+    for (Map.Entry<String, Object> entry : localValues.entrySet()) {
+      R result = applyIfVisible(function, entry.getValue());
+      if (result != null) {
+        return result;
+      }
+    }
+    for (Layer l = layers; l != null; l = l.parent) {
+      for (Map.Entry<String, Object> entry : l.values.entrySet()) {
+        if (isNewest(entry.getKey(), localValues, layers, l)) {
+          R result = applyIfVisible(function, entry.getValue());
+          if (result != null) {
+            return result;
+          }
+        }
+      }
+    }
+    return null;
+  }
+
+  private <R> R applyIfVisible(Function<? super V, R> function, Object value) {
+    return value == REMOVED ? null : function.apply(unwrap(value));
+  }
+
+  // A value in a layer is visible only if neither the local map nor any newer layer holds the same key.
+  private static boolean isNewest(String key, Map<String, Object> localValues, Layer newest, Layer layer) {
+    if (localValues.containsKey(key)) {
+      return false;
+    }
+    for (Layer l = newest; l != layer; l = l.parent) {
+      if (l.values.containsKey(key)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private class EntrySet extends AbstractSet<Entry<String, V>> {
+    @Override
+    public Iterator<Entry<String, V>> iterator() {
+      return new LayerIterator();
+    }
+
+    @Override
+    public int size() {
+      int size = 0;
+      for (Iterator<Entry<String, V>> i = iterator(); i.hasNext(); i.next()) {
+        size++;
+      }
+      return size;
+    }
+  }
+
+  // Walks the local map, then each layer from newest to oldest, returning only the visible values.
+  private class LayerIterator implements Iterator<Entry<String, V>> {
+    private final Map<String, Object> localValues = local;
+    private final Layer newest = frozen;
+    private Layer layer;
+    private Iterator<Map.Entry<String, Object>> entries = localValues.entrySet().iterator();
+    private Entry<String, V> next;
+    private Entry<String, V> current;
+
+    @Override
+    public boolean hasNext() {
+      while (next == null && entries != null) {
+        if (entries.hasNext()) {
+          next = toVisibleEntry(entries.next());
+        } else {
+          layer = layer == null ? newest : layer.parent;
+          entries = layer == null ? null : layer.values.entrySet().iterator();
+        }
+      }
+      return next != null;
+    }
+
+    private Entry<String, V> toVisibleEntry(Map.Entry<String, Object> entry) {
+      if (entry.getValue() == REMOVED) {
+        return null;
+      } else if (layer != null && !isNewest(entry.getKey(), localValues, newest, layer)) {
+        return null;
+      }
+      return new LiveEntry(entry.getKey(), unwrap(entry.getValue()));
+    }
+
+    @Override
+    public Entry<String, V> next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      current = next;
+      next = null;
+      return current;
+    }
+
+    @Override
+    public void remove() {
+      if (current == null) {
+        throw new IllegalStateException();
+      }
+      LayeredMap.this.remove(current.getKey());
+      current = null;
+    }
+  }
+
+  private class LiveEntry extends SimpleEntry<String, V> {
+    LiveEntry(String key, V value) {
+      super(key, value);
+    }
+
+    @Override
+    public V setValue(V value) {
+      put(getKey(), value);
+      return super.setValue(value);
+    }
+  }
+
+  private static class Layer {
+    private final Map<String, Object> values;
+    private final Layer parent;
+    private final int depth;
+
+    private Layer(Map<String, Object> values, Layer parent) {
+      this.values = values;
+      this.parent = parent;
+      this.depth = parent == null ? 1 : parent.depth + 1;
+    }
+
+    static Layer freeze(Map<String, Object> values, Layer parent) {
+      Layer layer = new Layer(new HashMap<>(values), parent);
+      return layer.depth <= MAX_LAYERS ? layer : new Layer(flatten(layer), null);
+    }
+
+    static Object lookup(Layer layer, Object key) {
+      for (Layer l = layer; l != null; l = l.parent) {
+        Object value = l.values.get(key);
+        if (value != null) {
+          return value;
+        }
+      }
+      return null;
+    }
+
+    // Removal markers are dropped, as there is no older layer left for them to hide.
+    static Map<String, Object> flatten(Layer layer) {
+      if (layer == null) {
+        return new HashMap<>();
+      }
+      Map<String, Object> result = flatten(layer.parent);
+      result.putAll(layer.values);
+      result.values().removeIf(v -> v == REMOVED);
+      return result;
+    }
+  }
+}
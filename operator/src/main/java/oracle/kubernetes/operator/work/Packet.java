@@ -7,25 +7,31 @@ import java.util.AbstractMap;
 import java.util.Collections;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 
-/** Context of a single processing flow. Acts as a map and as a registry of components. */
+/**
+ * Context of a single processing flow. Acts as a map and as a registry of components. Values and components are
+ * shared with any clones, each of which stores only its own changes, so that cloning a packet for each of many
+ * child fibers does not copy them.
+ */
 public class Packet extends AbstractMap<String, Object> implements ComponentRegistry, ComponentEx {
-  private final ConcurrentMap<String, Component> components =
-      new ConcurrentHashMap<String, Component>();
-  private final ConcurrentMap<String, Object> delegate = new ConcurrentHashMap<String, Object>();
+  private final LayeredMap<Component> components;
+  private final LayeredMap<Object> delegate;
 
   public Packet() {
+    components = new LayeredMap<>();
+    delegate = new LayeredMap<>();
   }
 
   private Packet(Packet that) {
-    components.putAll(that.components);
-    delegate.putAll(that.delegate);
+    components = that.components.copy();
+    delegate = that.delegate.copy();
   }
 
   /**
    * Clones a packet so that the new packet starts with identical values and components.
+   * Later changes to either packet are not seen by the other.
    *
    * @return Cloned packet
    */
@@ -40,13 +46,7 @@ public class Packet extends AbstractMap<String, Object> implements ComponentRegi
    * @return implementation object
    */
   public <S> S getSpi(Class<S> spiType) {
-    for (Component c : components.values()) {
-      S s = c.getSpi(spiType);
-      if (s != null) {
-        return s;
-      }
-    }
-    return null;
+    return components.findFirst(c -> c.getSpi(spiType));
   }
 
   @Override
@@ -68,11 +68,57 @@ public class Packet extends AbstractMap<String, Object> implements ComponentRegi
     return delegate.entrySet();
   }
 
+  @Override
+  public Object get(Object key) {
+    return delegate.get(key);
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return delegate.containsKey(key);
+  }
+
+  @Override
+  public Object remove(Object key) {
+    return delegate.remove(key);
+  }
+
+  @Override
+  public void clear() {
+    delegate.clear();
+  }
+
   @Override
   public Object put(String key, Object value) {
     return value != null ? delegate.put(key, value) : delegate.remove(key);
   }
 
+  @Override
+  public Object putIfAbsent(String key, Object value) {
+    return delegate.putIfAbsent(key, value);
+  }
+
+  @Override
+  public Object computeIfAbsent(String key, Function<? super String, ?> mappingFunction) {
+    return delegate.computeIfAbsent(key, mappingFunction);
+  }
+
+  @Override
+  public Object computeIfPresent(
+        String key, BiFunction<? super String, ? super Object, ?> remappingFunction) {
+    return delegate.computeIfPresent(key, remappingFunction);
+  }
+
+  @Override
+  public Object compute(String key, BiFunction<? super String, ? super Object, ?> remappingFunction) {
+    return delegate.compute(key, remappingFunction);
+  }
+
+  @Override
+  public Object merge(String key, Object value, BiFunction<? super Object, ? super Object, ?> remappingFunction) {
+    return delegate.merge(key, value, remappingFunction);
+  }
+
   @SuppressWarnings("unchecked")
   public <T> T getValue(String key) {
     return (T) get(key);
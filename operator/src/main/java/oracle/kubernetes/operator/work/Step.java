@@ -102,14 +102,19 @@ public abstract class Step {
    * @return The name of the step
    */
   public String getName() {
+    String name = getBaseName();
+    String detail = getDetail();
+    return detail != null ? name + "(" + detail + ")" : name;
+  }
+
+  // The class name minus "Step", without any detail.
+  String getBaseName() {
     String name = getClass().getName();
     int idx = name.lastIndexOf('.');
     if (idx >= 0) {
       name = name.substring(idx + 1);
     }
-    name = name.endsWith("Step") ? name.substring(0, name.length() - 4) : name;
-    String detail = getDetail();
-    return detail != null ? name + "(" + detail + ")" : name;
+    return name.endsWith("Step") ? name.substring(0, name.length() - 4) : name;
   }
 
   protected String getDetail() {
@@ -0,0 +1,255 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+
+import oracle.kubernetes.operator.TuningParameters;
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.logging.MessageKeys;
+import oracle.kubernetes.operator.metrics.OperatorMetrics;
+
+/**
+ * A hashed timer wheel for the one-shot timers used by fibers: request timeouts, retry delays and the like.
+ * Time is divided into ticks, and each timer is placed in the wheel slot for the tick in which it expires,
+ * with a count of the full turns of the wheel still to wait. Scheduling and cancelling a timer take constant
+ * time. A single ticker thread wakes once per tick and hands all the timers expiring in that tick, as one
+ * batch, to the executor which runs the fibers. A timer may therefore run up to one tick late, but never early.
+ */
+public class TimerWheel {
+  static final String EXPIRED_METRIC = "fiberTimer.expired";
+  private static final long DEFAULT_TICK_MILLIS = 100;
+  private static final int WHEEL_SIZE = 512;
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+
+  private final long tickNanos;
+  private final Slot[] wheel = new Slot[WHEEL_SIZE];
+  private final Executor dispatcher;
+  private final LongSupplier clock;
+  private final ThreadFactory threadFactory;
+  private final Queue<Timer> pending = new ConcurrentLinkedQueue<>();
+  private final AtomicBoolean started = new AtomicBoolean();
+  private volatile boolean stopped;
+  private volatile Thread ticker;
+  private final long startTime;
+  private long tick;
+
+  TimerWheel(long tickMillis, Executor dispatcher, LongSupplier clock, ThreadFactory threadFactory) {
+    this.tickNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, tickMillis));
+    this.dispatcher = dispatcher;
+    this.clock = clock;
+    this.threadFactory = threadFactory;
+    this.startTime = clock.getAsLong();
+    for (int i = 0; i < WHEEL_SIZE; i++) {
+      wheel[i] = new Slot();
+    }
+  }
+
+  /**
+   * Creates a timer wheel with the precision set by the tuning parameters.
+   * @param dispatcher the executor which will run expired timers
+   * @return a new timer wheel, or null if the tick is configured as zero, to disable the wheel
+   */
+  public static TimerWheel create(Executor dispatcher) {
+    long tickMillis = Optional.ofNullable(TuningParameters.getInstance())
+          .map(TuningParameters::getMainTuning)
+          .map(main -> main.fiberTimerTickMillis)
+          .orElse(DEFAULT_TICK_MILLIS);
+    return tickMillis <= 0
+          ? null
+          : new TimerWheel(tickMillis, dispatcher, System::nanoTime, TimerWheel::createThread);
+  }
+
+  private static Thread createThread(Runnable runnable) {
+    Thread thread = new Thread(runnable, "fiber-timer");
+    thread.setDaemon(true);
+    return thread;
+  }
+
+  /**
+   * Schedules a task to run after a delay.
+   * @param task the task to run
+   * @param delay the delay, in units
+   * @param unit the unit of time that defines the delay
+   * @return a handle which may be used to cancel the task
+   */
+  public Timer schedule(Runnable task, long delay, TimeUnit unit) {
+    startTicker();
+    Timer timer = new Timer(task, clock.getAsLong() + unit.toNanos(delay));
+    pending.add(timer);
+    return timer;
+  }
+
+  private void startTicker() {
+    if (threadFactory != null && started.compareAndSet(false, true)) {
+      ticker = threadFactory.newThread(this::runTicker);
+      ticker.start();
+    }
+  }
+
+  /**
+   * Stops the ticker thread. Timers which have not yet expired will never run.
+   */
+  public void stop() {
+    stopped = true;
+    Thread thread = ticker;
+    if (thread != null) {
+      LockSupport.unpark(thread);
+    }
+  }
+
+  private void runTicker() {
+    while (!stopped && !Thread.currentThread().isInterrupted()) {
+      long sleepNanos = getNextTickTime() - clock.getAsLong();
+      if (sleepNanos > 0) {
+        LockSupport.parkNanos(sleepNanos);
+      } else {
+        expireTimers(clock.getAsLong());
+      }
+    }
+  }
+
+  private long getNextTickTime() {
+    return startTime + (tick + 1) * tickNanos;
+  }
+
+  /**
+   * Processes every tick which has ended by the specified time. Called only by the ticker thread,
+   * or by unit tests in its place.
+   * @param now the current value of the clock
+   * @return the number of timers expired
+   */
+  int expireTimers(long now) {
+    List<Timer> expired = new ArrayList<>();
+    while (getNextTickTime() <= now) {
+      transferPendingTimers();
+      wheel[(int) (tick % WHEEL_SIZE)].expireTimers(expired);
+      tick++;
+    }
+    if (!expired.isEmpty()) {
+      OperatorMetrics.add(EXPIRED_METRIC, expired.size());
+      dispatcher.execute(() -> expired.forEach(Timer::run));
+    }
+    return expired.size();
+  }
+
+  // A timer whose tick has already been processed is placed in the current tick.
+  private void transferPendingTimers() {
+    Timer timer;
+    while ((timer = pending.poll()) != null) {
+      if (!timer.isCancelled()) {
+        long expiryTick = Math.max(tick, (timer.deadline - startTime) / tickNanos);
+        timer.remainingTurns = (expiryTick - tick) / WHEEL_SIZE;
+        wheel[(int) (expiryTick % WHEEL_SIZE)].add(timer);
+      }
+    }
+  }
+
+  // The timers in a single slot of the wheel, as a doubly-linked list. Accessed only by the ticker thread.
+  private static class Slot {
+    private Timer head;
+    private Timer tail;
+
+    void add(Timer timer) {
+      timer.previous = tail;
+      timer.next = null;
+      if (tail == null) {
+        head = timer;
+      } else {
+        tail.next = timer;
+      }
+      tail = timer;
+    }
+
+    void remove(Timer timer) {
+      if (timer.previous == null) {
+        head = timer.next;
+      } else {
+        timer.previous.next = timer.next;
+      }
+      if (timer.next == null) {
+        tail = timer.previous;
+      } else {
+        timer.next.previous = timer.previous;
+      }
+      timer.previous = timer.next = null;
+    }
+
+    void expireTimers(List<Timer> expired) {
+      Timer timer = head;
+      while (timer != null) {
+        Timer next = timer.next;
+        if (timer.isCancelled()) {
+          remove(timer);
+        } else if (timer.remainingTurns > 0) {
+          timer.remainingTurns--;
+        } else {
+          remove(timer);
+          if (timer.expire()) {
+            expired.add(timer);
+          }
+        }
+        timer = next;
+      }
+    }
+  }
+
+  /**
+   * A scheduled task, which may be cancelled until it has expired.
+   */
+  public static class Timer implements Cancellable {
+    private static final int WAITING = 0;
+    private static final int CANCELLED = 1;
+    private static final int EXPIRED = 2;
+
+    private final Runnable task;
+    private final long deadline;
+    private final AtomicInteger state = new AtomicInteger(WAITING);
+    private long remainingTurns;
+    private Timer previous;
+    private Timer next;
+
+    Timer(Runnable task, long deadline) {
+      this.task = task;
+      this.deadline = deadline;
+    }
+
+    /**
+     * Cancels this timer. The wheel discards it the next time it visits its slot.
+     * @return true if the timer was cancelled, false if it had already expired or been cancelled
+     */
+    @Override
+    public boolean cancel() {
+      return state.compareAndSet(WAITING, CANCELLED);
+    }
+
+    boolean isCancelled() {
+      return state.get() == CANCELLED;
+    }
+
+    private boolean expire() {
+      return state.compareAndSet(WAITING, EXPIRED);
+    }
+
+    private void run() {
+      try {
+        task.run();
+      } catch (Throwable t) {
+        LOGGER.warning(MessageKeys.EXCEPTION, t);
+      }
+    }
+  }
+}
@@ -11,6 +11,8 @@ import io.kubernetes.client.openapi.models.V1Container;
 import io.kubernetes.client.openapi.models.V1PodReadinessGate;
 import io.kubernetes.client.openapi.models.V1Toleration;
 
+import static oracle.kubernetes.weblogic.domain.model.EffectiveSpecIndex.copyOf;
+
 public class ClusterSpecCommonImpl extends ClusterSpec {
   private final Cluster cluster;
 
@@ -30,32 +32,32 @@ public class ClusterSpecCommonImpl extends ClusterSpec {
 
   @Override
   public Map<String, String> getServiceLabels() {
-    return cluster.getServiceLabels();
+    return copyOf(cluster.getServiceLabels());
   }
 
   @Override
   public Map<String, String> getServiceAnnotations() {
-    return cluster.getServiceAnnotations();
+    return copyOf(cluster.getServiceAnnotations());
   }
 
   @Override
   public Map<String, String> getClusterLabels() {
-    return cluster.getClusterLabels();
+    return copyOf(cluster.getClusterLabels());
   }
 
   @Override
   public Map<String, String> getClusterAnnotations() {
-    return cluster.getClusterAnnotations();
+    return copyOf(cluster.getClusterAnnotations());
   }
 
   @Override
   public List<V1Container> getInitContainers() {
-    return cluster.getInitContainers();
+    return copyOf(cluster.getInitContainers());
   }
 
   @Override
   public List<V1Container> getContainers() {
-    return cluster.getContainers();
+    return copyOf(cluster.getContainers());
   }
 
   @Override
@@ -75,7 +77,7 @@ public class ClusterSpecCommonImpl extends ClusterSpec {
 
   @Override
   public List<V1PodReadinessGate> getReadinessGates() {
-    return cluster.getReadinessGates();
+    return copyOf(cluster.getReadinessGates());
   }
 
   @Override
@@ -105,7 +107,7 @@ public class ClusterSpecCommonImpl extends ClusterSpec {
 
   @Override
   public List<V1Toleration> getTolerations() {
-    return cluster.getTolerations();
+    return copyOf(cluster.getTolerations());
   }
 
 }
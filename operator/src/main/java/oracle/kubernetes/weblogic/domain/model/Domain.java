@@ -94,6 +94,9 @@ public class Domain {
   @Description("The current status of the operation of the WebLogic domain. Updated automatically by the operator.")
   private DomainStatus status;
 
+  // Not part of the resource: volatile fields are omitted from the generated schema, and transient ones from JSON.
+  private transient volatile EffectiveSpecIndex effectiveSpecIndex;
+
   @SuppressWarnings({"rawtypes"})
   static List sortOrNull(List list) {
     return sortOrNull(list, null);
@@ -239,7 +242,10 @@ public class Domain {
    * @return the effective configuration for the server
    */
   public ServerSpec getServer(String serverName, String clusterName) {
-    return getEffectiveConfigurationFactory().getServerSpec(serverName, clusterName);
+    EffectiveSpecIndex index = getEffectiveSpecIndex();
+    return index != null
+        ? index.getServerSpec(serverName, clusterName)
+        : getEffectiveConfigurationFactory().getServerSpec(serverName, clusterName);
   }
 
   /**
@@ -249,7 +255,32 @@ public class Domain {
    * @return the effective configuration for the cluster
    */
   public ClusterSpec getCluster(String clusterName) {
-    return getEffectiveConfigurationFactory().getClusterSpec(clusterName);
+    EffectiveSpecIndex index = getEffectiveSpecIndex();
+    return index != null
+        ? index.getClusterSpec(clusterName)
+        : getEffectiveConfigurationFactory().getClusterSpec(clusterName);
+  }
+
+  /**
+   * Builds the index of effective server and cluster specifications for the current generation of this domain,
+   * so that later calls to {@link #getServer(String, String)} and {@link #getCluster(String)} return the
+   * specifications already merged rather than merging them again. A domain without a generation is not indexed.
+   */
+  public void indexEffectiveSpecs() {
+    getEffectiveSpecIndex();
+  }
+
+  private EffectiveSpecIndex getEffectiveSpecIndex() {
+    Long generation = Optional.ofNullable(metadata).map(V1ObjectMeta::getGeneration).orElse(null);
+    if (generation == null) {
+      return null;
+    }
+
+    EffectiveSpecIndex index = effectiveSpecIndex;
+    if (index == null || !index.isFor(generation, spec)) {
+      effectiveSpecIndex = index = new EffectiveSpecIndex(generation, spec, getEffectiveConfigurationFactory());
+    }
+    return index;
   }
 
   /**
@@ -264,6 +295,7 @@ public class Domain {
 
   public void setReplicaCount(String clusterName, int replicaLimit) {
     getEffectiveConfigurationFactory().setReplicaCount(clusterName, replicaLimit);
+    effectiveSpecIndex = null;
   }
 
   /**
@@ -583,25 +615,54 @@ public class Domain {
     return new Validator().getValidationFailures(kubernetesResources);
   }
 
+  /**
+   * Returns the validation failures which depend only on this domain resource, and not on the presence
+   * of other Kubernetes resources. These may be checked before the domain is admitted to the cluster.
+   *
+   * @return a list of failure messages; empty if the specification is valid
+   */
+  public List<String> getSpecValidationFailures() {
+    return new Validator().getValidationFailures(null);
+  }
+
+  /**
+   * Returns the validation failures caused by missing Kubernetes resources, such as secrets and config maps,
+   * which are named by this domain resource.
+   *
+   * @param kubernetesResources a lookup of the resources available to the domain
+   * @return a list of failure messages; empty if all named resources exist
+   */
+  public List<String> getResourceValidationFailures(KubernetesResourceLookup kubernetesResources) {
+    return new Validator().getResourceValidationFailures(kubernetesResources);
+  }
+
   class Validator {
     private final List<String> failures = new ArrayList<>();
     private final Set<String> clusterNames = new HashSet<>();
     private final Set<String> serverNames = new HashSet<>();
 
+    // Checks for other Kubernetes resources are made only if a lookup is specified.
     List<String> getValidationFailures(KubernetesResourceLookup kubernetesResources) {
       addDuplicateNames();
       addInvalidMountPaths();
       addUnmappedLogHome();
       addReservedEnvironmentVariables();
-      addMissingSecrets(kubernetesResources);
+      Optional.ofNullable(kubernetesResources).ifPresent(this::addMissingSecrets);
       addIllegalSitConfigForMii();
       verifyNoAlternateSecretNamespaceSpecified();
-      addMissingModelConfigMap(kubernetesResources);
+      Optional.ofNullable(kubernetesResources).ifPresent(this::addMissingModelConfigMap);
       verifyIstioExposingDefaultChannel();
 
       return failures;
     }
 
+    List<String> getResourceValidationFailures(KubernetesResourceLookup kubernetesResources) {
+      addMissingSecrets(kubernetesResources);
+      addMissingModelConfigMap(kubernetesResources);
+
+      return failures;
+    }
+
     private void addDuplicateNames() {
       getSpec().getManagedServers()
           .stream()
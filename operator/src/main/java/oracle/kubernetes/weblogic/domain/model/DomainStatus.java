@@ -4,11 +4,14 @@
 package oracle.kubernetes.weblogic.domain.model;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.Map;
 import java.util.Objects;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -82,13 +85,24 @@ public class DomainStatus {
   public DomainStatus(DomainStatus that) {
     message = that.message;
     reason = that.reason;
-    conditions = that.conditions.stream().map(DomainCondition::new).collect(Collectors.toList());
+    conditions = copyConditions(that.conditions);
     servers = that.servers.stream().map(ServerStatus::new).collect(Collectors.toList());
     clusters = that.clusters.stream().map(ClusterStatus::new).collect(Collectors.toList());
     startTime = that.startTime;
     replicas = that.replicas;
   }
 
+  // The operator keeps at most one condition of each type; a status written elsewhere may hold more,
+  // in which case only the last condition of each type is kept.
+  private static List<DomainCondition> copyConditions(List<DomainCondition> conditions) {
+    Map<DomainConditionType, DomainCondition> latest = new LinkedHashMap<>();
+    for (DomainCondition condition : conditions) {
+      latest.remove(condition.getType());
+      latest.put(condition.getType(), new DomainCondition(condition));
+    }
+    return new ArrayList<>(latest.values());
+  }
+
   /**
    * Current service state of domain.
    *
@@ -298,10 +312,12 @@ public class DomainStatus {
         return;
       }
 
+      Map<List<String>, ServerStatus> oldServers = this.servers.stream()
+            .collect(Collectors.toMap(DomainStatus::getServerKey, s -> s, (first, second) -> first));
       List<ServerStatus> newServers = servers
             .stream()
             .map(ServerStatus::new)
-            .map(this::adjust)
+            .map(s -> adjust(s, oldServers.get(getServerKey(s))))
             .sorted(Comparator.naturalOrder())
             .collect(Collectors.toList());
 
@@ -310,24 +326,17 @@ public class DomainStatus {
     }
   }
 
-  private ServerStatus adjust(ServerStatus server) {
-    if (server.getState() == null) {
-      ServerStatus oldServer = getMatchingServer(server);
-      if ((oldServer != null) && (oldServer.getHealth() == null)) {
-        return server;
-      }
-      server.setState(oldServer == null ? SHUTDOWN_STATE : oldServer.getState());
-    }
-    return server;
+  // Keys are lists, rather than strings, as the cluster name may be null.
+  private static List<String> getServerKey(ServerStatus server) {
+    return Arrays.asList(server.getClusterName(), server.getServerName());
   }
 
-  private ServerStatus getMatchingServer(ServerStatus server) {
-    return getServers()
-          .stream()
-          .filter(s -> Objects.equals(s.getClusterName(), server.getClusterName()))
-          .filter(s -> Objects.equals(s.getServerName(), server.getServerName()))
-          .findFirst()
-          .orElse(null);
+  // An entry which has not changed is kept, so that later comparisons with it are by identity.
+  private ServerStatus adjust(ServerStatus server, ServerStatus oldServer) {
+    if (server.getState() == null && (oldServer == null || oldServer.getHealth() != null)) {
+      server.setState(oldServer == null ? SHUTDOWN_STATE : oldServer.getState());
+    }
+    return server.equals(oldServer) && server.isAdminServer() == oldServer.isAdminServer() ? oldServer : server;
   }
 
 
@@ -470,6 +479,7 @@ public class DomainStatus {
         .withStringField("message", DomainStatus::getMessage)
         .withStringField("reason", DomainStatus::getReason)
         .withIntegerField("replicas", DomainStatus::getReplicas)
+        .withDateTimeField("startTime", DomainStatus::getStartTime)
         .withListField("conditions", DomainCondition.getObjectPatch(), DomainStatus::getConditions)
         .withListField("clusters", ClusterStatus.getObjectPatch(), DomainStatus::getClusters)
         .withListField("servers", ServerStatus.getObjectPatch(), DomainStatus::getServers);
@@ -0,0 +1,58 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.weblogic.domain.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import oracle.kubernetes.weblogic.domain.EffectiveConfigurationFactory;
+
+/**
+ * The effective server and cluster specifications for one generation of a domain. Each specification is
+ * merged from the domain, cluster and server configuration once, on first use, and then shared by every
+ * later lookup of the same server or cluster. The specifications of the configured clusters are built when
+ * the index is created. An index is valid only for the generation and spec object for which it was built.
+ */
+class EffectiveSpecIndex {
+  private final long generation;
+  private final DomainSpec spec;
+  private final EffectiveConfigurationFactory factory;
+  private final Map<List<String>, ServerSpec> serverSpecs = new ConcurrentHashMap<>();
+  private final Map<List<String>, ClusterSpec> clusterSpecs = new ConcurrentHashMap<>();
+
+  EffectiveSpecIndex(long generation, DomainSpec spec, EffectiveConfigurationFactory factory) {
+    this.generation = generation;
+    this.spec = spec;
+    this.factory = factory;
+    spec.getClusters().forEach(c -> getClusterSpec(c.getClusterName()));
+  }
+
+  boolean isFor(long generation, DomainSpec spec) {
+    return this.generation == generation && this.spec == spec;
+  }
+
+  // Keys are lists, rather than strings, as either name may be null.
+  ServerSpec getServerSpec(String serverName, String clusterName) {
+    return serverSpecs.computeIfAbsent(
+          Arrays.asList(serverName, clusterName), k -> factory.getServerSpec(serverName, clusterName));
+  }
+
+  ClusterSpec getClusterSpec(String clusterName) {
+    return clusterSpecs.computeIfAbsent(Arrays.asList(clusterName), k -> factory.getClusterSpec(clusterName));
+  }
+
+  // An indexed specification is shared by every lookup of its server or cluster, so its collections are
+  // returned as copies, which callers may modify without changing the specification.
+  static <T> List<T> copyOf(List<T> list) {
+    return list == null ? null : new ArrayList<>(list);
+  }
+
+  static <K, V> Map<K, V> copyOf(Map<K, V> map) {
+    return map == null ? null : new LinkedHashMap<>(map);
+  }
+}
@@ -5,6 +5,7 @@ package oracle.kubernetes.weblogic.domain.model;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -432,7 +433,10 @@ class ObjectPatch<T> {
       List<String> addedItems = getDifference(newItems, oldItems);
       List<String> removedItems = getDifference(oldItems, newItems);
 
-      removedItems.forEach(e -> removeFromList(builder, parent, oldItems.indexOf(e)));
+      removedItems.stream()
+            .map(oldItems::indexOf)
+            .sorted(Comparator.reverseOrder())
+            .forEach(i -> removeFromList(builder, parent, i));
       addedItems.forEach(e -> addToList(builder, parent, e));
     }
 
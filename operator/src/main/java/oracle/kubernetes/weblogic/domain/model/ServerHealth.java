@@ -5,6 +5,7 @@ package oracle.kubernetes.weblogic.domain.model;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.ListIterator;
 import java.util.stream.Collectors;
 import javax.validation.Valid;
 
@@ -20,6 +21,9 @@ import static oracle.kubernetes.weblogic.domain.model.ObjectPatch.createObjectPa
 /** ServerHealth describes the current status and health of a specific WebLogic Server. */
 public class ServerHealth {
 
+  /** The maximum number of unhealthy subsystems recorded for a server. */
+  static final int MAX_SUBSYSTEMS = 10;
+
   @Description("RFC 3339 date and time at which the server started.")
   @Expose
   private DateTime activationTime;
@@ -100,13 +104,23 @@ public class ServerHealth {
   }
 
   /**
-   * Add the status of an unhealthy subsystem.
+   * Add the status of an unhealthy subsystem. A report for a subsystem already recorded replaces the earlier
+   * one; once {@link #MAX_SUBSYSTEMS} subsystems are recorded, reports for further subsystems are ignored.
    *
    * @param subsystem the unhealthy subsystem
    * @return this
    */
   public ServerHealth addSubsystem(SubsystemHealth subsystem) {
-    subsystems.add(subsystem);
+    for (ListIterator<SubsystemHealth> each = subsystems.listIterator(); each.hasNext(); ) {
+      if (subsystem.isPatchableFrom(each.next())) {
+        each.set(subsystem);
+        return this;
+      }
+    }
+
+    if (subsystems.size() < MAX_SUBSYSTEMS) {
+      subsystems.add(subsystem);
+    }
     return this;
   }
 
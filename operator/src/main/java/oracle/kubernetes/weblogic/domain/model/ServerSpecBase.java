@@ -19,6 +19,8 @@ import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 
+import static oracle.kubernetes.weblogic.domain.model.EffectiveSpecIndex.copyOf;
+
 /** Represents the effective configuration for a server, as seen by the operator runtime. */
 @SuppressWarnings("WeakerAccess")
 public abstract class ServerSpecBase implements ServerSpec {
@@ -41,7 +43,7 @@ public abstract class ServerSpecBase implements ServerSpec {
 
   @Override
   public List<V1LocalObjectReference> getImagePullSecrets() {
-    return domainSpec.getImagePullSecrets();
+    return copyOf(domainSpec.getImagePullSecrets());
   }
 
   @Override
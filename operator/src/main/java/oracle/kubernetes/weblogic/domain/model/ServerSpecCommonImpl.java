@@ -23,6 +23,8 @@ import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 
+import static oracle.kubernetes.weblogic.domain.model.EffectiveSpecIndex.copyOf;
+
 /** The effective configuration for a server configured by the version 2 domain model. */
 public abstract class ServerSpecCommonImpl extends ServerSpecBase {
   private final Server server;
@@ -53,29 +55,29 @@ public abstract class ServerSpecCommonImpl extends ServerSpecBase {
 
   @Override
   public List<V1EnvVar> getEnvironmentVariables() {
-    return server.getEnv();
+    return copyOf(server.getEnv());
   }
 
   @Override
   public List<V1Volume> getAdditionalVolumes() {
-    return server.getAdditionalVolumes();
+    return copyOf(server.getAdditionalVolumes());
   }
 
   @Override
   public List<V1VolumeMount> getAdditionalVolumeMounts() {
-    return server.getAdditionalVolumeMounts();
+    return copyOf(server.getAdditionalVolumeMounts());
   }
 
   @Override
   @Nonnull
   public Map<String, String> getPodLabels() {
-    return server.getPodLabels();
+    return copyOf(server.getPodLabels());
   }
 
   @Override
   @Nonnull
   public Map<String, String> getPodAnnotations() {
-    return server.getPodAnnotations();
+    return copyOf(server.getPodAnnotations());
   }
 
   public Boolean isPrecreateServerService() {
@@ -85,25 +87,25 @@ public abstract class ServerSpecCommonImpl extends ServerSpecBase {
   @Override
   @Nonnull
   public Map<String, String> getServiceLabels() {
-    return server.getServiceLabels();
+    return copyOf(server.getServiceLabels());
   }
 
   @Override
   @Nonnull
   public Map<String, String> getServiceAnnotations() {
-    return server.getServiceAnnotations();
+    return copyOf(server.getServiceAnnotations());
   }
 
   @Override
   @Nonnull
   public List<V1Container> getContainers() {
-    return server.getContainers();
+    return copyOf(server.getContainers());
   }
 
   @Override
   @Nonnull
   public List<V1Container> getInitContainers() {
-    return server.getInitContainers();
+    return copyOf(server.getInitContainers());
   }
 
   @Override
@@ -163,7 +165,7 @@ public abstract class ServerSpecCommonImpl extends ServerSpecBase {
   @Nonnull
   @Override
   public Map<String, String> getNodeSelectors() {
-    return server.getNodeSelector();
+    return copyOf(server.getNodeSelector());
   }
 
   @Override
@@ -178,7 +180,7 @@ public abstract class ServerSpecCommonImpl extends ServerSpecBase {
 
   @Override
   public List<V1PodReadinessGate> getReadinessGates() {
-    return server.getReadinessGates();
+    return copyOf(server.getReadinessGates());
   }
 
   @Override
@@ -208,7 +210,7 @@ public abstract class ServerSpecCommonImpl extends ServerSpecBase {
 
   @Override
   public List<V1Toleration> getTolerations() {
-    return server.getTolerations();
+    return copyOf(server.getTolerations());
   }
 
   @Override
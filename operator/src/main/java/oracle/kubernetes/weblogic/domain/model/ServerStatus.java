@@ -223,7 +223,7 @@ public class ServerStatus implements Comparable<ServerStatus>, PatchableComponen
     return this;
   }
 
-  private boolean isAdminServer() {
+  boolean isAdminServer() {
     return isAdminServer;
   }
 
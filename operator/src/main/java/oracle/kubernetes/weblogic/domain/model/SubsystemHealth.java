@@ -6,6 +6,7 @@ package oracle.kubernetes.weblogic.domain.model;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import javax.validation.Valid;
 import javax.validation.constraints.NotNull;
@@ -21,6 +22,9 @@ import static oracle.kubernetes.weblogic.domain.model.ObjectPatch.createObjectPa
 /** SubsystemHealth describes the current health of a specific subsystem. */
 public class SubsystemHealth implements Comparable<SubsystemHealth>, PatchableComponent<SubsystemHealth> {
 
+  /** The maximum number of symptoms recorded for a subsystem. */
+  static final int MAX_SYMPTOMS = 5;
+
   @Description("Server health of this WebLogic Server instance.")
   @Expose
   @NotNull
@@ -99,25 +103,26 @@ public class SubsystemHealth implements Comparable<SubsystemHealth>, PatchableCo
   }
 
   /**
-   * Symptoms provided by the reporting subsystem.
+   * Symptoms provided by the reporting subsystem. Duplicates are dropped, and only the first
+   * {@link #MAX_SYMPTOMS} distinct symptoms are kept.
    *
    * @param symptoms symptoms
    * @return this
    */
   public SubsystemHealth withSymptoms(List<String> symptoms) {
-    this.symptoms = symptoms;
+    this.symptoms = symptoms.stream().distinct().limit(MAX_SYMPTOMS).collect(Collectors.toList());
     return this;
   }
 
   /**
-   * Symptoms provided by the reporting subsystem.
+   * Symptoms provided by the reporting subsystem. Duplicates are dropped, and only the first
+   * {@link #MAX_SYMPTOMS} distinct symptoms are kept.
    *
    * @param symptoms symptoms
    * @return this
    */
   public SubsystemHealth withSymptoms(String... symptoms) {
-    this.symptoms = Arrays.asList(symptoms);
-    return this;
+    return withSymptoms(Arrays.asList(symptoms));
   }
 
   @Override
@@ -0,0 +1,132 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.meterware.simplestub.Memento;
+import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
+import oracle.kubernetes.operator.helpers.TuningParametersStub;
+import oracle.kubernetes.operator.metrics.OperatorMetrics;
+import oracle.kubernetes.weblogic.domain.model.Domain;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static oracle.kubernetes.operator.DomainEventCoalescer.COALESCED_METRIC;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class DomainEventCoalescerTest {
+  private static final int WINDOW_MILLIS = 100;
+
+  private final List<Memento> mementos = new ArrayList<>();
+  private final KubernetesTestSupport testSupport = new KubernetesTestSupport();
+  private final List<Domain> dispatched = new ArrayList<>();
+  private final List<Boolean> rechecks = new ArrayList<>();
+  private final DomainEventCoalescer coalescer
+        = new DomainEventCoalescer(DomainProcessorDelegateStub.createDelegate(testSupport), this::dispatch);
+  private final Domain domain = DomainProcessorTestSetup.createTestDomain();
+
+  private void dispatch(Domain domain, boolean explicitRecheck) {
+    dispatched.add(domain);
+    rechecks.add(explicitRecheck);
+  }
+
+  /**
+   * Setup test.
+   * @throws Exception on failure
+   */
+  @Before
+  public void setUp() throws Exception {
+    mementos.add(TuningParametersStub.install());
+    TuningParameters.getInstance().put("domainEventCoalescingMillis", Integer.toString(WINDOW_MILLIS));
+  }
+
+  @After
+  public void tearDown() {
+    mementos.forEach(Memento::revert);
+  }
+
+  private Domain createNewerDomain(String resourceVersion) {
+    Domain newer = DomainProcessorTestSetup.createTestDomain();
+    newer.getMetadata().creationTimestamp(domain.getMetadata().getCreationTimestamp()).resourceVersion(resourceVersion);
+    return newer;
+  }
+
+  @Test
+  public void beforeWindowCloses_dontDispatch() {
+    coalescer.submit(domain, false);
+
+    testSupport.setTime(WINDOW_MILLIS - 1, TimeUnit.MILLISECONDS);
+
+    assertThat(dispatched, empty());
+  }
+
+  @Test
+  public void whenWindowCloses_dispatchDomain() {
+    coalescer.submit(domain, false);
+
+    testSupport.setTime(WINDOW_MILLIS, TimeUnit.MILLISECONDS);
+
+    assertThat(dispatched, contains(sameInstance(domain)));
+  }
+
+  @Test
+  public void whenSeveralEventsInWindow_dispatchOnlyLatestDomain() {
+    Domain newer = createNewerDomain("2");
+    Domain newest = createNewerDomain("3");
+
+    coalescer.submit(domain, false);
+    coalescer.submit(newest, false);
+    coalescer.submit(newer, false);
+    testSupport.setTime(WINDOW_MILLIS, TimeUnit.MILLISECONDS);
+
+    assertThat(dispatched, contains(sameInstance(newest)));
+  }
+
+  @Test
+  public void whenAnyCoalescedEventRequestsRecheck_dispatchWithRecheck() {
+    coalescer.submit(domain, true);
+    coalescer.submit(createNewerDomain("2"), false);
+    testSupport.setTime(WINDOW_MILLIS, TimeUnit.MILLISECONDS);
+
+    assertThat(rechecks, contains(true));
+  }
+
+  @Test
+  public void whenEventsCoalesced_updateMetric() {
+    long coalesced = OperatorMetrics.getCount(COALESCED_METRIC);
+
+    coalescer.submit(domain, false);
+    coalescer.submit(createNewerDomain("2"), false);
+    coalescer.submit(createNewerDomain("3"), false);
+
+    assertThat(OperatorMetrics.getCount(COALESCED_METRIC), equalTo(coalesced + 2));
+  }
+
+  @Test
+  public void whenCancelled_dontDispatch() {
+    coalescer.submit(domain, false);
+    coalescer.cancel(domain);
+
+    testSupport.setTime(WINDOW_MILLIS, TimeUnit.MILLISECONDS);
+
+    assertThat(dispatched, empty());
+  }
+
+  @Test
+  public void whenWindowIsZero_dispatchImmediately() {
+    TuningParameters.getInstance().put("domainEventCoalescingMillis", "0");
+
+    coalescer.submit(domain, false);
+
+    assertThat(dispatched, contains(sameInstance(domain)));
+  }
+}
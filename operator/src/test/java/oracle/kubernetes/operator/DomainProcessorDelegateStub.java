@@ -10,6 +10,7 @@ import io.kubernetes.client.openapi.models.V1Pod;
 import io.kubernetes.client.openapi.models.V1SubjectRulesReviewStatus;
 import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
 import oracle.kubernetes.operator.helpers.KubernetesVersion;
+import oracle.kubernetes.operator.helpers.SemanticVersion;
 import oracle.kubernetes.operator.work.FiberGate;
 import oracle.kubernetes.operator.work.FiberTestSupport;
 import oracle.kubernetes.operator.work.Step;
@@ -48,6 +49,11 @@ public abstract class DomainProcessorDelegateStub implements DomainProcessorDele
     return KubernetesVersion.TEST_VERSION;
   }
 
+  @Override
+  public SemanticVersion getProductVersion() {
+    return null;
+  }
+
   @Override
   public FiberGate createFiberGate() {
     return testSupport.createFiberGate();
@@ -59,6 +65,11 @@ public abstract class DomainProcessorDelegateStub implements DomainProcessorDele
     return testSupport.scheduleWithFixedDelay(command, initialDelay, delay, unit);
   }
 
+  @Override
+  public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+    return testSupport.schedule(command, delay, unit);
+  }
+
   private static class PassthroughPodAwaiterStepFactory implements PodAwaiterStepFactory {
     @Override
     public Step waitForReady(V1Pod pod, Step next) {
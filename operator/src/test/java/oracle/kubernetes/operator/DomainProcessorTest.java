@@ -28,6 +28,7 @@ import io.kubernetes.client.openapi.models.V1Secret;
 import io.kubernetes.client.openapi.models.V1Service;
 import io.kubernetes.client.openapi.models.V1ServicePort;
 import io.kubernetes.client.openapi.models.V1ServiceSpec;
+import oracle.kubernetes.operator.builders.WatchEvent;
 import oracle.kubernetes.operator.helpers.AnnotationHelper;
 import oracle.kubernetes.operator.helpers.ConfigMapHelper;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
@@ -38,6 +39,7 @@ import oracle.kubernetes.operator.helpers.PodHelper;
 import oracle.kubernetes.operator.helpers.ServiceHelper;
 import oracle.kubernetes.operator.helpers.TuningParametersStub;
 import oracle.kubernetes.operator.helpers.UnitTestHash;
+import oracle.kubernetes.operator.metrics.OperatorMetrics;
 import oracle.kubernetes.operator.rest.ScanCacheStub;
 import oracle.kubernetes.operator.utils.InMemoryCertificates;
 import oracle.kubernetes.operator.wlsconfig.WlsClusterConfig;
@@ -82,6 +84,7 @@ import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.hamcrest.Matchers.stringContainsInOrder;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
 
@@ -162,6 +165,42 @@ public class DomainProcessorTest {
     assertThat(logRecords, containsFine(NOT_STARTING_DOMAINUID_THREAD));
   }
 
+  @Test
+  public void whenDomainModifiedWithCachedGeneration_replaceCachedDomain() {
+    DomainPresenceInfo info = new DomainPresenceInfo(domain);
+    DomainProcessorImpl.registerDomainPresenceInfo(info);
+    domain.getMetadata().setGeneration(1L);
+    newDomain.getMetadata().generation(1L).resourceVersion("2");
+
+    processor.dispatchDomainWatch(WatchEvent.createModifiedEvent(newDomain).toWatchResponse());
+
+    assertThat(info.getDomain(), sameInstance(newDomain));
+  }
+
+  @Test
+  public void whenDomainModifiedWithCachedGeneration_recordStatusOnlyEvent() {
+    DomainProcessorImpl.registerDomainPresenceInfo(new DomainPresenceInfo(domain));
+    domain.getMetadata().setGeneration(1L);
+    newDomain.getMetadata().generation(1L).resourceVersion("2");
+    long statusOnlyEvents = OperatorMetrics.getCount(DomainProcessorImpl.STATUS_ONLY_EVENT_METRIC);
+
+    processor.dispatchDomainWatch(WatchEvent.createModifiedEvent(newDomain).toWatchResponse());
+
+    assertThat(OperatorMetrics.getCount(DomainProcessorImpl.STATUS_ONLY_EVENT_METRIC), equalTo(statusOnlyEvents + 1));
+  }
+
+  @Test
+  public void whenDomainModifiedWithNewGeneration_dontRecordStatusOnlyEvent() {
+    DomainProcessorImpl.registerDomainPresenceInfo(new DomainPresenceInfo(domain));
+    domain.getMetadata().setGeneration(1L);
+    newDomain.getMetadata().generation(2L).resourceVersion("2");
+    long statusOnlyEvents = OperatorMetrics.getCount(DomainProcessorImpl.STATUS_ONLY_EVENT_METRIC);
+
+    processor.dispatchDomainWatch(WatchEvent.createModifiedEvent(newDomain).toWatchResponse());
+
+    assertThat(OperatorMetrics.getCount(DomainProcessorImpl.STATUS_ONLY_EVENT_METRIC), equalTo(statusOnlyEvents));
+  }
+
   @Test
   public void whenDomainExplicitSet_runUpdateThread() {
     DomainProcessorImpl.registerDomainPresenceInfo(new DomainPresenceInfo(domain));
@@ -171,6 +210,30 @@ public class DomainProcessorTest {
     assertThat(logRecords, not(containsFine(NOT_STARTING_DOMAINUID_THREAD)));
   }
 
+  @Test
+  public void afterMakeRightCompletes_explicitRecheckWithUnchangedFingerprint_isSkipped() {
+    domainConfigurator.configureCluster(CLUSTER).withReplicas(MIN_REPLICAS);
+    processor.createMakeRightOperation(new DomainPresenceInfo(newDomain)).withExplicitRecheck().execute();
+    logRecords.clear();
+
+    processor.createMakeRightOperation(new DomainPresenceInfo(newDomain)).withExplicitRecheck().execute();
+
+    assertThat(logRecords, containsFine(NOT_STARTING_DOMAINUID_THREAD));
+  }
+
+  @Test
+  public void afterMakeRightCompletes_whenServerPodDeleted_explicitRecheckRuns() {
+    domainConfigurator.configureCluster(CLUSTER).withReplicas(MIN_REPLICAS);
+    DomainPresenceInfo info = new DomainPresenceInfo(newDomain);
+    processor.createMakeRightOperation(info).withExplicitRecheck().execute();
+    info.deleteServerPodFromEvent(getManagedServerName(1), info.getServerPod(getManagedServerName(1)));
+    logRecords.clear();
+
+    processor.createMakeRightOperation(info).withExplicitRecheck().execute();
+
+    assertThat(logRecords, not(containsFine(NOT_STARTING_DOMAINUID_THREAD)));
+  }
+
   @Test
   public void whenDomainConfiguredForMaxServers_establishMatchingPresence() {
     domainConfigurator.configureCluster(CLUSTER).withReplicas(MAX_SERVERS);
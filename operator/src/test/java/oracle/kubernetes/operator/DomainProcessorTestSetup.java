@@ -129,7 +129,7 @@ public class DomainProcessorTestSetup {
         new V1Pod()
             .metadata(
                 new V1ObjectMeta()
-                    .putLabelsItem("job-name", "")
+                    .putLabelsItem("job-name", LegalNames.toJobIntrospectorName(UID))
                     .name(LegalNames.toJobIntrospectorName(UID))
                     .namespace(NS)));
   }
@@ -8,6 +8,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.IntStream;
 
 import com.google.common.collect.ImmutableMap;
 import com.meterware.simplestub.Memento;
@@ -20,6 +21,7 @@ import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
 import oracle.kubernetes.operator.utils.RandomStringGenerator;
 import oracle.kubernetes.operator.utils.WlsDomainConfigSupport;
 import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
+import oracle.kubernetes.operator.wlsconfig.WlsServerConfig;
 import oracle.kubernetes.operator.work.Step;
 import oracle.kubernetes.operator.work.TerminalStep;
 import oracle.kubernetes.utils.TestUtils;
@@ -36,6 +38,7 @@ import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
+import static java.net.HttpURLConnection.HTTP_BAD_REQUEST;
 import static oracle.kubernetes.operator.DomainConditionMatcher.hasCondition;
 import static oracle.kubernetes.operator.DomainProcessorTestSetup.NS;
 import static oracle.kubernetes.operator.DomainProcessorTestSetup.UID;
@@ -518,6 +521,34 @@ public class DomainStatusUpdaterTest {
         equalTo(KubernetesConstants.API_VERSION_WEBLOGIC_ORACLE));
   }
 
+  @Test
+  public void whenNumberOfServersGrows_statusIncludesEachServer() {
+    for (int numServers : new int[] {10, 100, 1000}) {
+      defineManyClusteredServers("cluster1", numServers);
+
+      testSupport.runSteps(DomainStatusUpdater.createStatusUpdateStep(endStep));
+
+      assertThat(getRecordedDomain().getStatus().getServers(), hasSize(numServers));
+      assertThat(getRecordedDomain().getStatus().getClusters().get(0).getReplicas(), equalTo(numServers));
+    }
+  }
+
+  private void defineManyClusteredServers(String clusterName, int numServers) {
+    WlsDomainConfigSupport support = new WlsDomainConfigSupport("mydomain");
+    support.addWlsCluster(clusterName,
+          IntStream.rangeClosed(1, numServers).mapToObj(i -> "ms" + i).toArray(String[]::new));
+    WlsDomainConfig domainConfig = support.createDomainConfig();
+
+    List<DomainPresenceInfo.ServerStartupInfo> startupInfos = new ArrayList<>();
+    for (WlsServerConfig serverConfig : domainConfig.getClusterConfig(clusterName).getServerConfigs()) {
+      definePodWithCluster(serverConfig.getName(), clusterName);
+      startupInfos.add(new DomainPresenceInfo.ServerStartupInfo(
+            serverConfig, clusterName, domain.getServer(serverConfig.getName(), clusterName)));
+    }
+    info.setServerStartupInfo(startupInfos);
+    testSupport.addToPacket(DOMAIN_TOPOLOGY, domainConfig);
+  }
+
   private void setAllDesiredServersRunning() {
     configureServer("server1").withDesiredState("ADMIN");
     configureServer("server2").withDesiredState("ADMIN");
@@ -1018,6 +1049,40 @@ public class DomainStatusUpdaterTest {
     assertThat(getRecordedDomain(), not(hasCondition(Available)));
   }
 
+  @Test
+  public void whenDomainHasStatus_failedStepPatchesStatus() {
+    testSupport.failOnReplaceStatus(KubernetesTestSupport.DOMAIN, NAME, NS, HTTP_BAD_REQUEST);
+
+    testSupport.runSteps(DomainStatusUpdater.createFailedStep(failure, endStep));
+
+    assertThat(
+          getRecordedDomain(),
+        hasCondition(Failed).withStatus("True").withReason("Exception").withMessage(message));
+  }
+
+  @Test
+  public void afterStatusPatched_domainPresenceInfoHasPatchedDomain() {
+    testSupport.runSteps(DomainStatusUpdater.createFailedStep(failure, endStep));
+
+    assertThat(info.getDomain(), hasCondition(Failed).withStatus("True"));
+  }
+
+  @Test
+  public void whenRecordedDomainIsStale_rereadDomainAndReplaceStatus() {
+    Domain staleDomain = DomainProcessorTestSetup.createTestDomain();
+    staleDomain.getMetadata().resourceVersion("0");
+    staleDomain.setStatus(new DomainStatus());
+    info.setDomain(staleDomain);
+    domain.getStatus().addCondition(new DomainCondition(Progressing).withStatus("True"));
+
+    testSupport.runSteps(DomainStatusUpdater.createFailedStep(failure, endStep));
+
+    assertThat(
+          getRecordedDomain(),
+        hasCondition(Failed).withStatus("True").withReason("Exception").withMessage(message));
+    assertThat(getRecordedDomain(), not(hasCondition(Progressing)));
+  }
+
   private Domain getRecordedDomain() {
     return testSupport.getResourceWithName(KubernetesTestSupport.DOMAIN, NAME);
   }
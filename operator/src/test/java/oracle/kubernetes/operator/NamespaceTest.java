@@ -48,7 +48,7 @@ public class NamespaceTest {
 
   private Domain domain = DomainProcessorTestSetup.createTestDomain();
   private final TuningParameters.WatchTuning tuning
-          = new TuningParameters.WatchTuning(30, 0, 5);
+          = new TuningParameters.WatchTuning(30, 0, 5, 1000);
   private List<Memento> mementos = new ArrayList<>();
   private Set<String> currentNamespaces = new HashSet<>();
   private Map<String,String> helmValues = new HashMap<>();
@@ -227,7 +227,20 @@ public class NamespaceTest {
 
     @Override
     public MainTuning getMainTuning() {
-      return new MainTuning(2, 2, domainPresenceRecheckIntervalSeconds, 2, 2, 2, 2L, 2L);
+      return new MainTuning(
+          2, 2, domainPresenceRecheckIntervalSeconds, 2, 2, 2, 2L, 2L,
+          0,
+          60L,
+          true,
+          10,
+          1000L,
+          50,
+          0.0,
+          100,
+          100L,
+          200L,
+          10,
+          300L);
     }
   }
 
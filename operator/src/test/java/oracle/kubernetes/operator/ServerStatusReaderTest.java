@@ -11,6 +11,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
@@ -41,9 +42,11 @@ import org.junit.Before;
 import org.junit.Test;
 
 import static com.meterware.simplestub.Stub.createStub;
+import static oracle.kubernetes.operator.ProcessingConstants.SERVERS_HEALTH_READ_FROM_ADMIN;
 import static oracle.kubernetes.operator.ProcessingConstants.SERVER_HEALTH_MAP;
 import static oracle.kubernetes.operator.ProcessingConstants.SERVER_STATE_MAP;
 import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.hasEntry;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
@@ -182,12 +185,67 @@ public class ServerStatusReaderTest extends HttpUserAgentTest {
     assertThat(stepFactory.serverNames, contains("server1"));
   }
 
+  @Test
+  public void whenServerHealthReadFromAdminServer_dontStartHealthStepForIt() throws NoSuchFieldException {
+    mementos.add(StaticStubSupport.install(
+          ServerStatusReader.class, "DOMAIN_HEALTH_STEP_FACTORY", new ReadDomainHealthStepFactoryFake("server1")));
+    info.setServerPod("server1", createPod("server1"));
+    setReadyStatus(info.getServerPod("server1"));
+
+    Packet packet =
+        testSupport.runSteps(ServerStatusReader.createDomainStatusReaderStep(info, 0, endStep));
+
+    assertThat(stepFactory.serverNames, empty());
+    assertThat(getServerStates(packet), hasEntry("server1", "RUNNING"));
+    assertThat(
+        ((AtomicInteger) packet.get(ProcessingConstants.REMAINING_SERVERS_HEALTH_TO_READ)).get(),
+        is(0));
+  }
+
+  @Test
+  public void whenServerHealthReadFromAdminServer_dontDelayReadsOfOtherServers() throws NoSuchFieldException {
+    mementos.add(StaticStubSupport.install(
+          ServerStatusReader.class, "DOMAIN_HEALTH_STEP_FACTORY", new ReadDomainHealthStepFactoryFake("server1")));
+    TuningParameters.getInstance().put("statusReadGroupSize", "1");
+    TuningParameters.getInstance().put("statusReadSpreadMillis", "1000");
+    info.setServerPod("server1", createPod("server1"));
+    info.setServerPod("server2", createPod("server2"));
+    execFactory.defineResponse("server2", "server2 status");
+
+    Packet packet =
+        testSupport.runSteps(ServerStatusReader.createDomainStatusReaderStep(info, 0, endStep));
+
+    assertThat(getServerStates(packet), hasEntry("server2", "server2 status"));
+    assertThat(execFactory.podNames, contains(LegalNames.toPodName(UID, "server2")));
+  }
+
+  static class ReadDomainHealthStepFactoryFake implements Function<Step, Step> {
+    private final String serverName;
+
+    ReadDomainHealthStepFactoryFake(String serverName) {
+      this.serverName = serverName;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Step apply(Step next) {
+      return new Step(next) {
+        @Override
+        public NextAction apply(Packet packet) {
+          ((Map<String, String>) packet.get(SERVER_STATE_MAP)).put(serverName, "RUNNING");
+          ((Set<String>) packet.get(SERVERS_HEALTH_READ_FROM_ADMIN)).add(serverName);
+          return doNext(packet);
+        }
+      };
+    }
+  }
+
   static class ReadServerHealthStepFactoryFake implements Function<Step, Step> {
     List<String> serverNames = new ArrayList<>();
 
     @Override
     public Step apply(Step next) {
-      return new Step() {
+      return new Step(next) {
         @Override
         public NextAction apply(Packet packet) {
           serverNames.add((String) packet.get(ProcessingConstants.SERVER_NAME));
@@ -199,6 +257,7 @@ public class ServerStatusReaderTest extends HttpUserAgentTest {
 
   static class KubernetesExecFactoryFake implements KubernetesExecFactory {
     private Map<String, String> responses = new HashMap<>();
+    private List<String> podNames = new ArrayList<>();
 
     void defineResponse(String serverName, String response) {
       responses.put(LegalNames.toPodName(UID, serverName), response);
@@ -206,6 +265,7 @@ public class ServerStatusReaderTest extends HttpUserAgentTest {
 
     @Override
     public KubernetesExec create(ApiClient client, V1Pod pod, String containerName) {
+      podNames.add(pod.getMetadata().getName());
       return new KubernetesExec() {
         @Override
         public Process exec(String... command) {
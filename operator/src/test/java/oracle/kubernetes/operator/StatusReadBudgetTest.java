@@ -0,0 +1,218 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import com.meterware.simplestub.Memento;
+import oracle.kubernetes.operator.work.Fiber;
+import oracle.kubernetes.operator.work.FiberTestSupport;
+import oracle.kubernetes.operator.work.NextAction;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.Step;
+import oracle.kubernetes.utils.SystemClockTestSupport;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class StatusReadBudgetTest {
+
+  private final FiberTestSupport testSupport = new FiberTestSupport();
+  private final StatusReadBudget budget = new StatusReadBudget(2, TimeUnit.MINUTES.toMillis(1));
+  private final List<String> started = new ArrayList<>();
+  private final Set<String> running = new LinkedHashSet<>();
+  private final Map<String, Runnable> readsInProgress = new HashMap<>();
+  private final Map<String, Fiber> fibers = new HashMap<>();
+  private final List<Memento> mementos = new ArrayList<>();
+
+  /**
+   * Setup test.
+   * @throws Exception on failure
+   */
+  @Before
+  public void setUp() throws Exception {
+    mementos.add(SystemClockTestSupport.installClock());
+  }
+
+  @After
+  public void tearDown() {
+    mementos.forEach(Memento::revert);
+  }
+
+  @Test
+  public void whenUnlimited_stepsAreNotGated() {
+    Step readStep = new StartReadStep("ms1");
+
+    assertThat(new StatusReadBudget(0, 0).createGatedStep("ns/domain1", readStep), sameInstance(readStep));
+  }
+
+  @Test
+  public void whenBudgetExhausted_furtherReadsWait() {
+    startRead("domain1", "ms1");
+    startRead("domain1", "ms2");
+    startRead("domain1", "ms3");
+
+    assertThat(started, contains("domain1/ms1", "domain1/ms2"));
+    assertThat(budget.getNumSlotsInUse(), equalTo(2));
+  }
+
+  @Test
+  public void whenReadCompletes_admitWaitingRead() {
+    startRead("domain1", "ms1");
+    startRead("domain1", "ms2");
+    startRead("domain1", "ms3");
+
+    completeRead("domain1", "ms1");
+
+    assertThat(started, contains("domain1/ms1", "domain1/ms2", "domain1/ms3"));
+    assertThat(budget.getNumSlotsInUse(), equalTo(2));
+  }
+
+  @Test
+  public void whenSeveralDomainsWaiting_admitThemInRotation() {
+    startRead("domain1", "ms1");
+    startRead("domain1", "ms2");
+    startRead("domain1", "ms3");
+    startRead("domain1", "ms4");
+    startRead("domain2", "ms1");
+    startRead("domain3", "ms1");
+
+    completeRead("domain1", "ms1");
+    completeRead("domain1", "ms2");
+    completeRead("domain1", "ms3");
+
+    assertThat(started, contains("domain1/ms1", "domain1/ms2",
+          "domain1/ms3", "domain2/ms1", "domain3/ms1"));
+  }
+
+  @Test
+  public void whenWaitingReadCancelled_admitNextWaitingRead() {
+    startRead("domain1", "ms1");
+    startRead("domain1", "ms2");
+    startRead("domain2", "ms1");
+    startRead("domain3", "ms1");
+
+    fibers.get("domain2/ms1").cancel(false);
+    completeRead("domain1", "ms1");
+
+    assertThat(started, contains("domain1/ms1", "domain1/ms2", "domain3/ms1"));
+  }
+
+  @Test
+  public void whenAbandonedSlotsReclaimed_admitWaitingReadsBeforeNewRead() {
+    startRead("domain1", "ms1");
+    startRead("domain1", "ms2");
+    startRead("domain2", "ms1");
+    startRead("domain2", "ms2");
+
+    abandonRunningReads();
+    startRead("domain3", "ms1");
+
+    assertThat(started, contains("domain1/ms1", "domain1/ms2", "domain2/ms1", "domain2/ms2"));
+  }
+
+  private void abandonRunningReads() {
+    for (int i = 0; i <= TimeUnit.MINUTES.toSeconds(1); i++) {
+      SystemClockTestSupport.increment();
+    }
+  }
+
+  @Test
+  public void whenReadStepsEndWithoutCompleting_admitWaitingRead() {
+    startRead("domain1", new Step() {
+      @Override
+      public NextAction apply(Packet packet) {
+        started.add("domain1/ms1");
+        return doEnd(packet);
+      }
+    });
+    startRead("domain1", "ms2");
+    startRead("domain1", "ms3");
+
+    assertThat(started, contains("domain1/ms1", "domain1/ms2", "domain1/ms3"));
+  }
+
+  @Test
+  public void whenReadStepsThrow_admitWaitingRead() {
+    startRead("domain1", new Step() {
+      @Override
+      public NextAction apply(Packet packet) {
+        started.add("domain1/ms1");
+        throw new IllegalStateException("read failed");
+      }
+    });
+    startRead("domain1", "ms2");
+    startRead("domain1", "ms3");
+
+    assertThat(started, contains("domain1/ms1", "domain1/ms2", "domain1/ms3"));
+  }
+
+  @Test
+  public void whenManyDomainsRead_neverExceedBudget() {
+    for (int domain = 0; domain < 50; domain++) {
+      for (int server = 0; server < 20; server++) {
+        startRead("domain" + domain, "ms" + server);
+      }
+    }
+
+    int maxInUse = 0;
+    while (!running.isEmpty()) {
+      maxInUse = Math.max(maxInUse, budget.getNumSlotsInUse());
+      completeRead(running.iterator().next());
+    }
+
+    assertThat(started.size(), equalTo(1000));
+    assertThat(maxInUse, equalTo(2));
+    assertThat(budget.getNumSlotsInUse(), equalTo(0));
+  }
+
+  private void startRead(String domain, String server) {
+    String name = domain + "/" + server;
+    fibers.put(name, startRead(domain, new StartReadStep(name)));
+  }
+
+  // Each read runs in its own fiber with its own packet, as it would if forked.
+  private Fiber startRead(String domain, Step readStep) {
+    Fiber fiber = testSupport.getEngine().createFiber();
+    fiber.start(budget.createGatedStep(domain, readStep), new Packet(), null);
+    return fiber;
+  }
+
+  private void completeRead(String domain, String server) {
+    completeRead(domain + "/" + server);
+  }
+
+  private void completeRead(String name) {
+    running.remove(name);
+    readsInProgress.remove(name).run();
+  }
+
+  private class StartReadStep extends Step {
+    private final String name;
+
+    StartReadStep(String name) {
+      super(null);
+      this.name = name;
+    }
+
+    // records the start, then waits until the test completes the read
+    @Override
+    public NextAction apply(Packet packet) {
+      started.add(name);
+      running.add(name);
+      return doSuspend(fiber -> readsInProgress.put(name, () -> fiber.resume(packet)));
+    }
+  }
+}
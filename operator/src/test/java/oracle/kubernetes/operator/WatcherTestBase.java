@@ -6,9 +6,11 @@ package oracle.kubernetes.operator;
 import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import com.meterware.simplestub.Memento;
+import com.meterware.simplestub.StaticStubSupport;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.util.Watch;
 import oracle.kubernetes.operator.TuningParameters.WatchTuning;
@@ -25,8 +27,11 @@ import static oracle.kubernetes.operator.builders.EventMatcher.modifyEvent;
 import static oracle.kubernetes.operator.builders.StubWatchFactory.AllWatchesClosedListener;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.not;
 
 /** Tests behavior of the Watcher class. */
 @SuppressWarnings("SameParameterValue")
@@ -35,11 +40,12 @@ public abstract class WatcherTestBase extends ThreadFactoryTestBase implements A
   private static final BigInteger INITIAL_RESOURCE_VERSION = new BigInteger("214748364700");
   private static final String NAMESPACE = "testspace";
   private final RuntimeException hasNextException = new RuntimeException(Watcher.HAS_NEXT_EXCEPTION_MESSAGE);
-  final WatchTuning tuning = new WatchTuning(30, 0, 5);
+  WatchTuning tuning = new WatchTuning(30, 0, 5, 1000);
   private List<Memento> mementos = new ArrayList<>();
   private List<Watch.Response<?>> callBacks = new ArrayList<>();
   private BigInteger resourceVersion = INITIAL_RESOURCE_VERSION;
   private AtomicBoolean stopping = new AtomicBoolean(false);
+  private List<Runnable> deferredDeliveries = new ArrayList<>();
 
   private V1ObjectMeta createMetaData() {
     return createMetaData("test", NAMESPACE);
@@ -99,6 +105,10 @@ public abstract class WatcherTestBase extends ThreadFactoryTestBase implements A
     return createObjectWithMetaData(createMetaData());
   }
 
+  private Object createObjectWithUid(String uid) {
+    return createObjectWithMetaData(createMetaData().uid(uid));
+  }
+
   protected abstract <T> T createObjectWithMetaData(V1ObjectMeta metaData);
 
   @Test
@@ -204,6 +214,86 @@ public abstract class WatcherTestBase extends ThreadFactoryTestBase implements A
         hasEntry("resourceVersion", INITIAL_RESOURCE_VERSION.add(BigInteger.ONE).toString()));
   }
 
+  @Test
+  public void whenEventExecutorSet_dontSendEventsToListenersOnWatchThread() throws NoSuchFieldException {
+    deferEventDelivery();
+    StubWatchFactory.addCallResponses(createAddResponse(createObjectWithMetaData()));
+
+    createAndRunWatcher(NAMESPACE, stopping, INITIAL_RESOURCE_VERSION);
+
+    assertThat(callBacks, empty());
+  }
+
+  @Test
+  public void whenEventExecutorSet_sendEventsToListenersInOrderOnExecutor() throws NoSuchFieldException {
+    deferEventDelivery();
+    Object object1 = createObjectWithMetaData();
+    Object object2 = createObjectWithMetaData();
+    StubWatchFactory.addCallResponses(createAddResponse(object1), createModifyResponse(object2));
+
+    createAndRunWatcher(NAMESPACE, stopping, INITIAL_RESOURCE_VERSION);
+    deferredDeliveries.forEach(Runnable::run);
+
+    assertThat(callBacks, contains(addEvent(object1), modifyEvent(object2)));
+  }
+
+  @Test
+  public void whenEventQueueOverflows_nextRequestSendsResourceVersionZero() throws NoSuchFieldException {
+    deferEventDelivery();
+    tuning = new WatchTuning(30, 0, 5, 1);
+    StubWatchFactory.addCallResponses(
+        createAddResponse(createObjectWithMetaData()), createModifyResponse(createObjectWithMetaData()));
+    scheduleAddResponse(createObjectWithMetaData());
+
+    createAndRunWatcher(NAMESPACE, stopping, INITIAL_RESOURCE_VERSION);
+
+    assertThat(StubWatchFactory.getRequestParameters().get(1), hasEntry("resourceVersion", "0"));
+  }
+
+  @Test
+  public void whenQueuedObjectChangesAgain_sendOnlyLatestEvent() throws NoSuchFieldException {
+    deferEventDelivery();
+    Object object1 = createObjectWithUid("uid1");
+    Object object2 = createObjectWithUid("uid2");
+    Object object1Changed = createObjectWithUid("uid1");
+    StubWatchFactory.addCallResponses(
+        createAddResponse(object1), createAddResponse(object2), createModifyResponse(object1Changed));
+
+    createAndRunWatcher(NAMESPACE, stopping, INITIAL_RESOURCE_VERSION);
+    deferredDeliveries.forEach(Runnable::run);
+
+    assertThat(callBacks, contains(modifyEvent(object1Changed), addEvent(object2)));
+  }
+
+  @SuppressWarnings({"rawtypes", "unchecked"})
+  @Test
+  public void afterEventQueueOverflows_relistLargerThanQueueDoesNotRestartWatchAgain() throws NoSuchFieldException {
+    deferEventDelivery();
+    tuning = new WatchTuning(30, 0, 5, 2);
+    StubWatchFactory.addCallResponses(
+        createAddResponse(createObjectWithUid("uid1")),
+        createAddResponse(createObjectWithUid("uid2")),
+        createAddResponse(createObjectWithUid("uid3")));
+    Watch.Response[] relist = {
+        createAddResponse(createObjectWithUid("uid1")),
+        createAddResponse(createObjectWithUid("uid2")),
+        createAddResponse(createObjectWithUid("uid3")),
+        createAddResponse(createObjectWithUid("uid4"))};
+    StubWatchFactory.addCallResponses(relist);
+    scheduleAddResponse(createObjectWithUid("uid5"));
+
+    createAndRunWatcher(NAMESPACE, stopping, INITIAL_RESOURCE_VERSION);
+    deferredDeliveries.forEach(Runnable::run);
+
+    assertThat(StubWatchFactory.getRequestParameters().get(1), hasEntry("resourceVersion", "0"));
+    assertThat(StubWatchFactory.getRequestParameters().get(2), not(hasEntry("resourceVersion", "0")));
+    assertThat(callBacks, hasSize(5));
+  }
+
+  private void deferEventDelivery() throws NoSuchFieldException {
+    addMemento(StaticStubSupport.install(Watcher.class, "eventExecutor", (Executor) deferredDeliveries::add));
+  }
+
   @Test
   public void afterExceptionDuringNext_closeWatchAndTryAgain() {
     StubWatchFactory.throwExceptionOnNext(hasNextException);
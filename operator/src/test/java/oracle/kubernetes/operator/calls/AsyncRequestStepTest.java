@@ -7,6 +7,7 @@ import java.net.HttpURLConnection;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 import com.meterware.simplestub.Memento;
@@ -30,6 +31,7 @@ import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasKey;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.notNullValue;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 public class AsyncRequestStepTest {
@@ -62,6 +64,7 @@ public class AsyncRequestStepTest {
   public void setUp() throws NoSuchFieldException {
     mementos.add(TestUtils.silenceOperatorLogger());
     mementos.add(ClientFactoryStub.install());
+    CallBreaker.clear();
 
     testSupport.runSteps(asyncRequestStep);
   }
@@ -74,6 +77,7 @@ public class AsyncRequestStepTest {
     for (Memento memento : mementos) {
       memento.revert();
     }
+    CallBreaker.clear();
   }
 
   @Test
@@ -177,6 +181,52 @@ public class AsyncRequestStepTest {
     testSupport.verifyCompletionThrowable(FailureStatusSourceException.class);
   }
 
+  @Test
+  public void whenServerRequestsRetryAfter_waitBeforeRetry() {
+    testSupport.schedule(() -> callFactory.sendFailedCallback(
+          new ApiException("test failure"), HttpURLConnection.HTTP_UNAVAILABLE, Map.of("Retry-After", List.of("5"))));
+    callFactory.clearRequest();
+
+    testSupport.setTime(4, TimeUnit.SECONDS);
+    assertFalse(callFactory.invokedWith(requestParams));
+
+    testSupport.setTime(5, TimeUnit.SECONDS);
+    assertTrue(callFactory.invokedWith(requestParams));
+  }
+
+  @Test
+  public void whenRetryBudgetExhausted_retryAfterMaximumDelay() {
+    for (int i = 0; i < CallBreaker.MAX_RETRY_TOKENS; i++) {
+      CallBreaker.forCall(requestParams.call, requestParams.namespace).tryAcquireRetry();
+    }
+    sendFailedCallback(HttpURLConnection.HTTP_UNAVAILABLE);
+    callFactory.clearRequest();
+
+    testSupport.setTime((int) CallBreaker.MAX_DELAY_MILLIS - 1, TimeUnit.MILLISECONDS);
+    assertFalse(callFactory.invokedWith(requestParams));
+
+    testSupport.setTime((int) CallBreaker.MAX_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+    assertTrue(callFactory.invokedWith(requestParams));
+  }
+
+  @Test
+  public void whenBreakerOpen_newRequestWaits() {
+    for (int i = 0; i < 5; i++) {
+      CallBreaker.forCall(requestParams.call, requestParams.namespace)
+            .recordResponse(HttpURLConnection.HTTP_UNAVAILABLE, now());
+    }
+    callFactory.clearRequest();
+
+    new FiberTestSupport().runSteps(new AsyncRequestStep<>(
+          new TestStep(), requestParams, callFactory, helper, TIMEOUT_SECONDS, MAX_RETRY_COUNT, null, null, null));
+
+    assertFalse(callFactory.invokedWith(requestParams));
+  }
+
+  private long now() {
+    return System.currentTimeMillis();
+  }
+
   // todo tests
   // can new request clear timeout action?
   // what is accessContinue?
@@ -216,7 +266,11 @@ public class AsyncRequestStepTest {
     }
 
     void sendFailedCallback(ApiException exception, int statusCode) {
-      callback.onFailure(exception, statusCode, Collections.emptyMap());
+      sendFailedCallback(exception, statusCode, Collections.emptyMap());
+    }
+
+    void sendFailedCallback(ApiException exception, int statusCode, Map<String, List<String>> headers) {
+      callback.onFailure(exception, statusCode, headers);
     }
 
     @Override
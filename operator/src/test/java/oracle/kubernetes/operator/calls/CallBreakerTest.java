@@ -0,0 +1,160 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.calls;
+
+import oracle.kubernetes.operator.metrics.OperatorMetrics;
+import org.junit.After;
+import org.junit.Test;
+
+import static java.net.HttpURLConnection.HTTP_NOT_FOUND;
+import static java.net.HttpURLConnection.HTTP_OK;
+import static java.net.HttpURLConnection.HTTP_UNAVAILABLE;
+import static oracle.kubernetes.operator.calls.CallBreaker.BASE_DELAY_MILLIS;
+import static oracle.kubernetes.operator.calls.CallBreaker.MAX_DELAY_MILLIS;
+import static oracle.kubernetes.operator.calls.CallBreaker.MAX_RETRY_TOKENS;
+import static org.hamcrest.Matchers.both;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class CallBreakerTest {
+  private static final int THRESHOLD = 3;
+  private static final long OPEN_MILLIS = 5000;
+
+  private final CallBreaker breaker = new CallBreaker("listPod", THRESHOLD, OPEN_MILLIS);
+  private long now = 1000;
+
+  @After
+  public void tearDown() {
+    CallBreaker.clear();
+  }
+
+  private void fail(int times) {
+    for (int i = 0; i < times; i++) {
+      breaker.recordResponse(HTTP_UNAVAILABLE, now);
+    }
+  }
+
+  @Test
+  public void whenFewerFailuresThanThreshold_breakerStaysClosed() {
+    fail(THRESHOLD - 1);
+
+    assertThat(breaker.getState(), equalTo(CallBreaker.State.CLOSED));
+    assertThat(breaker.getDelayBeforeCall(now), equalTo(0L));
+  }
+
+  @Test
+  public void whenNonOverloadResponseReceived_resetFailureCount() {
+    fail(THRESHOLD - 1);
+    breaker.recordResponse(HTTP_NOT_FOUND, now);
+    fail(THRESHOLD - 1);
+
+    assertThat(breaker.getState(), equalTo(CallBreaker.State.CLOSED));
+  }
+
+  @Test
+  public void clientTimeouts_areNotCounted() {
+    fail(THRESHOLD - 1);
+    breaker.recordResponse(0, now);
+
+    assertThat(breaker.getState(), equalTo(CallBreaker.State.CLOSED));
+  }
+
+  @Test
+  public void whenThresholdReached_newCallsWaitUntilBreakerHalfOpen() {
+    fail(THRESHOLD);
+
+    assertThat(breaker.getState(), equalTo(CallBreaker.State.OPEN));
+    assertThat(breaker.getDelayBeforeCall(now + 1000), equalTo(OPEN_MILLIS - 1000));
+  }
+
+  @Test
+  public void whenHalfOpen_onlyOneProbeSent() {
+    fail(THRESHOLD);
+
+    assertThat(breaker.getDelayBeforeCall(now + OPEN_MILLIS), equalTo(0L));
+    assertThat(breaker.getDelayBeforeCall(now + OPEN_MILLIS), equalTo(OPEN_MILLIS));
+    assertThat(breaker.getState(), equalTo(CallBreaker.State.HALF_OPEN));
+  }
+
+  @Test
+  public void whenProbeSucceeds_closeBreaker() {
+    fail(THRESHOLD);
+    breaker.getDelayBeforeCall(now + OPEN_MILLIS);
+
+    breaker.recordResponse(HTTP_OK, now + OPEN_MILLIS);
+
+    assertThat(breaker.getState(), equalTo(CallBreaker.State.CLOSED));
+  }
+
+  @Test
+  public void whenProbeFails_reopenBreakerForLonger() {
+    fail(THRESHOLD);
+    now += OPEN_MILLIS;
+    breaker.getDelayBeforeCall(now);
+
+    fail(1);
+
+    assertThat(breaker.getState(), equalTo(CallBreaker.State.OPEN));
+    assertThat(breaker.getDelayBeforeCall(now), equalTo(2 * OPEN_MILLIS));
+  }
+
+  @Test
+  public void whenBreakerOpens_recordMetric() {
+    long before = OperatorMetrics.getCount("apiCall.listPod.breakerOpened");
+
+    fail(THRESHOLD);
+
+    assertThat(OperatorMetrics.getCount("apiCall.listPod.breakerOpened"), equalTo(before + 1));
+  }
+
+  @Test
+  public void retryDelays_stayWithinBounds() {
+    for (int i = 0; i < 100; i++) {
+      assertThat(breaker.getRetryDelay(0, now),
+            both(greaterThanOrEqualTo(BASE_DELAY_MILLIS)).and(lessThanOrEqualTo(MAX_DELAY_MILLIS)));
+    }
+  }
+
+  @Test
+  public void retryDelay_honorsRetryAfter() {
+    assertThat(breaker.getRetryDelay(20000, now), equalTo(20000L));
+  }
+
+  @Test
+  public void whenRetryBudgetExhausted_noTokensAvailable() {
+    for (int i = 0; i < MAX_RETRY_TOKENS; i++) {
+      breaker.tryAcquireRetry();
+    }
+
+    assertThat(breaker.tryAcquireRetry(), equalTo(false));
+  }
+
+  @Test
+  public void successfulCalls_refillRetryBudget() {
+    for (int i = 0; i < MAX_RETRY_TOKENS; i++) {
+      breaker.tryAcquireRetry();
+    }
+    for (int i = 0; i < 6; i++) {
+      breaker.recordResponse(HTTP_OK, now);
+    }
+
+    assertThat(breaker.tryAcquireRetry(), equalTo(true));
+  }
+
+  @Test
+  public void breakersAreSharedByCallType() {
+    assertThat(CallBreaker.forCall("replaceDomainStatus", "ns1"),
+          sameInstance(CallBreaker.forCall("replaceDomainStatus", "ns1")));
+  }
+
+  @Test
+  public void breakersAreSeparateByNamespace() {
+    assertThat(CallBreaker.forCall("replaceDomainStatus", "ns1"),
+          not(sameInstance(CallBreaker.forCall("replaceDomainStatus", "ns2"))));
+  }
+}
@@ -0,0 +1,148 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.calls;
+
+import java.lang.reflect.Type;
+
+import com.google.gson.reflect.TypeToken;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.Message;
+import io.kubernetes.client.openapi.JSON;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1ServiceList;
+import io.kubernetes.client.proto.IntStr;
+import io.kubernetes.client.proto.Meta;
+import io.kubernetes.client.proto.Runtime;
+import io.kubernetes.client.proto.V1;
+import io.kubernetes.client.util.Watch;
+import oracle.kubernetes.weblogic.domain.model.Domain;
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class ProtobufCodecTest {
+  private static final ByteString MAGIC = ByteString.copyFrom(new byte[] {0x6b, 0x38, 0x73, 0x00});
+  private static final long CREATION_SECONDS = 1_500_000_000L;
+  private static final Type POD_WATCH_RESPONSE = new TypeToken<Watch.Response<V1Pod>>() {}.getType();
+
+  private final ProtobufCodec codec = new ProtobufCodec(new JSON().getGson());
+
+  private static ByteString encode(Message message) {
+    return MAGIC.concat(Runtime.Unknown.newBuilder().setRaw(message.toByteString()).build().toByteString());
+  }
+
+  private static V1.Pod createPod() {
+    return V1.Pod.newBuilder()
+          .setMetadata(Meta.ObjectMeta.newBuilder()
+                .setName("ms1")
+                .setNamespace("ns1")
+                .putLabels("weblogic.serverName", "ms1")
+                .setCreationTimestamp(Meta.Time.newBuilder().setSeconds(CREATION_SECONDS)))
+          .setSpec(V1.PodSpec.newBuilder()
+                .addContainers(V1.Container.newBuilder()
+                      .setName("weblogic-server")
+                      .setReadinessProbe(V1.Probe.newBuilder()
+                            .setHandler(V1.Handler.newBuilder()
+                                  .setHttpGet(V1.HTTPGetAction.newBuilder()
+                                        .setPath("/weblogic/ready")
+                                        .setPort(IntStr.IntOrString.newBuilder().setType(0).setIntVal(8001)))))))
+          .setStatus(V1.PodStatus.newBuilder()
+                .setPhase("Running")
+                .addConditions(V1.PodCondition.newBuilder().setType("Ready").setStatus("True")))
+          .build();
+  }
+
+  @Test
+  public void onlyCoreTypes_areSupported() {
+    assertThat(ProtobufCodec.supports(V1Pod.class), equalTo(true));
+    assertThat(ProtobufCodec.supports(Domain.class), equalTo(false));
+  }
+
+  @Test
+  public void decodePod_hasMetadata() throws Exception {
+    V1Pod pod = codec.decode(encode(createPod()), V1Pod.class);
+
+    assertThat(pod.getMetadata().getName(), equalTo("ms1"));
+    assertThat(pod.getMetadata().getLabels(), hasEntry("weblogic.serverName", "ms1"));
+    assertThat(pod.getMetadata().getCreationTimestamp().getMillis(), equalTo(CREATION_SECONDS * 1000));
+  }
+
+  @Test
+  public void decodePod_hasStatus() throws Exception {
+    V1Pod pod = codec.decode(encode(createPod()), V1Pod.class);
+
+    assertThat(pod.getStatus().getPhase(), equalTo("Running"));
+    assertThat(pod.getStatus().getConditions().get(0).getStatus(), equalTo("True"));
+  }
+
+  @Test
+  public void decodePod_inlinesProbeHandler() throws Exception {
+    V1Pod pod = codec.decode(encode(createPod()), V1Pod.class);
+
+    assertThat(pod.getSpec().getContainers().get(0).getReadinessProbe().getHttpGet().getPath(),
+          equalTo("/weblogic/ready"));
+    assertThat(pod.getSpec().getContainers().get(0).getReadinessProbe().getHttpGet().getPort().getIntValue(),
+          equalTo(8001));
+  }
+
+  @Test
+  public void decodeUnwrappedObject() throws Exception {
+    V1Pod pod = codec.decode(createPod().toByteString(), V1Pod.class);
+
+    assertThat(pod.getMetadata().getName(), equalTo("ms1"));
+  }
+
+  @Test
+  public void decodeList_hasItemsAndContinueToken() throws Exception {
+    V1.ServiceList list = V1.ServiceList.newBuilder()
+          .setMetadata(Meta.ListMeta.newBuilder().setContinue("next"))
+          .addItems(V1.Service.newBuilder().setMetadata(Meta.ObjectMeta.newBuilder().setName("svc1")))
+          .addItems(V1.Service.newBuilder().setMetadata(Meta.ObjectMeta.newBuilder().setName("svc2")))
+          .build();
+
+    V1ServiceList services = codec.decode(encode(list), V1ServiceList.class);
+
+    assertThat(services.getMetadata().getContinue(), equalTo("next"));
+    assertThat(services.getItems().get(1).getMetadata().getName(), equalTo("svc2"));
+  }
+
+  @Test
+  public void decodeWatchEvent_hasTypeAndObject() throws Exception {
+    ByteString frame = Meta.WatchEvent.newBuilder()
+          .setType("MODIFIED")
+          .setObject(Runtime.RawExtension.newBuilder().setRaw(encode(createPod())))
+          .build().toByteString();
+
+    Watch.Response<V1Pod> response = codec.decodeWatchEvent(frame, V1Pod.class, POD_WATCH_RESPONSE);
+
+    assertThat(response.type, equalTo("MODIFIED"));
+    assertThat(response.object.getMetadata().getName(), equalTo("ms1"));
+  }
+
+  @Test
+  public void decodeErrorWatchEvent_hasStatus() throws Exception {
+    ByteString frame = Meta.WatchEvent.newBuilder()
+          .setType("ERROR")
+          .setObject(Runtime.RawExtension.newBuilder().setRaw(encode(createGoneStatus())))
+          .build().toByteString();
+
+    Watch.Response<V1Pod> response = codec.decodeWatchEvent(frame, V1Pod.class, POD_WATCH_RESPONSE);
+
+    assertThat(response.object, nullValue());
+    assertThat(response.status.getCode(), equalTo(410));
+  }
+
+  private Meta.Status createGoneStatus() {
+    return Meta.Status.newBuilder().setCode(410).setReason("Gone").setMessage("too old resource version").build();
+  }
+
+  @Test
+  public void describeFailure_returnsStatusAsJson() {
+    assertThat(codec.describeFailure(encode(createGoneStatus())), containsString("\"reason\":\"Gone\""));
+  }
+}
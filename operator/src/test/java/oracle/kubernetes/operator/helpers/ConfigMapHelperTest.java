@@ -31,6 +31,7 @@ import org.junit.Test;
 import static com.meterware.simplestub.Stub.createStrictStub;
 import static oracle.kubernetes.operator.KubernetesConstants.SCRIPT_CONFIG_MAP_NAME;
 import static oracle.kubernetes.operator.ProcessingConstants.SCRIPT_CONFIG_MAP;
+import static oracle.kubernetes.operator.helpers.AnnotationHelper.SHA256_ANNOTATION;
 import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.CONFIG_MAP;
 import static oracle.kubernetes.operator.logging.MessageKeys.CM_CREATED;
 import static oracle.kubernetes.operator.logging.MessageKeys.CM_EXISTS;
@@ -40,6 +41,7 @@ import static oracle.kubernetes.utils.LogMatcher.containsInfo;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.hasEntry;
 import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.Matchers.sameInstance;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
@@ -215,6 +217,79 @@ public class ConfigMapHelperTest {
     assertThat(getScriptConfigKeys(), hasItem(ADDITIONAL_NAME));
   }
 
+  @Test
+  public void whenNoConfigMap_createItWithContentHash() {
+    testSupport.runSteps(ConfigMapHelper.createScriptConfigMapStep(OPERATOR_NS, DOMAIN_NS));
+
+    assertThat(getScriptConfigMap().getMetadata().getAnnotations(),
+          hasEntry(SHA256_ANNOTATION, ConfigMapHelper.getScriptsHash()));
+  }
+
+  @Test
+  public void whenExistingConfigMapHasCurrentContentHash_dontCompareData() {
+    Step scriptConfigMapStep = ConfigMapHelper.createScriptConfigMapStep(OPERATOR_NS, DOMAIN_NS);
+    testSupport.defineResources(withCurrentContentHash(defineConfigMap(PARTIAL_SCRIPT_NAMES)));
+
+    testSupport.runSteps(scriptConfigMapStep);
+
+    assertThat(logRecords, containsFine(CM_EXISTS));
+    assertThat(getScriptConfigKeys(), containsInAnyOrder(PARTIAL_SCRIPT_NAMES));
+  }
+
+  @Test
+  public void whenExistingConfigMapHasOldContentHash_replaceIt() {
+    testSupport.defineResources(withContentHash(defineConfigMap(PARTIAL_SCRIPT_NAMES), "old"));
+
+    testSupport.runSteps(ConfigMapHelper.createScriptConfigMapStep(OPERATOR_NS, DOMAIN_NS));
+
+    assertThat(logRecords, containsInfo(CM_REPLACED));
+    assertThat(getScriptConfigMap().getMetadata().getAnnotations(),
+          hasEntry(SHA256_ANNOTATION, ConfigMapHelper.getScriptsHash()));
+  }
+
+  @Test
+  public void configMapWithCurrentContentHash_isCurrentScriptConfigMap() {
+    ConfigMapHelper.createScriptConfigMapStep(OPERATOR_NS, DOMAIN_NS);
+
+    assertThat(ConfigMapHelper.isCurrentScriptConfigMap(OPERATOR_NS, withCurrentContentHash(defaultConfigMap)),
+          is(true));
+  }
+
+  @Test
+  public void configMapWithOldContentHash_isNotCurrentScriptConfigMap() {
+    ConfigMapHelper.createScriptConfigMapStep(OPERATOR_NS, DOMAIN_NS);
+
+    assertThat(ConfigMapHelper.isCurrentScriptConfigMap(OPERATOR_NS, withContentHash(defaultConfigMap, "old")),
+          is(false));
+  }
+
+  @Test
+  public void configMapForOtherOperator_isNotCurrentScriptConfigMap() {
+    ConfigMapHelper.createScriptConfigMapStep(OPERATOR_NS, DOMAIN_NS);
+
+    assertThat(ConfigMapHelper.isCurrentScriptConfigMap("other", withCurrentContentHash(defaultConfigMap)),
+          is(false));
+  }
+
+  @Test
+  public void configMapWithoutContentHash_isNotCurrentScriptConfigMap() {
+    assertThat(ConfigMapHelper.isCurrentScriptConfigMap(OPERATOR_NS, defaultConfigMap), is(false));
+  }
+
+  @Test
+  public void scriptsHash_isAvailableBeforeScriptConfigMapStepCreated() {
+    assertThat(ConfigMapHelper.getScriptsHash(), notNullValue());
+  }
+
+  private V1ConfigMap withCurrentContentHash(V1ConfigMap configMap) {
+    return withContentHash(configMap, ConfigMapHelper.getScriptsHash());
+  }
+
+  private V1ConfigMap withContentHash(V1ConfigMap configMap, String hash) {
+    configMap.getMetadata().putAnnotationsItem(SHA256_ANNOTATION, hash);
+    return configMap;
+  }
+
   // An implementation of the comparator that tests only the keys in the maps
   static class TestComparator extends ConfigMapHelper.ConfigMapComparator {
     static Memento install() throws NoSuchFieldException {
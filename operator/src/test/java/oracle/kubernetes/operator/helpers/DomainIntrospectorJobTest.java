@@ -17,9 +17,12 @@ import io.kubernetes.client.openapi.models.V1Container;
 import io.kubernetes.client.openapi.models.V1Job;
 import io.kubernetes.client.openapi.models.V1JobStatus;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
 import io.kubernetes.client.openapi.models.V1SecretReference;
 import oracle.kubernetes.operator.DomainProcessorTestSetup;
+import oracle.kubernetes.operator.DomainSourceType;
 import oracle.kubernetes.operator.calls.unprocessable.UnrecoverableErrorBuilderImpl;
+import oracle.kubernetes.operator.metrics.OperatorMetrics;
 import oracle.kubernetes.operator.rest.ScanCacheStub;
 import oracle.kubernetes.operator.wlsconfig.WlsClusterConfig;
 import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
@@ -38,12 +41,16 @@ import org.junit.Test;
 import static com.meterware.simplestub.Stub.createStrictStub;
 import static oracle.kubernetes.operator.DomainProcessorTestSetup.NS;
 import static oracle.kubernetes.operator.DomainProcessorTestSetup.UID;
+import static oracle.kubernetes.operator.LabelConstants.CONTROLLER_UID_LABEL;
+import static oracle.kubernetes.operator.LabelConstants.JOBNAME_LABEL;
+import static oracle.kubernetes.operator.LabelConstants.SERVERNAME_LABEL;
 import static oracle.kubernetes.operator.ProcessingConstants.DOMAIN_INTROSPECTOR_JOB;
 import static oracle.kubernetes.operator.ProcessingConstants.DOMAIN_TOPOLOGY;
 import static oracle.kubernetes.operator.ProcessingConstants.JOB_POD_NAME;
 import static oracle.kubernetes.operator.helpers.DomainStatusMatcher.hasStatus;
 import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.DOMAIN;
 import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.JOB;
+import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.POD;
 import static oracle.kubernetes.operator.helpers.Matchers.hasEnvVar;
 import static oracle.kubernetes.operator.logging.MessageKeys.INTROSPECTOR_JOB_FAILED;
 import static oracle.kubernetes.operator.logging.MessageKeys.INTROSPECTOR_JOB_FAILED_DETAIL;
@@ -54,8 +61,11 @@ import static oracle.kubernetes.utils.LogMatcher.containsFine;
 import static oracle.kubernetes.utils.LogMatcher.containsInfo;
 import static oracle.kubernetes.utils.LogMatcher.containsWarning;
 import static oracle.kubernetes.weblogic.domain.model.ConfigurationConstants.START_NEVER;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.core.AllOf.allOf;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
 
@@ -68,6 +78,7 @@ public class DomainIntrospectorJobTest {
   private static final String LOG_HOME = "/shared/logs/" + UID;
   private static final String CREDENTIALS_SECRET_NAME = "webLogicCredentialsSecretName";
   private static final String LATEST_IMAGE = "image:latest";
+  private static final String DIGEST_IMAGE = "image@sha256:0123456789abcdef";
   private static final String ADMIN_NAME = "admin";
   private static final int MAX_SERVERS = 2;
   private static final String MS_PREFIX = "managed-server";
@@ -75,6 +86,7 @@ public class DomainIntrospectorJobTest {
       IntStream.rangeClosed(1, MAX_SERVERS).mapToObj(n -> MS_PREFIX + n).toArray(String[]::new);
   private static final String SEVERE_PROBLEM_1 = "really bad";
   private static final String SEVERE_MESSAGE_1 = "@[SEVERE] " + SEVERE_PROBLEM_1;
+  private static final String JOB_UID = "current-uid";
 
   private final TerminalStep terminalStep = new TerminalStep();
   private final Domain domain = createDomain();
@@ -214,6 +226,41 @@ public class DomainIntrospectorJobTest {
     return JobHelper::createDomainIntrospectorJobStep;
   }
 
+  @Test
+  public void afterIntrospectorJobRun_deleteJob() throws JsonProcessingException {
+    new DomainProcessorTestSetup(testSupport).defineKubernetesResources(createDomainConfig("cluster-1"));
+
+    testSupport.runSteps(getStepFactory(), terminalStep);
+
+    assertThat(testSupport.getResources(JOB), empty());
+    assertThat(terminalStep.wasRun(), is(true));
+  }
+
+  @Test
+  public void whenPodOfEarlierJobRemains_readLogOfCurrentJobPod() throws JsonProcessingException {
+    new DomainProcessorTestSetup(testSupport).defineKubernetesResources(createDomainConfig("cluster-1"));
+    testSupport.doOnCreate(JOB, job -> ((V1Job) job).getMetadata().uid(JOB_UID));
+    setControllerUid(testSupport.getResourceWithName(POD, getJobName()), JOB_UID);
+    defineEarlierJobPod();
+
+    testSupport.runSteps(getStepFactory(), terminalStep);
+
+    assertThat(testSupport.getPacket().get(DOMAIN_TOPOLOGY), notNullValue());
+  }
+
+  private void defineEarlierJobPod() {
+    String podName = getJobName() + "-earlier";
+    V1Pod pod = new V1Pod().metadata(
+          new V1ObjectMeta().name(podName).namespace(NS).putLabelsItem(JOBNAME_LABEL, getJobName()));
+    setControllerUid(pod, "earlier-uid");
+    testSupport.defineResources(pod);
+    testSupport.definePodLog(podName, NS, "not an introspection result");
+  }
+
+  private void setControllerUid(V1Pod pod, String uid) {
+    pod.getMetadata().putLabelsItem(CONTROLLER_UID_LABEL, uid);
+  }
+
   @Test
   public void whenNoJob_onFiveHundred() {
     testSupport.addRetryStrategy(retryStrategy);
@@ -315,6 +362,85 @@ public class DomainIntrospectorJobTest {
     assertThat(logRecords, containsWarning(getNoClusterInDomainMessageKey()));
   }
 
+  private void defineCacheableDomain() {
+    domain.getSpec().setDomainHomeSourceType(DomainSourceType.Image);
+    domain.getSpec().setImage(DIGEST_IMAGE);
+    domainPresenceInfo.setServerPod(ADMIN_NAME,
+          new V1Pod().metadata(new V1ObjectMeta().name(ADMIN_NAME).putLabelsItem(SERVERNAME_LABEL, ADMIN_NAME)));
+  }
+
+  private void rerunIntrospection() {
+    logRecords.clear();
+    testSupport.getPacket().remove(DOMAIN_TOPOLOGY);
+    testSupport.runSteps(getStepFactory(), terminalStep);
+  }
+
+  @Test
+  public void whenIntrospectionInputsUnchanged_reuseCachedResult() throws JsonProcessingException {
+    defineCacheableDomain();
+    new DomainProcessorTestSetup(testSupport).defineKubernetesResources(createDomainConfig("cluster-1"));
+    testSupport.runSteps(getStepFactory(), terminalStep);
+    logRecords.clear();
+    testSupport.getPacket().remove(DOMAIN_TOPOLOGY);
+    long hits = OperatorMetrics.getCount(IntrospectionResultCache.HIT_METRIC);
+
+    testSupport.runSteps(getStepFactory(), terminalStep);
+
+    assertThat(OperatorMetrics.getCount(IntrospectionResultCache.HIT_METRIC), equalTo(hits + 1));
+    assertThat(testSupport.getPacket().get(DOMAIN_TOPOLOGY), notNullValue());
+  }
+
+  @Test
+  public void whenImageReferencedByTag_dontReuseCachedResult() throws JsonProcessingException {
+    defineCacheableDomain();
+    domain.getSpec().setImage(LATEST_IMAGE);
+    new DomainProcessorTestSetup(testSupport).defineKubernetesResources(createDomainConfig("cluster-1"));
+    testSupport.runSteps(getStepFactory(), terminalStep);
+
+    rerunIntrospection();
+
+    assertThat(logRecords, containsInfo(getJobCreatedMessageKey()));
+  }
+
+  @Test
+  public void whenDomainHomeOnPersistentVolume_dontReuseCachedResult() throws JsonProcessingException {
+    defineCacheableDomain();
+    domain.getSpec().setDomainHomeSourceType(DomainSourceType.PersistentVolume);
+    new DomainProcessorTestSetup(testSupport).defineKubernetesResources(createDomainConfig("cluster-1"));
+    testSupport.runSteps(getStepFactory(), terminalStep);
+
+    rerunIntrospection();
+
+    assertThat(logRecords, containsInfo(getJobCreatedMessageKey()));
+  }
+
+  @Test
+  public void whenBringingUpNewDomain_dontReuseCachedResult() throws JsonProcessingException {
+    defineCacheableDomain();
+    new DomainProcessorTestSetup(testSupport).defineKubernetesResources(createDomainConfig("cluster-1"));
+    testSupport.runSteps(getStepFactory(), terminalStep);
+    domainPresenceInfo.setServerPod(ADMIN_NAME, null);
+
+    rerunIntrospection();
+
+    assertThat(logRecords, containsInfo(getJobCreatedMessageKey()));
+  }
+
+  @Test
+  public void whenIntrospectVersionChanged_dontReuseCachedResult() throws JsonProcessingException {
+    defineCacheableDomain();
+    new DomainProcessorTestSetup(testSupport).defineKubernetesResources(createDomainConfig("cluster-1"));
+    testSupport.runSteps(getStepFactory(), terminalStep);
+    logRecords.clear();
+    testSupport.getPacket().remove(DOMAIN_TOPOLOGY);
+    domain.getSpec().setIntrospectVersion("2");
+
+    testSupport.runSteps(getStepFactory(), terminalStep);
+
+    assertThat(logRecords, containsInfo(getJobCreatedMessageKey()));
+    assertThat(logRecords, containsFine(getJobDeletedMessageKey()));
+  }
+
   @Test
   public void whenJobLogContainsSevereError_logJobInfosOnDelete() {
     testSupport.defineResources(
@@ -3,13 +3,25 @@
 
 package oracle.kubernetes.operator.helpers;
 
+import io.kubernetes.client.openapi.models.V1Container;
+import io.kubernetes.client.openapi.models.V1ContainerStatus;
+import io.kubernetes.client.openapi.models.V1ManagedFieldsEntry;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodCondition;
+import io.kubernetes.client.openapi.models.V1PodSpec;
+import io.kubernetes.client.openapi.models.V1PodStatus;
 import io.kubernetes.client.openapi.models.V1Service;
+import io.kubernetes.client.openapi.models.V1ServicePort;
+import io.kubernetes.client.openapi.models.V1ServiceSpec;
+import oracle.kubernetes.operator.LabelConstants;
 import org.junit.Test;
 
+import static oracle.kubernetes.operator.helpers.ResourceProjection.project;
 import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.nullValue;
-import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.Assert.assertThat;
 
 public class DomainPresenceInfoTest {
@@ -25,7 +37,7 @@ public class DomainPresenceInfoTest {
     V1Service service = new V1Service();
     info.setClusterService("cluster", service);
 
-    assertThat(info.getClusterService("cluster"), sameInstance(service));
+    assertThat(info.getClusterService("cluster"), equalTo(project(service)));
   }
 
   @Test
@@ -38,7 +50,7 @@ public class DomainPresenceInfoTest {
     V1Service service = new V1Service();
     info.setServerService("admin", service);
 
-    assertThat(info.getServerService("admin"), sameInstance(service));
+    assertThat(info.getServerService("admin"), equalTo(project(service)));
   }
 
   @Test
@@ -51,7 +63,7 @@ public class DomainPresenceInfoTest {
     V1Service service = new V1Service();
     info.setExternalService("admin", service);
 
-    assertThat(info.getExternalService("admin"), sameInstance(service));
+    assertThat(info.getExternalService("admin"), equalTo(project(service)));
   }
 
   @Test
@@ -64,7 +76,53 @@ public class DomainPresenceInfoTest {
     V1Pod pod = new V1Pod();
     info.setServerPod("myserver", pod);
 
-    assertThat(info.getServerPod("myserver"), sameInstance(pod));
+    assertThat(info.getServerPod("myserver"), equalTo(project(pod)));
+  }
+
+  @Test
+  public void afterServerPodDefined_recordedPodOmitsContainersAndManagedFields() {
+    info.setServerPod("myserver", createFullPod());
+
+    V1Pod recorded = info.getServerPod("myserver");
+    assertThat(recorded.getSpec().getContainers(), nullValue());
+    assertThat(recorded.getMetadata().getManagedFields(), nullValue());
+    assertThat(recorded.getStatus().getContainerStatuses(), nullValue());
+  }
+
+  @Test
+  public void afterServerPodDefined_recordedPodRetainsFieldsReadByOperator() {
+    info.setServerPod("myserver", createFullPod());
+
+    V1Pod recorded = info.getServerPod("myserver");
+    assertThat(PodHelper.getPodServerName(recorded), equalTo("myserver"));
+    assertThat(AnnotationHelper.getHash(recorded), equalTo("1234"));
+    assertThat(PodHelper.getReadyStatus(recorded), is(true));
+    assertThat(recorded.getStatus().getPodIP(), equalTo("10.0.0.1"));
+    assertThat(recorded.getSpec().getNodeName(), equalTo("node1"));
+  }
+
+  private V1Pod createFullPod() {
+    return new V1Pod()
+        .metadata(new V1ObjectMeta()
+            .name("myserver")
+            .putLabelsItem(LabelConstants.SERVERNAME_LABEL, "myserver")
+            .putAnnotationsItem(AnnotationHelper.SHA256_ANNOTATION, "1234")
+            .addManagedFieldsItem(new V1ManagedFieldsEntry().manager("kubectl")))
+        .spec(new V1PodSpec().nodeName("node1").addContainersItem(new V1Container().name("weblogic-server")))
+        .status(new V1PodStatus()
+            .phase("Running")
+            .podIP("10.0.0.1")
+            .addConditionsItem(new V1PodCondition().type("Ready").status("True"))
+            .addContainerStatusesItem(new V1ContainerStatus().name("weblogic-server").ready(true)));
+  }
+
+  @Test
+  public void afterServerServiceDefined_recordedServiceRetainsPorts() {
+    V1Service service = new V1Service()
+        .spec(new V1ServiceSpec().clusterIP("None").addPortsItem(new V1ServicePort().name("default").port(7001)));
+    info.setServerService("admin", service);
+
+    assertThat(info.getServerService("admin").getSpec(), equalTo(service.getSpec()));
   }
 
   @Test
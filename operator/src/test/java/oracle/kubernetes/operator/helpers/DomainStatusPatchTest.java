@@ -10,6 +10,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import javax.json.Json;
 import javax.json.JsonArray;
 import javax.json.JsonNumber;
 import javax.json.JsonObject;
@@ -17,6 +18,10 @@ import javax.json.JsonPatchBuilder;
 import javax.json.JsonString;
 import javax.json.JsonValue;
 
+import com.meterware.simplestub.Memento;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.utils.SystemClock;
+import oracle.kubernetes.utils.SystemClockTestSupport;
 import oracle.kubernetes.weblogic.domain.model.ClusterStatus;
 import oracle.kubernetes.weblogic.domain.model.DomainCondition;
 import oracle.kubernetes.weblogic.domain.model.DomainConditionType;
@@ -27,6 +32,8 @@ import oracle.kubernetes.weblogic.domain.model.SubsystemHealth;
 import org.hamcrest.Description;
 import org.hamcrest.TypeSafeDiagnosingMatcher;
 import org.joda.time.DateTime;
+import org.junit.After;
+import org.junit.Before;
 import org.junit.Test;
 
 import static com.meterware.simplestub.Stub.createStrictStub;
@@ -35,11 +42,33 @@ import static oracle.kubernetes.operator.WebLogicConstants.STARTING_STATE;
 import static oracle.kubernetes.operator.helpers.DomainStatusPatchTest.OrderedArrayMatcher.hasItemsInOrder;
 import static org.hamcrest.Matchers.arrayWithSize;
 import static org.hamcrest.Matchers.hasItemInArray;
+import static org.hamcrest.Matchers.lessThan;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
 
 public class DomainStatusPatchTest {
+  private static final int LARGE_DOMAIN_SERVERS = 200;
+
   private PatchBuilderStub builder = createStrictStub(PatchBuilderStub.class);
+  private List<Memento> mementos = new ArrayList<>();
+
+  /**
+   * Setup test.
+   * @throws Exception on failure
+   */
+  @Before
+  public void setUp() throws Exception {
+    mementos.add(SystemClockTestSupport.installClock());
+  }
+
+  @After
+  public void tearDown() {
+    mementos.forEach(Memento::revert);
+  }
+
+  private String transitionTime() {
+    return "'lastTransitionTime':'" + SystemClock.now() + "'";
+  }
 
   @Test      // todo have ADD full status definition as json object - then remove constructor item
   public void whenExistingStatusNull_addStatus() {
@@ -157,8 +186,10 @@ public class DomainStatusPatchTest {
     assertThat(builder.getPatches(),
           hasItemsInOrder(
                 "ADD /status/conditions []",
-                "ADD /status/conditions/- {'message':'hello','reason':'because','status':'true','type':'Available'}",
-                "ADD /status/conditions/- {'reason':'ok now','status':'true','type':'Progressing'}"
+                "ADD /status/conditions/- {" + transitionTime()
+                    + ",'message':'hello','reason':'because','status':'true','type':'Available'}",
+                "ADD /status/conditions/- {" + transitionTime()
+                    + ",'reason':'ok now','status':'true','type':'Progressing'}"
                 ));
   }
 
@@ -193,7 +224,8 @@ public class DomainStatusPatchTest {
 
     assertThat(builder.getPatches(),
           hasItemsInOrder("REMOVE /status/conditions/1",
-                          "ADD /status/conditions/- {'message':'Almost','reason':'trying','type':'Progressing'}"));
+                          "ADD /status/conditions/- {" + transitionTime()
+                              + ",'message':'Almost','reason':'trying','type':'Progressing'}"));
   }
 
   @Test
@@ -209,7 +241,8 @@ public class DomainStatusPatchTest {
 
     assertThat(builder.getPatches(),
           hasItemsInOrder("REMOVE /status/conditions/0",
-                          "ADD /status/conditions/- {'message':'Almost','reason':'trying','type':'Progressing'}"));
+                          "ADD /status/conditions/- {" + transitionTime()
+                              + ",'message':'Almost','reason':'trying','type':'Progressing'}"));
   }
 
   @Test
@@ -455,7 +488,55 @@ public class DomainStatusPatchTest {
                 ));
   }
 
-  // todo status deep clone
+  @Test
+  public void whenSeveralSymptomsRemoved_removeFromHighestIndexFirst() {
+    DomainStatus status1 = new DomainStatus()
+          .addServer(new ServerStatus().withServerName("ms1")
+                .withHealth(new ServerHealth()
+                .addSubsystem(new SubsystemHealth().withSubsystemName("ejb").withSymptoms("s1", "s2", "s3"))));
+    DomainStatus status2 = new DomainStatus()
+          .addServer(new ServerStatus().withServerName("ms1")
+                .withHealth(new ServerHealth()
+                .addSubsystem(new SubsystemHealth().withSubsystemName("ejb").withSymptoms("s2"))));
+
+    computePatch(status1, status2);
+
+    assertThat(builder.getPatches(),
+          hasItemsInOrder(
+                "REMOVE /status/servers/0/health/subsystems/0/symptoms/2",
+                "REMOVE /status/servers/0/health/subsystems/0/symptoms/0"
+                ));
+  }
+
+  @Test
+  public void whenOneServerInLargeDomainChanges_patchIsSmallFractionOfStatus() {
+    DomainStatus status1 = createLargeDomainStatus();
+    DomainStatus status2 = new DomainStatus(status1);
+    status2.getServers().get(LARGE_DOMAIN_SERVERS / 2).setState(STARTING_STATE);
+
+    JsonPatchBuilder patchBuilder = Json.createPatchBuilder();
+    status2.createPatchFrom(patchBuilder, status1);
+    int patchSize = patchBuilder.build().toString().length();
+    int statusSize = LoggingFactory.getJson().serialize(status2).length();
+
+    assertThat(patchSize * 100, lessThan(statusSize));
+  }
+
+  private DomainStatus createLargeDomainStatus() {
+    DateTime activationTime = SystemClock.now();
+    List<ServerStatus> servers = new ArrayList<>();
+    for (int i = 1; i <= LARGE_DOMAIN_SERVERS; i++) {
+      servers.add(new ServerStatus()
+            .withServerName("managed-server" + i).withClusterName("cluster1")
+            .withState(RUNNING_STATE).withDesiredState(RUNNING_STATE).withNodeName("node" + (i % 10))
+            .withHealth(new ServerHealth().withOverallHealth("OK").withActivationTime(activationTime)));
+    }
+    return new DomainStatus()
+          .withServers(servers)
+          .addCluster(new ClusterStatus().withClusterName("cluster1").withReplicas(LARGE_DOMAIN_SERVERS))
+          .addCondition(new DomainCondition(DomainConditionType.Available).withStatus("True"));
+  }
+
 
 
   abstract static class PatchBuilderStub implements JsonPatchBuilder {
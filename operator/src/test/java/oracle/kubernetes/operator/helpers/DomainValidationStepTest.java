@@ -75,6 +75,7 @@ public class DomainValidationStepTest {
   @After
   public void tearDown() {
     mementos.forEach(Memento::revert);
+    DomainValidationCache.clear();
   }
 
   @Test
@@ -120,6 +121,38 @@ public class DomainValidationStepTest {
     assertThat(logRecords, containsSevere(DOMAIN_VALIDATION_FAILED));
   }
 
+  @Test
+  public void whenDomainIsValid_recordGenerationAsValidated() {
+    domain.getMetadata().setGeneration(2L);
+
+    testSupport.runStepsToCompletion(domainValidationSteps);
+
+    assertThat(DomainValidationCache.isValidated(domain), is(true));
+  }
+
+  @Test
+  public void whenDomainIsNotValid_dontRecordGenerationAsValidated() {
+    consoleControl.ignoreMessage(DOMAIN_VALIDATION_FAILED);
+    domain.getMetadata().setGeneration(2L);
+    defineDuplicateServerNames();
+
+    testSupport.runStepsToCompletion(domainValidationSteps);
+
+    assertThat(DomainValidationCache.isValidated(domain), is(false));
+  }
+
+  @Test
+  public void whenGenerationAlreadyValidated_stillCheckReferencedResources() {
+    consoleControl.ignoreMessage(DOMAIN_VALIDATION_FAILED);
+    domain.getMetadata().setGeneration(2L);
+    DomainValidationCache.recordValidated(domain);
+    domain.getSpec().withWebLogicCredentialsSecret(new V1SecretReference().name("name").namespace("ns"));
+
+    testSupport.runStepsToCompletion(domainValidationSteps);
+
+    assertThat(terminalStep.wasRun(), is(false));
+  }
+
   private String getStatusReason(Domain updatedDomain) {
     return Optional.ofNullable(updatedDomain).map(Domain::getStatus).map(DomainStatus::getReason).orElse(null);
   }
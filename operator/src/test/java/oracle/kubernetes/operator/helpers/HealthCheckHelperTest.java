@@ -15,12 +15,16 @@ import io.kubernetes.client.openapi.models.V1SelfSubjectRulesReview;
 import io.kubernetes.client.openapi.models.V1SubjectRulesReviewStatus;
 import oracle.kubernetes.operator.ClientFactoryStub;
 import oracle.kubernetes.operator.helpers.AuthorizationProxy.Operation;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.Step;
+import oracle.kubernetes.utils.SystemClockTestSupport;
 import oracle.kubernetes.utils.TestUtils;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
 import static java.util.Collections.singletonList;
+import static oracle.kubernetes.operator.ProcessingConstants.RULES_REVIEW_STATUS;
 import static oracle.kubernetes.operator.helpers.AuthorizationProxy.Operation.create;
 import static oracle.kubernetes.operator.helpers.AuthorizationProxy.Operation.delete;
 import static oracle.kubernetes.operator.helpers.AuthorizationProxy.Operation.deletecollection;
@@ -29,6 +33,7 @@ import static oracle.kubernetes.operator.helpers.AuthorizationProxy.Operation.li
 import static oracle.kubernetes.operator.helpers.AuthorizationProxy.Operation.patch;
 import static oracle.kubernetes.operator.helpers.AuthorizationProxy.Operation.update;
 import static oracle.kubernetes.operator.helpers.AuthorizationProxy.Operation.watch;
+import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.SELF_SUBJECT_RULES_REVIEW;
 import static oracle.kubernetes.operator.logging.MessageKeys.DOMAIN_UID_UNIQUENESS_FAILED;
 import static oracle.kubernetes.operator.logging.MessageKeys.PV_ACCESS_MODE_FAILED;
 import static oracle.kubernetes.operator.logging.MessageKeys.PV_NOT_FOUND_FOR_DOMAIN_UID;
@@ -36,6 +41,7 @@ import static oracle.kubernetes.operator.logging.MessageKeys.VERIFY_ACCESS_DENIE
 import static oracle.kubernetes.operator.logging.MessageKeys.VERIFY_ACCESS_DENIED_WITH_NS;
 import static oracle.kubernetes.utils.LogMatcher.containsWarning;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
 
 public class HealthCheckHelperTest {
 
@@ -98,7 +104,9 @@ public class HealthCheckHelperTest {
   private List<Memento> mementos = new ArrayList<>();
   private List<LogRecord> logRecords = new ArrayList<>();
   private CallTestSupport testSupport = new CallTestSupport();
+  private KubernetesTestSupport asyncTestSupport = new KubernetesTestSupport();
   private AccessChecks accessChecks = new AccessChecks();
+  private int numRulesReviews;
 
   /**
    * Setup test.
@@ -108,7 +116,17 @@ public class HealthCheckHelperTest {
   public void setUp() throws Exception {
     mementos.add(TestUtils.silenceOperatorLogger().collectLogMessages(logRecords, LOG_KEYS));
     mementos.add(ClientFactoryStub.install());
+    mementos.add(asyncTestSupport.install());
     mementos.add(testSupport.installSynchronousCallDispatcher());
+    mementos.add(TuningParametersStub.install());
+    mementos.add(SystemClockTestSupport.installClock());
+
+    asyncTestSupport.doOnCreate(SELF_SUBJECT_RULES_REVIEW, r -> reviewRules((V1SelfSubjectRulesReview) r));
+  }
+
+  private void reviewRules(V1SelfSubjectRulesReview review) {
+    numRulesReviews++;
+    review.setStatus(accessChecks.createRulesStatus());
   }
 
   /**
@@ -142,6 +160,34 @@ public class HealthCheckHelperTest {
     assertThat(logRecords, containsWarning(VERIFY_ACCESS_DENIED_WITH_NS));
   }
 
+  @Test
+  public void securityChecksStep_recordsRulesReviewStatusInPacket() {
+    Packet packet = asyncTestSupport.runSteps(createSecurityChecksStep());
+
+    assertThat(packet.get(RULES_REVIEW_STATUS), equalTo(accessChecks.createRulesStatus()));
+  }
+
+  @Test
+  public void whenSecurityChecksStepFindsNoNamespaceAccess_logWarning() {
+    accessChecks.setMayAccessNamespace(false);
+
+    asyncTestSupport.runSteps(createSecurityChecksStep());
+
+    assertThat(logRecords, containsWarning(VERIFY_ACCESS_DENIED_WITH_NS));
+  }
+
+  @Test
+  public void securityChecksStep_requestsNewReviewEachTime() {
+    asyncTestSupport.runSteps(createSecurityChecksStep());
+    asyncTestSupport.runSteps(createSecurityChecksStep());
+
+    assertThat(numRulesReviews, equalTo(2));
+  }
+
+  private Step createSecurityChecksStep() {
+    return HealthCheckHelper.createSecurityChecksStep(OPERATOR_NAMESPACE, NS1, null);
+  }
+
   private void expectSelfSubjectRulesReview() {
     testSupport
         .createCannedResponse("createSelfSubjectRulesReview")
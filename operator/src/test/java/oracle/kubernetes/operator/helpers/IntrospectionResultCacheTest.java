@@ -0,0 +1,72 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.meterware.simplestub.Memento;
+import oracle.kubernetes.operator.TuningParameters;
+import oracle.kubernetes.operator.work.Packet;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static oracle.kubernetes.operator.ProcessingConstants.INTROSPECTION_CACHE_KEY;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class IntrospectionResultCacheTest {
+  private static final int MAX_CHARS = 10;
+  private static final String RESULT = "123456";
+
+  private final List<Memento> mementos = new ArrayList<>();
+
+  /**
+   * Setup test.
+   * @throws Exception on failure
+   */
+  @Before
+  public void setUp() throws Exception {
+    mementos.add(TuningParametersStub.install());
+    TuningParameters.getInstance().put("introspectionCacheMaxChars", Integer.toString(MAX_CHARS));
+    IntrospectionResultCache.clear();
+  }
+
+  @After
+  public void tearDown() {
+    IntrospectionResultCache.clear();
+    mementos.forEach(Memento::revert);
+  }
+
+  private Packet withKey(String key) {
+    Packet packet = new Packet();
+    packet.put(INTROSPECTION_CACHE_KEY, key);
+    return packet;
+  }
+
+  @Test
+  public void whenResultRecorded_lookupReturnsIt() {
+    IntrospectionResultCache.record(withKey("a"), RESULT);
+
+    assertThat(IntrospectionResultCache.lookup(withKey("a")), equalTo(RESULT));
+  }
+
+  @Test
+  public void whenTotalSizeExceedsLimit_evictLeastRecentlyUsedResult() {
+    IntrospectionResultCache.record(withKey("a"), RESULT);
+    IntrospectionResultCache.record(withKey("b"), RESULT);
+
+    assertThat(IntrospectionResultCache.lookup(withKey("a")), nullValue());
+    assertThat(IntrospectionResultCache.lookup(withKey("b")), equalTo(RESULT));
+  }
+
+  @Test
+  public void whenResultLargerThanLimit_dontRecordIt() {
+    IntrospectionResultCache.record(withKey("a"), "01234567890");
+
+    assertThat(IntrospectionResultCache.lookup(withKey("a")), nullValue());
+  }
+}
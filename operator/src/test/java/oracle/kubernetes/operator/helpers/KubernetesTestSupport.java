@@ -85,7 +85,6 @@ import org.joda.time.DateTime;
 import org.joda.time.format.DateTimeFormatter;
 import org.joda.time.format.ISODateTimeFormat;
 
-import static java.net.HttpURLConnection.HTTP_INTERNAL_ERROR;
 import static java.net.HttpURLConnection.HTTP_NOT_FOUND;
 import static java.net.HttpURLConnection.HTTP_OK;
 import static java.net.HttpURLConnection.HTTP_UNAVAILABLE;
@@ -110,6 +109,9 @@ public class KubernetesTestSupport extends FiberTestSupport {
   public static final String SELF_SUBJECT_RULES_REVIEW = "SelfSubjectRulesReview";
   public static final String TOKEN_REVIEW = "TokenReview";
 
+  // the status with which Kubernetes rejects a patch which cannot be applied
+  private static final int HTTP_UNPROCESSABLE_ENTITY = 422;
+
   private static RequestParams REQUEST_PARAMS
       = new RequestParams("testcall", "junit", "testName", "body");
 
@@ -314,6 +316,19 @@ public class KubernetesTestSupport extends FiberTestSupport {
     failure = new Failure(Operation.replace, resourceType, name, namespace, httpStatus);
   }
 
+  /**
+   * Specifies that a replace status operation should fail if it matches the specified conditions. Applies to
+   * namespaced resources.
+   *
+   * @param resourceType the type of resource whose status is replaced
+   * @param name the name of the resource
+   * @param namespace the namespace containing the resource
+   * @param httpStatus the status to associate with the failure
+   */
+  public void failOnReplaceStatus(String resourceType, String name, String namespace, int httpStatus) {
+    failure = new Failure(Operation.replaceStatus, resourceType + "Status", name, namespace, httpStatus);
+  }
+
   /**
    * Specifies that a replace operation should fail if it matches the specified conditions. Applies to
    * namespaced resources.
@@ -428,6 +443,12 @@ public class KubernetesTestSupport extends FiberTestSupport {
         return callContext.patchResource(dataRepository);
       }
     },
+    patchStatus {
+      @Override
+      <T> Object execute(CallContext callContext, DataRepository<T> dataRepository) {
+        return callContext.patchResource(dataRepository);
+      }
+    },
     deleteCollection {
       @Override
       <T> Object execute(CallContext callContext, DataRepository<T> dataRepository) {
@@ -499,12 +520,20 @@ public class KubernetesTestSupport extends FiberTestSupport {
     public KubernetesTestSupportMemento() {
       CallBuilder.setStepFactory(new AsyncRequestStepFactoryImpl());
       CallBuilder.setCallDispatcher(new CallDispatcherImpl());
+      IntrospectionResultCache.clear();
+      PodModelHashes.clear();
+      WebLogicCredentialsCache.clear();
+      HealthCheckHelper.clearCache();
     }
 
     @Override
     public void revert() {
       CallBuilder.resetStepFactory();
       CallBuilder.resetCallDispatcher();
+      IntrospectionResultCache.clear();
+      PodModelHashes.clear();
+      WebLogicCredentialsCache.clear();
+      HealthCheckHelper.clearCache();
     }
 
     @Override
@@ -1039,7 +1068,7 @@ public class KubernetesTestSupport extends FiberTestSupport {
     }
 
     private CallResponse<?> createResponse(JsonException e) {
-      return CallResponse.createFailure(REQUEST_PARAMS, new ApiException(e), HTTP_INTERNAL_ERROR);
+      return CallResponse.createFailure(REQUEST_PARAMS, new ApiException(e), HTTP_UNPROCESSABLE_ENTITY);
     }
 
     private CallResponse<?> createResponse(Throwable t) {
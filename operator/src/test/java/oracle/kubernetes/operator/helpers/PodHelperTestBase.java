@@ -55,6 +55,7 @@ import oracle.kubernetes.operator.OverrideDistributionStrategy;
 import oracle.kubernetes.operator.PodAwaiterStepFactory;
 import oracle.kubernetes.operator.ProcessingConstants;
 import oracle.kubernetes.operator.calls.unprocessable.UnrecoverableErrorBuilderImpl;
+import oracle.kubernetes.operator.metrics.OperatorMetrics;
 import oracle.kubernetes.operator.utils.InMemoryCertificates;
 import oracle.kubernetes.operator.utils.WlsDomainConfigSupport;
 import oracle.kubernetes.operator.wlsconfig.NetworkAccessPoint;
@@ -777,6 +778,37 @@ public abstract class PodHelperTestBase {
     return createPod(testSupport.getPacket());
   }
 
+  @Test
+  public void whenDomainHasGeneration_repeatedPodModelsHaveSameContainers() {
+    domainPresenceInfo.getDomain().getMetadata().generation(1L);
+    configureServer().withContainer(new V1Container().name("sidecar"));
+
+    createPodModel();
+
+    assertThat(createPodModel().getSpec().getContainers(), hasSize(2));
+  }
+
+  @Test
+  public void whenPodInputsUnchanged_verifyExistingPodWithRememberedHash() {
+    initializeExistingPod();
+    long hits = OperatorMetrics.getCount(PodModelHashes.HIT_METRIC);
+
+    verifyPodNotReplaced();
+
+    assertThat(OperatorMetrics.getCount(PodModelHashes.HIT_METRIC), equalTo(hits + 1));
+  }
+
+  @Test
+  public void whenDomainSpecChanged_recomputePodModelHash() {
+    initializeExistingPod();
+    long misses = OperatorMetrics.getCount(PodModelHashes.MISS_METRIC);
+
+    configurator.withPodLabel("expected.label", "value");
+    verifyPodReplaced();
+
+    assertThat(OperatorMetrics.getCount(PodModelHashes.MISS_METRIC), equalTo(misses + 1));
+  }
+
   @Test
   public void whenPodHasUnknownCustomerAnnotations_ignoreIt() {
     verifyPodNotReplacedWhen(pod -> pod.getMetadata().putAnnotationsItem("annotation", "value"));
@@ -1012,7 +1044,7 @@ public abstract class PodHelperTestBase {
     testSupport.runSteps(getStepFactory(), terminalStep);
 
     assertThat(logRecords, containsFine(getExistsMessageKey()));
-    assertThat(domainPresenceInfo.getServerPod(serverName), equalTo(createPodModel()));
+    assertThat(domainPresenceInfo.getServerPod(serverName), equalTo(ResourceProjection.project(createPodModel())));
   }
 
   abstract String getExistsMessageKey();
@@ -46,11 +46,11 @@ import static oracle.kubernetes.operator.ProcessingConstants.SERVER_SCAN;
 import static oracle.kubernetes.operator.WebLogicConstants.RUNNING_STATE;
 import static oracle.kubernetes.operator.WebLogicConstants.SHUTDOWN_STATE;
 import static oracle.kubernetes.operator.WebLogicConstants.SUSPENDING_STATE;
+import static oracle.kubernetes.operator.helpers.ResourceProjection.project;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.Matchers.nullValue;
-import static org.hamcrest.Matchers.sameInstance;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
 
 public class PodPresenceTest {
@@ -231,7 +231,7 @@ public class PodPresenceTest {
 
     processor.dispatchPodWatch(event);
 
-    assertThat(info.getServerPod(SERVER), sameInstance(newPod));
+    assertThat(info.getServerPod(SERVER), equalTo(project(newPod)));
   }
 
   @Test
@@ -243,7 +243,7 @@ public class PodPresenceTest {
 
     processor.dispatchPodWatch(event);
 
-    assertThat(info.getServerPod(SERVER), sameInstance(newerPod));
+    assertThat(info.getServerPod(SERVER), equalTo(project(newerPod)));
   }
 
   @Test
@@ -255,7 +255,7 @@ public class PodPresenceTest {
 
     processor.dispatchPodWatch(event);
 
-    assertThat(info.getServerPod(SERVER), sameInstance(currentPod));
+    assertThat(info.getServerPod(SERVER), equalTo(project(currentPod)));
   }
 
   @Test
@@ -265,7 +265,7 @@ public class PodPresenceTest {
 
     processor.dispatchPodWatch(event);
 
-    assertThat(info.getServerPod(SERVER), sameInstance(pod));
+    assertThat(info.getServerPod(SERVER), equalTo(project(pod)));
   }
 
   @Test
@@ -277,7 +277,7 @@ public class PodPresenceTest {
 
     processor.dispatchPodWatch(event);
 
-    assertThat(info.getServerPod(SERVER), sameInstance(newPod));
+    assertThat(info.getServerPod(SERVER), equalTo(project(newPod)));
   }
 
   @Test
@@ -289,7 +289,7 @@ public class PodPresenceTest {
 
     processor.dispatchPodWatch(event);
 
-    assertThat(info.getServerPod(SERVER), sameInstance(currentPod));
+    assertThat(info.getServerPod(SERVER), equalTo(project(currentPod)));
   }
 
   @Test
@@ -350,7 +350,7 @@ public class PodPresenceTest {
 
     processor.dispatchPodWatch(event);
 
-    assertThat(info.getServerPod(SERVER), sameInstance(currentPod));
+    assertThat(info.getServerPod(SERVER), equalTo(project(currentPod)));
   }
 
   @Test
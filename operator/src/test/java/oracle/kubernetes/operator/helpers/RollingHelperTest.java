@@ -29,6 +29,8 @@ import oracle.kubernetes.operator.work.Step;
 import oracle.kubernetes.operator.work.Step.StepAndPacket;
 import oracle.kubernetes.operator.work.TerminalStep;
 import oracle.kubernetes.utils.TestUtils;
+import oracle.kubernetes.weblogic.domain.ClusterConfigurator;
+import oracle.kubernetes.weblogic.domain.DomainConfiguratorFactory;
 import oracle.kubernetes.weblogic.domain.model.Domain;
 import oracle.kubernetes.weblogic.domain.model.DomainSpec;
 import org.junit.After;
@@ -41,6 +43,7 @@ import static oracle.kubernetes.operator.logging.MessageKeys.MANAGED_POD_REPLACE
 import static oracle.kubernetes.utils.LogMatcher.containsInOrder;
 import static oracle.kubernetes.utils.LogMatcher.containsInfo;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.collection.IsEmptyCollection.empty;
 
 public class RollingHelperTest {
@@ -185,6 +188,37 @@ public class RollingHelperTest {
     ));
   }
 
+  @Test
+  public void whenOnlyOneServerMayBeUnavailable_dontRollNextServerUntilReplacementIsReady() {
+    configureCluster().withReplicas(3).withMaxUnavailable(1);
+    initializeExistingPods();
+    testSupport.addToPacket(SERVERS_TO_ROLL, rolling);
+    SERVER_NAMES.forEach(s -> rolling.put(s, createRollingStepAndPacket(s)));
+
+    testSupport.runSteps(RollingHelper.rollServers(rolling, terminalStep));
+
+    assertThat(logRecords, containsInfo(MANAGED_POD_REPLACED, SERVER1_NAME));
+    assertThat(logRecords, not(containsInfo(MANAGED_POD_REPLACED, SERVER2_NAME)));
+  }
+
+  @Test
+  public void whenTwoServersMayBeUnavailable_rollTwoServersWithoutWaiting() {
+    configureCluster().withReplicas(3).withMaxUnavailable(2);
+    initializeExistingPods();
+    testSupport.addToPacket(SERVERS_TO_ROLL, rolling);
+    SERVER_NAMES.forEach(s -> rolling.put(s, createRollingStepAndPacket(s)));
+
+    testSupport.runSteps(RollingHelper.rollServers(rolling, terminalStep));
+
+    assertThat(logRecords, containsInfo(MANAGED_POD_REPLACED, SERVER1_NAME));
+    assertThat(logRecords, containsInfo(MANAGED_POD_REPLACED, SERVER2_NAME));
+    assertThat(logRecords, not(containsInfo(MANAGED_POD_REPLACED, SERVER10_NAME)));
+  }
+
+  private ClusterConfigurator configureCluster() {
+    return DomainConfiguratorFactory.forDomain(domain).configureCluster(CLUSTER_NAME);
+  }
+
   @Test
   public void verifyThatWhenRollingIsEmpty_NoManagedServerPodsAreReplaced() {
     initializeExistingPods();
@@ -39,9 +39,9 @@ import static oracle.kubernetes.operator.ProcessingConstants.CLUSTER_NAME;
 import static oracle.kubernetes.operator.ProcessingConstants.DOMAIN_COMPONENT_NAME;
 import static oracle.kubernetes.operator.ProcessingConstants.DOMAIN_TOPOLOGY;
 import static oracle.kubernetes.operator.ProcessingConstants.SERVER_NAME;
+import static oracle.kubernetes.operator.helpers.ResourceProjection.project;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.nullValue;
-import static org.hamcrest.Matchers.sameInstance;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
 
 @SuppressWarnings("SameParameterValue")
@@ -145,7 +145,7 @@ public class ServicePresenceTest {
 
     processor.dispatchServiceWatch(event);
 
-    assertThat(info.getClusterService(CLUSTER), sameInstance(newService));
+    assertThat(info.getClusterService(CLUSTER), equalTo(project(newService)));
   }
 
   @Test
@@ -157,7 +157,7 @@ public class ServicePresenceTest {
 
     processor.dispatchServiceWatch(event);
 
-    assertThat(info.getClusterService(CLUSTER), sameInstance(newerService));
+    assertThat(info.getClusterService(CLUSTER), equalTo(project(newerService)));
   }
 
   @Test
@@ -169,7 +169,7 @@ public class ServicePresenceTest {
 
     processor.dispatchServiceWatch(event);
 
-    assertThat(info.getClusterService(CLUSTER), sameInstance(currentService));
+    assertThat(info.getClusterService(CLUSTER), equalTo(project(currentService)));
   }
 
   @Test
@@ -179,7 +179,7 @@ public class ServicePresenceTest {
 
     processor.dispatchServiceWatch(event);
 
-    assertThat(info.getClusterService(CLUSTER), sameInstance(service1));
+    assertThat(info.getClusterService(CLUSTER), equalTo(project(service1)));
   }
 
   @Test
@@ -191,7 +191,7 @@ public class ServicePresenceTest {
 
     processor.dispatchServiceWatch(event);
 
-    assertThat(info.getClusterService(CLUSTER), sameInstance(newService));
+    assertThat(info.getClusterService(CLUSTER), equalTo(project(newService)));
   }
 
   @Test
@@ -203,7 +203,7 @@ public class ServicePresenceTest {
 
     processor.dispatchServiceWatch(event);
 
-    assertThat(info.getClusterService(CLUSTER), sameInstance(currentService));
+    assertThat(info.getClusterService(CLUSTER), equalTo(project(currentService)));
   }
 
   @Test
@@ -225,7 +225,7 @@ public class ServicePresenceTest {
 
     processor.dispatchServiceWatch(event);
 
-    assertThat(info.getClusterService(CLUSTER), sameInstance(currentService));
+    assertThat(info.getClusterService(CLUSTER), equalTo(project(currentService)));
   }
 
   @Test
@@ -264,7 +264,7 @@ public class ServicePresenceTest {
 
     processor.dispatchServiceWatch(event);
 
-    assertThat(info.getClusterService(CLUSTER), sameInstance(service));
+    assertThat(info.getClusterService(CLUSTER), equalTo(project(service)));
   }
 
   @Test
@@ -274,7 +274,7 @@ public class ServicePresenceTest {
 
     processor.dispatchServiceWatch(event);
 
-    assertThat(info.getServerService(SERVER), sameInstance(newService));
+    assertThat(info.getServerService(SERVER), equalTo(project(newService)));
   }
 
   @Test
@@ -286,7 +286,7 @@ public class ServicePresenceTest {
 
     processor.dispatchServiceWatch(event);
 
-    assertThat(info.getServerService(SERVER), sameInstance(newerService));
+    assertThat(info.getServerService(SERVER), equalTo(project(newerService)));
   }
 
   @Test
@@ -298,7 +298,7 @@ public class ServicePresenceTest {
 
     processor.dispatchServiceWatch(event);
 
-    assertThat(info.getServerService(SERVER), sameInstance(currentService));
+    assertThat(info.getServerService(SERVER), equalTo(project(currentService)));
   }
 
   @Test
@@ -308,7 +308,7 @@ public class ServicePresenceTest {
 
     processor.dispatchServiceWatch(event);
 
-    assertThat(info.getServerService(SERVER), sameInstance(service1));
+    assertThat(info.getServerService(SERVER), equalTo(project(service1)));
   }
 
   @Test
@@ -320,7 +320,7 @@ public class ServicePresenceTest {
 
     processor.dispatchServiceWatch(event);
 
-    assertThat(info.getServerService(SERVER), sameInstance(newService));
+    assertThat(info.getServerService(SERVER), equalTo(project(newService)));
   }
 
   @Test
@@ -332,7 +332,7 @@ public class ServicePresenceTest {
 
     processor.dispatchServiceWatch(event);
 
-    assertThat(info.getServerService(SERVER), sameInstance(currentService));
+    assertThat(info.getServerService(SERVER), equalTo(project(currentService)));
   }
 
   @Test
@@ -354,7 +354,7 @@ public class ServicePresenceTest {
 
     processor.dispatchServiceWatch(event);
 
-    assertThat(info.getServerService(SERVER), sameInstance(currentService));
+    assertThat(info.getServerService(SERVER), equalTo(project(currentService)));
   }
 
   @Test
@@ -394,7 +394,7 @@ public class ServicePresenceTest {
 
     processor.dispatchServiceWatch(event);
 
-    assertThat(info.getServerService(SERVER), sameInstance(service));
+    assertThat(info.getServerService(SERVER), equalTo(project(service)));
   }
 
   @Test
@@ -404,7 +404,7 @@ public class ServicePresenceTest {
 
     processor.dispatchServiceWatch(event);
 
-    assertThat(info.getExternalService(SERVER), sameInstance(newService));
+    assertThat(info.getExternalService(SERVER), equalTo(project(newService)));
   }
 
   @Test
@@ -416,7 +416,7 @@ public class ServicePresenceTest {
 
     processor.dispatchServiceWatch(event);
 
-    assertThat(info.getExternalService(SERVER), sameInstance(newerService));
+    assertThat(info.getExternalService(SERVER), equalTo(project(newerService)));
   }
 
   @Test
@@ -428,7 +428,7 @@ public class ServicePresenceTest {
 
     processor.dispatchServiceWatch(event);
 
-    assertThat(info.getExternalService(SERVER), sameInstance(currentService));
+    assertThat(info.getExternalService(SERVER), equalTo(project(currentService)));
   }
 
   @Test
@@ -438,7 +438,7 @@ public class ServicePresenceTest {
 
     processor.dispatchServiceWatch(event);
 
-    assertThat(info.getExternalService(SERVER), sameInstance(service1));
+    assertThat(info.getExternalService(SERVER), equalTo(project(service1)));
   }
 
   @Test
@@ -450,7 +450,7 @@ public class ServicePresenceTest {
 
     processor.dispatchServiceWatch(event);
 
-    assertThat(info.getExternalService(SERVER), sameInstance(newService));
+    assertThat(info.getExternalService(SERVER), equalTo(project(newService)));
   }
 
   @Test
@@ -462,7 +462,7 @@ public class ServicePresenceTest {
 
     processor.dispatchServiceWatch(event);
 
-    assertThat(info.getExternalService(SERVER), sameInstance(currentService));
+    assertThat(info.getExternalService(SERVER), equalTo(project(currentService)));
   }
 
   @Test
@@ -484,7 +484,7 @@ public class ServicePresenceTest {
 
     processor.dispatchServiceWatch(event);
 
-    assertThat(info.getExternalService(SERVER), sameInstance(currentService));
+    assertThat(info.getExternalService(SERVER), equalTo(project(currentService)));
   }
 
   @Test
@@ -524,7 +524,7 @@ public class ServicePresenceTest {
 
     processor.dispatchServiceWatch(event);
 
-    assertThat(info.getExternalService(SERVER), sameInstance(service));
+    assertThat(info.getExternalService(SERVER), equalTo(project(service)));
   }
 
   private V1Service createClusterService() {
@@ -562,7 +562,7 @@ public class ServicePresenceTest {
 
     ServiceHelper.addToPresence(info, clusterService);
 
-    assertThat(info.getClusterService(CLUSTER), sameInstance(clusterService));
+    assertThat(info.getClusterService(CLUSTER), equalTo(project(clusterService)));
   }
 
   @Test
@@ -571,7 +571,7 @@ public class ServicePresenceTest {
 
     ServiceHelper.addToPresence(info, serverService);
 
-    assertThat(info.getServerService(SERVER), sameInstance(serverService));
+    assertThat(info.getServerService(SERVER), equalTo(project(serverService)));
   }
 
   @Test
@@ -580,6 +580,6 @@ public class ServicePresenceTest {
 
     ServiceHelper.addToPresence(info, externalService);
 
-    assertThat(info.getExternalService(SERVER), sameInstance(externalService));
+    assertThat(info.getExternalService(SERVER), equalTo(project(externalService)));
   }
 }
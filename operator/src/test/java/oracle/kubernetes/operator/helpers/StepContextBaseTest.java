@@ -0,0 +1,124 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.meterware.simplestub.Memento;
+import io.kubernetes.client.openapi.models.V1Container;
+import io.kubernetes.client.openapi.models.V1EnvVar;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodSpec;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+public class StepContextBaseTest {
+
+  private final StepContextBase context = new StepContextBase(null) {};
+  private final Map<String, String> variables = new HashMap<>();
+  private final List<Memento> mementos = new ArrayList<>();
+
+  @Before
+  public void setUp() throws Exception {
+    mementos.add(TuningParametersStub.install());
+  }
+
+  /**
+   * Tear down test.
+   */
+  @After
+  public void tearDown() {
+    for (Memento memento : mementos) {
+      memento.revert();
+    }
+    LegalNames.dns1123Fields = null;
+  }
+
+  @Test
+  public void whenStringHasNoVariables_returnSameString() {
+    String value = "no variables $(here";
+
+    assertThat(context.doDeepSubstitution(variables, value), sameInstance(value));
+  }
+
+  @Test
+  public void substituteAllDefinedVariables() {
+    variables.put("SERVER_NAME", "ms1");
+    variables.put("DOMAIN_UID", "uid1");
+
+    assertThat(context.doDeepSubstitution(variables, "/$(DOMAIN_UID)/$(SERVER_NAME)/$(UNKNOWN)/$(SERVER_NAME)"),
+        equalTo("/uid1/ms1/$(UNKNOWN)/ms1"));
+  }
+
+  @Test
+  public void whenObjectHasNoVariables_returnSameObject() {
+    variables.put("SERVER_NAME", "ms1");
+    V1Pod pod = createPod("value");
+
+    assertThat(context.doDeepSubstitution(variables, pod), sameInstance(pod));
+  }
+
+  @Test
+  public void whenObjectHasVariables_returnSubstitutedCopy() {
+    variables.put("SERVER_NAME", "ms1");
+    V1Pod pod = createPod("$(SERVER_NAME)-log");
+
+    V1Pod result = context.doDeepSubstitution(variables, pod);
+
+    assertThat(result, not(sameInstance(pod)));
+    assertThat(getEnv(result).get(0).getValue(), equalTo("ms1-log"));
+    assertThat(getEnv(pod).get(0).getValue(), equalTo("$(SERVER_NAME)-log"));
+  }
+
+  @Test
+  public void whenObjectHasVariables_unchangedSiblingsAreShared() {
+    variables.put("SERVER_NAME", "ms1");
+    V1Pod pod = createPod("$(SERVER_NAME)-log");
+
+    V1Pod result = context.doDeepSubstitution(variables, pod);
+
+    assertThat(result.getMetadata(), sameInstance(pod.getMetadata()));
+  }
+
+  @Test
+  public void whenNameRequiresDns1123_convertSubstitutedValue() {
+    variables.put("SERVER_NAME", "Managed_Server1");
+    V1Pod pod = createPod("value").metadata(new V1ObjectMeta().name("$(SERVER_NAME)-pod"));
+
+    V1Pod result = context.doDeepSubstitution(variables, pod);
+
+    assertThat(result.getMetadata().getName(), equalTo("managed-server1-pod"));
+  }
+
+  @Test
+  public void substituteInLists() {
+    variables.put("SERVER_NAME", "ms1");
+    List<String> list = Arrays.asList("a", "$(SERVER_NAME)", "b");
+
+    assertThat(context.doDeepSubstitution(variables, list), contains("a", "ms1", "b"));
+  }
+
+  private V1Pod createPod(String envValue) {
+    return new V1Pod()
+        .metadata(new V1ObjectMeta().name("pod"))
+        .spec(new V1PodSpec().addContainersItem(
+            new V1Container().name("c1").addEnvItem(new V1EnvVar().name("LOG_NAME").value(envValue))));
+  }
+
+  private List<V1EnvVar> getEnv(V1Pod pod) {
+    return pod.getSpec().getContainers().get(0).getEnv();
+  }
+}
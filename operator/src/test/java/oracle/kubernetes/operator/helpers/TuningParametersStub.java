@@ -5,6 +5,7 @@ package oracle.kubernetes.operator.helpers;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 
 import com.meterware.simplestub.Memento;
 import com.meterware.simplestub.StaticStubSupport;
@@ -43,12 +44,37 @@ public abstract class TuningParametersStub implements TuningParameters {
         LIVENESS_INITIAL_DELAY,
         LIVENESS_TIMEOUT,
         LIVENESS_PERIOD,
-        INTROSPECTOR_JOB_ACTIVE_DEADLINE_SECONDS);
+        INTROSPECTOR_JOB_ACTIVE_DEADLINE_SECONDS,
+        (int) getParameter("introspectionCacheSize", 50),
+        getParameter("introspectionCacheMaxChars", 8 * 1024 * 1024),
+        (int) getParameter("podModelHashCacheSize", 5000));
+  }
+
+  // Tests may set any tuning parameter which is not fixed by this stub, by name.
+  private static long getParameter(String name, long defaultValue) {
+    return Optional.ofNullable(namedParameters.get(name)).map(Long::parseLong).orElse(defaultValue);
+  }
+
+  private static boolean getBooleanParameter(String name, boolean defaultValue) {
+    return Optional.ofNullable(namedParameters.get(name)).map(Boolean::parseBoolean).orElse(defaultValue);
   }
 
   @Override
   public MainTuning getMainTuning() {
-    return new MainTuning(2, 2, 2, 2, 2, 2, 2L, 2L);
+    return new MainTuning(
+        2, 2, 2, 2, 2, 2, 2L, 2L,
+        (int) getParameter("maxConcurrentServerStartup", 0),
+        getParameter("credentialsCacheSeconds", 60),
+        getBooleanParameter("readHealthFromAdminServer", true),
+        (int) getParameter("statusReadGroupSize", 10),
+        getParameter("statusReadSpreadMillis", 1000),
+        (int) getParameter("maxConcurrentStatusReads", 50),
+        0.0,
+        (int) getParameter("fiberTraceBufferSize", 100),
+        getParameter("fiberTimerTickMillis", 100),
+        getParameter("domainEventCoalescingMillis", 200),
+        (int) getParameter("rulesReviewConcurrency", 10),
+        getParameter("healthCheckCacheSeconds", 300));
   }
 
   @Override
@@ -61,6 +87,11 @@ public abstract class TuningParametersStub implements TuningParameters {
     return null;
   }
 
+  @Override
+  public HttpTuning getHttpTuning() {
+    return null;
+  }
+
   @Override
   public String get(Object key) {
     return namedParameters.get(key);
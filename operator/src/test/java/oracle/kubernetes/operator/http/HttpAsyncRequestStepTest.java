@@ -18,6 +18,7 @@ import com.meterware.pseudoserver.HttpUserAgentTest;
 import com.meterware.simplestub.Memento;
 import com.meterware.simplestub.StaticStubSupport;
 import oracle.kubernetes.operator.work.AsyncFiber;
+import oracle.kubernetes.operator.work.Cancellable;
 import oracle.kubernetes.operator.work.FiberTestSupport;
 import oracle.kubernetes.operator.work.NextAction;
 import oracle.kubernetes.operator.work.Packet;
@@ -108,6 +109,15 @@ public class HttpAsyncRequestStepTest extends HttpUserAgentTest {
     assertThat(fiber.wasResumed(), is(true));
   }
 
+  @Test
+  public void whenResponseReceived_cancelTimeoutCheck() {
+    final NextAction nextAction = requestStep.apply(packet);
+
+    receiveResponseBeforeTimeout(nextAction, response);
+
+    assertThat(fiber.wasTimeoutCancelled(), is(true));
+  }
+
   private void receiveResponseBeforeTimeout(NextAction nextAction, HttpResponse<String> response) {
     responseFuture.complete(response);
     FiberTestSupport.doOnExit(nextAction, fiber);
@@ -163,6 +173,16 @@ public class HttpAsyncRequestStepTest extends HttpUserAgentTest {
     assertThat(logRecords, containsFine(HTTP_REQUEST_TIMED_OUT));
   }
 
+  @Test
+  public void whenResponseTimesOut_cancelRequest() {
+    consoleMemento.ignoreMessage(HTTP_REQUEST_TIMED_OUT);
+    NextAction nextAction = requestStep.apply(packet);
+
+    receiveTimeout(nextAction);
+
+    assertThat(responseFuture.isCancelled(), is(true));
+  }
+
   @Test
   public void whenTestSupportEnabled_retrieveCannedResult() throws NoSuchFieldException {
     HttpRequest request = HttpRequest.newBuilder().uri(URI.create("http://nowhere")).build();
@@ -189,6 +209,7 @@ public class HttpAsyncRequestStepTest extends HttpUserAgentTest {
   abstract static class TestFiber implements AsyncFiber {
     private Packet packet;
     private Throwable terminationCause;
+    private boolean timeoutCancelled;
 
     boolean wasResumed() {
       return terminationCause == null && packet != null;
@@ -209,9 +230,14 @@ public class HttpAsyncRequestStepTest extends HttpUserAgentTest {
       this.packet = packet;
     }
 
+    boolean wasTimeoutCancelled() {
+      return timeoutCancelled;
+    }
+
     @Override
-    public void scheduleOnce(long timeout, TimeUnit unit, Runnable runnable) {
+    public Cancellable scheduleOnce(long timeout, TimeUnit unit, Runnable runnable) {
       runnable.run();
+      return () -> timeoutCancelled = true;
     }
   }
 
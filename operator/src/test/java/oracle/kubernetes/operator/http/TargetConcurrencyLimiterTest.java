@@ -0,0 +1,97 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.http;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class TargetConcurrencyLimiterTest {
+  private static final String TARGET = "server1:7001";
+  private static final String OTHER_TARGET = "server2:7001";
+
+  private final TargetConcurrencyLimiter limiter = new TargetConcurrencyLimiter(2);
+  private final List<String> sent = new ArrayList<>();
+
+  private TargetConcurrencyLimiter.Permit send(String target, String name) {
+    TargetConcurrencyLimiter.Permit permit = limiter.createPermit(target, () -> sent.add(name));
+    permit.acquire();
+    return permit;
+  }
+
+  @Test
+  public void whenUnderLimit_sendImmediately() {
+    send(TARGET, "r1");
+    send(TARGET, "r2");
+
+    assertThat(sent, contains("r1", "r2"));
+  }
+
+  @Test
+  public void whenAtLimit_waitForEarlierRequest() {
+    TargetConcurrencyLimiter.Permit first = send(TARGET, "r1");
+    send(TARGET, "r2");
+    send(TARGET, "r3");
+
+    assertThat(sent, contains("r1", "r2"));
+
+    first.release(false);
+
+    assertThat(sent, contains("r1", "r2", "r3"));
+  }
+
+  @Test
+  public void limitsAreKeptPerTarget() {
+    send(TARGET, "r1");
+    send(TARGET, "r2");
+    send(OTHER_TARGET, "r3");
+
+    assertThat(sent, contains("r1", "r2", "r3"));
+  }
+
+  @Test
+  public void whenTargetOverloaded_reduceLimit() {
+    send(TARGET, "r1").release(true);
+
+    assertThat(limiter.getLimit(TARGET), equalTo(1));
+  }
+
+  @Test
+  public void whenTargetRecovers_restoreLimit() {
+    send(TARGET, "r1").release(true);
+    send(TARGET, "r2").release(false);
+
+    assertThat(limiter.getLimit(TARGET), equalTo(2));
+  }
+
+  @Test
+  public void whenWaitingRequestAbandoned_dontSendIt() {
+    TargetConcurrencyLimiter.Permit first = send(TARGET, "r1");
+    send(TARGET, "r2");
+    send(TARGET, "r3").release(true);
+
+    first.release(false);
+
+    assertThat(sent, contains("r1", "r2"));
+    assertThat(limiter.getLimit(TARGET), equalTo(2));
+  }
+
+  @Test
+  public void whenTargetIdle_forgetIt() {
+    TargetConcurrencyLimiter idleLimiter = new TargetConcurrencyLimiter(2, 0);
+    idleLimiter.createPermit(TARGET, () -> sent.add("r1")).acquire();
+    TargetConcurrencyLimiter.Permit permit = idleLimiter.createPermit(OTHER_TARGET, () -> sent.add("r2"));
+    permit.acquire();
+    permit.release(false);
+
+    idleLimiter.createPermit(TARGET, () -> sent.add("r3"));
+
+    assertThat(idleLimiter.getNumTargets(), equalTo(1));
+  }
+}
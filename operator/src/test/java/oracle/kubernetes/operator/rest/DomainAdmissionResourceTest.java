@@ -0,0 +1,133 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.rest;
+
+import javax.ws.rs.client.Entity;
+import javax.ws.rs.core.Application;
+import javax.ws.rs.core.MediaType;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import io.kubernetes.client.openapi.models.V1SecretReference;
+import oracle.kubernetes.operator.DomainProcessorTestSetup;
+import oracle.kubernetes.operator.helpers.DomainValidationCache;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.weblogic.domain.model.Domain;
+import oracle.kubernetes.weblogic.domain.model.ManagedServer;
+import org.glassfish.jersey.test.JerseyTest;
+import org.glassfish.jersey.test.inmemory.InMemoryTestContainerFactory;
+import org.glassfish.jersey.test.spi.TestContainerException;
+import org.glassfish.jersey.test.spi.TestContainerFactory;
+import org.junit.Test;
+
+import static oracle.kubernetes.operator.DomainProcessorTestSetup.NS;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class DomainAdmissionResourceTest extends JerseyTest {
+  private static final String REQUEST_UID = "705ab4f5-6393-11e8-b7cc-42010a800002";
+
+  private final Domain domain = DomainProcessorTestSetup.createTestDomain();
+
+  @Override
+  protected Application configure() {
+    return RestServer.createWebhookResourceConfig();
+  }
+
+  @Override
+  protected TestContainerFactory getTestContainerFactory() throws TestContainerException {
+    return new InMemoryTestContainerFactory();
+  }
+
+  @Test
+  public void whenDomainIsValid_allowIt() {
+    assertThat(getResponse(review(domain)).get("allowed").getAsBoolean(), equalTo(true));
+  }
+
+  @Test
+  public void responseEchoesRequestUid() {
+    assertThat(getResponse(review(domain)).get("uid").getAsString(), equalTo(REQUEST_UID));
+  }
+
+  @Test
+  public void whenDomainRefersToMissingSecret_allowIt() {
+    domain.getSpec().withWebLogicCredentialsSecret(new V1SecretReference().name("not-yet-created").namespace(NS));
+
+    assertThat(getResponse(review(domain)).get("allowed").getAsBoolean(), equalTo(true));
+  }
+
+  @Test
+  public void whenManagedServersHaveDuplicateNames_rejectDomain() {
+    defineDuplicateServerNames();
+
+    assertThat(getResponse(review(domain)).get("allowed").getAsBoolean(), equalTo(false));
+  }
+
+  @Test
+  public void whenDomainRejected_reportValidationFailure() {
+    defineDuplicateServerNames();
+
+    JsonObject status = getResponse(review(domain)).getAsJsonObject("status");
+    assertThat(status.get("code").getAsInt(), equalTo(DomainAdmissionResource.INVALID_STATUS));
+    assertThat(status.get("message").getAsString(), containsString("ms1"));
+  }
+
+  @Test
+  public void whenDomainAdmitted_dontRecordItAsValidated() {
+    domain.getMetadata().uid("admitted-uid").generation(1L);
+
+    getResponse(review(domain));
+
+    assertThat(DomainValidationCache.isValidated(domain), is(false));
+  }
+
+  @Test
+  public void whenGenerationAlreadyValidated_stillRejectInvalidDomain() {
+    domain.getMetadata().uid("validated-uid").generation(1L);
+    DomainValidationCache.recordValidated(domain);
+    defineDuplicateServerNames();
+
+    assertThat(getResponse(review(domain)).get("allowed").getAsBoolean(), equalTo(false));
+  }
+
+  @Test
+  public void whenRequestHasNoObject_allowIt() {
+    assertThat(getResponse(review(null)).get("allowed").getAsBoolean(), equalTo(true));
+  }
+
+  @Test
+  public void whenReviewIsMalformed_rejectIt() {
+    assertThat(getResponse("not a review").get("allowed").getAsBoolean(), equalTo(false));
+  }
+
+  @Test
+  public void whenReviewHasNoApiVersion_useDefault() {
+    assertThat(
+        post(review(domain)).get("apiVersion").getAsString(),
+        equalTo(DomainAdmissionResource.DEFAULT_API_VERSION));
+  }
+
+  private void defineDuplicateServerNames() {
+    domain.getSpec().getManagedServers().add(new ManagedServer().withServerName("ms1"));
+    domain.getSpec().getManagedServers().add(new ManagedServer().withServerName("ms1"));
+  }
+
+  private String review(Domain domain) {
+    String object = domain == null ? "null" : LoggingFactory.getJson().serialize(domain);
+    return "{\"kind\": \"AdmissionReview\", "
+        + "\"request\": {\"uid\": \"" + REQUEST_UID + "\", \"operation\": \"CREATE\", \"object\": " + object + "}}";
+  }
+
+  private JsonObject getResponse(String review) {
+    return post(review).getAsJsonObject("response");
+  }
+
+  private JsonObject post(String review) {
+    String result =
+        target("admission").request(MediaType.APPLICATION_JSON).post(Entity.json(review), String.class);
+    return new Gson().fromJson(result, JsonObject.class);
+  }
+}
@@ -23,6 +23,7 @@ import javax.ws.rs.core.Response;
 
 import com.google.gson.Gson;
 import com.meterware.simplestub.Memento;
+import oracle.kubernetes.operator.metrics.OperatorMetrics;
 import oracle.kubernetes.operator.rest.backend.RestBackend;
 import oracle.kubernetes.operator.rest.model.ScaleClusterParamsModel;
 import oracle.kubernetes.utils.TestUtils;
@@ -55,6 +56,7 @@ public class RestTest extends JerseyTest {
   private static final String V1_SWAGGER_HREF = V1_HREF + "/swagger";
   private static final String V1_DOMAINS_HREF = V1_HREF + "/domains";
   private static final String SWAGGER_HREF = LATEST_HREF + "/swagger";
+  private static final String METRICS_HREF = LATEST_HREF + "/metrics";
   private static final String DOMAINS_HREF = LATEST_HREF + "/domains";
   private static final String DOMAIN1_HREF = DOMAINS_HREF + "/uid1";
   private static final String DOMAIN2_HREF = DOMAINS_HREF + "/uid2";
@@ -179,6 +181,15 @@ public class RestTest extends JerseyTest {
     assertThat(result, hasJsonPath("$.paths./operator.get.tags", withValues("Version")));
   }
 
+  @Test
+  public void metricsEndPoint_returnsCurrentMetricValues() {
+    OperatorMetrics.add("restTest.counter", 3);
+
+    Map result = getJsonResponse(METRICS_HREF);
+
+    assertThat(result.get("restTest.counter"), equalTo(3.0));
+  }
+
   @Test
   public void domainsEndPoint_returnsListOfDomainsAndLinks() {
     defineDomains("uid1", "uid2");
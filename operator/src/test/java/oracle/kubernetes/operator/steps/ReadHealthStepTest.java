@@ -7,14 +7,19 @@ import java.net.URI;
 import java.net.http.HttpRequest;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 import java.util.logging.LogRecord;
 
 import com.meterware.simplestub.Memento;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodCondition;
+import io.kubernetes.client.openapi.models.V1PodStatus;
 import io.kubernetes.client.openapi.models.V1Secret;
 import io.kubernetes.client.openapi.models.V1Service;
 import io.kubernetes.client.openapi.models.V1ServicePort;
@@ -36,23 +41,33 @@ import org.junit.Before;
 import org.junit.Test;
 
 import static com.meterware.simplestub.Stub.createStub;
+import static java.net.HttpURLConnection.HTTP_NOT_FOUND;
 import static oracle.kubernetes.operator.DomainProcessorTestSetup.NS;
 import static oracle.kubernetes.operator.DomainProcessorTestSetup.SECRET_NAME;
 import static oracle.kubernetes.operator.LabelConstants.CLUSTERNAME_LABEL;
 import static oracle.kubernetes.operator.ProcessingConstants.DOMAIN_TOPOLOGY;
+import static oracle.kubernetes.operator.ProcessingConstants.ENCODED_CREDENTIALS;
 import static oracle.kubernetes.operator.ProcessingConstants.REMAINING_SERVERS_HEALTH_TO_READ;
+import static oracle.kubernetes.operator.ProcessingConstants.SERVERS_HEALTH_READ_FROM_ADMIN;
 import static oracle.kubernetes.operator.ProcessingConstants.SERVER_HEALTH_MAP;
 import static oracle.kubernetes.operator.ProcessingConstants.SERVER_NAME;
 import static oracle.kubernetes.operator.ProcessingConstants.SERVER_STATE_MAP;
 import static oracle.kubernetes.operator.helpers.SecretHelper.ADMIN_SERVER_CREDENTIALS_PASSWORD;
+import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.SECRET;
 import static oracle.kubernetes.operator.helpers.SecretHelper.ADMIN_SERVER_CREDENTIALS_USERNAME;
 import static oracle.kubernetes.operator.logging.MessageKeys.WLS_HEALTH_READ_FAILED;
 import static oracle.kubernetes.operator.logging.MessageKeys.WLS_HEALTH_READ_FAILED_NO_HTTPCLIENT;
 import static oracle.kubernetes.operator.steps.ReadHealthStep.OVERALL_HEALTH_FOR_SERVER_OVERLOADED;
 import static oracle.kubernetes.operator.steps.ReadHealthStep.OVERALL_HEALTH_NOT_AVAILABLE;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasEntry;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
 
 public class ReadHealthStepTest {
   static final String OK_RESPONSE =
@@ -66,6 +81,25 @@ public class ReadHealthStepTest {
           + "    \"state\": \"RUNNING\",\n"
           + "    \"activationTime\": 1556759105378\n"
           + "}";
+  static final String DOMAIN_RESPONSE =
+      "{\n"
+          + "    \"serverRuntimes\": {\n"
+          + "        \"items\": [\n"
+          + "            {\n"
+          + "                \"name\": \"admin-server\",\n"
+          + "                \"state\": \"RUNNING\",\n"
+          + "                \"overallHealthState\": { \"state\": \"ok\", \"symptoms\": [] },\n"
+          + "                \"activationTime\": 1556759105378\n"
+          + "            },\n"
+          + "            {\n"
+          + "                \"name\": \"managed-server1\",\n"
+          + "                \"state\": \"STANDBY\",\n"
+          + "                \"overallHealthState\": { \"state\": \"ok\", \"symptoms\": [] },\n"
+          + "                \"activationTime\": 1556759105378\n"
+          + "            }\n"
+          + "        ]\n"
+          + "    }\n"
+          + "}";
   // The log messages to be checked during this test
   private static final String[] LOG_KEYS = {
     WLS_HEALTH_READ_FAILED, WLS_HEALTH_READ_FAILED_NO_HTTPCLIENT
@@ -265,6 +299,88 @@ public class ReadHealthStepTest {
     assertThat(getServerStateMap(packet).get(MANAGED_SERVER1), is("UNKNOWN"));
   }
 
+  @Test
+  public void whenCredentialsRecentlyRead_dontReadSecretAgain() {
+    selectServer(MANAGED_SERVER1);
+    defineResponse(200, OK_RESPONSE);
+    testSupport.runSteps(readHealthStep);
+
+    testSupport.failOnResource(SECRET, SECRET_NAME, NS, HTTP_NOT_FOUND);
+    Packet packet = runWithoutCredentials(readHealthStep);
+
+    assertThat(packet.get(ENCODED_CREDENTIALS), notNullValue());
+  }
+
+  @Test
+  public void whenCredentialsRejected_readSecretAgain() {
+    selectServer(MANAGED_SERVER1);
+    defineResponse(401, "");
+    testSupport.runSteps(readHealthStep);
+
+    testSupport.failOnResource(SECRET, SECRET_NAME, NS, HTTP_NOT_FOUND);
+    Packet packet = runWithoutCredentials(readHealthStep);
+
+    assertThat(packet.get(ENCODED_CREDENTIALS), nullValue());
+  }
+
+  private Packet runWithoutCredentials(Step step) {
+    testSupport.getPacket().remove(ENCODED_CREDENTIALS);
+    return testSupport.runSteps(step);
+  }
+
+  @Test
+  public void whenAdminServerReady_readHealthOfAllServersFromIt() {
+    defineAdminServer(true);
+    defineDomainHealthResponse(200, DOMAIN_RESPONSE);
+
+    Packet packet = testSupport.runSteps(ReadHealthStep.createReadDomainHealthStep(terminalStep));
+
+    assertThat(getServerStateMap(packet), allOf(hasEntry(ADMIN_NAME, "RUNNING"), hasEntry(MANAGED_SERVER1, "STANDBY")));
+    assertThat(getServerHealthMap(packet).get(MANAGED_SERVER1).getOverallHealth(), equalTo("ok"));
+    assertThat(getServersReadFromAdmin(packet), containsInAnyOrder(ADMIN_NAME, MANAGED_SERVER1));
+  }
+
+  @Test
+  public void whenAdminServerNotReady_dontReadDomainHealth() {
+    defineAdminServer(false);
+    defineDomainHealthResponse(200, DOMAIN_RESPONSE);
+
+    Packet packet = testSupport.runSteps(ReadHealthStep.createReadDomainHealthStep(terminalStep));
+
+    assertThat(getServersReadFromAdmin(packet), empty());
+  }
+
+  @Test
+  public void whenDomainHealthQueryFails_dontRecordAnyServers() {
+    defineAdminServer(true);
+    defineDomainHealthResponse(500, "");
+
+    Packet packet = testSupport.runSteps(ReadHealthStep.createReadDomainHealthStep(terminalStep));
+
+    assertThat(getServersReadFromAdmin(packet), empty());
+  }
+
+  private void defineAdminServer(boolean ready) {
+    testSupport.addToPacket(SERVERS_HEALTH_READ_FROM_ADMIN, new HashSet<String>());
+    info.setServerService(ADMIN_NAME, service);
+    info.setServerPod(ADMIN_NAME, new V1Pod().metadata(new V1ObjectMeta().name(ADMIN_NAME))
+          .status(new V1PodStatus().phase("Running")
+                .addConditionsItem(new V1PodCondition().type("Ready").status(Boolean.toString(ready)))));
+  }
+
+  private void defineDomainHealthResponse(int status, String body) {
+    httpSupport.defineResponse(
+          HttpRequest.newBuilder()
+                .uri(URI.create("https://127.0.0.1:7001/management/weblogic/latest/domainRuntime/search"))
+                .POST(HttpRequest.BodyPublishers.noBody())
+                .build(),
+          createStub(HttpResponseStub.class, status, body));
+  }
+
+  private Set<String> getServersReadFromAdmin(Packet packet) {
+    return packet.getValue(SERVERS_HEALTH_READ_FROM_ADMIN);
+  }
+
   public abstract static class V1ServiceStub extends V1Service {
 
     @Override
@@ -0,0 +1,138 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.steps;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import oracle.kubernetes.operator.ProcessingConstants;
+import oracle.kubernetes.operator.work.Fiber;
+import oracle.kubernetes.operator.work.FiberTestSupport;
+import oracle.kubernetes.operator.work.NextAction;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.Step;
+import oracle.kubernetes.operator.work.TerminalStep;
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class StartupWindowTest {
+
+  private final FiberTestSupport testSupport = new FiberTestSupport();
+  private final StartupWindow window = new StartupWindow(1);
+  private final List<String> started = new ArrayList<>();
+  private final Map<String, Fiber> fibers = new HashMap<>();
+  private final Map<String, Runnable> waitingForReady = new HashMap<>();
+
+  @Test
+  public void whenUnlimited_stepsAreNotGated() {
+    Step podStep = new TerminalStep();
+
+    assertThat(new StartupWindow(0).createGatedStep(podStep), sameInstance(podStep));
+  }
+
+  @Test
+  public void whenSlotAvailable_serverStartsAndWaitsForReady() {
+    Packet packet = startServer("ms1");
+
+    assertThat(started, contains("ms1"));
+    assertThat(packet.get(ProcessingConstants.WAIT_FOR_POD_READY), equalTo(true));
+  }
+
+  @Test
+  public void whenWindowFull_nextServerWaits() {
+    startServer("ms1");
+    startServer("ms2");
+
+    assertThat(started, contains("ms1"));
+  }
+
+  @Test
+  public void whenPodReady_waitingServerStarts() {
+    startServer("ms1");
+    startServer("ms2");
+
+    podReady("ms1");
+
+    assertThat(started, contains("ms1", "ms2"));
+  }
+
+  @Test
+  public void whenPodStepsEndWithoutReleasing_waitingServerStarts() {
+    startServer("ms1", window.createGatedStep(new RecordStartStep("ms1", null) {
+      @Override
+      public NextAction apply(Packet packet) {
+        started.add("ms1");
+        return doEnd(packet);
+      }
+    }));
+    startServer("ms2");
+
+    assertThat(started, contains("ms1", "ms2"));
+  }
+
+  @Test
+  public void whenPodStepsThrow_waitingServerStarts() {
+    startServer("ms1", window.createGatedStep(new RecordStartStep("ms1", null) {
+      @Override
+      public NextAction apply(Packet packet) {
+        started.add("ms1");
+        throw new IllegalStateException("pod create failed");
+      }
+    }));
+    startServer("ms2");
+
+    assertThat(started, contains("ms1", "ms2"));
+  }
+
+  @Test
+  public void whenWaitingServerCancelled_slotGoesToNextWaiter() {
+    startServer("ms1");
+    startServer("ms2");
+    startServer("ms3");
+
+    fibers.get("ms2").cancel(false);
+    podReady("ms1");
+
+    assertThat(started, contains("ms1", "ms3"));
+  }
+
+  private Packet startServer(String serverName) {
+    return startServer(serverName,
+          window.createGatedStep(new RecordStartStep(serverName, window.createReleaseStep(null))));
+  }
+
+  private Packet startServer(String serverName, Step step) {
+    Packet packet = new Packet();
+    Fiber fiber = testSupport.getEngine().createFiber();
+    fibers.put(serverName, fiber);
+    fiber.start(step, packet, null);
+    return packet;
+  }
+
+  private void podReady(String serverName) {
+    waitingForReady.remove(serverName).run();
+  }
+
+  private class RecordStartStep extends Step {
+    private final String serverName;
+
+    RecordStartStep(String serverName, Step next) {
+      super(next);
+      this.serverName = serverName;
+    }
+
+    // records the start, then waits until the test reports the pod ready
+    @Override
+    public NextAction apply(Packet packet) {
+      started.add(serverName);
+      return doSuspend(fiber -> waitingForReady.put(serverName, () -> fiber.resume(packet)));
+    }
+  }
+}
@@ -0,0 +1,217 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import com.meterware.simplestub.Memento;
+import com.meterware.simplestub.StaticStubSupport;
+import oracle.kubernetes.operator.metrics.OperatorMetrics;
+import org.junit.After;
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class FiberTracerTest {
+
+  private final FiberTestSupport testSupport = new FiberTestSupport();
+  private final List<Memento> mementos = new ArrayList<>();
+
+  @After
+  public void tearDown() {
+    mementos.forEach(Memento::revert);
+  }
+
+  private FiberTracer installTracer(double sampleRate, int bufferSize) throws NoSuchFieldException {
+    FiberTracer tracer = new FiberTracer(sampleRate, bufferSize);
+    mementos.add(StaticStubSupport.install(FiberTracer.class, "instance", tracer));
+    return tracer;
+  }
+
+  @Test
+  public void whenSamplingOff_recordNoSpans() throws NoSuchFieldException {
+    FiberTracer tracer = installTracer(0, 10);
+
+    testSupport.runSteps(Step.chain(new FirstStep(), new SecondStep()));
+
+    assertThat(tracer.exportSpans(), empty());
+  }
+
+  @Test
+  public void whenFiberSampled_recordSpanForFiberAndEachStep() throws NoSuchFieldException {
+    FiberTracer tracer = installTracer(1, 10);
+
+    testSupport.runSteps(Step.chain(new FirstStep(), new SecondStep()));
+
+    assertThat(getNames(tracer.exportSpans()), containsInAnyOrder("fiber", "First", "Second"));
+  }
+
+  @Test
+  public void stepSpans_areChildrenOfFiberSpan() throws NoSuchFieldException {
+    FiberTracer tracer = installTracer(1, 10);
+
+    testSupport.runSteps(new FirstStep());
+
+    Map<String, Object> fiberSpan = getSpan(tracer, "fiber");
+    assertThat(getSpan(tracer, "First"), hasEntry("parentId", fiberSpan.get("id")));
+    assertThat(getSpan(tracer, "First"), hasEntry("traceId", fiberSpan.get("traceId")));
+  }
+
+  @Test
+  public void childFiberSpans_areChildrenOfForkingStep() throws NoSuchFieldException {
+    FiberTracer tracer = installTracer(1, 10);
+
+    testSupport.runSteps(new ForkStep());
+
+    String forkId = (String) getSpan(tracer, "Fork").get("id");
+    assertThat(
+          tracer.exportSpans().stream()
+                .filter(s -> Objects.equals(s.get("parentId"), forkId))
+                .map(s -> simplify((String) s.get("name")))
+                .collect(Collectors.toList()),
+          containsInAnyOrder("fiber-child", "fiber-child"));
+    assertThat(getNames(tracer.exportSpans()), containsInAnyOrder(
+          "fiber", "Fork", "fiber-child", "First", "fiber-child", "Second"));
+  }
+
+  @Test
+  public void whenStepSuspends_recordSuspendedTime() throws NoSuchFieldException {
+    FiberTracer tracer = installTracer(1, 10);
+
+    testSupport.runSteps(Step.chain(new DelayStep(), new FirstStep()));
+    testSupport.setTime(5, TimeUnit.SECONDS);
+
+    assertThat(getTags(getSpan(tracer, "Delay")), hasKey("suspendedMicros"));
+  }
+
+  @Test
+  public void whenBufferFull_keepMostRecentTraces() throws NoSuchFieldException {
+    FiberTracer tracer = installTracer(1, 2);
+
+    testSupport.runSteps(new FirstStep());
+    testSupport.runSteps(new SecondStep());
+    testSupport.runSteps(new SecondStep());
+
+    assertThat(getNames(tracer.exportSpans()), containsInAnyOrder("fiber", "Second", "fiber", "Second"));
+  }
+
+  @Test
+  public void whenTraceFull_dropAndCountExtraSpans() throws NoSuchFieldException {
+    FiberTracer tracer = new FiberTracer(1, 10, 2);
+    mementos.add(StaticStubSupport.install(FiberTracer.class, "instance", tracer));
+    long before = OperatorMetrics.getCount(FiberTracer.DROPPED_SPANS_METRIC);
+
+    testSupport.runSteps(Step.chain(new FirstStep(), new SecondStep()));
+
+    assertThat(getNames(tracer.exportSpans()), containsInAnyOrder("fiber", "First"));
+    assertThat(OperatorMetrics.getCount(FiberTracer.DROPPED_SPANS_METRIC), equalTo(before + 1));
+  }
+
+  @Test
+  public void sampledSteps_recordTimingMetrics() throws NoSuchFieldException {
+    installTracer(1, 10);
+    String metric = "step." + new FirstStep().getBaseName() + ".millis.count";
+    long before = OperatorMetrics.getCount(metric);
+
+    testSupport.runSteps(new FirstStep());
+
+    assertThat(OperatorMetrics.getCount(metric), greaterThan(before));
+  }
+
+  @Test
+  public void spansHaveZipkinFields() throws NoSuchFieldException {
+    FiberTracer tracer = installTracer(1, 10);
+
+    testSupport.runSteps(new FirstStep());
+
+    Map<String, Object> span = getSpan(tracer, "First");
+    assertThat(((String) span.get("traceId")).length(), equalTo(16));
+    assertThat(((String) span.get("id")).length(), equalTo(16));
+    assertThat(span, hasKey("timestamp"));
+    assertThat(span, hasKey("duration"));
+    assertThat(span, hasEntry("localEndpoint", Map.of("serviceName", "weblogic-operator")));
+  }
+
+  // Fiber names include the thread and fiber id, so are reduced to their kind.
+  private List<String> getNames(List<Map<String, Object>> spans) {
+    return spans.stream().map(s -> (String) s.get("name")).map(this::simplify).collect(Collectors.toList());
+  }
+
+  // Step names include the name of this test class, which contains them.
+  private String simplify(String name) {
+    if (name.contains("-child-")) {
+      return "fiber-child";
+    }
+    return name.contains("fiber-") ? "fiber" : name.substring(name.lastIndexOf('$') + 1);
+  }
+
+  private Map<String, Object> getSpan(FiberTracer tracer, String name) {
+    return tracer.exportSpans().stream()
+          .filter(s -> simplify((String) s.get("name")).equals(name))
+          .findFirst()
+          .orElseThrow();
+  }
+
+  @SuppressWarnings("unchecked")
+  private Map<String, String> getTags(Map<String, Object> span) {
+    return (Map<String, String>) span.get("tags");
+  }
+
+  private static class FirstStep extends Step {
+    FirstStep() {
+      super(null);
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      return doNext(packet);
+    }
+  }
+
+  private static class SecondStep extends Step {
+    SecondStep() {
+      super(null);
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      return doNext(packet);
+    }
+  }
+
+  private static class DelayStep extends Step {
+    DelayStep() {
+      super(null);
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      return doDelay(getNext(), packet, 1, TimeUnit.SECONDS);
+    }
+  }
+
+  private static class ForkStep extends Step {
+    ForkStep() {
+      super(null);
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      return doForkJoin(getNext(), packet, List.of(
+            new StepAndPacket(new FirstStep(), packet.clone()),
+            new StepAndPacket(new SecondStep(), packet.clone())));
+    }
+  }
+}
@@ -0,0 +1,227 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.aMapWithSize;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class PacketTest {
+  private static final int NUM_CHILDREN = 500;
+
+  private final Packet packet = new Packet();
+
+  @Test
+  public void clonedPacket_hasParentValues() {
+    packet.put("a", "1");
+    packet.put("b", "2");
+
+    Packet clone = packet.clone();
+
+    assertThat(clone, hasEntry("a", "1"));
+    assertThat(clone, hasEntry("b", "2"));
+    assertThat(clone, equalTo(packet));
+  }
+
+  @Test
+  public void changesToClone_notSeenByParent() {
+    packet.put("a", "1");
+    packet.put("b", "2");
+
+    Packet clone = packet.clone();
+    clone.put("a", "changed");
+    clone.remove("b");
+    clone.put("c", "3");
+
+    assertThat(packet, equalTo(Map.of("a", "1", "b", "2")));
+    assertThat(clone, equalTo(Map.of("a", "changed", "c", "3")));
+  }
+
+  @Test
+  public void changesToParent_notSeenByClone() {
+    packet.put("a", "1");
+
+    Packet clone = packet.clone();
+    packet.put("a", "changed");
+    packet.put("b", "2");
+
+    assertThat(clone, equalTo(Map.of("a", "1")));
+  }
+
+  @Test
+  public void whenNullValuePut_removeKey() {
+    packet.put("a", "1");
+    Packet clone = packet.clone();
+
+    clone.put("a", null);
+
+    assertThat(clone, not(hasKey("a")));
+    assertThat(clone.get("a"), nullValue());
+  }
+
+  @Test
+  public void whenRemovedValueRestored_isVisible() {
+    packet.put("a", "1");
+    Packet clone = packet.clone();
+
+    clone.remove("a");
+    clone.put("a", "2");
+
+    assertThat(clone, equalTo(Map.of("a", "2")));
+  }
+
+  @Test
+  public void entryIterator_removesFromPacket() {
+    packet.put("a", "1");
+    packet.put("b", "2");
+    Packet clone = packet.clone();
+
+    clone.entrySet().removeIf(e -> e.getKey().equals("a"));
+
+    assertThat(clone, equalTo(Map.of("b", "2")));
+    assertThat(packet, aMapWithSize(2));
+  }
+
+  @Test
+  public void componentsAreClonedSeparately() {
+    Component component = Component.createFor("value");
+    packet.getComponents().put("comp", component);
+
+    Packet clone = packet.clone();
+    clone.getComponents().remove("comp");
+
+    assertThat(packet.getComponents().get("comp"), sameInstance(component));
+    assertThat(clone.getComponents().get("comp"), nullValue());
+  }
+
+  @Test
+  public void whenManyChildrenCloned_eachStoresOnlyItsOwnChanges() {
+    LayeredMap<Object> parent = new LayeredMap<>();
+    parent.put("topology", new Object());
+    parent.put("envVars", Collections.nCopies(100, "value"));
+
+    List<LayeredMap<Object>> children = new ArrayList<>();
+    for (int i = 0; i < NUM_CHILDREN; i++) {
+      LayeredMap<Object> child = parent.copy();
+      child.put("serverName", "ms" + i);
+      children.add(child);
+    }
+
+    for (int i = 0; i < NUM_CHILDREN; i++) {
+      assertThat(children.get(i).getNumLocalEntries(), equalTo(1));
+      assertThat(children.get(i).get("serverName"), equalTo("ms" + i));
+      assertThat(children.get(i).get("topology"), sameInstance(parent.get("topology")));
+    }
+    assertThat(parent.getNumLayers(), equalTo(1));
+  }
+
+  @Test
+  public void whenClonedRepeatedly_collapseLayers() {
+    LayeredMap<Object> map = new LayeredMap<>();
+    for (int i = 0; i < 3 * LayeredMap.MAX_LAYERS; i++) {
+      map.put("key" + i, i);
+      map.remove("key" + (i - 1));
+      map = map.copy();
+    }
+
+    assertThat(map.getNumLayers(), lessThanOrEqualTo(LayeredMap.MAX_LAYERS));
+    assertThat(map, equalTo(Map.of("key" + (3 * LayeredMap.MAX_LAYERS - 1), 3 * LayeredMap.MAX_LAYERS - 1)));
+  }
+
+  @Test
+  public void whenValueReplacedInClone_iterateOnlyNewestValue() {
+    packet.put("a", "1");
+    packet.put("b", "2");
+    Packet clone = packet.clone();
+    clone.put("a", "changed");
+    Packet grandchild = clone.clone();
+    grandchild.remove("b");
+
+    assertThat(grandchild.entrySet(), contains(Map.entry("a", "changed")));
+    assertThat(grandchild, aMapWithSize(1));
+  }
+
+  @Test
+  public void whenComponentReplacedInClone_getSpiFromNewestComponent() {
+    packet.getComponents().put("comp", Component.createFor("original"));
+    Packet clone = packet.clone();
+
+    clone.getComponents().put("comp", Component.createFor("replaced"));
+
+    assertThat(clone.getSpi(String.class), equalTo("replaced"));
+    assertThat(packet.getSpi(String.class), equalTo("original"));
+  }
+
+  @Test
+  public void whenComponentRemovedInClone_getSpiReturnsNull() {
+    packet.getComponents().put("comp", Component.createFor("original"));
+    Packet clone = packet.clone();
+
+    clone.getComponents().remove("comp");
+
+    assertThat(clone.getSpi(String.class), nullValue());
+  }
+
+  @Test
+  public void whenValueOnlyInParentLayer_putIfAbsentKeepsIt() {
+    packet.put("a", "1");
+    Packet clone = packet.clone();
+
+    assertThat(clone.putIfAbsent("a", "2"), equalTo("1"));
+    assertThat(clone.get("a"), equalTo("1"));
+  }
+
+  @Test
+  public void whenManyThreadsPutIfAbsent_onlyFirstValueIsKept() throws Exception {
+    Packet clone = packet.clone();
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    CountDownLatch start = new CountDownLatch(1);
+    List<Future<Object>> results = new ArrayList<>();
+    for (int i = 0; i < NUM_CHILDREN; i++) {
+      Integer value = i;
+      results.add(executor.submit(() -> {
+        start.await();
+        Object previous = clone.putIfAbsent("key", value);
+        return previous != null ? previous : value;
+      }));
+    }
+
+    start.countDown();
+    for (Future<Object> result : results) {
+      assertThat(result.get(), equalTo(clone.get("key")));
+    }
+    executor.shutdown();
+    executor.awaitTermination(1, TimeUnit.SECONDS);
+  }
+
+  @Test
+  public void computeOnClone_updatesOnlyClone() {
+    packet.put("count", 1);
+    Packet clone = packet.clone();
+
+    clone.compute("count", (k, v) -> (Integer) v + 1);
+
+    assertThat(clone.get("count"), equalTo(2));
+    assertThat(packet.get("count"), equalTo(1));
+  }
+}
@@ -0,0 +1,129 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class TimerWheelTest {
+  private static final long TICK_MILLIS = 10;
+  private static final int NUM_TIMERS = 100_000;
+
+  private long now = 0;
+  private final List<Runnable> batches = new ArrayList<>();
+  private final List<String> ran = new ArrayList<>();
+  private final TimerWheel wheel = new TimerWheel(TICK_MILLIS, batches::add, () -> now, null);
+
+  private TimerWheel.Timer schedule(String name, long delayMillis) {
+    return wheel.schedule(() -> ran.add(name), delayMillis, TimeUnit.MILLISECONDS);
+  }
+
+  private int advanceMillis(long millis) {
+    now += TimeUnit.MILLISECONDS.toNanos(millis);
+    int expired = wheel.expireTimers(now);
+    batches.forEach(Runnable::run);
+    batches.clear();
+    return expired;
+  }
+
+  @Test
+  public void timerDoesNotRunEarly() {
+    schedule("t1", 25);
+
+    advanceMillis(20);
+
+    assertThat(ran, empty());
+  }
+
+  @Test
+  public void timerRunsWithinOneTickOfDeadline() {
+    schedule("t1", 25);
+
+    advanceMillis(30);
+
+    assertThat(ran, contains("t1"));
+  }
+
+  @Test
+  public void timersRunInOrderOfDeadline() {
+    schedule("t2", 50);
+    schedule("t1", 15);
+    schedule("t3", 95);
+
+    advanceMillis(20);
+    advanceMillis(40);
+    advanceMillis(40);
+
+    assertThat(ran, contains("t1", "t2", "t3"));
+  }
+
+  @Test
+  public void whenTimerCancelled_doesNotRun() {
+    schedule("t1", 15).cancel();
+
+    advanceMillis(20);
+
+    assertThat(ran, empty());
+  }
+
+  @Test
+  public void whenDelayExceedsOneTurn_waitForLaterTurn() {
+    long turnMillis = 512 * TICK_MILLIS;
+    schedule("t1", turnMillis + 15);
+
+    advanceMillis(turnMillis);
+    assertThat(ran, empty());
+
+    advanceMillis(20);
+    assertThat(ran, contains("t1"));
+  }
+
+  @Test
+  public void timersExpiringTogether_areDispatchedAsOneBatch() {
+    schedule("t1", 1);
+    schedule("t2", 3);
+    schedule("t3", 5);
+
+    now += TimeUnit.MILLISECONDS.toNanos(TICK_MILLIS);
+    wheel.expireTimers(now);
+
+    assertThat(batches.size(), equalTo(1));
+  }
+
+  @Test
+  public void whenManyTimersScheduledAndHalfCancelled_runOnlyTheOthers() {
+    List<TimerWheel.Timer> timers = new ArrayList<>();
+    for (int i = 0; i < NUM_TIMERS; i++) {
+      timers.add(wheel.schedule(() -> { }, i % 10_000, TimeUnit.MILLISECONDS));
+    }
+    for (int i = 0; i < NUM_TIMERS; i += 2) {
+      timers.get(i).cancel();
+    }
+
+    assertThat(advanceMillis(10_000 + TICK_MILLIS), equalTo(NUM_TIMERS / 2));
+  }
+
+  @Test
+  public void whenStopped_tickerThreadExits() throws InterruptedException {
+    List<Thread> threads = new ArrayList<>();
+    TimerWheel tickingWheel = new TimerWheel(TICK_MILLIS, Runnable::run, System::nanoTime, r -> {
+      threads.add(new Thread(r));
+      return threads.get(0);
+    });
+    tickingWheel.schedule(() -> { }, 1, TimeUnit.HOURS);
+
+    tickingWheel.stop();
+    threads.get(0).join(1000);
+
+    assertThat(threads.get(0).isAlive(), equalTo(false));
+  }
+}
@@ -5,6 +5,7 @@ package oracle.kubernetes.weblogic.domain.model;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 
@@ -232,6 +233,19 @@ public class DomainStatusTest {
     assertThat(clone, equalTo(domainStatus));
   }
 
+  @Test
+  public void whenHasSeveralConditionsOfOneType_cloneKeepsOnlyLatest() {
+    domainStatus.getConditions().add(new DomainCondition(Failed).withStatus("True").withMessage("first"));
+    domainStatus.getConditions().add(new DomainCondition(Available).withStatus("True"));
+    domainStatus.getConditions().add(new DomainCondition(Failed).withStatus("True").withMessage("second"));
+
+    DomainStatus clone = new DomainStatus(this.domainStatus);
+
+    assertThat(clone.getConditions(), contains(
+          new DomainCondition(Available).withStatus("True"),
+          new DomainCondition(Failed).withStatus("True").withMessage("second")));
+  }
+
   @Test
   public void whenHasServerStatusWithHealth_cloneIsEqual() {
     domainStatus.addServer(new ServerStatus().withHealth(new ServerHealth().withOverallHealth("peachy")));
@@ -301,6 +315,31 @@ public class DomainStatusTest {
     assertThat(getServer(null, "admin").getState(), equalTo("state2"));
   }
 
+  @Test
+  public void whenServerUnchanged_setServersKeepsExistingEntry() {
+    domainStatus.addServer(new ServerStatus().withClusterName("1").withServerName("1").withState("state1"));
+    domainStatus.addServer(new ServerStatus().withClusterName("1").withServerName("2").withState("state1"));
+    ServerStatus unchanged = getServer("1", "1");
+
+    domainStatus.setServers(Arrays.asList(
+          new ServerStatus().withClusterName("1").withServerName("2").withState("state2"),
+          new ServerStatus().withClusterName("1").withServerName("1").withState("state1")
+    ));
+
+    assertThat(getServer("1", "1"), sameInstance(unchanged));
+    assertThat(getServer("1", "2").getState(), equalTo("state2"));
+  }
+
+  @Test
+  public void whenOnlyAdminServerFlagChanged_setServersReplacesExistingEntry() {
+    domainStatus.addServer(new ServerStatus().withServerName("admin").withState("state1"));
+
+    domainStatus.setServers(Collections.singletonList(
+          new ServerStatus().withServerName("admin").withIsAdminServer(true).withState("state1")));
+
+    assertThat(getServer(null, "admin").isAdminServer(), is(true));
+  }
+
   @Test
   public void whenSetServerIncludesServerWithoutStateAndNoExistingState_defaultToSHUTDOWN() {
     domainStatus.addServer(new ServerStatus().withClusterName("1").withServerName("1").withState("state1"));
@@ -40,8 +40,10 @@ import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.hamcrest.core.Is.is;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
 
@@ -1624,4 +1626,52 @@ public class DomainV2Test extends DomainTestBase {
 
     assertThat(domain.getOverrideDistributionStrategy(), equalTo(OverrideDistributionStrategy.ON_RESTART));
   }
+
+  @Test
+  public void whenDomainHasGeneration_reuseEffectiveServerSpec() {
+    domain.getMetadata().setGeneration(1L);
+    configureServer("server1").withServerStartState("server");
+
+    assertThat(domain.getServer("server1", "cluster1"), sameInstance(domain.getServer("server1", "cluster1")));
+  }
+
+  @Test
+  public void whenDomainHasGeneration_effectiveClusterSpecReturnsCopiesOfCollections() {
+    domain.getMetadata().setGeneration(1L);
+    configureCluster("cluster1").withContainer(new V1Container().name("sidecar"));
+
+    domain.getCluster("cluster1").getContainers().add(new V1Container().name("extra"));
+
+    assertThat(domain.getCluster("cluster1").getContainers(), hasSize(1));
+  }
+
+  @Test
+  public void whenDomainHasNoGeneration_mergeEffectiveServerSpecEachTime() {
+    configureServer("server1").withServerStartState("server");
+
+    assertThat(domain.getServer("server1", "cluster1"), not(sameInstance(domain.getServer("server1", "cluster1"))));
+  }
+
+  @Test
+  public void whenGenerationChanges_effectiveServerSpecReflectsNewConfiguration() {
+    domain.getMetadata().setGeneration(1L);
+    configureServer("server1").withServerStartState("old");
+    domain.getServer("server1", null);
+
+    configureServer("server1").withServerStartState("new");
+    domain.getMetadata().setGeneration(2L);
+
+    assertThat(domain.getServer("server1", null).getDesiredState(), equalTo("new"));
+  }
+
+  @Test
+  public void whenReplicaCountSet_effectiveServerSpecReflectsNewCount() {
+    domain.getMetadata().setGeneration(1L);
+    configureCluster("cluster1").withReplicas(3);
+    domain.getServer("server1", "cluster1");
+
+    domain.setReplicaCount("cluster1", 5);
+
+    assertThat(domain.getServer("server1", "cluster1").shouldStart(4), is(true));
+  }
 }
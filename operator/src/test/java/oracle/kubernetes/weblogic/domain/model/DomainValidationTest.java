@@ -57,6 +57,21 @@ public class DomainValidationTest {
     assertThat(domain.getValidationFailures(resourceLookup), empty());
   }
 
+  @Test
+  public void whenSpecOnlyValidation_ignoreMissingSecret() {
+    configureDomain(domain).withWebLogicCredentialsSecret("no-such-secret", null);
+
+    assertThat(domain.getSpecValidationFailures(), empty());
+  }
+
+  @Test
+  public void whenSpecOnlyValidation_reportDuplicateNames() {
+    domain.getSpec().getManagedServers().add(new ManagedServer().withServerName("ms1"));
+    domain.getSpec().getManagedServers().add(new ManagedServer().withServerName("ms1"));
+
+    assertThat(domain.getSpecValidationFailures(), contains(stringContainsInOrder("managedServers", "ms1")));
+  }
+
   @Test
   public void whenManagerServerSpecsHaveDuplicateNames_reportError() {
     domain.getSpec().getManagedServers().add(new ManagedServer().withServerName("ms1"));
@@ -0,0 +1,59 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.weblogic.domain.model;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import static oracle.kubernetes.weblogic.domain.model.ServerHealth.MAX_SUBSYSTEMS;
+import static oracle.kubernetes.weblogic.domain.model.SubsystemHealth.MAX_SYMPTOMS;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class ServerHealthTest {
+
+  private final ServerHealth health = new ServerHealth();
+
+  @Test
+  public void whenSubsystemReportedTwice_keepOnlyLatestReport() {
+    health.addSubsystem(new SubsystemHealth().withSubsystemName("jms").withHealth("warn"));
+    health.addSubsystem(new SubsystemHealth().withSubsystemName("jdbc").withHealth("ok"));
+    health.addSubsystem(new SubsystemHealth().withSubsystemName("jms").withHealth("critical"));
+
+    assertThat(health.getSubsystems(), contains(
+          new SubsystemHealth().withSubsystemName("jms").withHealth("critical"),
+          new SubsystemHealth().withSubsystemName("jdbc").withHealth("ok")));
+  }
+
+  @Test
+  public void whenTooManySubsystemsReported_ignoreTheExcess() {
+    for (int i = 0; i <= MAX_SUBSYSTEMS; i++) {
+      health.addSubsystem(new SubsystemHealth().withSubsystemName("subsystem" + i).withHealth("warn"));
+    }
+
+    assertThat(health.getSubsystems(), hasSize(MAX_SUBSYSTEMS));
+  }
+
+  @Test
+  public void whenSymptomsRepeated_recordEachOnlyOnce() {
+    SubsystemHealth subsystem = new SubsystemHealth().withSymptoms("s1", "s2", "s1");
+
+    assertThat(subsystem, equalTo(new SubsystemHealth().withSymptoms("s1", "s2")));
+  }
+
+  @Test
+  public void whenTooManySymptoms_keepOnlyTheFirst() {
+    String[] symptoms = new String[MAX_SYMPTOMS + 2];
+    for (int i = 0; i < symptoms.length; i++) {
+      symptoms[i] = "symptom" + i;
+    }
+
+    SubsystemHealth subsystem = new SubsystemHealth().withSymptoms(symptoms);
+
+    assertThat(subsystem, equalTo(new SubsystemHealth().withSymptoms(Arrays.copyOf(symptoms, MAX_SYMPTOMS))));
+  }
+}